@@ -0,0 +1,215 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares JMH results with a stored baseline, and fails if any benchmark has regressed. Both files are in the CSV
+ * format JMH writes with "-rf csv".
+ *
+ * <p>Two scores are compared: throughput (ops/s, higher is better) and the allocation per operation reported by the
+ * GC profiler (gc.alloc.rate.norm, lower is better). Each has its own tolerance - throughput varies much more from
+ * run to run than allocation does. Benchmarks that are not in the baseline are reported, but are not regressions.
+ *
+ * <p>Arguments: result file, baseline file, throughput tolerance, allocation tolerance. Tolerances are fractions -
+ * 0.2 allows a score to be 20% worse than the baseline. A tolerance of "none" reports the scores without failing,
+ * which suits throughput on shared machines, where it depends more on the neighbors than on the code. A missing
+ * baseline file is an error, so a gate that compares nothing cannot pass by accident.
+ */
+public class BaselineComparison {
+    static final String ALLOCATION_SUFFIX = ":gc.alloc.rate.norm"; //$NON-NLS-1$
+    static final String NO_TOLERANCE = "none"; //$NON-NLS-1$
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 4) {
+            throw new IllegalArgumentException("Usage: BaselineComparison result.csv baseline.csv " //$NON-NLS-1$
+                    + "throughputTolerance allocationTolerance"); //$NON-NLS-1$
+        }
+
+        Path resultFile = Path.of(args[0]);
+        Path baselineFile = Path.of(args[1]);
+        if (Files.notExists(baselineFile)) {
+            throw new IllegalStateException("No baseline found at " + baselineFile //$NON-NLS-1$
+                    + ". To record one, copy " + resultFile + " there"); //$NON-NLS-1$
+        }
+
+        Map<String, Score> results = read(resultFile);
+        Map<String, Score> baseline = read(baselineFile);
+        List<String> regressions = compare(results, baseline, parseTolerance(args[2]), parseTolerance(args[3]));
+        if (!regressions.isEmpty()) {
+            throw new IllegalStateException(regressions.size() + " benchmark score(s) regressed:" //$NON-NLS-1$
+                    + System.lineSeparator() + String.join(System.lineSeparator(), regressions));
+        }
+    }
+
+    /**
+     * Parses a tolerance argument.
+     *
+     * @param s a fraction, or "none"
+     * @return the fraction, or NaN if scores are only reported
+     */
+    static double parseTolerance(String s) {
+        return NO_TOLERANCE.equalsIgnoreCase(s) ? Double.NaN : Double.parseDouble(s);
+    }
+
+    /**
+     * Compares results with a baseline, and prints a line for every score.
+     *
+     * @param results the results
+     * @param baseline the baseline
+     * @param throughputTolerance the fraction by which throughput may be lower than the baseline, or NaN if
+     *     throughput is only reported
+     * @param allocationTolerance the fraction by which allocation may be higher than the baseline, or NaN if
+     *     allocation is only reported
+     * @return a description of every regression
+     */
+    static List<String> compare(Map<String, Score> results, Map<String, Score> baseline, double throughputTolerance,
+                                double allocationTolerance) {
+        List<String> regressions = new ArrayList<>();
+        for (Score result : results.values()) {
+            boolean isAllocation = result.name().endsWith(ALLOCATION_SUFFIX);
+            if (!isAllocation && !result.unit().endsWith("/s")) { //$NON-NLS-1$
+                // other secondary scores, like GC counts, are too noisy to compare
+                continue;
+            }
+
+            Score expected = baseline.get(result.key());
+            if (expected == null) {
+                System.out.printf("%-100s %14.2f %-6s (not in baseline)%n", result.key(), result.score(), //$NON-NLS-1$
+                        result.unit());
+                continue;
+            }
+
+            double change = expected.score() == 0.0 ? 0.0 : (result.score() - expected.score()) / expected.score();
+            String line = String.format("%-100s %14.2f %-6s %+7.1f%%", result.key(), result.score(), //$NON-NLS-1$
+                    result.unit(), change * 100);
+            System.out.println(line);
+
+            // comparisons with NaN are false, so a NaN tolerance never finds a regression
+            boolean isRegression = isAllocation
+                    ? result.score() > expected.score() * (1 + allocationTolerance)
+                    : result.score() < expected.score() * (1 - throughputTolerance);
+            if (isRegression) {
+                regressions.add(line + " (baseline " + expected.score() + ')'); //$NON-NLS-1$
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Reads the scores of a JMH CSV result file.
+     *
+     * @param file the file
+     * @return the scores, by {@link Score#key()}
+     * @throws IOException if the file cannot be read
+     */
+    static Map<String, Score> read(Path file) throws IOException {
+        return parse(Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    static Map<String, Score> parse(List<String> lines) {
+        Map<String, Score> answer = new LinkedHashMap<>();
+        if (lines.isEmpty()) {
+            return answer;
+        }
+
+        List<String> header = splitLine(lines.get(0));
+        int benchmarkColumn = header.indexOf("Benchmark"); //$NON-NLS-1$
+        int scoreColumn = header.indexOf("Score"); //$NON-NLS-1$
+        int unitColumn = header.indexOf("Unit"); //$NON-NLS-1$
+        if (benchmarkColumn == -1 || scoreColumn == -1 || unitColumn == -1) {
+            throw new IllegalArgumentException("Not a JMH CSV result file"); //$NON-NLS-1$
+        }
+
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            List<String> values = splitLine(line);
+            StringBuilder params = new StringBuilder();
+            for (int i = 0; i < header.size(); i++) {
+                if (header.get(i).startsWith("Param: ") && !values.get(i).isEmpty()) { //$NON-NLS-1$
+                    params.append(params.isEmpty() ? " [" : ", ") //$NON-NLS-1$ //$NON-NLS-2$
+                            .append(header.get(i).substring(7)).append('=').append(values.get(i));
+                }
+            }
+            if (!params.isEmpty()) {
+                params.append(']');
+            }
+
+            Score score = new Score(values.get(benchmarkColumn), params.toString(),
+                    parseNumber(values.get(scoreColumn)), values.get(unitColumn));
+            answer.put(score.key(), score);
+        }
+        return answer;
+    }
+
+    private static double parseNumber(String s) {
+        // a decimal comma, if JMH ran with such a locale
+        return Double.parseDouble(s.replace(',', '.'));
+    }
+
+    private static List<String> splitLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean inQuotes = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append(c);
+                    i++;
+                } else {
+                    inQuotes = !inQuotes;
+                }
+            } else if (c == ',' && !inQuotes) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    /**
+     * A score of a benchmark. Secondary scores, like the allocation rate, have the name of the benchmark followed by
+     * the name of the score.
+     *
+     * @param name the benchmark name
+     * @param params the benchmark parameters, or an empty string
+     * @param score the score
+     * @param unit the unit of the score
+     */
+    record Score(String name, String params, double score, String unit) {
+        String key() {
+            return name + params;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import mbg.test.common.util.SyntheticSchema;
+import org.mybatis.generator.api.Indenter;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.KnownRuntime;
+import org.mybatis.generator.api.ProgressCallback;
+import org.mybatis.generator.codegen.CalculatedContextValues;
+import org.mybatis.generator.codegen.GenerationEngine;
+import org.mybatis.generator.codegen.GenerationResults;
+import org.mybatis.generator.codegen.IntrospectionEngine;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+import org.mybatis.generator.exception.XMLParserException;
+
+/**
+ * An in-memory HSQLDB database with a synthetic schema, and the generator configuration for it. By default the
+ * schema has tables of ten columns, with some composite keys, BLOB columns, and reserved word names - see
+ * {@link SyntheticSchema}.
+ *
+ * <p>The database is dropped when it is closed.
+ */
+public class BenchmarkDatabase implements AutoCloseable {
+    private static final ProgressCallback NO_PROGRESS = new ProgressCallback() { };
+
+    private final String url;
+    private final SyntheticSchema schema;
+    private final Connection connection;
+
+    /**
+     * Creates a database with the default synthetic schema.
+     *
+     * @param name the database name. Each open database must have a different name
+     * @param tables the number of tables to create
+     * @throws SQLException if the database cannot be created
+     */
+    public BenchmarkDatabase(String name, int tables) throws SQLException {
+        this(name, new SyntheticSchema.Builder().withTables(tables).build());
+    }
+
+    /**
+     * Creates a database.
+     *
+     * @param name the database name. Each open database must have a different name
+     * @param schema the schema to create
+     * @throws SQLException if the database cannot be created
+     */
+    public BenchmarkDatabase(String name, SyntheticSchema schema) throws SQLException {
+        this.schema = schema;
+        url = SyntheticSchema.memoryUrl(name);
+        connection = DriverManager.getConnection(url, "sa", ""); //$NON-NLS-1$ //$NON-NLS-2$
+        schema.create(connection);
+    }
+
+    /**
+     * Returns a context that generates code for every table in the database, with the default settings of the
+     * runtime.
+     *
+     * @param runtime the runtime
+     * @return the context
+     * @throws IOException if the configuration cannot be parsed
+     * @throws XMLParserException if the configuration cannot be parsed
+     */
+    public Context context(KnownRuntime runtime) throws IOException, XMLParserException {
+        String configuration = schema.generatorConfiguration(url, runtime.getAlias(), "target"); //$NON-NLS-1$
+        return new ConfigurationParser().parseConfiguration(new StringReader(configuration)).getContexts().get(0);
+    }
+
+    public CalculatedContextValues contextValues(KnownRuntime runtime) throws IOException, XMLParserException {
+        return new CalculatedContextValues.Builder()
+                .withContext(context(runtime))
+                .withWarnings(new ArrayList<>())
+                .withIndenter(Indenter.defaultIndenter())
+                .build();
+    }
+
+    public static List<IntrospectedTable> introspect(CalculatedContextValues contextValues)
+            throws SQLException, InterruptedException {
+        return new IntrospectionEngine.Builder()
+                .withContextValues(contextValues)
+                .withFullyQualifiedTableNames(Set.of())
+                .withWarnings(new ArrayList<>())
+                .withProgressCallback(NO_PROGRESS)
+                .build()
+                .introspectTables();
+    }
+
+    public static GenerationResults generate(CalculatedContextValues contextValues,
+                                             List<IntrospectedTable> introspectedTables) throws InterruptedException {
+        return new GenerationEngine.Builder()
+                .withContextValues(contextValues)
+                .withProgressCallback(NO_PROGRESS)
+                .withWarnings(new ArrayList<>())
+                .withIntrospectedTables(introspectedTables)
+                .build()
+                .generate();
+    }
+
+    /**
+     * Introspects every table and generates code for them with the default settings of a runtime.
+     *
+     * @param runtime the runtime
+     * @return the generated files
+     * @throws Exception if introspection or generation fails
+     */
+    public GenerationResults generate(KnownRuntime runtime) throws Exception {
+        CalculatedContextValues contextValues = contextValues(runtime);
+        return generate(contextValues, introspect(contextValues));
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("shutdown"); //$NON-NLS-1$
+        } finally {
+            connection.close();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.KnownRuntime;
+import org.mybatis.generator.codegen.CalculatedContextValues;
+import org.mybatis.generator.codegen.GenerationResults;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Generates code for a schema with each of the built-in runtimes. The tables are introspected once - each operation
+ * creates the runtimes for every table and generates the Java, XML, and Kotlin files in memory. Nothing is rendered
+ * or written (see {@link RenderingBenchmark} for rendering).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GenerationBenchmark {
+    private static final int TABLES = 50;
+
+    @Param({"MYBATIS3", "MYBATIS3_SIMPLE", "MYBATIS3_DYNAMIC_SQL", "MYBATIS3_KOTLIN"})
+    public KnownRuntime runtime;
+
+    private BenchmarkDatabase database;
+    private CalculatedContextValues contextValues;
+    private List<IntrospectedTable> introspectedTables;
+
+    @Setup
+    public void setUp() throws Exception {
+        database = new BenchmarkDatabase("generation" + runtime, TABLES); //$NON-NLS-1$
+        contextValues = database.contextValues(runtime);
+        introspectedTables = BenchmarkDatabase.introspect(contextValues);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        database.close();
+    }
+
+    @Benchmark
+    public GenerationResults generate() throws InterruptedException {
+        return BenchmarkDatabase.generate(contextValues, introspectedTables);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import mbg.test.common.util.SyntheticSchema;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.KnownRuntime;
+import org.mybatis.generator.codegen.CalculatedContextValues;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Introspects synthetic schemas of different sizes. Each operation introspects every table of the schema over a new
+ * connection, as a generator run does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IntrospectionBenchmark {
+    @Param({"10", "100", "1000"})
+    public int tables;
+
+    @Param({"10", "100"})
+    public int columns;
+    private BenchmarkDatabase database;
+    private CalculatedContextValues contextValues;
+
+    @Setup
+    public void setUp() throws Exception {
+        SyntheticSchema schema = new SyntheticSchema.Builder()
+                .withTables(tables)
+                .withColumns(columns)
+                .build();
+        database = new BenchmarkDatabase("introspection" + tables + '_' + columns, schema); //$NON-NLS-1$
+        contextValues = database.contextValues(KnownRuntime.MYBATIS3);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        database.close();
+    }
+
+    @Benchmark
+    public List<IntrospectedTable> introspect() throws SQLException, InterruptedException {
+        return BenchmarkDatabase.introspect(contextValues);
+    }
+}
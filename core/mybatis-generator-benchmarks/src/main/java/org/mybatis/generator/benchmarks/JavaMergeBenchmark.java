@@ -0,0 +1,104 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.Indenter;
+import org.mybatis.generator.api.KnownRuntime;
+import org.mybatis.generator.api.dom.DefaultJavaFormatter;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.config.JavaMergeConfiguration;
+import org.mybatis.generator.config.MergeStrategy;
+import org.mybatis.generator.exception.MergeException;
+import org.mybatis.generator.merge.java.JavaFileMerger;
+import org.mybatis.generator.merge.java.JavaMergerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Merges newly generated Java files into existing files that have a custom method, with each merge strategy. Each
+ * operation merges every Java file once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JavaMergeBenchmark {
+    private static final int TABLES = 10;
+
+    private static final String CUSTOM_CLASS_METHOD = """
+
+                public String customMethod() {
+                    return "custom";
+                }
+            }"""; //$NON-NLS-1$
+
+    private static final String CUSTOM_INTERFACE_METHOD = """
+
+                default String customMethod() {
+                    return "custom";
+                }
+            }"""; //$NON-NLS-1$
+
+    @Param({"MERGE_INTO_EXISTING", "MERGE_INTO_NEW"})
+    public MergeStrategy mergeStrategy;
+
+    private JavaFileMerger merger;
+    private List<FilePair> files;
+
+    @Setup
+    public void setUp() throws Exception {
+        Indenter indenter = Indenter.defaultIndenter();
+        merger = JavaMergerFactory.getMerger(new JavaMergeConfiguration.Builder()
+                .withMergeStrategy(mergeStrategy)
+                .build(), indenter);
+
+        DefaultJavaFormatter formatter = new DefaultJavaFormatter();
+        formatter.setIndenter(indenter);
+
+        try (BenchmarkDatabase database = new BenchmarkDatabase("javaMerge" + mergeStrategy, TABLES)) { //$NON-NLS-1$
+            files = database.generate(KnownRuntime.MYBATIS3).generatedJavaFiles().stream()
+                    .map(f -> toFilePair(f, formatter))
+                    .toList();
+        }
+    }
+
+    private static FilePair toFilePair(GeneratedJavaFile generatedJavaFile, DefaultJavaFormatter formatter) {
+        String content = formatter.getFormattedContent(generatedJavaFile.getCompilationUnit());
+        String customMethod = generatedJavaFile.getCompilationUnit() instanceof Interface
+                ? CUSTOM_INTERFACE_METHOD : CUSTOM_CLASS_METHOD;
+        int end = content.lastIndexOf('}');
+        return new FilePair(content, content.substring(0, end) + customMethod + content.substring(end + 1));
+    }
+
+    @Benchmark
+    public void merge(Blackhole blackhole) throws MergeException {
+        for (FilePair file : files) {
+            blackhole.consume(merger.getMergedSource(file.newContent(), file.existingContent()));
+        }
+    }
+
+    private record FilePair(String newContent, String existingContent) { }
+}
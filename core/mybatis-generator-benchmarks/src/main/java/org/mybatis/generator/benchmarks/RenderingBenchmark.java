@@ -0,0 +1,170 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.GeneratedKotlinFile;
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.Indenter;
+import org.mybatis.generator.api.KnownRuntime;
+import org.mybatis.generator.api.dom.DefaultJavaFormatter;
+import org.mybatis.generator.api.dom.DefaultKotlinFormatter;
+import org.mybatis.generator.api.dom.DefaultXmlFormatter;
+import org.mybatis.generator.api.dom.java.CompilationUnit;
+import org.mybatis.generator.api.dom.java.CompilationUnitVisitor;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
+import org.mybatis.generator.api.dom.java.TopLevelEnumeration;
+import org.mybatis.generator.api.dom.java.TopLevelRecord;
+import org.mybatis.generator.api.dom.java.render.JavaLineWriter;
+import org.mybatis.generator.api.dom.java.render.TopLevelClassRenderer;
+import org.mybatis.generator.api.dom.java.render.TopLevelEnumerationRenderer;
+import org.mybatis.generator.api.dom.java.render.TopLevelInterfaceRenderer;
+import org.mybatis.generator.api.dom.java.render.TopLevelRecordRenderer;
+import org.mybatis.generator.api.dom.kotlin.KotlinFile;
+import org.mybatis.generator.api.dom.xml.Document;
+import org.mybatis.generator.api.dom.xml.render.ElementRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Renders the files generated for a schema. Each operation renders every file once.
+ *
+ * <p>Java and XML files are rendered three ways: to a string, as the formatters did before files were written
+ * straight to the output; streamed to an Appendable, as files are written now; and as a list of lines joined into a
+ * string, as the renderers worked originally. The streaming benchmarks write to a reused StringBuilder, which stands
+ * in for the buffered writer of the output file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RenderingBenchmark {
+    private static final int TABLES = 20;
+
+    private final Indenter indenter = Indenter.defaultIndenter();
+    private final DefaultJavaFormatter javaFormatter = new DefaultJavaFormatter();
+    private final DefaultXmlFormatter xmlFormatter = new DefaultXmlFormatter();
+    private final DefaultKotlinFormatter kotlinFormatter = new DefaultKotlinFormatter();
+    private final StringBuilder buffer = new StringBuilder();
+
+    private List<CompilationUnit> compilationUnits;
+    private List<Document> documents;
+    private List<KotlinFile> kotlinFiles;
+
+    @Setup
+    public void setUp() throws Exception {
+        javaFormatter.setIndenter(indenter);
+        xmlFormatter.setIndenter(indenter);
+
+        try (BenchmarkDatabase database = new BenchmarkDatabase("rendering", TABLES)) { //$NON-NLS-1$
+            var results = database.generate(KnownRuntime.MYBATIS3);
+            compilationUnits = results.generatedJavaFiles().stream()
+                    .map(GeneratedJavaFile::getCompilationUnit)
+                    .toList();
+            documents = results.generatedXmlFiles().stream()
+                    .map(GeneratedXmlFile::getDocument)
+                    .toList();
+
+            kotlinFiles = database.generate(KnownRuntime.MYBATIS3_KOTLIN).generatedKotlinFiles().stream()
+                    .map(GeneratedKotlinFile::getKotlinFile)
+                    .toList();
+        }
+    }
+
+    @Benchmark
+    public void javaToString(Blackhole blackhole) {
+        compilationUnits.forEach(cu -> blackhole.consume(javaFormatter.getFormattedContent(cu)));
+    }
+
+    @Benchmark
+    public void javaStreaming(Blackhole blackhole) throws IOException {
+        for (CompilationUnit compilationUnit : compilationUnits) {
+            buffer.setLength(0);
+            javaFormatter.writeFormattedContent(compilationUnit, buffer);
+            blackhole.consume(buffer.length());
+        }
+    }
+
+    @Benchmark
+    public void javaLines(Blackhole blackhole) {
+        LineRenderer lineRenderer = new LineRenderer(indenter);
+        compilationUnits.forEach(cu -> blackhole.consume(String.join(System.lineSeparator(), cu.accept(lineRenderer))));
+    }
+
+    @Benchmark
+    public void xmlToString(Blackhole blackhole) {
+        documents.forEach(d -> blackhole.consume(xmlFormatter.getFormattedContent(d)));
+    }
+
+    @Benchmark
+    public void xmlStreaming(Blackhole blackhole) throws IOException {
+        for (Document document : documents) {
+            buffer.setLength(0);
+            xmlFormatter.writeFormattedContent(document, buffer);
+            blackhole.consume(buffer.length());
+        }
+    }
+
+    @Benchmark
+    public void xmlLines(Blackhole blackhole) {
+        ElementRenderer elementRenderer = new ElementRenderer(indenter);
+        documents.forEach(d -> blackhole.consume(d.getRootElement().accept(elementRenderer)
+                .collect(Collectors.joining(System.lineSeparator()))));
+    }
+
+    @Benchmark
+    public void kotlinToString(Blackhole blackhole) {
+        kotlinFiles.forEach(f -> blackhole.consume(kotlinFormatter.getFormattedContent(f)));
+    }
+
+    /**
+     * Renders compilation units to a list of lines.
+     */
+    private record LineRenderer(Indenter indenter) implements CompilationUnitVisitor<List<String>> {
+        @Override
+        public List<String> visit(TopLevelClass topLevelClass) {
+            return JavaLineWriter.renderToLines(w -> new TopLevelClassRenderer(indenter).render(topLevelClass, w));
+        }
+
+        @Override
+        public List<String> visit(TopLevelEnumeration topLevelEnumeration) {
+            return JavaLineWriter.renderToLines(
+                    w -> new TopLevelEnumerationRenderer(indenter).render(topLevelEnumeration, w));
+        }
+
+        @Override
+        public List<String> visit(Interface topLevelInterface) {
+            return JavaLineWriter.renderToLines(
+                    w -> new TopLevelInterfaceRenderer(indenter).render(topLevelInterface, w));
+        }
+
+        @Override
+        public List<String> visit(TopLevelRecord topLevelRecord) {
+            return JavaLineWriter.renderToLines(w -> new TopLevelRecordRenderer(indenter).render(topLevelRecord, w));
+        }
+    }
+}
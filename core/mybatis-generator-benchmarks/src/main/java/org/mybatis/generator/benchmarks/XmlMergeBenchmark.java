@@ -0,0 +1,84 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.mybatis.generator.api.Indenter;
+import org.mybatis.generator.api.KnownRuntime;
+import org.mybatis.generator.api.dom.DefaultXmlFormatter;
+import org.mybatis.generator.exception.MergeException;
+import org.mybatis.generator.merge.xml.XmlFileMergerJaxp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Merges newly generated mapper XML files into existing files that have a custom element. Each operation merges
+ * every mapper once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class XmlMergeBenchmark {
+    private static final int TABLES = 20;
+
+    private static final String CUSTOM_ELEMENT = """
+              <select id="selectCustom" resultType="java.lang.Integer">
+                select count(*) from custom
+              </select>
+            </mapper>"""; //$NON-NLS-1$
+
+    private List<FilePair> files;
+
+    @Setup
+    public void setUp() throws Exception {
+        DefaultXmlFormatter formatter = new DefaultXmlFormatter();
+        formatter.setIndenter(Indenter.defaultIndenter());
+
+        try (BenchmarkDatabase database = new BenchmarkDatabase("xmlMerge", TABLES)) { //$NON-NLS-1$
+            files = database.generate(KnownRuntime.MYBATIS3).generatedXmlFiles().stream()
+                    .map(f -> {
+                        String content = formatter.getFormattedContent(f.getDocument());
+                        return new FilePair(f.getFileName(), content,
+                                content.replace("</mapper>", CUSTOM_ELEMENT)); //$NON-NLS-1$
+                    })
+                    .toList();
+        }
+    }
+
+    @Benchmark
+    public void merge(Blackhole blackhole) throws IOException, SAXException, ParserConfigurationException,
+            MergeException {
+        for (FilePair file : files) {
+            blackhole.consume(XmlFileMergerJaxp.getMergedSource(new InputSource(new StringReader(file.newContent())),
+                    new InputSource(new StringReader(file.existingContent())), file.fileName()));
+        }
+    }
+
+    private record FilePair(String fileName, String newContent, String existingContent) { }
+}
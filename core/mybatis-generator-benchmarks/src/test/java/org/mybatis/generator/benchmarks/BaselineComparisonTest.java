@@ -0,0 +1,94 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BaselineComparisonTest {
+    private static final String HEADER = "\"Benchmark\",\"Mode\",\"Threads\",\"Samples\",\"Score\","
+            + "\"Score Error (99.9%)\",\"Unit\",\"Param: runtime\"";
+
+    @Test
+    void testParse() {
+        Map<String, BaselineComparison.Score> scores = BaselineComparison.parse(List.of(HEADER,
+                "\"a.GenerationBenchmark.generate\",\"thrpt\",1,5,123.456000,1.5,\"ops/s\",MYBATIS3",
+                "\"a.GenerationBenchmark.generate:gc.alloc.rate.norm\",\"thrpt\",1,5,\"1000,5\",NaN,\"B/op\",MYBATIS3",
+                "\"a.RenderingBenchmark.javaLines\",\"thrpt\",1,5,10.0,0.5,\"ops/s\","));
+
+        assertThat(scores).containsOnlyKeys("a.GenerationBenchmark.generate [runtime=MYBATIS3]",
+                "a.GenerationBenchmark.generate:gc.alloc.rate.norm [runtime=MYBATIS3]",
+                "a.RenderingBenchmark.javaLines");
+        assertThat(scores.get("a.GenerationBenchmark.generate [runtime=MYBATIS3]").score()).isEqualTo(123.456);
+        assertThat(scores.get("a.GenerationBenchmark.generate:gc.alloc.rate.norm [runtime=MYBATIS3]").score())
+                .isEqualTo(1000.5);
+    }
+
+    @Test
+    void testRegressions() {
+        Map<String, BaselineComparison.Score> baseline = BaselineComparison.parse(List.of(HEADER,
+                "\"a.B.fast\",\"thrpt\",1,5,100.0,1.0,\"ops/s\",X",
+                "\"a.B.fast:gc.alloc.rate.norm\",\"thrpt\",1,5,1000.0,NaN,\"B/op\",X",
+                "\"a.B.slow\",\"thrpt\",1,5,100.0,1.0,\"ops/s\",X",
+                "\"a.B.slow:gc.alloc.rate.norm\",\"thrpt\",1,5,1000.0,NaN,\"B/op\",X",
+                "\"a.B.slow:gc.count\",\"thrpt\",1,5,10.0,NaN,\"counts\",X"));
+        Map<String, BaselineComparison.Score> results = BaselineComparison.parse(List.of(HEADER,
+                "\"a.B.fast\",\"thrpt\",1,5,85.0,1.0,\"ops/s\",X",
+                "\"a.B.fast:gc.alloc.rate.norm\",\"thrpt\",1,5,1040.0,NaN,\"B/op\",X",
+                "\"a.B.slow\",\"thrpt\",1,5,75.0,1.0,\"ops/s\",X",
+                "\"a.B.slow:gc.alloc.rate.norm\",\"thrpt\",1,5,1100.0,NaN,\"B/op\",X",
+                "\"a.B.slow:gc.count\",\"thrpt\",1,5,100.0,NaN,\"counts\",X",
+                "\"a.B.added\",\"thrpt\",1,5,1.0,1.0,\"ops/s\",X"));
+
+        List<String> regressions = BaselineComparison.compare(results, baseline, 0.2, 0.05);
+
+        assertThat(regressions).hasSize(2);
+        assertThat(regressions.get(0)).startsWith("a.B.slow [runtime=X]");
+        assertThat(regressions.get(1)).startsWith("a.B.slow:gc.alloc.rate.norm [runtime=X]");
+    }
+
+    @Test
+    void testThroughputWithoutToleranceIsOnlyReported() {
+        Map<String, BaselineComparison.Score> baseline = BaselineComparison.parse(List.of(HEADER,
+                "\"a.B.slow\",\"thrpt\",1,5,100.0,1.0,\"ops/s\",X",
+                "\"a.B.slow:gc.alloc.rate.norm\",\"thrpt\",1,5,1000.0,NaN,\"B/op\",X"));
+        Map<String, BaselineComparison.Score> results = BaselineComparison.parse(List.of(HEADER,
+                "\"a.B.slow\",\"thrpt\",1,5,10.0,1.0,\"ops/s\",X",
+                "\"a.B.slow:gc.alloc.rate.norm\",\"thrpt\",1,5,1100.0,NaN,\"B/op\",X"));
+
+        List<String> regressions = BaselineComparison.compare(results, baseline,
+                BaselineComparison.parseTolerance("none"), BaselineComparison.parseTolerance("0.05"));
+
+        assertThat(regressions).singleElement().asString().startsWith("a.B.slow:gc.alloc.rate.norm [runtime=X]");
+    }
+
+    @Test
+    void testMissingBaselineFails(@TempDir Path tempDir) {
+        Path baselineFile = tempDir.resolve("jmh-baseline.csv");
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> BaselineComparison.main(new String[] {tempDir.resolve("jmh-result.csv").toString(),
+                        baselineFile.toString(), "0.2", "0.05"}))
+                .withMessageContaining(baselineFile.toString());
+    }
+}
@@ -15,6 +15,8 @@
  */
 package org.mybatis.generator.ant;
 
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
 import org.apache.tools.ant.Project;
 import org.apache.tools.ant.Task;
 import org.mybatis.generator.api.ProgressCallback;
@@ -41,4 +43,10 @@ public class AntProgressCallback implements ProgressCallback {
             task.log(subTaskName, Project.MSG_VERBOSE);
         }
     }
+
+    @Override
+    public void saveCompleted(int changedFiles, int unchangedFiles) {
+        task.log(getString("Progress.21", //$NON-NLS-1$
+                Integer.toString(changedFiles), Integer.toString(unchangedFiles)), Project.MSG_INFO);
+    }
 }
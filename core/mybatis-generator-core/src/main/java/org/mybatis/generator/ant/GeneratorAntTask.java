@@ -93,6 +93,9 @@ public class GeneratorAntTask extends Task {
     private @Nullable String contextIds;
     private @Nullable String fullyQualifiedTableNames;
     private boolean javaMergeEnabled;
+    private boolean skipUnchangedFiles;
+    private @Nullable String manifestFile;
+    private boolean deleteStaleFiles;
 
     @Override
     public void execute() {
@@ -116,6 +119,9 @@ public class GeneratorAntTask extends Task {
                     .withFullyQualifiedTableNames(fullyQualifiedTables)
                     .withJavaFileMergeEnabled(javaMergeEnabled)
                     .withOverwriteEnabled(overwrite)
+                    .withSkipUnchangedFiles(skipUnchangedFiles)
+                    .withManifestFile(manifestFile == null ? null : Path.of(manifestFile))
+                    .withStaleFilesDeleted(deleteStaleFiles)
                     .build();
 
             warnings.addAll(myBatisGenerator.generateAndWrite());
@@ -213,4 +219,28 @@ public class GeneratorAntTask extends Task {
     public void setJavaMergeEnabled(boolean javaMergeEnabled) {
         this.javaMergeEnabled = javaMergeEnabled;
     }
+
+    public boolean isSkipUnchangedFiles() {
+        return skipUnchangedFiles;
+    }
+
+    public void setSkipUnchangedFiles(boolean skipUnchangedFiles) {
+        this.skipUnchangedFiles = skipUnchangedFiles;
+    }
+
+    public @Nullable String getManifestFile() {
+        return manifestFile;
+    }
+
+    public void setManifestFile(@Nullable String manifestFile) {
+        this.manifestFile = manifestFile;
+    }
+
+    public boolean isDeleteStaleFiles() {
+        return deleteStaleFiles;
+    }
+
+    public void setDeleteStaleFiles(boolean deleteStaleFiles) {
+        this.deleteStaleFiles = deleteStaleFiles;
+    }
 }
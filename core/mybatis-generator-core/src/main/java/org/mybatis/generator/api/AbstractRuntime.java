@@ -15,8 +15,10 @@
  */
 package org.mybatis.generator.api;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
@@ -29,14 +31,18 @@ import org.mybatis.generator.codegen.AbstractKotlinGenerator;
 import org.mybatis.generator.codegen.AbstractXmlGenerator;
 import org.mybatis.generator.config.ClientGeneratorConfiguration;
 import org.mybatis.generator.config.SqlMapGeneratorConfiguration;
+import org.mybatis.generator.internal.AllocationCounter;
+import org.mybatis.generator.internal.jfr.GenerationEvent;
 
 public abstract class AbstractRuntime extends AbstractGenerator {
     protected final List<AbstractKotlinGenerator> kotlinGenerators = new ArrayList<>();
     protected final List<AbstractJavaGenerator> javaGenerators = new ArrayList<>();
     protected @Nullable AbstractXmlGenerator xmlMapperGenerator;
+    protected final MetricsListener metricsListener;
 
     protected AbstractRuntime(AbstractRuntimeBuilder<?> builder) {
         super(builder);
+        metricsListener = Objects.requireNonNullElseGet(builder.metricsListener, () -> new MetricsListener() {});
     }
 
     protected Optional<String> getClientProject() {
@@ -68,7 +74,12 @@ public abstract class AbstractRuntime extends AbstractGenerator {
         List<GeneratedJavaFile> answer = new ArrayList<>();
 
         for (AbstractJavaGenerator javaGenerator : javaGenerators) {
+            GenerationEvent event = new GenerationEvent();
+            event.begin();
+            long startTime = System.nanoTime();
+            long startAllocation = AllocationCounter.allocatedBytes();
             List<CompilationUnit> compilationUnits = javaGenerator.getCompilationUnits();
+            generatorCompleted(javaGenerator, startTime, startAllocation, event);
             for (CompilationUnit compilationUnit : compilationUnits) {
                 GeneratedJavaFile gjf = new GeneratedJavaFile(compilationUnit, javaGenerator.getProject());
                 answer.add(gjf);
@@ -89,6 +100,10 @@ public abstract class AbstractRuntime extends AbstractGenerator {
         List<GeneratedXmlFile> answer = new ArrayList<>();
 
         if (xmlMapperGenerator != null) {
+            GenerationEvent event = new GenerationEvent();
+            event.begin();
+            long startTime = System.nanoTime();
+            long startAllocation = AllocationCounter.allocatedBytes();
             Document document = xmlMapperGenerator.getDocument();
             if (document != null) {
                 GeneratedXmlFile gxf = new GeneratedXmlFile(document,
@@ -101,6 +116,7 @@ public abstract class AbstractRuntime extends AbstractGenerator {
                     answer.add(gxf);
                 }
             }
+            generatorCompleted(xmlMapperGenerator, startTime, startAllocation, event);
         }
 
         return answer;
@@ -116,7 +132,12 @@ public abstract class AbstractRuntime extends AbstractGenerator {
         List<GeneratedKotlinFile> answer = new ArrayList<>();
 
         for (AbstractKotlinGenerator kotlinGenerator : kotlinGenerators) {
+            GenerationEvent event = new GenerationEvent();
+            event.begin();
+            long startTime = System.nanoTime();
+            long startAllocation = AllocationCounter.allocatedBytes();
             List<KotlinFile> kotlinFiles = kotlinGenerator.getKotlinFiles();
+            generatorCompleted(kotlinGenerator, startTime, startAllocation, event);
             for (KotlinFile kotlinFile : kotlinFiles) {
                 GeneratedKotlinFile gjf = new GeneratedKotlinFile(kotlinFile, kotlinGenerator.getProject());
                 answer.add(gjf);
@@ -126,12 +147,29 @@ public abstract class AbstractRuntime extends AbstractGenerator {
         return answer;
     }
 
+    private void generatorCompleted(AbstractGenerator generator, long startTime, long startAllocation,
+                                    GenerationEvent event) {
+        String tableName = introspectedTable.getFullyQualifiedTable().toString();
+        String generatorName = generator.getClass().getSimpleName();
+        metricsListener.generatorCompleted(context.getId(), tableName, generatorName,
+                Duration.ofNanos(System.nanoTime() - startTime),
+                AllocationCounter.allocatedBytesSince(startAllocation));
+        event.commit(context.getId(), tableName, getClass().getSimpleName(), generatorName);
+    }
+
     public IntrospectedTable getIntrospectedTable() {
         return introspectedTable;
     }
 
     public abstract static class AbstractRuntimeBuilder<T extends AbstractRuntimeBuilder<T>>
             extends AbstractGeneratorBuilder<T> {
+        private @Nullable MetricsListener metricsListener;
+
+        public T withMetricsListener(MetricsListener metricsListener) {
+            this.metricsListener = metricsListener;
+            return getThis();
+        }
+
         public abstract AbstractRuntime build();
     }
 }
@@ -53,6 +53,17 @@ public interface CommentGenerator {
 
     void setIndenter(Indenter indenter);
 
+    /**
+     * Returns true if this comment generator can be called from several threads at once. If a context specifies
+     * more than one generation thread, then code for different tables is only generated concurrently if the comment
+     * generator, and every plugin in the context, is thread safe.
+     *
+     * @return true if this comment generator is thread safe. The default is false
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
     /**
      * Adds a comment for a model class.  The Java code merger should
      * be notified not to delete the entire class in case any manual
@@ -16,6 +16,7 @@
 package org.mybatis.generator.api;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.mybatis.generator.api.dom.java.Field;
@@ -29,6 +30,7 @@ import org.mybatis.generator.api.dom.kotlin.KotlinProperty;
 import org.mybatis.generator.api.dom.kotlin.KotlinType;
 import org.mybatis.generator.api.dom.xml.Document;
 import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.exception.InternalException;
 
 /**
  * This class implements a composite plugin. It contains a list of plugins for the
@@ -39,14 +41,76 @@ import org.mybatis.generator.api.dom.xml.XmlElement;
  * @author Jeff Butler
  */
 public abstract class CompositePlugin implements Plugin {
+    private static final Plugin[] NO_PLUGINS = {};
+
     private final List<Plugin> plugins = new ArrayList<>();
 
+    // the hooks called for every column only call the plugins that override them
+    private Plugin[] modelFieldPlugins = NO_PLUGINS;
+    private Plugin[] modelGetterMethodPlugins = NO_PLUGINS;
+    private Plugin[] modelSetterMethodPlugins = NO_PLUGINS;
+
     protected CompositePlugin() {
         super();
     }
 
+    /**
+     * Adds a plugin. Plugins must be added before any plugin method is called.
+     *
+     * @param plugin the plugin
+     */
     public void addPlugin(Plugin plugin) {
         plugins.add(plugin);
+        if (overridesColumnHook(plugin, "modelFieldGenerated", Field.class)) { //$NON-NLS-1$
+            modelFieldPlugins = append(modelFieldPlugins, plugin);
+        }
+        if (overridesColumnHook(plugin, "modelGetterMethodGenerated", Method.class)) { //$NON-NLS-1$
+            modelGetterMethodPlugins = append(modelGetterMethodPlugins, plugin);
+        }
+        if (overridesColumnHook(plugin, "modelSetterMethodGenerated", Method.class)) { //$NON-NLS-1$
+            modelSetterMethodPlugins = append(modelSetterMethodPlugins, plugin);
+        }
+    }
+
+    /**
+     * Returns true if the plugin overrides the default implementation of a model hook that is called for every
+     * column. Plugins wrapped in a proxy are assumed to override every hook.
+     */
+    private static boolean overridesColumnHook(Plugin plugin, String hookName, Class<?> generatedElementType) {
+        try {
+            return plugin.getClass().getMethod(hookName, generatedElementType, TopLevelClass.class,
+                    IntrospectedColumn.class, IntrospectedTable.class, ModelClassType.class)
+                    .getDeclaringClass() != Plugin.class;
+        } catch (NoSuchMethodException e) {
+            // cannot happen - every plugin implements the hook
+            throw new InternalException(hookName, e);
+        }
+    }
+
+    private static Plugin[] append(Plugin[] plugins, Plugin plugin) {
+        Plugin[] answer = Arrays.copyOf(plugins, plugins.length + 1);
+        answer[plugins.length] = plugin;
+        return answer;
+    }
+
+    /**
+     * A composite plugin is thread safe if all the plugins it contains are thread safe.
+     *
+     * @return true if all plugins are thread safe
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return plugins.stream().allMatch(Plugin::isThreadSafe);
+    }
+
+    /**
+     * A composite plugin supports incremental generation if all the plugins it contains support it.
+     *
+     * @return true if all plugins support incremental generation
+     */
+    @Override
+    public boolean isIncrementalGenerationSupported() {
+        return plugins.stream().allMatch(Plugin::isIncrementalGenerationSupported);
     }
 
     @Override
@@ -700,7 +764,7 @@ public abstract class CompositePlugin implements Plugin {
     public boolean modelFieldGenerated(Field field, TopLevelClass topLevelClass,
             IntrospectedColumn introspectedColumn, IntrospectedTable introspectedTable,
             ModelClassType modelClassType) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : modelFieldPlugins) {
             if (!plugin.modelFieldGenerated(field, topLevelClass, introspectedColumn, introspectedTable,
                     modelClassType)) {
                 return false;
@@ -714,7 +778,7 @@ public abstract class CompositePlugin implements Plugin {
     public boolean modelGetterMethodGenerated(Method method, TopLevelClass topLevelClass,
             IntrospectedColumn introspectedColumn, IntrospectedTable introspectedTable,
             ModelClassType modelClassType) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : modelGetterMethodPlugins) {
             if (!plugin.modelGetterMethodGenerated(method, topLevelClass, introspectedColumn, introspectedTable,
                     modelClassType)) {
                 return false;
@@ -728,7 +792,7 @@ public abstract class CompositePlugin implements Plugin {
     public boolean modelSetterMethodGenerated(Method method, TopLevelClass topLevelClass,
             IntrospectedColumn introspectedColumn, IntrospectedTable introspectedTable,
             ModelClassType modelClassType) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : modelSetterMethodPlugins) {
             if (!plugin.modelSetterMethodGenerated(method, topLevelClass, introspectedColumn, introspectedTable,
                     modelClassType)) {
                 return false;
@@ -0,0 +1,51 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The metrics of a generated file that was saved.
+ *
+ * <p>Files that need not be merged or compared are formatted straight into the file, so for them the formatting time
+ * is part of the write time.
+ *
+ * @param contextId the id of the context that generated the file
+ * @param tableName the fully qualified name of the table the file was generated for. Null for files contributed by
+ *     plugins for the context as a whole
+ * @param file the file
+ * @param changed true if the file was written, false if it was left unchanged because its content was the same
+ * @param bytes the size of the file
+ * @param formatTime the time spent formatting the generated content
+ * @param mergeTime the time spent merging the generated content with the existing file
+ * @param writeTime the time spent resolving the directory, comparing, and writing the file
+ * @param allocatedBytes the bytes allocated formatting, merging, and writing the file, or -1 if the JVM does not count
+ *     allocations
+ */
+public record FileMetrics(String contextId, @Nullable String tableName, Path file, boolean changed, long bytes,
+                          Duration formatTime, Duration mergeTime, Duration writeTime, long allocatedBytes) {
+    /**
+     * Returns the total time spent saving the file.
+     *
+     * @return the sum of the formatting, merge, and write times
+     */
+    public Duration totalTime() {
+        return formatTime.plus(mergeTime).plus(writeTime);
+    }
+}
@@ -0,0 +1,333 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.jspecify.annotations.Nullable;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Collects the metrics of a generator run. The metrics can be summarized as lists of the slowest tables,
+ * generators, and plugins, or written to an XML report file for further analysis. All durations in the report are in
+ * nanoseconds, and allocations are in bytes.
+ *
+ * <p>This class is thread safe. An instance collects the metrics of every run it is passed to - use a new instance
+ * for each run.
+ */
+public class GenerationMetrics implements MetricsListener {
+    private final List<ContextMetrics> contexts = new ArrayList<>();
+    private final List<TableMetrics> introspectedTables = new ArrayList<>();
+    private final List<GeneratorMetrics> generators = new ArrayList<>();
+    private final List<FileMetrics> files = new ArrayList<>();
+    private final List<PluginHookMetrics> pluginHooks = new ArrayList<>();
+
+    @Override
+    public synchronized void tableIntrospected(String contextId, String tableName, Duration duration,
+                                               long allocatedBytes) {
+        introspectedTables.add(new TableMetrics(contextId, tableName, duration, allocatedBytes));
+    }
+
+    @Override
+    public synchronized void contextIntrospected(String contextId, Duration duration, long allocatedBytes) {
+        contexts.add(new ContextMetrics(contextId, duration, allocatedBytes));
+    }
+
+    @Override
+    public synchronized void generatorCompleted(String contextId, String tableName, String generatorName,
+                                                Duration duration, long allocatedBytes) {
+        generators.add(new GeneratorMetrics(contextId, tableName, generatorName, duration, allocatedBytes));
+    }
+
+    @Override
+    public synchronized void fileSaved(FileMetrics fileMetrics) {
+        files.add(fileMetrics);
+    }
+
+    @Override
+    public synchronized void pluginHookProfiled(String contextId, String pluginName, String hookName, long calls,
+                                                Duration duration) {
+        pluginHooks.add(new PluginHookMetrics(contextId, pluginName, hookName, calls, duration));
+    }
+
+    /**
+     * Returns a summary of the run: the slowest table introspections, the tables that took the longest to generate
+     * and save, the generators that took the longest over all tables, the totals of the saved files, and the memory
+     * allocated by each phase of the run if the JVM counts allocations. If plugins were profiled, the summary ends
+     * with the plugin summary.
+     *
+     * @param limit the maximum number of items in each list
+     * @return the lines of the summary
+     */
+    public synchronized List<String> getSummary(int limit) {
+        List<String> lines = new ArrayList<>();
+
+        lines.add(getString("Progress.24")); //$NON-NLS-1$
+        introspectedTables.stream()
+                .sorted(Comparator.comparing(TableMetrics::duration).reversed())
+                .limit(limit)
+                .forEach(t -> lines.add(getString("Progress.27", //$NON-NLS-1$
+                        t.tableName(), t.contextId(), millis(t.duration()))));
+
+        lines.add(getString("Progress.25")); //$NON-NLS-1$
+        Map<TableKey, Duration> generationTimes = sum(generators,
+                g -> new TableKey(g.contextId(), g.tableName()), GeneratorMetrics::duration);
+        Map<TableKey, Duration> saveTimes = sum(files.stream().filter(f -> f.tableName() != null).toList(),
+                f -> new TableKey(f.contextId(), String.valueOf(f.tableName())), FileMetrics::totalTime);
+        Map<TableKey, Duration> tableTimes = new LinkedHashMap<>(generationTimes);
+        saveTimes.forEach((k, v) -> tableTimes.merge(k, v, Duration::plus));
+        tableTimes.entrySet().stream()
+                .sorted(Map.Entry.<TableKey, Duration>comparingByValue().reversed())
+                .limit(limit)
+                .forEach(e -> lines.add(getString("Progress.28", //$NON-NLS-1$
+                        e.getKey().tableName(), e.getKey().contextId(),
+                        millis(generationTimes.getOrDefault(e.getKey(), Duration.ZERO)),
+                        millis(saveTimes.getOrDefault(e.getKey(), Duration.ZERO)))));
+
+        lines.add(getString("Progress.26")); //$NON-NLS-1$
+        Map<String, Duration> generatorTimes = sum(generators, GeneratorMetrics::generatorName,
+                GeneratorMetrics::duration);
+        Map<String, Long> generatorCalls = generators.stream()
+                .collect(Collectors.groupingBy(GeneratorMetrics::generatorName, Collectors.counting()));
+        generatorTimes.entrySet().stream()
+                .sorted(Map.Entry.<String, Duration>comparingByValue().reversed())
+                .limit(limit)
+                .forEach(e -> lines.add(getString("Progress.29", //$NON-NLS-1$
+                        e.getKey(), millis(e.getValue()), Long.toString(generatorCalls.get(e.getKey())))));
+
+        lines.add(getString("Progress.30", //$NON-NLS-1$
+                Long.toString(files.stream().filter(FileMetrics::changed).count()),
+                Long.toString(files.stream().filter(f -> !f.changed()).count()),
+                Long.toString(files.stream().mapToLong(FileMetrics::bytes).sum())));
+        lines.add(getString("Progress.31", //$NON-NLS-1$
+                millis(total(files, FileMetrics::formatTime)),
+                millis(total(files, FileMetrics::mergeTime)),
+                millis(total(files, FileMetrics::writeTime))));
+
+        long introspectionBytes = totalBytes(contexts, ContextMetrics::allocatedBytes);
+        long generationBytes = totalBytes(generators, GeneratorMetrics::allocatedBytes);
+        long saveBytes = totalBytes(files, FileMetrics::allocatedBytes);
+        if (introspectionBytes >= 0 && generationBytes >= 0 && saveBytes >= 0) {
+            lines.add(getString("Progress.35", //$NON-NLS-1$
+                    megabytes(introspectionBytes), megabytes(generationBytes), megabytes(saveBytes)));
+        }
+
+        lines.addAll(getPluginSummary(limit));
+        return lines;
+    }
+
+    /**
+     * Returns a summary of the plugin profile: the plugins, and the plugin methods, that took the longest over the
+     * whole run. Plugins of the same class in different contexts are counted together.
+     *
+     * @param limit the maximum number of items in each list
+     * @return the lines of the summary. The list is empty if plugins were not profiled
+     */
+    public synchronized List<String> getPluginSummary(int limit) {
+        if (pluginHooks.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add(getString("Progress.32")); //$NON-NLS-1$
+        addRankedLines(lines, limit, PluginHookMetrics::pluginName);
+        lines.add(getString("Progress.33")); //$NON-NLS-1$
+        addRankedLines(lines, limit, h -> h.pluginName() + '.' + h.hookName());
+        return lines;
+    }
+
+    private void addRankedLines(List<String> lines, int limit, Function<PluginHookMetrics, String> keyMapper) {
+        Map<String, Duration> times = sum(pluginHooks, keyMapper, PluginHookMetrics::duration);
+        Map<String, Long> calls = pluginHooks.stream()
+                .collect(Collectors.groupingBy(keyMapper, Collectors.summingLong(PluginHookMetrics::calls)));
+        times.entrySet().stream()
+                .sorted(Map.Entry.<String, Duration>comparingByValue().reversed())
+                .limit(limit)
+                .forEach(e -> lines.add(getString("Progress.29", //$NON-NLS-1$
+                        e.getKey(), millis(e.getValue()), Long.toString(calls.get(e.getKey())))));
+    }
+
+    /**
+     * Writes every collected metric to an XML report file. The report has no DTD - the elements are
+     * <code>context</code>, <code>introspection</code>, <code>generation</code>, <code>file</code>, and
+     * <code>pluginHook</code>, in the order the metrics were reported.
+     *
+     * @param path the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void writeReport(Path path) throws IOException {
+        Document document;
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            document = factory.newDocumentBuilder().newDocument();
+        } catch (ParserConfigurationException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+
+        Element root = document.createElement("generationMetrics"); //$NON-NLS-1$
+        document.appendChild(root);
+
+        for (ContextMetrics context : contexts) {
+            Element element = addElement(root, "context", context.contextId(), null); //$NON-NLS-1$
+            element.setAttribute("introspectionNanos", nanos(context.duration())); //$NON-NLS-1$
+            setAllocatedBytes(element, context.allocatedBytes());
+        }
+
+        for (TableMetrics table : introspectedTables) {
+            Element element = addElement(root, "introspection", table.contextId(), table.tableName()); //$NON-NLS-1$
+            element.setAttribute("nanos", nanos(table.duration())); //$NON-NLS-1$
+            setAllocatedBytes(element, table.allocatedBytes());
+        }
+
+        for (GeneratorMetrics generator : generators) {
+            Element element = addElement(root, "generation", generator.contextId(), //$NON-NLS-1$
+                    generator.tableName());
+            element.setAttribute("generator", generator.generatorName()); //$NON-NLS-1$
+            element.setAttribute("nanos", nanos(generator.duration())); //$NON-NLS-1$
+            setAllocatedBytes(element, generator.allocatedBytes());
+        }
+
+        for (FileMetrics file : files) {
+            Element element = addElement(root, "file", file.contextId(), file.tableName()); //$NON-NLS-1$
+            element.setAttribute("path", file.file().toString()); //$NON-NLS-1$
+            element.setAttribute("changed", Boolean.toString(file.changed())); //$NON-NLS-1$
+            element.setAttribute("bytes", Long.toString(file.bytes())); //$NON-NLS-1$
+            element.setAttribute("formatNanos", nanos(file.formatTime())); //$NON-NLS-1$
+            element.setAttribute("mergeNanos", nanos(file.mergeTime())); //$NON-NLS-1$
+            element.setAttribute("writeNanos", nanos(file.writeTime())); //$NON-NLS-1$
+            setAllocatedBytes(element, file.allocatedBytes());
+        }
+
+        for (PluginHookMetrics pluginHook : pluginHooks) {
+            Element element = addElement(root, "pluginHook", pluginHook.contextId(), null); //$NON-NLS-1$
+            element.setAttribute("plugin", pluginHook.pluginName()); //$NON-NLS-1$
+            element.setAttribute("hook", pluginHook.hookName()); //$NON-NLS-1$
+            element.setAttribute("calls", Long.toString(pluginHook.calls())); //$NON-NLS-1$
+            element.setAttribute("nanos", nanos(pluginHook.duration())); //$NON-NLS-1$
+        }
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            TransformerFactory transformerFactory = TransformerFactory.newInstance();
+            transformerFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, ""); //$NON-NLS-1$
+            transformerFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, ""); //$NON-NLS-1$
+            Transformer transformer = transformerFactory.newTransformer();
+            transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8"); //$NON-NLS-1$
+            transformer.setOutputProperty(OutputKeys.INDENT, "yes"); //$NON-NLS-1$
+            transformer.transform(new DOMSource(document), new StreamResult(outputStream));
+        } catch (TransformerException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static Element addElement(Element parent, String name, String contextId, @Nullable String tableName) {
+        Element element = parent.getOwnerDocument().createElement(name);
+        element.setAttribute("context", contextId); //$NON-NLS-1$
+        if (tableName != null) {
+            element.setAttribute("table", tableName); //$NON-NLS-1$
+        }
+        parent.appendChild(element);
+        return element;
+    }
+
+    private static void setAllocatedBytes(Element element, long allocatedBytes) {
+        // allocations are not counted on every JVM
+        if (allocatedBytes >= 0) {
+            element.setAttribute("allocatedBytes", Long.toString(allocatedBytes)); //$NON-NLS-1$
+        }
+    }
+
+    private static <T, K> Map<K, Duration> sum(List<T> items, Function<T, K> keyMapper,
+                                               Function<T, Duration> durationMapper) {
+        Map<K, Duration> answer = new LinkedHashMap<>();
+        for (T item : items) {
+            answer.merge(keyMapper.apply(item), durationMapper.apply(item), Duration::plus);
+        }
+        return answer;
+    }
+
+    private static <T> Duration total(List<T> items, Function<T, Duration> durationMapper) {
+        return items.stream().map(durationMapper).reduce(Duration.ZERO, Duration::plus);
+    }
+
+    /**
+     * Returns the total of the allocations, or -1 if any of them was not counted.
+     */
+    private static <T> long totalBytes(List<T> items, ToLongFunction<T> bytesMapper) {
+        long total = 0;
+        for (T item : items) {
+            long bytes = bytesMapper.applyAsLong(item);
+            if (bytes < 0) {
+                return -1;
+            }
+            total += bytes;
+        }
+        return total;
+    }
+
+    private static String megabytes(long bytes) {
+        return Long.toString(bytes / (1024 * 1024));
+    }
+
+    private static String millis(Duration duration) {
+        return Long.toString(duration.toMillis());
+    }
+
+    private static String nanos(Duration duration) {
+        return Long.toString(duration.toNanos());
+    }
+
+    private record ContextMetrics(String contextId, Duration duration, long allocatedBytes) { }
+
+    private record TableMetrics(String contextId, String tableName, Duration duration, long allocatedBytes) { }
+
+    private record GeneratorMetrics(String contextId, String tableName, String generatorName, Duration duration,
+                                    long allocatedBytes) { }
+
+    private record TableKey(String contextId, String tableName) { }
+
+    private record PluginHookMetrics(String contextId, String pluginName, String hookName, long calls,
+                                     Duration duration) { }
+}
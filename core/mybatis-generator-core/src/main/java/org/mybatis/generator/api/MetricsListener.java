@@ -0,0 +1,107 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import java.time.Duration;
+
+/**
+ * This interface can be implemented to receive timing, allocation, and size metrics from a run of the generator.
+ * Where {@link ProgressCallback} reports what the generator is doing, this interface reports how long it took and
+ * how much memory it allocated.
+ *
+ * <p>Metrics are reported as each piece of work completes. When contexts, tables, or pipeline stages run
+ * concurrently, methods are called from several threads, so implementations must be thread safe.
+ *
+ * <p>Allocated bytes are the bytes allocated on the heap by the threads that did the work, as counted by the
+ * <code>com.sun.management.ThreadMXBean</code> of the JVM. They are -1 if the JVM does not count allocations.
+ *
+ * <p>{@link GenerationMetrics} is an implementation that collects the metrics into a summary and a report file.
+ */
+public interface MetricsListener {
+    /**
+     * Called when a table configuration has been introspected. A table configuration with wildcards may match
+     * several tables - they are reported together.
+     *
+     * @param contextId
+     *            the id of the context
+     * @param tableName
+     *            the fully qualified name of the table, as specified in the configuration
+     * @param duration
+     *            the time spent reading the metadata of the table
+     * @param allocatedBytes
+     *            the bytes allocated reading the metadata of the table
+     */
+    default void tableIntrospected(String contextId, String tableName, Duration duration, long allocatedBytes) {}
+
+    /**
+     * Called when every table of a context has been introspected.
+     *
+     * @param contextId
+     *            the id of the context
+     * @param duration
+     *            the time spent introspecting the context, including opening connections
+     * @param allocatedBytes
+     *            the bytes allocated introspecting the context. When tables are introspected concurrently, this is
+     *            the allocation of the calling thread plus the allocation of the tables
+     */
+    default void contextIntrospected(String contextId, Duration duration, long allocatedBytes) {}
+
+    /**
+     * Called when a generator of a runtime has generated the files for a table. The time includes the plugin
+     * methods called by the generator. Files contributed by plugins are reported under the generator name
+     * "Plugins".
+     *
+     * @param contextId
+     *            the id of the context
+     * @param tableName
+     *            the fully qualified name of the introspected table
+     * @param generatorName
+     *            the simple class name of the generator
+     * @param duration
+     *            the time spent generating
+     * @param allocatedBytes
+     *            the bytes allocated generating
+     */
+    default void generatorCompleted(String contextId, String tableName, String generatorName, Duration duration,
+                                    long allocatedBytes) {}
+
+    /**
+     * Called when a generated file has been written, or left unchanged. Files that could not be written are not
+     * reported.
+     *
+     * @param fileMetrics
+     *            the metrics of the file
+     */
+    default void fileSaved(FileMetrics fileMetrics) {}
+
+    /**
+     * Called at the end of a run, if plugin profiling is enabled, for every method of every plugin that was called
+     * during the run.
+     *
+     * @param contextId
+     *            the id of the context the plugin belongs to
+     * @param pluginName
+     *            the class name of the plugin
+     * @param hookName
+     *            the name and parameter types of the plugin method
+     * @param calls
+     *            the number of calls to the method
+     * @param duration
+     *            the total time spent in the method
+     */
+    default void pluginHookProfiled(String contextId, String pluginName, String hookName, long calls,
+                                    Duration duration) {}
+}
@@ -16,29 +16,47 @@
 package org.mybatis.generator.api;
 
 import static org.mybatis.generator.internal.util.ClassloaderUtility.getCustomClassloader;
+import static org.mybatis.generator.internal.util.ExecutorUtility.awaitTermination;
 import static org.mybatis.generator.internal.util.StringUtility.mapStringValueOrElseGet;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import java.io.BufferedWriter;
-import java.io.File;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.Charset;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.generator.codegen.CalculatedContextValues;
 import org.mybatis.generator.codegen.GenerationEngine;
+import org.mybatis.generator.codegen.GenerationPipeline;
 import org.mybatis.generator.codegen.GenerationResults;
 import org.mybatis.generator.codegen.IntrospectionEngine;
 import org.mybatis.generator.codegen.RootClassInfo;
@@ -50,8 +68,18 @@ import org.mybatis.generator.exception.InternalException;
 import org.mybatis.generator.exception.InvalidConfigurationException;
 import org.mybatis.generator.exception.MergeException;
 import org.mybatis.generator.exception.ShellException;
+import org.mybatis.generator.internal.AllocationCounter;
+import org.mybatis.generator.internal.AtomicFileWriter;
 import org.mybatis.generator.internal.DefaultShellCallback;
+import org.mybatis.generator.internal.GenerationManifest;
+import org.mybatis.generator.internal.GenerationManifest.EntryKey;
+import org.mybatis.generator.internal.GenerationManifestTracker;
 import org.mybatis.generator.internal.ObjectFactory;
+import org.mybatis.generator.internal.PluginProfiler;
+import org.mybatis.generator.internal.SynchronizedProgressCallback;
+import org.mybatis.generator.internal.jfr.FileWriteEvent;
+import org.mybatis.generator.internal.jfr.MergeEvent;
+import org.mybatis.generator.internal.util.NamedThreadFactory;
 import org.mybatis.generator.merge.java.JavaFileMerger;
 import org.mybatis.generator.merge.java.JavaMergerFactory;
 import org.mybatis.generator.merge.xml.XmlFileMergerJaxp;
@@ -79,13 +107,35 @@ public class MyBatisGenerator {
     private final boolean isOverwriteEnabled;
     private final boolean isJavaFileMergeEnabled;
     private final Indenter indenter;
+    private final int contextThreads;
+    private final boolean isPipelineEnabled;
+    private final boolean isSkipUnchangedFilesEnabled;
+    private final @Nullable Path manifestFile;
+    private final boolean isStaleFileDeletionEnabled;
+    private final @Nullable MetricsListener metricsListener;
+    private final boolean isPluginProfilingEnabled;
+    private final int saveThreads;
+    private final boolean isAtomicWritesEnabled;
+    private final boolean isDeferredCommitEnabled;
+    private final @Nullable FileSystem outputFileSystem;
+    private @Nullable GenerationManifestTracker manifestTracker;
+    private @Nullable ExecutorService saveExecutorService;
+    private @Nullable PluginProfiler pluginProfiler;
+    private @Nullable AtomicFileWriter atomicFileWriter;
+    private int changedFiles;
+    private int unchangedFiles;
 
     private final List<GenerationResults> generationResultsList = new ArrayList<>();
+    private final Map<DirectoryKey, Path> directories = new ConcurrentHashMap<>();
 
     private MyBatisGenerator(Builder builder) {
         configuration = Objects.requireNonNull(builder.configuration, getString("RuntimeError.2")); //$NON-NLS-1$
         shellCallback = Objects.requireNonNullElseGet(builder.shellCallback, DefaultShellCallback::new);
-        progressCallback = Objects.requireNonNullElseGet(builder.progressCallback, () -> new ProgressCallback() {});
+        ProgressCallback callback = Objects.requireNonNullElseGet(builder.progressCallback,
+                () -> new ProgressCallback() {});
+        // pipeline stages and concurrent saves report progress from several threads
+        progressCallback = builder.isPipelineEnabled || builder.saveThreads > 1
+                ? new SynchronizedProgressCallback(callback) : callback;
         fullyQualifiedTableNames = builder.fullyQualifiedTableNames;
         contextIds = builder.contextIds;
         indenter = configuration.getIndentationConfiguration()
@@ -103,6 +153,23 @@ public class MyBatisGenerator {
         }
 
         isOverwriteEnabled = builder.isOverwriteEnabled;
+        contextThreads = builder.contextThreads;
+        isPipelineEnabled = builder.isPipelineEnabled;
+        isSkipUnchangedFilesEnabled = builder.isSkipUnchangedFilesEnabled;
+        manifestFile = builder.manifestFile;
+        isStaleFileDeletionEnabled = builder.isStaleFileDeletionEnabled;
+        metricsListener = builder.metricsListener;
+        isPluginProfilingEnabled = builder.isPluginProfilingEnabled && metricsListener != null;
+        saveThreads = builder.saveThreads;
+        isDeferredCommitEnabled = builder.isDeferredCommitEnabled;
+        isAtomicWritesEnabled = builder.isAtomicWritesEnabled || isDeferredCommitEnabled;
+        outputFileSystem = builder.outputFileSystem;
+
+        // the manifest records paths of generated files, and they are checked and deleted in its file system
+        if (manifestFile != null && !manifestFile.getFileSystem().equals(
+                Objects.requireNonNullElseGet(outputFileSystem, FileSystems::getDefault))) {
+            throw new IllegalArgumentException(getString("RuntimeError.37", manifestFile.toString())); //$NON-NLS-1$
+        }
     }
 
     /**
@@ -122,7 +189,10 @@ public class MyBatisGenerator {
     public List<String> generateOnly() throws SQLException, InterruptedException,
             InvalidConfigurationException {
         List<String> warnings = new ArrayList<>();
+        // nothing is written, so there is nothing to record in a manifest
+        manifestTracker = null;
         generateFiles(warnings);
+        reportPluginProfile();
         progressCallback.done();
         return warnings;
     }
@@ -145,26 +215,101 @@ public class MyBatisGenerator {
     public List<String> generateAndWrite() throws SQLException, IOException, InterruptedException,
             InvalidConfigurationException {
         List<String> warnings = new ArrayList<>();
-        generateFiles(warnings);
-        writeGeneratedFiles(warnings);
+        changedFiles = 0;
+        unchangedFiles = 0;
+        directories.clear();
+        manifestTracker = manifestFile == null ? null
+                : new GenerationManifestTracker(GenerationManifest.read(manifestFile));
+        saveExecutorService = saveThreads > 1
+                ? Executors.newFixedThreadPool(saveThreads, new NamedThreadFactory("mbg-save")) //$NON-NLS-1$
+                : null;
+        atomicFileWriter = isAtomicWritesEnabled ? new AtomicFileWriter(isDeferredCommitEnabled) : null;
+        Set<String> projects = new HashSet<>();
+        try {
+            if (isPipelineEnabled) {
+                generateAndWriteFiles(warnings, projects);
+            } else {
+                generateFiles(warnings);
+                writeGeneratedFiles(warnings, projects);
+            }
+            commitFiles();
+        } finally {
+            if (saveExecutorService != null) {
+                // not shutdownNow() - interrupting a write would leave a truncated file
+                saveExecutorService.shutdown();
+                saveExecutorService = null;
+            }
+
+            if (atomicFileWriter != null) {
+                // a run that failed, or was canceled, before the commit leaves the previous files untouched
+                atomicFileWriter.rollback();
+                atomicFileWriter = null;
+            }
+        }
+
+        if (outputFileSystem == null) {
+            for (String project : projects) {
+                shellCallback.refreshProject(project);
+            }
+        }
+        reportPluginProfile();
+        updateManifest(warnings);
+        progressCallback.saveCompleted(changedFiles, unchangedFiles);
         progressCallback.done();
         return warnings;
     }
 
     private void generateFiles(List<String> warnings) throws SQLException, InterruptedException,
             InvalidConfigurationException {
+        List<CalculatedContextValues> contextValuesList = initialize(warnings);
+        int threads = Math.min(contextThreads, contextValuesList.size());
+        if (threads > 1) {
+            runContextsConcurrently(contextValuesList, threads, warnings);
+        } else {
+            List<ContextValuesAndTables> contextValuesAndTablesList = runAllIntrospections(contextValuesList,
+                    warnings);
+            List<GenerationEngine> generationEngines = createGenerationEngines(contextValuesAndTablesList, warnings);
+            runGenerationEngines(generationEngines);
+        }
+    }
+
+    private List<CalculatedContextValues> initialize(List<String> warnings) throws InvalidConfigurationException {
         configuration.validate();
         generationResultsList.clear();
         ObjectFactory.reset();
         RootClassInfo.reset();
 
         setupCustomClassloader();
+        pluginProfiler = isPluginProfilingEnabled ? new PluginProfiler() : null;
         List<Context> contextsToRun = calculateContextsToRun();
-        List<CalculatedContextValues> contextValuesList = calculateContextValues(contextsToRun, indenter,
-                warnings);
-        List<ContextValuesAndTables> contextValuesAndTablesList = runAllIntrospections(contextValuesList, warnings);
-        List<GenerationEngine> generationEngines = createGenerationEngines(contextValuesAndTablesList, warnings);
-        runGenerationEngines(generationEngines);
+        List<CalculatedContextValues> contextValuesList = calculateContextValues(contextsToRun, indenter, warnings);
+        if (manifestTracker != null) {
+            contextValuesList.stream()
+                    .filter(c -> !c.pluginAggregator().isIncrementalGenerationSupported())
+                    .forEach(c -> warnings.add(getString("Warning.40", c.context().getId()))); //$NON-NLS-1$
+        }
+        return contextValuesList;
+    }
+
+    /**
+     * Introspects, generates, and writes tables in overlapping stages. Generated files are written as soon as they
+     * are generated and are not kept in the generation results.
+     */
+    private void generateAndWriteFiles(List<String> warnings, Set<String> projects) throws SQLException, IOException,
+            InterruptedException, InvalidConfigurationException {
+        List<CalculatedContextValues> contextValuesList = initialize(warnings);
+
+        warnings.addAll(new GenerationPipeline.Builder()
+                .withContextValues(contextValuesList)
+                .withFullyQualifiedTableNames(fullyQualifiedTableNames)
+                .withProgressCallback(progressCallback)
+                .withMetricsListener(metricsListener)
+                .withTableFilter((contextValues, introspectedTable) ->
+                        isGenerationRequired(contextValues, introspectedTable, progressCallback))
+                .withResultsWriter((generationResults, writeWarnings) ->
+                        writeGenerationResults(generationResults, writeWarnings, projects))
+                .build()
+                .run());
     }
 
     private void setupCustomClassloader() {
@@ -200,9 +345,16 @@ public class MyBatisGenerator {
                 .withContext(context)
                 .withWarnings(warnings)
                 .withIndenter(indenter)
+                .withPluginProfiler(pluginProfiler)
                 .build();
     }
 
+    private void reportPluginProfile() {
+        if (pluginProfiler != null && metricsListener != null) {
+            pluginProfiler.report(metricsListener);
+        }
+    }
+
     private List<ContextValuesAndTables> runAllIntrospections(List<CalculatedContextValues> contextValuesList,
                                                               List<String> warnings)
             throws SQLException, InterruptedException {
@@ -215,7 +367,7 @@ public class MyBatisGenerator {
         List<ContextValuesAndTables> contextValuesAndTablesList = new ArrayList<>();
         for (CalculatedContextValues contextValues : contextValuesList) {
             contextValuesAndTablesList.add(new ContextValuesAndTables(contextValues,
-                    runContextIntrospection(fullyQualifiedTableNames, contextValues, warnings)));
+                    runContextIntrospection(fullyQualifiedTableNames, contextValues, warnings, progressCallback)));
         }
 
         return contextValuesAndTablesList;
@@ -223,35 +375,58 @@ public class MyBatisGenerator {
 
     private List<IntrospectedTable> runContextIntrospection(Set<String> fullyQualifiedTableNames,
                                                             CalculatedContextValues contextValues,
-                                                            List<String> warnings)
+                                                            List<String> warnings,
+                                                            ProgressCallback progressCallback)
             throws SQLException, InterruptedException {
         List<IntrospectedTable> answer = new IntrospectionEngine.Builder()
                 .withContextValues(contextValues)
                 .withFullyQualifiedTableNames(fullyQualifiedTableNames)
                 .withWarnings(warnings)
                 .withProgressCallback(progressCallback)
+                .withMetricsListener(metricsListener)
                 .build()
-                .introspectTables();
+                .introspectTables()
+                .stream()
+                .filter(t -> isGenerationRequired(contextValues, t, progressCallback))
+                .toList();
 
         answer.forEach(t -> contextValues.pluginAggregator().initialized(t));
 
         return answer;
     }
 
+    /**
+     * Returns false if a generation manifest is used, and it shows the table is up to date. Up-to-date tables are
+     * not generated, and their files are left as they are.
+     */
+    private boolean isGenerationRequired(CalculatedContextValues contextValues, IntrospectedTable introspectedTable,
+                                         ProgressCallback progressCallback) {
+        GenerationManifestTracker tracker = manifestTracker;
+        if (tracker != null && tracker.isUpToDate(contextValues.context(), introspectedTable,
+                contextValues.pluginAggregator().isIncrementalGenerationSupported())) {
+            progressCallback.startTask(getString("Progress.22", //$NON-NLS-1$
+                    introspectedTable.getFullyQualifiedTable().toString()));
+            return false;
+        }
+
+        return true;
+    }
+
     private List<GenerationEngine> createGenerationEngines(List<ContextValuesAndTables> contextValuesAndTablesListList,
                                                            List<String> warnings) {
         return contextValuesAndTablesListList.stream()
-                .map(c -> createGenerationEngine(c, warnings))
+                .map(c -> createGenerationEngine(c, warnings, progressCallback))
                 .toList();
     }
 
     private GenerationEngine createGenerationEngine(ContextValuesAndTables contextValuesAndTables,
-                                                    List<String> warnings) {
+                                                    List<String> warnings, ProgressCallback progressCallback) {
         return new GenerationEngine.Builder()
                 .withContextValues(contextValuesAndTables.contextValues())
                 .withProgressCallback(progressCallback)
                 .withWarnings(warnings)
                 .withIntrospectedTables(contextValuesAndTables.introspectedTables())
+                .withMetricsListener(metricsListener)
                 .build();
     }
 
@@ -267,94 +442,487 @@ public class MyBatisGenerator {
         }
     }
 
-    private void writeGeneratedFiles(List<String> warnings) throws IOException, InterruptedException {
-        Set<String> projects = new HashSet<>();
+    /**
+     * Runs the introspection and generation of each context on a pool of worker threads, so contexts that use
+     * different databases do not wait for each other. Results and warnings are collected in context order.
+     *
+     * <p>Because the phases of different contexts overlap, generationStarted() is reported when the last context has
+     * been introspected, and some generation tasks may be reported before it.
+     */
+    private void runContextsConcurrently(List<CalculatedContextValues> contextValuesList, int threads,
+                                         List<String> warnings)
+            throws SQLException, InterruptedException, InvalidConfigurationException {
+        ProgressCallback callback = new SynchronizedProgressCallback(progressCallback);
+        callback.introspectionStarted(contextValuesList.stream()
+                .map(CalculatedContextValues::context)
+                .mapToInt(Context::getIntrospectionSteps)
+                .sum());
+        GenerationStepCounter stepCounter = new GenerationStepCounter(contextValuesList.size(), callback);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads,
+                new NamedThreadFactory("mbg-context")); //$NON-NLS-1$
+        try {
+            List<Future<ContextResults>> futures = contextValuesList.stream()
+                    .map(c -> executorService.submit(() -> runContext(c, callback, stepCounter)))
+                    .toList();
+
+            for (Future<ContextResults> future : futures) {
+                ContextResults contextResults = waitForResults(future);
+                warnings.addAll(contextResults.warnings());
+                generationResultsList.add(contextResults.generationResults());
+            }
+        } finally {
+            // the other contexts may still hold connections and generation threads, so wait for them to stop
+            executorService.shutdownNow();
+            awaitTermination(executorService);
+        }
+
+        checkForConflictingFiles();
+    }
+
+    private ContextResults runContext(CalculatedContextValues contextValues, ProgressCallback callback,
+                                      GenerationStepCounter stepCounter) throws SQLException, InterruptedException {
+        List<String> contextWarnings = new ArrayList<>();
+        List<IntrospectedTable> introspectedTables = runContextIntrospection(fullyQualifiedTableNames, contextValues,
+                contextWarnings, callback);
+        GenerationEngine generationEngine = createGenerationEngine(
+                new ContextValuesAndTables(contextValues, introspectedTables), contextWarnings, callback);
+        stepCounter.contextIntrospected(generationEngine.getGenerationSteps());
+        return new ContextResults(generationEngine.generate(), contextWarnings);
+    }
+
+    private ContextResults waitForResults(Future<ContextResults> future) throws SQLException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException sqlException) {
+                throw sqlException;
+            } else if (cause instanceof InterruptedException interruptedException) {
+                throw interruptedException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            } else {
+                throw new InternalException(cause.getMessage(), cause);
+            }
+        }
+    }
+
+    /**
+     * When contexts run concurrently, it is not obvious which one should win if two of them generate the same file.
+     * So that is treated as a configuration error. Files are checked in context order, so the reported conflicts are
+     * the same on every run.
+     */
+    private void checkForConflictingFiles() throws InvalidConfigurationException {
+        List<String> errors = new ArrayList<>();
+        Map<String, String> contextIdsByFile = new HashMap<>();
+        for (GenerationResults generationResults : generationResultsList) {
+            String contextId = generationResults.contextId();
+            Stream.of(generationResults.generatedJavaFiles(), generationResults.generatedXmlFiles(),
+                            generationResults.generatedKotlinFiles(), generationResults.generatedGenericFiles())
+                    .flatMap(Collection::stream)
+                    .map(MyBatisGenerator::calculateFileKey)
+                    .distinct()
+                    .forEach(fileKey -> {
+                        String otherContextId = contextIdsByFile.putIfAbsent(fileKey, contextId);
+                        if (otherContextId != null) {
+                            errors.add(getString("ValidationError.39", //$NON-NLS-1$
+                                    fileKey, otherContextId, contextId));
+                        }
+                    });
+        }
+
+        if (!errors.isEmpty()) {
+            throw new InvalidConfigurationException(getString("ValidationError.32"), errors); //$NON-NLS-1$
+        }
+    }
+
+    private static String calculateFileKey(GeneratedFile generatedFile) {
+        String targetPackage = generatedFile.getTargetPackage();
+        String directory = targetPackage.isEmpty() ? "" : targetPackage.replace('.', '/') + '/'; //$NON-NLS-1$
+        return generatedFile.getTargetProject() + '/' + directory + generatedFile.getFileName();
+    }
+
+    private void writeGeneratedFiles(List<String> warnings, Set<String> projects)
+            throws IOException, InterruptedException {
         int totalSteps = generationResultsList.stream().mapToInt(GenerationResults::getNumberOfGeneratedFiles).sum();
         progressCallback.saveStarted(totalSteps);
 
         for (GenerationResults generationResults : generationResultsList) {
-            for (GeneratedXmlFile gxf : generationResults.generatedXmlFiles()) {
-                projects.add(gxf.getTargetProject());
-                writeGeneratedXmlFile(gxf, generationResults.xmlFormatter(), warnings);
+            writeGenerationResults(generationResults, warnings, projects);
+        }
+    }
+
+    /**
+     * Moves the files written by this run into place, if their commit is deferred.
+     */
+    private void commitFiles() throws IOException, InterruptedException {
+        AtomicFileWriter writer = atomicFileWriter;
+        if (writer == null || writer.getStagedFileCount() == 0) {
+            return;
+        }
+
+        progressCallback.checkCancel();
+        progressCallback.startTask(getString("Progress.34", //$NON-NLS-1$
+                Integer.toString(writer.getStagedFileCount())));
+        writer.commit();
+    }
+
+    private void writeGenerationResults(GenerationResults generationResults, List<String> warnings,
+                                        Set<String> projects) throws IOException, InterruptedException {
+        List<FileSave> fileSaves = new ArrayList<>();
+        for (GeneratedXmlFile gxf : generationResults.generatedXmlFiles()) {
+            fileSaves.add(new FileSave(gxf, w -> writeGeneratedXmlFile(gxf, generationResults.xmlFormatter(), w)));
+        }
+
+        for (GeneratedJavaFile gjf : generationResults.generatedJavaFiles()) {
+            fileSaves.add(new FileSave(gjf, w -> writeGeneratedJavaFile(gjf, generationResults.javaFormatter(),
+                    generationResults.javaFileEncoding(), w)));
+        }
+
+        for (GeneratedKotlinFile gkf : generationResults.generatedKotlinFiles()) {
+            fileSaves.add(new FileSave(gkf, w -> writeGeneratedKotlinFile(gkf, generationResults.kotlinFormatter(),
+                    generationResults.kotlinFileEncoding(), w)));
+        }
+
+        for (GenericGeneratedFile gf : generationResults.generatedGenericFiles()) {
+            fileSaves.add(new FileSave(gf, w -> writeGenericGeneratedFile(gf, w)));
+        }
+
+        fileSaves.forEach(fs -> projects.add(fs.generatedFile().getTargetProject()));
+
+        ExecutorService executorService = saveExecutorService;
+        if (executorService == null) {
+            for (FileSave fileSave : fileSaves) {
+                recordFile(generationResults, fileSave.generatedFile(), fileSave.saver().save(warnings));
             }
+        } else {
+            saveConcurrently(generationResults, fileSaves, warnings, executorService);
+        }
+    }
+
+    /**
+     * Formats, merges, and writes files on the save threads. Files with the same path are saved one after the other,
+     * in generation order, by the same task, so a merge or a unique file name sees the files saved before it. Warnings
+     * are reported, and files recorded, in generation order once every file is saved, so they are the same as when
+     * files are saved one at a time.
+     */
+    private void saveConcurrently(GenerationResults generationResults, List<FileSave> fileSaves,
+                                  List<String> warnings, ExecutorService executorService)
+            throws IOException, InterruptedException {
+        Map<String, List<Integer>> indexesByFile = new LinkedHashMap<>();
+        List<List<String>> fileWarnings = new ArrayList<>();
+        for (int i = 0; i < fileSaves.size(); i++) {
+            indexesByFile.computeIfAbsent(calculateFileKey(fileSaves.get(i).generatedFile()), k -> new ArrayList<>())
+                    .add(i);
+            fileWarnings.add(new ArrayList<>());
+        }
 
-            for (GeneratedJavaFile gjf : generationResults.generatedJavaFiles()) {
-                projects.add(gjf.getTargetProject());
-                writeGeneratedJavaFile(gjf, generationResults.javaFormatter(), generationResults.javaFileEncoding(),
-                        warnings);
+        @Nullable SavedFile[] savedFiles = new SavedFile[fileSaves.size()];
+        AtomicBoolean failed = new AtomicBoolean();
+        List<Future<@Nullable Void>> futures = indexesByFile.values().stream()
+                .<Future<@Nullable Void>>map(indexes -> executorService.submit(() -> {
+                    for (int index : indexes) {
+                        if (failed.get()) {
+                            break;
+                        }
+                        savedFiles[index] = fileSaves.get(index).saver().save(fileWarnings.get(index));
+                    }
+                    return null;
+                }))
+                .toList();
+
+        try {
+            for (Future<@Nullable Void> future : futures) {
+                waitForSave(future);
             }
+        } catch (IOException | InterruptedException | RuntimeException | Error e) {
+            // do not start any more files, and let the files being saved finish - a rollback must not race them
+            failed.set(true);
+            awaitSaves(futures);
+            throw e;
+        }
+
+        for (int i = 0; i < fileSaves.size(); i++) {
+            warnings.addAll(fileWarnings.get(i));
+            recordFile(generationResults, fileSaves.get(i).generatedFile(), savedFiles[i]);
+        }
+    }
 
-            for (GeneratedKotlinFile gkf : generationResults.generatedKotlinFiles()) {
-                projects.add(gkf.getTargetProject());
-                writeGeneratedKotlinFile(gkf, generationResults.kotlinFormatter(),
-                        generationResults.kotlinFileEncoding(), warnings);
+    /**
+     * Waits for every save task to finish. Their failures are ignored - the first failure is already being reported.
+     */
+    private static void awaitSaves(List<Future<@Nullable Void>> futures) {
+        boolean interrupted = false;
+        for (Future<@Nullable Void> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    break;
+                }
             }
+        }
 
-            for (GenericGeneratedFile gf : generationResults.generatedGenericFiles()) {
-                projects.add(gf.getTargetProject());
-                writeGenericGeneratedFile(gf, warnings);
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void waitForSave(Future<@Nullable Void> future) throws IOException, InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else if (cause instanceof InterruptedException interruptedException) {
+                throw interruptedException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            } else {
+                throw new InternalException(cause.getMessage(), cause);
             }
         }
+    }
 
-        for (String project : projects) {
-            shellCallback.refreshProject(project);
+    private void recordFile(GenerationResults generationResults, GeneratedFile gf, @Nullable SavedFile savedFile) {
+        IntrospectedTable introspectedTable = generationResults.getOriginTable(gf).orElse(null);
+        GenerationManifestTracker tracker = manifestTracker;
+        if (tracker != null) {
+            if (savedFile == null) {
+                tracker.fileFailed(generationResults.contextId(), introspectedTable);
+            } else {
+                tracker.fileWritten(generationResults.contextId(), introspectedTable, savedFile.file());
+            }
+        }
+
+        if (savedFile == null) {
+            return;
+        }
+
+        if (savedFile.changed()) {
+            changedFiles++;
+        } else {
+            unchangedFiles++;
+        }
+
+        String tableName = introspectedTable == null ? null : introspectedTable.getFullyQualifiedTable().toString();
+        savedFile.commitEvents(generationResults.contextId(), tableName);
+        if (metricsListener != null) {
+            metricsListener.fileSaved(new FileMetrics(generationResults.contextId(), tableName, savedFile.file(),
+                    savedFile.changed(), savedFile.bytes(), savedFile.formatTime(),
+                    savedFile.mergeTime(), savedFile.writeTime(), savedFile.allocatedBytes()));
         }
     }
 
-    private void writeGeneratedJavaFile(GeneratedJavaFile gf, JavaFormatter javaFormatter,
-                                        @Nullable String javaFileEncoding, List<String> warnings)
+    /**
+     * Writes the manifest of this run, and deletes or reports the files of the previous run that are no longer
+     * generated. Entries of the previous manifest for contexts and tables excluded from this run are kept, so
+     * their files are not considered stale. So are entries for tables that are still configured but were not
+     * introspected in this run.
+     */
+    private void updateManifest(List<String> warnings) throws IOException {
+        GenerationManifestTracker tracker = manifestTracker;
+        if (tracker == null || manifestFile == null) {
+            return;
+        }
+
+        List<Context> contextsRun = calculateContextsToRun();
+        Set<String> contextIdsRun = contextsRun.stream().map(Context::getId).collect(Collectors.toSet());
+        Set<EntryKey> configuredTables = contextsRun.stream()
+                .flatMap(c -> c.tableConfigurations().stream()
+                        .map(tc -> new EntryKey(c.getId(), tc.getFullyQualifiedName())))
+                .collect(Collectors.toSet());
+        GenerationManifest manifest = tracker.createManifest(key ->
+                (!contextIds.isEmpty() && !contextIdsRun.contains(key.contextId()))
+                        || (!fullyQualifiedTableNames.isEmpty() && !key.isContextFiles()),
+                (contextId, tableConfiguration) -> configuredTables.contains(new EntryKey(contextId,
+                        tableConfiguration)));
+
+        for (Path staleFile : tracker.findStaleFiles(manifest)) {
+            if (isStaleFileDeletionEnabled) {
+                progressCallback.startTask(getString("Progress.23", staleFile.toString())); //$NON-NLS-1$
+                Files.deleteIfExists(staleFile);
+            } else if (Files.exists(staleFile)) {
+                // keep reporting the file until it is deleted
+                warnings.add(getString("Warning.39", staleFile.toString())); //$NON-NLS-1$
+                manifest.addStaleFile(staleFile);
+            }
+        }
+
+        manifest.write(manifestFile);
+    }
+
+    private @Nullable SavedFile writeGeneratedJavaFile(GeneratedJavaFile gf, JavaFormatter javaFormatter,
+                                                  @Nullable String javaFileEncoding, List<String> warnings)
             throws InterruptedException, IOException {
-        String source = javaFormatter.getFormattedContent(gf.getCompilationUnit());
-        writeFile(source, javaFileEncoding, gf, warnings, isJavaFileMergeEnabled,
+        FileContent content = appendable -> javaFormatter.writeFormattedContent(gf.getCompilationUnit(), appendable);
+        return writeFile(content, javaFileEncoding, gf, warnings, isJavaFileMergeEnabled,
                 (newContent, existingContent) -> javaFileMerger.getMergedSource(newContent, existingContent,
                         javaFileEncoding));
     }
 
-    private void writeGeneratedKotlinFile(GeneratedKotlinFile gf, KotlinFormatter kotlinFormatter,
-                                          @Nullable String kotlinFileEncoding, List<String> warnings)
+    private @Nullable SavedFile writeGeneratedKotlinFile(GeneratedKotlinFile gf, KotlinFormatter kotlinFormatter,
+                                                    @Nullable String kotlinFileEncoding, List<String> warnings)
             throws InterruptedException, IOException {
         String source = kotlinFormatter.getFormattedContent(gf.getKotlinFile());
-        writeFile(source, kotlinFileEncoding, gf, warnings, false, Merger.noMerge());
+        return writeFile(FileContent.of(source), kotlinFileEncoding, gf, warnings, false, Merger.noMerge());
     }
 
-    private void writeGenericGeneratedFile(GenericGeneratedFile gf, List<String> warnings)
+    private @Nullable SavedFile writeGenericGeneratedFile(GenericGeneratedFile gf, List<String> warnings)
             throws InterruptedException, IOException {
         String source = gf.getFormattedContent();
-        writeFile(source, gf.getFileEncoding().orElse(null), gf, warnings, false, Merger.noMerge());
+        return writeFile(FileContent.of(source), gf.getFileEncoding().orElse(null), gf, warnings, false,
+                Merger.noMerge());
     }
 
-    private void writeGeneratedXmlFile(GeneratedXmlFile gf, XmlFormatter xmlFormatter, List<String> warnings)
+    private @Nullable SavedFile writeGeneratedXmlFile(GeneratedXmlFile gf, XmlFormatter xmlFormatter,
+                                                 List<String> warnings)
             throws InterruptedException, IOException {
-        String source = xmlFormatter.getFormattedContent(gf.getDocument());
-        writeFile(source, "UTF-8", gf, warnings, true, XmlFileMergerJaxp::getMergedSource); //$NON-NLS-1$
+        FileContent content = appendable -> xmlFormatter.writeFormattedContent(gf.getDocument(), appendable);
+        return writeFile(content, "UTF-8", gf, warnings, true, XmlFileMergerJaxp::getMergedSource); //$NON-NLS-1$
     }
 
-    private void writeFile(String content, @Nullable String encoding, GeneratedFile gf, List<String> warnings,
-                           boolean mergeEnabled, Merger merger)
+    /**
+     * Writes a generated file, unless it is unchanged. The content is only rendered to a string if it must be merged
+     * or compared with an existing file - otherwise it is written straight to the file.
+     *
+     * @return the file written, or left unchanged. Null if the file could not be written
+     */
+    private @Nullable SavedFile writeFile(FileContent content, @Nullable String encoding, GeneratedFile gf,
+                                          List<String> warnings, boolean mergeEnabled, Merger merger)
             throws InterruptedException, IOException {
+        SaveTimer saveTimer = new SaveTimer();
         try {
-            File directory = shellCallback.getDirectory(gf.getTargetProject(), gf.getTargetPackage());
-            Path targetFile = directory.toPath().resolve(gf.getFileName());
-            if (Files.exists(targetFile)) {
-                if (mergeEnabled && gf.isMergeable()) {
-                    content = merger.apply(content, targetFile.toFile());
-                } else if (isOverwriteEnabled) {
-                    warnings.add(getString("Warning.11", targetFile.toFile().getAbsolutePath())); //$NON-NLS-1$
-                } else {
-                    targetFile = getUniqueFileName(directory, gf.getFileName());
-                    warnings.add(getString("Warning.2", targetFile.toFile().getAbsolutePath())); //$NON-NLS-1$
+            Path directory = getDirectory(gf.getTargetProject(), gf.getTargetPackage());
+            Path targetFile = directory.resolve(gf.getFileName());
+            OptionalLong unchangedSize = OptionalLong.empty();
+            if (exists(targetFile)) {
+                // the file written earlier in this run, if the commit is deferred
+                Path existingFile = getCurrentFile(targetFile);
+                if (isSkipUnchangedFilesEnabled) {
+                    // render once, for the comparison and the write
+                    content = FileContent.of(saveTimer.format(content));
+                }
+
+                boolean merged = mergeEnabled && gf.isMergeable();
+                if (merged) {
+                    content = FileContent.of(saveTimer.merge(merger, saveTimer.format(content), existingFile));
+                }
+
+                if (isSkipUnchangedFilesEnabled) {
+                    unchangedSize = getUnchangedSize(existingFile, content.asString(), encoding);
+                }
+
+                // a merged file is overwritten, and an unchanged file is left as it is
+                if (!merged && unchangedSize.isEmpty()) {
+                    if (isOverwriteEnabled) {
+                        warnings.add(getString("Warning.11", targetFile.toAbsolutePath().toString())); //$NON-NLS-1$
+                    } else {
+                        targetFile = getUniqueFileName(directory, gf.getFileName());
+                        warnings.add(getString("Warning.2", targetFile.toAbsolutePath().toString())); //$NON-NLS-1$
+                    }
                 }
             }
 
             progressCallback.checkCancel();
+            if (unchangedSize.isPresent()) {
+                progressCallback.startTask(getString("Progress.20", targetFile.toString())); //$NON-NLS-1$
+                return saveTimer.saved(targetFile, false, unchangedSize.getAsLong());
+            }
+
             progressCallback.startTask(getString("Progress.15", targetFile.toString())); //$NON-NLS-1$
-            writeFile(targetFile.toFile(), content, encoding);
+            long bytes = writeFile(targetFile, content, encoding);
+            return saveTimer.saved(targetFile, true, bytes);
         } catch (ShellException e) {
             warnings.add(e.getMessage());
         } catch (MergeException e) {
             warnings.add(e.getMessage());
             warnings.addAll(e.getExtraMessages());
         }
+        return null;
+    }
+
+    /**
+     * Returns the directory for a target project and package. Directories are resolved once per run, so the shell
+     * callback - and the file system checks it makes - is called once per directory rather than once per file.
+     * Directories that cannot be resolved are not remembered, so every file in them reports the failure. Save
+     * threads resolve each directory under its own lock, so the shell callback is never called concurrently for the
+     * same directory.
+     */
+    private Path getDirectory(String targetProject, String targetPackage) throws ShellException {
+        try {
+            return directories.computeIfAbsent(new DirectoryKey(targetProject, targetPackage), k -> {
+                try {
+                    return resolveDirectory(targetProject, targetPackage);
+                } catch (ShellException e) {
+                    throw new UncheckedShellException(e);
+                }
+            });
+        } catch (UncheckedShellException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Resolves the directory for a target project and package. If an output file system is set, the directory is in
+     * that file system and is created if necessary, including the project directory. Otherwise the shell callback
+     * resolves the directory.
+     */
+    private Path resolveDirectory(String targetProject, String targetPackage) throws ShellException {
+        FileSystem fileSystem = outputFileSystem;
+        if (fileSystem == null) {
+            return shellCallback.getDirectory(targetProject, targetPackage).toPath();
+        }
+
+        Path directory = fileSystem.getPath(targetProject);
+        for (String name : targetPackage.split("\\.")) { //$NON-NLS-1$
+            if (!name.isEmpty()) {
+                directory = directory.resolve(name);
+            }
+        }
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new ShellException(getString("Warning.10", directory.toAbsolutePath().toString())); //$NON-NLS-1$
+        }
+        return directory;
+    }
+
+    /**
+     * Writes, or overwrites, the contents of the specified file - through a temporary file if atomic writes are
+     * enabled.
+     *
+     * @return the number of bytes written
+     */
+    private long writeFile(Path file, FileContent content, @Nullable String fileEncoding) throws IOException {
+        AtomicFileWriter writer = atomicFileWriter;
+        if (writer == null) {
+            return writeContent(file, content, fileEncoding);
+        }
+
+        long[] bytes = new long[1];
+        writer.write(file, f -> bytes[0] = writeContent(f, content, fileEncoding));
+        return bytes[0];
+    }
+
+    private boolean exists(Path file) {
+        AtomicFileWriter writer = atomicFileWriter;
+        return writer == null ? Files.exists(file) : writer.exists(file);
+    }
+
+    private Path getCurrentFile(Path file) {
+        AtomicFileWriter writer = atomicFileWriter;
+        return writer == null ? file : writer.getCurrentFile(file);
     }
 
     /**
@@ -366,21 +934,40 @@ public class MyBatisGenerator {
      *            the content
      * @param fileEncoding
      *            the file encoding
+     * @return the number of bytes written
      * @throws IOException
      *             Signals that an I/O exception has occurred.
      */
-    private void writeFile(File file, String content, @Nullable String fileEncoding) throws IOException {
-        Charset cs = mapStringValueOrElseGet(fileEncoding, Charset::forName, Charset::defaultCharset);
-        try (OutputStream outputStream = Files.newOutputStream(file.toPath(), StandardOpenOption.CREATE,
-                StandardOpenOption.TRUNCATE_EXISTING)) {
+    private long writeContent(Path file, FileContent content, @Nullable String fileEncoding) throws IOException {
+        Charset cs = toCharset(fileEncoding);
+        try (CountingOutputStream outputStream = new CountingOutputStream(Files.newOutputStream(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING))) {
             try (OutputStreamWriter outputStreamWriter = new OutputStreamWriter(outputStream, cs)) {
                 try (BufferedWriter bufferedWriter = new BufferedWriter(outputStreamWriter)) {
-                    bufferedWriter.write(content);
+                    content.writeTo(bufferedWriter);
                 }
             }
+            return outputStream.getCount();
         }
     }
 
+    /**
+     * Returns the size of the file if it already holds exactly the bytes that would be written for the content. The
+     * sizes are compared first, so most changed files are detected without reading them.
+     *
+     * @return the size of the file, or empty if the file has different content
+     */
+    private OptionalLong getUnchangedSize(Path file, String content, @Nullable String fileEncoding)
+            throws IOException {
+        byte[] bytes = content.getBytes(toCharset(fileEncoding));
+        return Files.size(file) == bytes.length && Arrays.equals(Files.readAllBytes(file), bytes)
+                ? OptionalLong.of(bytes.length) : OptionalLong.empty();
+    }
+
+    private Charset toCharset(@Nullable String fileEncoding) {
+        return mapStringValueOrElseGet(fileEncoding, Charset::forName, Charset::defaultCharset);
+    }
+
     /**
      * Gets the unique file name.
      *
@@ -390,7 +977,7 @@ public class MyBatisGenerator {
      *            the file name
      * @return the unique file name
      */
-    private Path getUniqueFileName(File directory, String fileName) {
+    private Path getUniqueFileName(Path directory, String fileName) {
         Path answer = null;
 
         // try up to 1000 times to generate a unique file name
@@ -401,15 +988,16 @@ public class MyBatisGenerator {
             sb.append('.');
             sb.append(i);
 
-            Path testFile = directory.toPath().resolve(sb.toString());
-            if (Files.notExists(testFile)) {
+            Path testFile = directory.resolve(sb.toString());
+            if (!exists(testFile)) {
                 answer = testFile;
                 break;
             }
         }
 
         if (answer == null) {
-            throw new InternalException(getString("RuntimeError.3", directory.getAbsolutePath())); //$NON-NLS-1$
+            throw new InternalException(getString("RuntimeError.3", //$NON-NLS-1$
+                    directory.toAbsolutePath().toString()));
         }
 
         return answer;
@@ -477,9 +1065,184 @@ public class MyBatisGenerator {
     private record ContextValuesAndTables(CalculatedContextValues contextValues,
                                           List<IntrospectedTable> introspectedTables) { }
 
+    private record ContextResults(GenerationResults generationResults, List<String> warnings) { }
+
+    /**
+     * Reports the start of the generation phase once every context has been introspected.
+     */
+    private static class GenerationStepCounter {
+        private final ProgressCallback progressCallback;
+        private int remainingContexts;
+        private int totalSteps;
+
+        GenerationStepCounter(int contexts, ProgressCallback progressCallback) {
+            this.progressCallback = progressCallback;
+            remainingContexts = contexts;
+        }
+
+        synchronized void contextIntrospected(int generationSteps) {
+            totalSteps += generationSteps;
+            if (--remainingContexts == 0) {
+                progressCallback.generationStarted(totalSteps);
+            }
+        }
+    }
+
+    /**
+     * The content of a generated file, written on demand.
+     */
+    @FunctionalInterface
+    private interface FileContent {
+        void writeTo(Appendable appendable) throws IOException;
+
+        default String asString() throws IOException {
+            StringBuilder sb = new StringBuilder();
+            writeTo(sb);
+            return sb.toString();
+        }
+
+        static FileContent of(String content) {
+            return new StringContent(content);
+        }
+    }
+
+    private record StringContent(String content) implements FileContent {
+        @Override
+        public void writeTo(Appendable appendable) throws IOException {
+            appendable.append(content);
+        }
+
+        @Override
+        public String asString() {
+            return content;
+        }
+    }
+
+    /**
+     * A file that was written, or left unchanged, and the time spent on it. The flight recorder events are ended
+     * when the file is saved, and committed once the context and table of the file are known.
+     */
+    private record SavedFile(Path file, boolean changed, long bytes, Duration formatTime, Duration mergeTime,
+                             Duration writeTime, long allocatedBytes, FileWriteEvent writeEvent,
+                             @Nullable MergeEvent mergeEvent) {
+        void commitEvents(String contextId, @Nullable String tableName) {
+            if (mergeEvent != null) {
+                mergeEvent.commit(contextId, tableName, file.toString());
+            }
+
+            if (writeEvent.shouldCommit()) {
+                writeEvent.commit(contextId, tableName, file.toString(), changed, bytes);
+            }
+        }
+    }
+
+    /**
+     * Splits the time spent saving a file into formatting, merging, and everything else, and counts the bytes
+     * allocated saving it. A file is saved on one thread, so the allocation of that thread is the allocation of the
+     * save.
+     */
+    private static class SaveTimer {
+        private final FileWriteEvent writeEvent = new FileWriteEvent();
+        private final long startTime = System.nanoTime();
+        private final long startAllocation = AllocationCounter.allocatedBytes();
+        private long formatNanos;
+        private long mergeNanos;
+        private @Nullable MergeEvent mergeEvent;
+
+        SaveTimer() {
+            writeEvent.begin();
+        }
+
+        String format(FileContent content) throws IOException {
+            long formatStartTime = System.nanoTime();
+            try {
+                return content.asString();
+            } finally {
+                formatNanos += System.nanoTime() - formatStartTime;
+            }
+        }
+
+        String merge(Merger merger, String newContent, Path existingContent) throws MergeException {
+            MergeEvent event = new MergeEvent();
+            event.begin();
+            long mergeStartTime = System.nanoTime();
+            try {
+                return merger.apply(newContent, existingContent);
+            } finally {
+                mergeNanos += System.nanoTime() - mergeStartTime;
+                event.end();
+                mergeEvent = event;
+            }
+        }
+
+        SavedFile saved(Path file, boolean changed, long bytes) {
+            writeEvent.end();
+            long writeNanos = System.nanoTime() - startTime - formatNanos - mergeNanos;
+            return new SavedFile(file, changed, bytes, Duration.ofNanos(formatNanos), Duration.ofNanos(mergeNanos),
+                    Duration.ofNanos(writeNanos), AllocationCounter.allocatedBytesSince(startAllocation), writeEvent,
+                    mergeEvent);
+        }
+    }
+
+    /**
+     * Saves one generated file. Warnings are added to the list passed in, so files saved concurrently can report
+     * their warnings in generation order.
+     */
+    @FunctionalInterface
+    private interface FileSaver {
+        @Nullable SavedFile save(List<String> warnings) throws IOException, InterruptedException;
+    }
+
+    private record FileSave(GeneratedFile generatedFile, FileSaver saver) { }
+
+    /**
+     * Counts the bytes written to a file, so the size of a saved file is known without asking the file system.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+
+    private record DirectoryKey(String targetProject, String targetPackage) { }
+
+    /**
+     * Carries a ShellException out of the function that resolves a directory.
+     */
+    private static final class UncheckedShellException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        UncheckedShellException(ShellException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized ShellException getCause() {
+            return (ShellException) super.getCause();
+        }
+    }
+
     @FunctionalInterface
     private interface Merger {
-        String apply(String newContent, File existingContent) throws MergeException;
+        String apply(String newContent, Path existingContent) throws MergeException;
 
         static Merger noMerge() {
             return (newContent, existingContent) -> newContent;
@@ -495,6 +1258,17 @@ public class MyBatisGenerator {
         private boolean isOverwriteEnabled = false;
         private boolean isJavaFileMergeEnabled = false;
         private @Nullable Indenter indenter;
+        private int contextThreads = 1;
+        private boolean isPipelineEnabled = false;
+        private boolean isSkipUnchangedFilesEnabled = false;
+        private @Nullable Path manifestFile;
+        private boolean isStaleFileDeletionEnabled = false;
+        private @Nullable MetricsListener metricsListener;
+        private boolean isPluginProfilingEnabled = false;
+        private int saveThreads = 1;
+        private boolean isAtomicWritesEnabled = false;
+        private boolean isDeferredCommitEnabled = false;
+        private @Nullable FileSystem outputFileSystem;
 
         public Builder withConfiguration(Configuration configuration) {
             this.configuration = configuration;
@@ -582,6 +1356,200 @@ public class MyBatisGenerator {
             return this;
         }
 
+        /**
+         * The maximum number of contexts to run at the same time. If greater than one, each context is introspected
+         * and generated on its own thread, so contexts that use different databases do not wait for each other.
+         * Results and warnings are reported in the same order as when contexts run one at a time. When contexts run
+         * concurrently, the run fails if two contexts generate the same file.
+         *
+         * <p>The default is <code>1</code></p>
+         *
+         * @param contextThreads the maximum number of contexts to run at the same time
+         * @return this builder
+         */
+        public Builder withContextThreads(int contextThreads) {
+            this.contextThreads = Math.max(contextThreads, 1);
+            return this;
+        }
+
+        /**
+         * If true, then generateAndWrite() runs introspection, generation, and file writing as overlapping stages.
+         * Each table is generated as soon as it has been introspected, and its files are written as soon as they have
+         * been generated. This keeps the database, the CPU, and the disk busy at the same time, and limits the
+         * number of generated files held in memory on very large schemas.
+         *
+         * <p>In this mode the generated files are not retained, so the getGeneratedXXXFiles() methods return empty
+         * lists after generateAndWrite(). Contexts run one at a time, so {@link #withContextThreads(int)} and the
+         * "generationThreads" context property have no effect. The progress callback is called from several threads.
+         * This setting has no effect on generateOnly().
+         *
+         * <p>The default is <code>false</code></p>
+         *
+         * @param pipelineEnabled whether tables should be written as soon as they are generated
+         * @return this builder
+         */
+        public Builder withPipelineEnabled(boolean pipelineEnabled) {
+            this.isPipelineEnabled = pipelineEnabled;
+            return this;
+        }
+
+        /**
+         * If true, then an existing file is left untouched when the newly generated content is identical to it - after
+         * merging, if the file is merged. This keeps file modification times stable, so incremental builds do not
+         * recompile generated code that did not change. The number of changed and unchanged files is reported to
+         * the progress callback.
+         *
+         * <p>The default is <code>false</code></p>
+         *
+         * @param skipUnchangedFiles whether files with unchanged content should be left untouched
+         * @return this builder
+         */
+        public Builder withSkipUnchangedFiles(boolean skipUnchangedFiles) {
+            this.isSkipUnchangedFilesEnabled = skipUnchangedFiles;
+            return this;
+        }
+
+        /**
+         * Sets the generation manifest file. If set, then generateAndWrite() records every file it writes in this
+         * file, together with the context and table it was generated for and a hash of the inputs of the table - the
+         * table metadata, the table configuration, the rest of the context configuration including plugins, and the
+         * generator version. On the next run, tables whose input hash is unchanged, and whose files still exist, are
+         * skipped entirely: they are not generated, merged, or written. Files written by an earlier run that are no
+         * longer generated are reported as warnings, or deleted - see {@link #withStaleFilesDeleted(boolean)}.
+         *
+         * <p>Files that plugins generate for a context as a whole are always generated. Tables are only skipped in
+         * contexts where every plugin supports incremental generation (see
+         * {@link Plugin#isIncrementalGenerationSupported()}). The manifest is not used by generateOnly().
+         *
+         * <p>The manifest file must be in the file system that generated files are written to - the output file
+         * system if one is set (see {@link #withOutputFileSystem(FileSystem)}), otherwise the default file system.
+         * Otherwise {@link #build()} throws an IllegalArgumentException.
+         *
+         * <p>The default is no manifest</p>
+         *
+         * @param manifestFile the manifest file. It is created if it does not exist
+         * @return this builder
+         */
+        public Builder withManifestFile(@Nullable Path manifestFile) {
+            this.manifestFile = manifestFile;
+            return this;
+        }
+
+        /**
+         * If true, then files recorded in the generation manifest by an earlier run that are no longer generated -
+         * for example, because their table was removed from the configuration - are deleted. If false, they are
+         * reported as warnings. Has no effect unless a manifest file is set.
+         *
+         * <p>The default is <code>false</code></p>
+         *
+         * @param staleFilesDeleted whether stale files should be deleted
+         * @return this builder
+         */
+        public Builder withStaleFilesDeleted(boolean staleFilesDeleted) {
+            this.isStaleFileDeletionEnabled = staleFilesDeleted;
+            return this;
+        }
+
+        /**
+         * Sets a listener for the time spent introspecting each table, in each generator, and saving each file, and
+         * for the size of each file saved. Use {@link GenerationMetrics} to collect a summary and a report file.
+         *
+         * <p>The listener is called from several threads when contexts, tables, or pipeline stages run concurrently.
+         * The metrics of saved files are only reported by generateAndWrite().
+         *
+         * <p>The default is no listener</p>
+         *
+         * @param metricsListener the listener
+         * @return this builder
+         */
+        public Builder withMetricsListener(@Nullable MetricsListener metricsListener) {
+            this.metricsListener = metricsListener;
+            return this;
+        }
+
+        /**
+         * If true, then the calls to every plugin method, and the time spent in them, are counted and reported to
+         * the metrics listener at the end of the run. Profiling adds a small cost to every plugin method call, so it
+         * is off by default. Has no effect unless a metrics listener is set.
+         *
+         * <p>The default is <code>false</code></p>
+         *
+         * @param pluginProfilingEnabled whether plugins should be profiled
+         * @return this builder
+         */
+        public Builder withPluginProfilingEnabled(boolean pluginProfilingEnabled) {
+            this.isPluginProfilingEnabled = pluginProfilingEnabled;
+            return this;
+        }
+
+        /**
+         * The number of threads that format, merge, and write generated files in generateAndWrite(). If greater than
+         * one, the files generated for a context - or, in pipeline mode, for a table - are saved concurrently, which
+         * also bounds the number of files written at the same time. Files with the same path are still saved one
+         * after the other, and warnings are reported in the same order as when files are saved one at a time. The
+         * progress callback, the shell callback, and custom formatters are called from several threads - though
+         * the shell callback is never asked for the same directory by two threads at once.
+         *
+         * <p>The default is <code>1</code></p>
+         *
+         * @param saveThreads the number of threads that save files
+         * @return this builder
+         */
+        public Builder withSaveThreads(int saveThreads) {
+            this.saveThreads = Math.max(saveThreads, 1);
+            return this;
+        }
+
+        /**
+         * If true, then each file is written to a temporary file in the same directory, which is then moved over the
+         * target file with an atomic move where the file system supports one. A run that is interrupted, or a build
+         * that reads the files while they are written, never sees a partially written file.
+         *
+         * <p>The default is <code>false</code></p>
+         *
+         * @param atomicWritesEnabled whether files should be replaced atomically
+         * @return this builder
+         */
+        public Builder withAtomicWritesEnabled(boolean atomicWritesEnabled) {
+            this.isAtomicWritesEnabled = atomicWritesEnabled;
+            return this;
+        }
+
+        /**
+         * If true, then files are written atomically (see {@link #withAtomicWritesEnabled(boolean)}), but the
+         * temporary files are only moved into place once every file of the run has been written. A run that fails or
+         * is canceled before then deletes its temporary files and leaves the previous files, and the generation
+         * manifest, untouched - so the next run is still incremental. Each file is replaced atomically, but the commit
+         * as a whole is not: a failure while the files are moved leaves some of them replaced.
+         *
+         * <p>The default is <code>false</code></p>
+         *
+         * @param deferredCommitEnabled whether files should only be replaced at the end of a successful run
+         * @return this builder
+         */
+        public Builder withDeferredCommitEnabled(boolean deferredCommitEnabled) {
+            this.isDeferredCommitEnabled = deferredCommitEnabled;
+            return this;
+        }
+
+        /**
+         * Sets the file system that generateAndWrite() writes to - for example a zip file system, or an in-memory
+         * file system when the generator is embedded in a service. The target project of each generator is a path
+         * in this file system, and the target package a subdirectory of it. Both are created if they do not exist.
+         * Existing files are merged, overwritten, or left unchanged exactly as on disk. The shell callback is not
+         * used to resolve directories or to refresh projects. If a manifest file is set, it must be a path in this
+         * file system too, so the files it records are checked and deleted in the right place.
+         *
+         * <p>The default is no file system - directories are resolved by the shell callback</p>
+         *
+         * @param outputFileSystem the file system to write generated files to
+         * @return this builder
+         */
+        public Builder withOutputFileSystem(@Nullable FileSystem outputFileSystem) {
+            this.outputFileSystem = outputFileSystem;
+            return this;
+        }
+
         public MyBatisGenerator build() {
             return new MyBatisGenerator(this);
         }
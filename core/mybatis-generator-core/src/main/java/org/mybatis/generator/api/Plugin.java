@@ -140,6 +140,38 @@ public interface Plugin {
      */
     boolean validate(List<String> warnings);
 
+    /**
+     * Returns true if this plugin can be called from several threads at once. If a context specifies more than one
+     * generation thread, then code for different tables is generated concurrently - and the table level methods of
+     * every plugin (initialized is the exception) may be called concurrently for different tables. Code is only
+     * generated concurrently if every plugin in the context is thread safe.
+     *
+     * <p>A plugin is thread safe if its table level methods do not modify shared state, or if they synchronize
+     * access to it. A plugin that accumulates information across tables, and uses it in one of the
+     * contextGenerateAdditionalXXX() methods, must also be prepared for tables to be processed in any order.
+     *
+     * @return true if this plugin is thread safe. The default is false
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
+    /**
+     * Returns true if the code this plugin generates for a table depends only on that table and on the configuration.
+     * When a generation manifest is used, tables whose database metadata and configuration are unchanged since the
+     * last run are not generated at all - so the plugin is not called for them. Tables are only skipped if every
+     * plugin in the context supports this.
+     *
+     * <p>A plugin that accumulates information across tables, and uses it in one of the
+     * contextGenerateAdditionalXXX() methods, does not support incremental generation because it would only see the
+     * tables that changed.
+     *
+     * @return true if this plugin supports incremental generation. The default is false
+     */
+    default boolean isIncrementalGenerationSupported() {
+        return false;
+    }
+
     /**
      * This method can be used to generate any additional Java file needed by
      * your implementation. This method is called once, after all other Java
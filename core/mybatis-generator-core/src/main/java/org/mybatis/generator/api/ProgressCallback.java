@@ -29,6 +29,7 @@ package org.mybatis.generator.api;
  * <li>(Repeatedly) startTask(String)</li>
  * <li>saveStarted(int)</li>
  * <li>(Repeatedly) startTask(String)</li>
+ * <li>saveCompleted(int, int)</li>
  * <li>done()</li>
  * </ol>
  *
@@ -81,6 +82,19 @@ public interface ProgressCallback {
      */
     default void startTask(String taskName) {}
 
+    /**
+     * Called when all generated files have been saved, to note how many files
+     * were actually changed on disk.
+     *
+     * @param changedFiles
+     *            the number of files that were written
+     * @param unchangedFiles
+     *            the number of existing files that were left untouched because
+     *            their content did not change. This is always zero unless
+     *            unchanged files are skipped
+     */
+    default void saveCompleted(int changedFiles, int unchangedFiles) {}
+
     /**
      * This method is called when all generated files have been saved.
      */
@@ -30,8 +30,8 @@ public interface ShellCallback {
 
     /**
      * This method is called to ask the shell to resolve a project/package combination into a directory on the file
-     * system. This method is called repeatedly (once for each generated file), so it would be wise for an implementing
-     * class to cache results.
+     * system. The generator remembers the directory returned for each project/package combination, so this method is
+     * called once per combination in each generation run - and again for every file if it throws an exception.
      *
      * <p>The returned <code>java.io.File</code> object:
      * <ul>
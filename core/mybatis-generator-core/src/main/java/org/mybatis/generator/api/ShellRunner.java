@@ -46,8 +46,19 @@ public class ShellRunner {
     private static final String TABLES = "-tables"; //$NON-NLS-1$
     private static final String VERBOSE = "-verbose"; //$NON-NLS-1$
     private static final String JAVA_MERGE_ENABLED = "-javaMergeEnabled";
+    private static final String CONTEXT_THREADS = "-contextThreads"; //$NON-NLS-1$
+    private static final String PIPELINE = "-pipeline"; //$NON-NLS-1$
+    private static final String SAVE_THREADS = "-saveThreads"; //$NON-NLS-1$
+    private static final String SKIP_UNCHANGED = "-skipUnchanged"; //$NON-NLS-1$
+    private static final String ATOMIC_WRITES = "-atomicWrites"; //$NON-NLS-1$
+    private static final String DEFER_COMMIT = "-deferCommit"; //$NON-NLS-1$
+    private static final String MANIFEST = "-manifest"; //$NON-NLS-1$
+    private static final String DELETE_STALE_FILES = "-deleteStaleFiles"; //$NON-NLS-1$
+    private static final String METRICS_REPORT = "-metricsReport"; //$NON-NLS-1$
+    private static final String PROFILE_PLUGINS = "-profilePlugins"; //$NON-NLS-1$
     private static final String HELP_1 = "-?"; //$NON-NLS-1$
     private static final String HELP_2 = "-h"; //$NON-NLS-1$
+    private static final int METRICS_SUMMARY_SIZE = 10;
 
     public static void main(String[] args) {
         if (args.length == 0) {
@@ -82,15 +93,30 @@ public class ShellRunner {
 
         Set<String> contexts = StringUtility.tokenize(arguments.get(CONTEXT_IDS));
 
+        int contextThreads = StringUtility.parsePositiveIntOrElse(arguments.get(CONTEXT_THREADS), 1);
+
+        int saveThreads = StringUtility.parsePositiveIntOrElse(arguments.get(SAVE_THREADS), 1);
+
         try {
             ConfigurationParser cp = new ConfigurationParser();
             Configuration config = cp.parseConfiguration(configurationFile.toFile());
             warnings.addAll(cp.getWarnings());
             boolean overwriteEnabled = arguments.containsKey(OVERWRITE);
             boolean javaMergeEnabled = arguments.containsKey(JAVA_MERGE_ENABLED);
+            boolean pipelineEnabled = arguments.containsKey(PIPELINE);
+            boolean skipUnchangedFiles = arguments.containsKey(SKIP_UNCHANGED);
+            boolean staleFilesDeleted = arguments.containsKey(DELETE_STALE_FILES);
+            boolean atomicWritesEnabled = arguments.containsKey(ATOMIC_WRITES);
+            boolean deferredCommitEnabled = arguments.containsKey(DEFER_COMMIT);
+            String manifest = arguments.get(MANIFEST);
+            Path manifestFile = manifest == null ? null : Path.of(manifest);
+            boolean verbose = arguments.containsKey(VERBOSE);
+            String metricsReport = arguments.get(METRICS_REPORT);
+            boolean profilePlugins = arguments.containsKey(PROFILE_PLUGINS);
 
-            ProgressCallback progressCallback = arguments.containsKey(VERBOSE) ? new VerboseProgressCallback()
-                    : null;
+            ProgressCallback progressCallback = verbose ? new VerboseProgressCallback() : null;
+            GenerationMetrics metrics = verbose || metricsReport != null || profilePlugins
+                    ? new GenerationMetrics() : null;
 
             MyBatisGenerator myBatisGenerator = new MyBatisGenerator.Builder()
                     .withConfiguration(config)
@@ -100,9 +126,31 @@ public class ShellRunner {
                     .withFullyQualifiedTableNames(fullyQualifiedTables)
                     .withJavaFileMergeEnabled(javaMergeEnabled)
                     .withOverwriteEnabled(overwriteEnabled)
+                    .withContextThreads(contextThreads)
+                    .withPipelineEnabled(pipelineEnabled)
+                    .withSaveThreads(saveThreads)
+                    .withSkipUnchangedFiles(skipUnchangedFiles)
+                    .withManifestFile(manifestFile)
+                    .withStaleFilesDeleted(staleFilesDeleted)
+                    .withAtomicWritesEnabled(atomicWritesEnabled)
+                    .withDeferredCommitEnabled(deferredCommitEnabled)
+                    .withMetricsListener(metrics)
+                    .withPluginProfilingEnabled(profilePlugins)
                     .build();
 
             warnings.addAll(myBatisGenerator.generateAndWrite());
+
+            if (metrics != null) {
+                if (metricsReport != null) {
+                    metrics.writeReport(Path.of(metricsReport));
+                }
+
+                if (verbose) {
+                    metrics.getSummary(METRICS_SUMMARY_SIZE).forEach(ShellRunner::writeLine);
+                } else if (profilePlugins) {
+                    metrics.getPluginSummary(METRICS_SUMMARY_SIZE).forEach(ShellRunner::writeLine);
+                }
+            }
         } catch (XMLParserException e) {
             writeLine(getString("Progress.3")); //$NON-NLS-1$
             writeLine();
@@ -167,6 +215,32 @@ public class ShellRunner {
                 arguments.put(VERBOSE, "Y"); //$NON-NLS-1$
             } else if (JAVA_MERGE_ENABLED.equalsIgnoreCase(args[i])) {
                 arguments.put(JAVA_MERGE_ENABLED, "Y"); //$NON-NLS-1$
+            } else if (PIPELINE.equalsIgnoreCase(args[i])) {
+                arguments.put(PIPELINE, "Y"); //$NON-NLS-1$
+            } else if (SKIP_UNCHANGED.equalsIgnoreCase(args[i])) {
+                arguments.put(SKIP_UNCHANGED, "Y"); //$NON-NLS-1$
+            } else if (DELETE_STALE_FILES.equalsIgnoreCase(args[i])) {
+                arguments.put(DELETE_STALE_FILES, "Y"); //$NON-NLS-1$
+            } else if (ATOMIC_WRITES.equalsIgnoreCase(args[i])) {
+                arguments.put(ATOMIC_WRITES, "Y"); //$NON-NLS-1$
+            } else if (DEFER_COMMIT.equalsIgnoreCase(args[i])) {
+                arguments.put(DEFER_COMMIT, "Y"); //$NON-NLS-1$
+            } else if (PROFILE_PLUGINS.equalsIgnoreCase(args[i])) {
+                arguments.put(PROFILE_PLUGINS, "Y"); //$NON-NLS-1$
+            } else if (MANIFEST.equalsIgnoreCase(args[i])) {
+                if ((i + 1) < args.length) {
+                    arguments.put(MANIFEST, args[i + 1]);
+                } else {
+                    errors.add(getString("RuntimeError.19", MANIFEST)); //$NON-NLS-1$
+                }
+                i++;
+            } else if (METRICS_REPORT.equalsIgnoreCase(args[i])) {
+                if ((i + 1) < args.length) {
+                    arguments.put(METRICS_REPORT, args[i + 1]);
+                } else {
+                    errors.add(getString("RuntimeError.19", METRICS_REPORT)); //$NON-NLS-1$
+                }
+                i++;
             } else if (HELP_1.equalsIgnoreCase(args[i])) {
                 arguments.put(HELP_1, "Y"); //$NON-NLS-1$
             } else if (HELP_2.equalsIgnoreCase(args[i])) {
@@ -180,6 +254,26 @@ public class ShellRunner {
                     errors.add(getString("RuntimeError.19", CONTEXT_IDS)); //$NON-NLS-1$
                 }
                 i++;
+            } else if (CONTEXT_THREADS.equalsIgnoreCase(args[i])) {
+                if ((i + 1) < args.length) {
+                    if (StringUtility.parsePositiveIntOrElse(args[i + 1], 0) == 0) {
+                        errors.add(getString("RuntimeError.34", CONTEXT_THREADS)); //$NON-NLS-1$
+                    }
+                    arguments.put(CONTEXT_THREADS, args[i + 1]);
+                } else {
+                    errors.add(getString("RuntimeError.19", CONTEXT_THREADS)); //$NON-NLS-1$
+                }
+                i++;
+            } else if (SAVE_THREADS.equalsIgnoreCase(args[i])) {
+                if ((i + 1) < args.length) {
+                    if (StringUtility.parsePositiveIntOrElse(args[i + 1], 0) == 0) {
+                        errors.add(getString("RuntimeError.34", SAVE_THREADS)); //$NON-NLS-1$
+                    }
+                    arguments.put(SAVE_THREADS, args[i + 1]);
+                } else {
+                    errors.add(getString("RuntimeError.19", SAVE_THREADS)); //$NON-NLS-1$
+                }
+                i++;
             } else if (TABLES.equalsIgnoreCase(args[i])) {
                 if ((i + 1) < args.length) {
                     arguments.put(TABLES, args[i + 1]);
@@ -15,6 +15,8 @@
  */
 package org.mybatis.generator.api;
 
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
 /**
  * A slightly more verbose progress callback.
  *
@@ -30,4 +32,10 @@ public class VerboseProgressCallback implements ProgressCallback {
     public void startTask(String taskName) {
         System.out.println(taskName);
     }
+
+    @Override
+    public void saveCompleted(int changedFiles, int unchangedFiles) {
+        System.out.println(getString("Progress.21", //$NON-NLS-1$
+                Integer.toString(changedFiles), Integer.toString(unchangedFiles)));
+    }
 }
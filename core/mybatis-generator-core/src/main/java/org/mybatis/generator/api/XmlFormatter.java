@@ -15,6 +15,8 @@
  */
 package org.mybatis.generator.api;
 
+import java.io.IOException;
+
 import org.mybatis.generator.api.dom.xml.Document;
 import org.mybatis.generator.config.Context;
 
@@ -35,4 +37,19 @@ public interface XmlFormatter {
     void setIndenter(Indenter indenter);
 
     String getFormattedContent(Document document);
+
+    /**
+     * Writes the formatted content of a document. The generator calls this method when it can write the content
+     * straight to a file, so a formatter that produces its output piece by piece can avoid holding the whole file in
+     * memory. The content must be the same as the content returned by {@link #getFormattedContent}.
+     *
+     * <p>The default implementation appends the result of {@link #getFormattedContent}.
+     *
+     * @param document the document to format
+     * @param appendable the destination
+     * @throws IOException if the Appendable throws an IOException
+     */
+    default void writeFormattedContent(Document document, Appendable appendable) throws IOException {
+        appendable.append(getFormattedContent(document));
+    }
 }
@@ -15,6 +15,7 @@
  */
 package org.mybatis.generator.api.dom;
 
+import java.io.IOException;
 import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
@@ -26,6 +27,7 @@ import org.mybatis.generator.api.dom.java.Interface;
 import org.mybatis.generator.api.dom.java.TopLevelClass;
 import org.mybatis.generator.api.dom.java.TopLevelEnumeration;
 import org.mybatis.generator.api.dom.java.TopLevelRecord;
+import org.mybatis.generator.api.dom.java.render.JavaLineWriter;
 import org.mybatis.generator.api.dom.java.render.TopLevelClassRenderer;
 import org.mybatis.generator.api.dom.java.render.TopLevelEnumerationRenderer;
 import org.mybatis.generator.api.dom.java.render.TopLevelInterfaceRenderer;
@@ -46,6 +48,21 @@ public class DefaultJavaFormatter implements JavaFormatter, CompilationUnitVisit
         return compilationUnit.accept(this);
     }
 
+    /**
+     * Renders the compilation unit line by line to the Appendable. Subclasses may customize the visit methods, which
+     * return the whole file as a string, so for subclasses this falls back to the default implementation.
+     */
+    @Override
+    public void writeFormattedContent(CompilationUnit compilationUnit, Appendable appendable) throws IOException {
+        if (getClass() != DefaultJavaFormatter.class) {
+            JavaFormatter.super.writeFormattedContent(compilationUnit, appendable);
+            return;
+        }
+
+        Indenter ind = Objects.requireNonNull(indenter);
+        JavaLineWriter.render(appendable, w -> compilationUnit.accept(new StreamingVisitor(ind, w)));
+    }
+
     @Override
     public void setContext(Context context) {
         this.context = context;
@@ -75,4 +92,31 @@ public class DefaultJavaFormatter implements JavaFormatter, CompilationUnitVisit
     public String visit(TopLevelRecord topLevelRecord) {
         return new TopLevelRecordRenderer(Objects.requireNonNull(indenter)).render(topLevelRecord);
     }
+
+    private record StreamingVisitor(Indenter indenter, JavaLineWriter writer)
+            implements CompilationUnitVisitor<@Nullable Void> {
+        @Override
+        public @Nullable Void visit(TopLevelClass topLevelClass) {
+            new TopLevelClassRenderer(indenter).render(topLevelClass, writer);
+            return null;
+        }
+
+        @Override
+        public @Nullable Void visit(TopLevelEnumeration topLevelEnumeration) {
+            new TopLevelEnumerationRenderer(indenter).render(topLevelEnumeration, writer);
+            return null;
+        }
+
+        @Override
+        public @Nullable Void visit(Interface topLevelInterface) {
+            new TopLevelInterfaceRenderer(indenter).render(topLevelInterface, writer);
+            return null;
+        }
+
+        @Override
+        public @Nullable Void visit(TopLevelRecord topLevelRecord) {
+            new TopLevelRecordRenderer(indenter).render(topLevelRecord, writer);
+            return null;
+        }
+    }
 }
@@ -15,6 +15,7 @@
  */
 package org.mybatis.generator.api.dom;
 
+import java.io.IOException;
 import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
@@ -38,6 +39,20 @@ public class DefaultXmlFormatter implements XmlFormatter {
         return new DocumentRenderer(Objects.requireNonNull(indenter)).render(document);
     }
 
+    /**
+     * Renders the document piece by piece to the Appendable. Subclasses may customize getFormattedContent(), so for
+     * subclasses this falls back to the default implementation.
+     */
+    @Override
+    public void writeFormattedContent(Document document, Appendable appendable) throws IOException {
+        if (getClass() != DefaultXmlFormatter.class) {
+            XmlFormatter.super.writeFormattedContent(document, appendable);
+            return;
+        }
+
+        new DocumentRenderer(Objects.requireNonNull(indenter)).render(document, appendable);
+    }
+
     @Override
     public void setContext(Context context) {
         this.context = context;
@@ -22,6 +22,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
@@ -31,19 +33,18 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 
     private static final String JAVA_LANG = "java.lang"; //$NON-NLS-1$
 
-    private static @Nullable FullyQualifiedJavaType intInstance = null;
-
-    private static @Nullable FullyQualifiedJavaType stringInstance = null;
-
-    private static @Nullable FullyQualifiedJavaType booleanPrimitiveInstance = null;
-
-    private static @Nullable FullyQualifiedJavaType objectInstance = null;
-
-    private static @Nullable FullyQualifiedJavaType dateInstance = null;
-
-    private static @Nullable FullyQualifiedJavaType criteriaInstance = null;
+    /**
+     * The upper limit of the parsed type cache. Generators use far fewer distinct types than this - the limit only
+     * stops the cache from growing without bound in a long-lived process.
+     */
+    private static final int MAX_PARSED_TYPES = 4096;
 
-    private static @Nullable FullyQualifiedJavaType generatedCriteriaInstance = null;
+    /**
+     * Parsed types, keyed by type specification. The cached instances are prototypes - they are never handed out,
+     * because instances are mutable (see {@link #addTypeArgument}). New instances are copied from a prototype instead
+     * of parsing the specification again.
+     */
+    private static final ConcurrentMap<String, FullyQualifiedJavaType> PARSED_TYPES = new ConcurrentHashMap<>();
 
     /** The short name without any generic arguments. */
     private String baseShortName = ""; //$NON-NLS-1$
@@ -77,9 +78,40 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
      *            the full type specification
      */
     public FullyQualifiedJavaType(String fullTypeSpecification) {
-        super();
+        this(getParsedType(fullTypeSpecification));
+    }
+
+    private FullyQualifiedJavaType() {
         typeArguments = new ArrayList<>();
-        parse(fullTypeSpecification);
+    }
+
+    private FullyQualifiedJavaType(FullyQualifiedJavaType prototype) {
+        baseShortName = prototype.baseShortName;
+        baseQualifiedName = prototype.baseQualifiedName;
+        explicitlyImported = prototype.explicitlyImported;
+        packageName = prototype.packageName;
+        primitive = prototype.primitive;
+        isArray = prototype.isArray;
+        primitiveTypeWrapper = prototype.primitiveTypeWrapper;
+        wildcardType = prototype.wildcardType;
+        boundedWildcard = prototype.boundedWildcard;
+        extendsBoundedWildcard = prototype.extendsBoundedWildcard;
+        typeArguments = new ArrayList<>(prototype.typeArguments.size());
+        prototype.typeArguments.forEach(t -> typeArguments.add(new FullyQualifiedJavaType(t)));
+    }
+
+    private static FullyQualifiedJavaType getParsedType(String fullTypeSpecification) {
+        FullyQualifiedJavaType prototype = PARSED_TYPES.get(fullTypeSpecification);
+        if (prototype == null) {
+            // parse outside the map - parsing a generic type parses, and caches, its type arguments
+            prototype = new FullyQualifiedJavaType();
+            prototype.parse(fullTypeSpecification);
+            if (PARSED_TYPES.size() >= MAX_PARSED_TYPES) {
+                PARSED_TYPES.clear();
+            }
+            PARSED_TYPES.putIfAbsent(fullTypeSpecification, prototype);
+        }
+        return prototype;
     }
 
     public boolean isExplicitlyImported() {
@@ -223,11 +255,7 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
     }
 
     public static FullyQualifiedJavaType getIntInstance() {
-        if (intInstance == null) {
-            intInstance = new FullyQualifiedJavaType("int"); //$NON-NLS-1$
-        }
-
-        return intInstance;
+        return Instances.INT;
     }
 
     public static FullyQualifiedJavaType getNewListInstance() {
@@ -251,39 +279,27 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
     }
 
     public static FullyQualifiedJavaType getStringInstance() {
-        stringInstance = Objects.requireNonNullElseGet(stringInstance,
-                () -> new FullyQualifiedJavaType("java.lang.String")); //$NON-NLS-1$
-        return stringInstance;
+        return Instances.STRING;
     }
 
     public static FullyQualifiedJavaType getBooleanPrimitiveInstance() {
-        booleanPrimitiveInstance = Objects.requireNonNullElseGet(booleanPrimitiveInstance,
-                () -> new FullyQualifiedJavaType("boolean")); //$NON-NLS-1$
-        return booleanPrimitiveInstance;
+        return Instances.BOOLEAN_PRIMITIVE;
     }
 
     public static FullyQualifiedJavaType getObjectInstance() {
-        objectInstance = Objects.requireNonNullElseGet(objectInstance,
-                () -> new FullyQualifiedJavaType("java.lang.Object")); //$NON-NLS-1$
-        return objectInstance;
+        return Instances.OBJECT;
     }
 
     public static FullyQualifiedJavaType getDateInstance() {
-        dateInstance = Objects.requireNonNullElseGet(dateInstance,
-                () -> new FullyQualifiedJavaType("java.util.Date")); //$NON-NLS-1$
-        return dateInstance;
+        return Instances.DATE;
     }
 
     public static FullyQualifiedJavaType getCriteriaInstance() {
-        criteriaInstance = Objects.requireNonNullElseGet(criteriaInstance,
-                () -> new FullyQualifiedJavaType("Criteria")); //$NON-NLS-1$
-        return criteriaInstance;
+        return Instances.CRITERIA;
     }
 
     public static FullyQualifiedJavaType getGeneratedCriteriaInstance() {
-        generatedCriteriaInstance = Objects.requireNonNullElseGet(generatedCriteriaInstance,
-                () -> new FullyQualifiedJavaType("GeneratedCriteria")); //$NON-NLS-1$
-        return generatedCriteriaInstance;
+        return Instances.GENERATED_CRITERIA;
     }
 
     @Override
@@ -458,4 +474,21 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
     public List<FullyQualifiedJavaType> getTypeArguments() {
         return typeArguments;
     }
+
+    /**
+     * The shared instances, created when one of them is first used. Class initialization makes this thread safe.
+     */
+    private static final class Instances {
+        static final FullyQualifiedJavaType INT = new FullyQualifiedJavaType("int"); //$NON-NLS-1$
+        static final FullyQualifiedJavaType STRING = new FullyQualifiedJavaType("java.lang.String"); //$NON-NLS-1$
+        static final FullyQualifiedJavaType BOOLEAN_PRIMITIVE = new FullyQualifiedJavaType("boolean"); //$NON-NLS-1$
+        static final FullyQualifiedJavaType OBJECT = new FullyQualifiedJavaType("java.lang.Object"); //$NON-NLS-1$
+        static final FullyQualifiedJavaType DATE = new FullyQualifiedJavaType("java.util.Date"); //$NON-NLS-1$
+        static final FullyQualifiedJavaType CRITERIA = new FullyQualifiedJavaType("Criteria"); //$NON-NLS-1$
+        static final FullyQualifiedJavaType GENERATED_CRITERIA =
+                new FullyQualifiedJavaType("GeneratedCriteria"); //$NON-NLS-1$
+
+        private Instances() {
+        }
+    }
 }
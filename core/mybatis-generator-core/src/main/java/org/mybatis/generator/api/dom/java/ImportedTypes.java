@@ -0,0 +1,196 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api.dom.java;
+
+import java.util.AbstractSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The imported types of a compilation unit. This is a sorted set of types, like a {@link TreeSet}, that also keeps
+ * an index of the imports the types need. The index is updated as types are added and removed - through the set, its
+ * iterator, or the compilation unit - so rendering can check whether a type is imported without scanning every
+ * imported type, and can write the import statements without sorting them.
+ *
+ * <p>Two imports with the same simple name, or an import with the same simple name as the compilation unit itself,
+ * would not compile. Such imports are collisions - they are not written, and types with these names are written
+ * with their fully qualified names.
+ *
+ * <p>The index holds the imports of a type as they were when the type was added. Types should not be changed
+ * after they are added to the set (this was always true - the set is sorted by the full name of the type).
+ */
+public class ImportedTypes extends AbstractSet<FullyQualifiedJavaType> {
+    /**
+     * Orders imports as the import statements are ordered - "import a.b;" sorts after "import a.b.c;".
+     */
+    private static final Comparator<String> IMPORT_ORDER = (s1, s2) -> {
+        int length = Math.min(s1.length(), s2.length());
+        for (int i = 0; i < length; i++) {
+            char c1 = s1.charAt(i);
+            char c2 = s2.charAt(i);
+            if (c1 != c2) {
+                return c1 - c2;
+            }
+        }
+        return charAfter(s1, length) - charAfter(s2, length);
+    };
+
+    private final String compilationUnitName;
+    private final TreeMap<FullyQualifiedJavaType, List<String>> types = new TreeMap<>();
+    private final Map<String, Integer> importCounts = new HashMap<>();
+    private final Map<String, Integer> simpleNameCounts = new HashMap<>();
+    private final NavigableSet<String> sortedImports = new TreeSet<>(IMPORT_ORDER);
+
+    /**
+     * Creates the imported types of a compilation unit. Imports with the same simple name as the compilation unit
+     * are collisions.
+     *
+     * @param compilationUnitType the type of the compilation unit
+     */
+    public ImportedTypes(FullyQualifiedJavaType compilationUnitType) {
+        compilationUnitName = compilationUnitType.getShortNameWithoutTypeArguments();
+    }
+
+    @Override
+    public boolean add(FullyQualifiedJavaType type) {
+        if (types.containsKey(type)) {
+            return false;
+        }
+
+        List<String> imports = type.getImportList();
+        types.put(type, imports);
+        imports.forEach(this::addImport);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        List<String> imports = o instanceof FullyQualifiedJavaType type ? types.remove(type) : null;
+        if (imports == null) {
+            return false;
+        }
+
+        removeImports(imports);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof FullyQualifiedJavaType type && types.containsKey(type);
+    }
+
+    @Override
+    public Iterator<FullyQualifiedJavaType> iterator() {
+        Iterator<Map.Entry<FullyQualifiedJavaType, List<String>>> iterator = types.entrySet().iterator();
+        return new Iterator<>() {
+            private Map.@Nullable Entry<FullyQualifiedJavaType, List<String>> current;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public FullyQualifiedJavaType next() {
+                Map.Entry<FullyQualifiedJavaType, List<String>> entry = iterator.next();
+                current = entry;
+                return entry.getKey();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                if (current != null) {
+                    removeImports(current.getValue());
+                    current = null;
+                }
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return types.size();
+    }
+
+    @Override
+    public void clear() {
+        types.clear();
+        importCounts.clear();
+        simpleNameCounts.clear();
+        sortedImports.clear();
+    }
+
+    /**
+     * Returns true if a type can be written with its short name because it is imported, and the import is not a
+     * collision.
+     *
+     * @param importName the import name of the type (see {@link FullyQualifiedJavaType#getImportName()})
+     * @return true if the type is imported
+     */
+    public boolean isImported(String importName) {
+        return importCounts.containsKey(importName) && !isCollision(importName);
+    }
+
+    /**
+     * Returns the imports to write, in the order of the import statements. Collisions are not included.
+     *
+     * @return the imports
+     */
+    public List<String> getImports() {
+        return sortedImports.stream()
+                .filter(s -> !isCollision(s))
+                .toList();
+    }
+
+    private boolean isCollision(String importName) {
+        String simpleName = simpleName(importName);
+        return simpleName.equals(compilationUnitName) || simpleNameCounts.getOrDefault(simpleName, 0) > 1;
+    }
+
+    private void addImport(String importName) {
+        if (importCounts.merge(importName, 1, Integer::sum) == 1) {
+            sortedImports.add(importName);
+            simpleNameCounts.merge(simpleName(importName), 1, Integer::sum);
+        }
+    }
+
+    private void removeImports(List<String> imports) {
+        for (String importName : imports) {
+            if (importCounts.merge(importName, -1, Integer::sum) == 0) {
+                importCounts.remove(importName);
+                sortedImports.remove(importName);
+                simpleNameCounts.computeIfPresent(simpleName(importName), (k, v) -> v == 1 ? null : v - 1);
+            }
+        }
+    }
+
+    private static String simpleName(String importName) {
+        return importName.substring(importName.lastIndexOf('.') + 1);
+    }
+
+    private static int charAfter(String s, int index) {
+        return index < s.length() ? s.charAt(index) : ';';
+    }
+}
@@ -81,6 +81,9 @@ public class JavaDomUtils {
     private static boolean typeIsAlreadyImported(CompilationUnit compilationUnit,
             FullyQualifiedJavaType fullyQualifiedJavaType) {
         String name = fullyQualifiedJavaType.getImportName();
+        if (compilationUnit.getImportedTypes() instanceof ImportedTypes importedTypes) {
+            return importedTypes.isImported(name);
+        }
         return compilationUnit.getImportedTypes().stream().anyMatch(e -> e.getImportList().contains(name));
     }
 }
@@ -15,20 +15,7 @@
  */
 package org.mybatis.generator.api.dom.java;
 
-import java.util.Objects;
-
-import org.jspecify.annotations.Nullable;
-
 public class PrimitiveTypeWrapper extends FullyQualifiedJavaType {
-    private static @Nullable PrimitiveTypeWrapper booleanInstance;
-    private static @Nullable PrimitiveTypeWrapper byteInstance;
-    private static @Nullable PrimitiveTypeWrapper characterInstance;
-    private static @Nullable PrimitiveTypeWrapper doubleInstance;
-    private static @Nullable PrimitiveTypeWrapper floatInstance;
-    private static @Nullable PrimitiveTypeWrapper integerInstance;
-    private static @Nullable PrimitiveTypeWrapper longInstance;
-    private static @Nullable PrimitiveTypeWrapper shortInstance;
-
     private final String toPrimitiveMethod;
 
     /**
@@ -69,58 +56,59 @@ public class PrimitiveTypeWrapper extends FullyQualifiedJavaType {
     }
 
     public static PrimitiveTypeWrapper getBooleanInstance() {
-        booleanInstance = Objects.requireNonNullElseGet(booleanInstance,
-                () -> new PrimitiveTypeWrapper("java.lang.Boolean", //$NON-NLS-1$
-                    "booleanValue()")); //$NON-NLS-1$
-        return booleanInstance;
+        return Instances.BOOLEAN;
     }
 
     public static PrimitiveTypeWrapper getByteInstance() {
-        byteInstance = Objects.requireNonNullElseGet(byteInstance,
-                () -> new PrimitiveTypeWrapper("java.lang.Byte", //$NON-NLS-1$
-                    "byteValue()")); //$NON-NLS-1$
-        return byteInstance;
+        return Instances.BYTE;
     }
 
     public static PrimitiveTypeWrapper getCharacterInstance() {
-        characterInstance = Objects.requireNonNullElseGet(characterInstance,
-                () -> new PrimitiveTypeWrapper("java.lang.Character", //$NON-NLS-1$
-                    "charValue()")); //$NON-NLS-1$
-        return characterInstance;
+        return Instances.CHARACTER;
     }
 
     public static PrimitiveTypeWrapper getDoubleInstance() {
-        doubleInstance = Objects.requireNonNullElseGet(doubleInstance,
-                () -> new PrimitiveTypeWrapper("java.lang.Double", //$NON-NLS-1$
-                    "doubleValue()")); //$NON-NLS-1$
-        return doubleInstance;
+        return Instances.DOUBLE;
     }
 
     public static PrimitiveTypeWrapper getFloatInstance() {
-        floatInstance = Objects.requireNonNullElseGet(floatInstance,
-                () -> new PrimitiveTypeWrapper("java.lang.Float", //$NON-NLS-1$
-                    "floatValue()")); //$NON-NLS-1$
-        return floatInstance;
+        return Instances.FLOAT;
     }
 
     public static PrimitiveTypeWrapper getIntegerInstance() {
-        integerInstance = Objects.requireNonNullElseGet(integerInstance,
-                () -> new PrimitiveTypeWrapper("java.lang.Integer", //$NON-NLS-1$
-                    "intValue()")); //$NON-NLS-1$
-        return integerInstance;
+        return Instances.INTEGER;
     }
 
     public static PrimitiveTypeWrapper getLongInstance() {
-        longInstance = Objects.requireNonNullElseGet(longInstance,
-                () -> new PrimitiveTypeWrapper("java.lang.Long", //$NON-NLS-1$
-                    "longValue()")); //$NON-NLS-1$
-        return longInstance;
+        return Instances.LONG;
     }
 
     public static PrimitiveTypeWrapper getShortInstance() {
-        shortInstance = Objects.requireNonNullElseGet(shortInstance,
-                () -> new PrimitiveTypeWrapper("java.lang.Short", //$NON-NLS-1$
-                    "shortValue()")); //$NON-NLS-1$
-        return shortInstance;
+        return Instances.SHORT;
+    }
+
+    /**
+     * The wrapper instances, created when one of them is first used. Class initialization makes this thread safe.
+     */
+    private static final class Instances {
+        static final PrimitiveTypeWrapper BOOLEAN =
+                new PrimitiveTypeWrapper("java.lang.Boolean", "booleanValue()"); //$NON-NLS-1$ //$NON-NLS-2$
+        static final PrimitiveTypeWrapper BYTE =
+                new PrimitiveTypeWrapper("java.lang.Byte", "byteValue()"); //$NON-NLS-1$ //$NON-NLS-2$
+        static final PrimitiveTypeWrapper CHARACTER =
+                new PrimitiveTypeWrapper("java.lang.Character", "charValue()"); //$NON-NLS-1$ //$NON-NLS-2$
+        static final PrimitiveTypeWrapper DOUBLE =
+                new PrimitiveTypeWrapper("java.lang.Double", "doubleValue()"); //$NON-NLS-1$ //$NON-NLS-2$
+        static final PrimitiveTypeWrapper FLOAT =
+                new PrimitiveTypeWrapper("java.lang.Float", "floatValue()"); //$NON-NLS-1$ //$NON-NLS-2$
+        static final PrimitiveTypeWrapper INTEGER =
+                new PrimitiveTypeWrapper("java.lang.Integer", "intValue()"); //$NON-NLS-1$ //$NON-NLS-2$
+        static final PrimitiveTypeWrapper LONG =
+                new PrimitiveTypeWrapper("java.lang.Long", "longValue()"); //$NON-NLS-1$ //$NON-NLS-2$
+        static final PrimitiveTypeWrapper SHORT =
+                new PrimitiveTypeWrapper("java.lang.Short", "shortValue()"); //$NON-NLS-1$ //$NON-NLS-2$
+
+        private Instances() {
+        }
     }
 }
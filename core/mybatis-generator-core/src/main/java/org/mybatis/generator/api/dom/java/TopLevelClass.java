@@ -22,7 +22,7 @@ import java.util.TreeSet;
 
 public class TopLevelClass extends InnerClass implements CompilationUnit {
 
-    private final Set<FullyQualifiedJavaType> importedTypes = new TreeSet<>();
+    private final ImportedTypes importedTypes;
 
     private final Set<String> staticImports = new TreeSet<>();
 
@@ -30,6 +30,7 @@ public class TopLevelClass extends InnerClass implements CompilationUnit {
 
     public TopLevelClass(FullyQualifiedJavaType type) {
         super(type);
+        importedTypes = new ImportedTypes(type);
     }
 
     public TopLevelClass(String typeName) {
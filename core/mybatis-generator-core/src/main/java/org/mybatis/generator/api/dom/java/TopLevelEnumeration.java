@@ -22,7 +22,7 @@ import java.util.TreeSet;
 
 public class TopLevelEnumeration extends InnerEnum implements CompilationUnit {
 
-    private final Set<FullyQualifiedJavaType> importedTypes = new TreeSet<>();
+    private final ImportedTypes importedTypes;
 
     private final Set<String> staticImports = new TreeSet<>();
 
@@ -30,10 +30,11 @@ public class TopLevelEnumeration extends InnerEnum implements CompilationUnit {
 
     public TopLevelEnumeration(FullyQualifiedJavaType type) {
         super(type);
+        importedTypes = new ImportedTypes(type);
     }
 
     public TopLevelEnumeration(String type) {
-        super(type);
+        this(new FullyQualifiedJavaType(type));
     }
 
     @Override
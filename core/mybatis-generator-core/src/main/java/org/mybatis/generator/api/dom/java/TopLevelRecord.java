@@ -22,7 +22,7 @@ import java.util.TreeSet;
 
 public class TopLevelRecord extends InnerRecord implements CompilationUnit {
 
-    private final Set<FullyQualifiedJavaType> importedTypes = new TreeSet<>();
+    private final ImportedTypes importedTypes;
 
     private final Set<String> staticImports = new TreeSet<>();
 
@@ -30,10 +30,11 @@ public class TopLevelRecord extends InnerRecord implements CompilationUnit {
 
     public TopLevelRecord(FullyQualifiedJavaType type) {
         super(type);
+        importedTypes = new ImportedTypes(type);
     }
 
     public TopLevelRecord(String typeName) {
-        super(typeName);
+        this(new FullyQualifiedJavaType(typeName));
     }
 
     @Override
@@ -17,14 +17,12 @@ package org.mybatis.generator.api.dom.java.render;
 
 import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.generator.api.Indenter;
@@ -32,6 +30,7 @@ import org.mybatis.generator.api.dom.java.AbstractJavaType;
 import org.mybatis.generator.api.dom.java.CompilationUnit;
 import org.mybatis.generator.api.dom.java.Field;
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.ImportedTypes;
 import org.mybatis.generator.api.dom.java.InitializationBlock;
 import org.mybatis.generator.api.dom.java.InnerClass;
 import org.mybatis.generator.api.dom.java.InnerEnum;
@@ -66,127 +65,163 @@ public abstract class AbstractJavaRenderer {
     }
 
     public List<String> renderFields(List<Field> fields, CompilationUnit compilationUnit) {
-        return fields.stream()
-                .flatMap(f -> renderField(f, compilationUnit))
-                .toList();
+        return JavaLineWriter.renderToLines(w -> renderFields(fields, compilationUnit, w));
     }
 
-    private Stream<String> renderField(Field field, CompilationUnit compilationUnit) {
-        return addEmptyLine(fieldRenderer.render(field, compilationUnit).stream()
-                .map(this::javaIndent));
+    public void renderFields(List<Field> fields, CompilationUnit compilationUnit, JavaLineWriter writer) {
+        JavaLineWriter memberWriter = memberWriter(writer);
+        for (Field field : fields) {
+            fieldRenderer.render(field, compilationUnit, memberWriter);
+            writer.emptyLine();
+        }
     }
 
     public List<String> renderInitializationBlocks(List<InitializationBlock> initializationBlocks) {
-        return initializationBlocks.stream()
-                .flatMap(this::renderInitializationBlock)
-                .toList();
+        return JavaLineWriter.renderToLines(w -> renderInitializationBlocks(initializationBlocks, w));
     }
 
-    private Stream<String> renderInitializationBlock(InitializationBlock initializationBlock) {
+    public void renderInitializationBlocks(List<InitializationBlock> initializationBlocks, JavaLineWriter writer) {
         InitializationBlockRenderer initializationBlockRenderer = new InitializationBlockRenderer(indenter);
-        return addEmptyLine(initializationBlockRenderer.render(initializationBlock).stream()
-                .map(this::javaIndent));
+        JavaLineWriter memberWriter = memberWriter(writer);
+        for (InitializationBlock initializationBlock : initializationBlocks) {
+            initializationBlockRenderer.render(initializationBlock, memberWriter);
+            writer.emptyLine();
+        }
     }
 
     public List<String> renderClassOrEnumMethods(List<Method> methods, CompilationUnit compilationUnit) {
-        return methods.stream()
-                .flatMap(m -> renderMethod(m, false, compilationUnit))
-                .toList();
+        return JavaLineWriter.renderToLines(w -> renderClassOrEnumMethods(methods, compilationUnit, w));
+    }
+
+    public void renderClassOrEnumMethods(List<Method> methods, CompilationUnit compilationUnit,
+                                         JavaLineWriter writer) {
+        renderMethods(methods, false, compilationUnit, writer);
     }
 
     public List<String> renderInterfaceMethods(List<Method> methods, CompilationUnit compilationUnit) {
-        return methods.stream()
-                .flatMap(m -> renderMethod(m, true, compilationUnit))
-                .toList();
+        return JavaLineWriter.renderToLines(w -> renderInterfaceMethods(methods, compilationUnit, w));
     }
 
-    private Stream<String> renderMethod(Method method, boolean inInterface, CompilationUnit compilationUnit) {
-        return addEmptyLine(methodRenderer.render(method, inInterface, compilationUnit).stream()
-                .map(this::javaIndent));
+    public void renderInterfaceMethods(List<Method> methods, CompilationUnit compilationUnit, JavaLineWriter writer) {
+        renderMethods(methods, true, compilationUnit, writer);
+    }
+
+    private void renderMethods(List<Method> methods, boolean inInterface, CompilationUnit compilationUnit,
+                               JavaLineWriter writer) {
+        JavaLineWriter memberWriter = memberWriter(writer);
+        for (Method method : methods) {
+            methodRenderer.render(method, inInterface, compilationUnit, memberWriter);
+            writer.emptyLine();
+        }
     }
 
     public List<String> renderInnerClasses(List<InnerClass> innerClasses, CompilationUnit compilationUnit) {
-        return innerClasses.stream()
-                .flatMap(ic -> renderInnerClass(ic, compilationUnit))
-                .toList();
+        return JavaLineWriter.renderToLines(w -> renderInnerClasses(innerClasses, compilationUnit, w));
     }
 
-    private Stream<String> renderInnerClass(InnerClass innerClass, CompilationUnit compilationUnit) {
+    public void renderInnerClasses(List<InnerClass> innerClasses, CompilationUnit compilationUnit,
+                                   JavaLineWriter writer) {
         innerClassRenderer = Objects.requireNonNullElseGet(innerClassRenderer, () -> new InnerClassRenderer(indenter));
-        return addEmptyLine(innerClassRenderer.render(innerClass, compilationUnit).stream()
-                .map(this::javaIndent));
+        JavaLineWriter memberWriter = memberWriter(writer);
+        for (InnerClass innerClass : innerClasses) {
+            innerClassRenderer.render(innerClass, compilationUnit, memberWriter);
+            writer.emptyLine();
+        }
     }
 
     public List<String> renderInnerInterfaces(List<InnerInterface> innerInterfaces, CompilationUnit compilationUnit) {
-        return innerInterfaces.stream()
-                .flatMap(ii -> renderInnerInterface(ii, compilationUnit))
-                .toList();
+        return JavaLineWriter.renderToLines(w -> renderInnerInterfaces(innerInterfaces, compilationUnit, w));
     }
 
-    private Stream<String> renderInnerInterface(InnerInterface innerInterface, CompilationUnit compilationUnit) {
+    public void renderInnerInterfaces(List<InnerInterface> innerInterfaces, CompilationUnit compilationUnit,
+                                      JavaLineWriter writer) {
         innerInterfaceRenderer =
                 Objects.requireNonNullElseGet(innerInterfaceRenderer, () -> new InnerInterfaceRenderer(indenter));
-        return addEmptyLine(innerInterfaceRenderer.render(innerInterface, compilationUnit).stream()
-                .map(this::javaIndent));
+        JavaLineWriter memberWriter = memberWriter(writer);
+        for (InnerInterface innerInterface : innerInterfaces) {
+            innerInterfaceRenderer.render(innerInterface, compilationUnit, memberWriter);
+            writer.emptyLine();
+        }
     }
 
     public List<String> renderInnerEnums(List<InnerEnum> innerEnums, CompilationUnit compilationUnit) {
-        return innerEnums.stream()
-                .flatMap(ie -> renderInnerEnum(ie, compilationUnit))
-                .toList();
+        return JavaLineWriter.renderToLines(w -> renderInnerEnums(innerEnums, compilationUnit, w));
     }
 
-    private Stream<String> renderInnerEnum(InnerEnum innerEnum, CompilationUnit compilationUnit) {
+    public void renderInnerEnums(List<InnerEnum> innerEnums, CompilationUnit compilationUnit, JavaLineWriter writer) {
         innerEnumRenderer = Objects.requireNonNullElseGet(innerEnumRenderer, () -> new InnerEnumRenderer(indenter));
-        return addEmptyLine(innerEnumRenderer.render(innerEnum, compilationUnit).stream()
-                .map(this::javaIndent));
+        JavaLineWriter memberWriter = memberWriter(writer);
+        for (InnerEnum innerEnum : innerEnums) {
+            innerEnumRenderer.render(innerEnum, compilationUnit, memberWriter);
+            writer.emptyLine();
+        }
     }
 
     public List<String> renderInnerRecords(List<InnerRecord> innerRecords, CompilationUnit compilationUnit) {
-        return innerRecords.stream()
-                .flatMap(ir -> renderInnerRecord(ir, compilationUnit))
-                .toList();
+        return JavaLineWriter.renderToLines(w -> renderInnerRecords(innerRecords, compilationUnit, w));
     }
 
-    private Stream<String> renderInnerRecord(InnerRecord innerRecord, CompilationUnit compilationUnit) {
+    public void renderInnerRecords(List<InnerRecord> innerRecords, CompilationUnit compilationUnit,
+                                   JavaLineWriter writer) {
         innerRecordRenderer =
                 Objects.requireNonNullElseGet(innerRecordRenderer, () -> new InnerRecordRenderer(indenter));
-        return addEmptyLine(innerRecordRenderer.render(innerRecord, compilationUnit).stream()
-                .map(this::javaIndent));
+        JavaLineWriter memberWriter = memberWriter(writer);
+        for (InnerRecord innerRecord : innerRecords) {
+            innerRecordRenderer.render(innerRecord, compilationUnit, memberWriter);
+            writer.emptyLine();
+        }
     }
 
     public List<String> renderPackage(CompilationUnit compilationUnit) {
-        List<String> answer = new ArrayList<>();
+        return JavaLineWriter.renderToLines(w -> renderPackage(compilationUnit, w));
+    }
 
+    public void renderPackage(CompilationUnit compilationUnit, JavaLineWriter writer) {
         String pack = compilationUnit.getType().getPackageName();
         if (stringHasValue(pack)) {
-            answer.add("package " + pack + ";"); //$NON-NLS-1$ //$NON-NLS-2$
-            answer.add(""); //$NON-NLS-1$
+            writer.line("package " + pack + ";"); //$NON-NLS-1$ //$NON-NLS-2$
+            writer.emptyLine();
         }
-        return answer;
     }
 
     public List<String> renderStaticImports(CompilationUnit compilationUnit) {
+        return JavaLineWriter.renderToLines(w -> renderStaticImports(compilationUnit, w));
+    }
+
+    public void renderStaticImports(CompilationUnit compilationUnit, JavaLineWriter writer) {
         if (compilationUnit.getStaticImports().isEmpty()) {
-            return List.of();
+            return;
         }
 
-        return addEmptyLine(compilationUnit.getStaticImports().stream()
-                .map(s -> "import static " + s + ";")) //$NON-NLS-1$ //$NON-NLS-2$
-                .toList();
+        for (String staticImport : compilationUnit.getStaticImports()) {
+            writer.line("import static " + staticImport + ";"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        writer.emptyLine();
     }
 
     public List<String> renderImports(CompilationUnit compilationUnit) {
-        Set<String> imports = renderImports(compilationUnit.getImportedTypes());
+        return JavaLineWriter.renderToLines(w -> renderImports(compilationUnit, w));
+    }
+
+    public void renderImports(CompilationUnit compilationUnit, JavaLineWriter writer) {
+        Collection<String> imports = renderImports(compilationUnit.getImportedTypes());
 
         if (imports.isEmpty()) {
-            return List.of();
+            return;
         }
 
-        return addEmptyLine(imports.stream()).toList();
+        imports.forEach(writer::line);
+        writer.emptyLine();
     }
 
-    private Set<String> renderImports(Set<FullyQualifiedJavaType> imports) {
+    private Collection<String> renderImports(Set<FullyQualifiedJavaType> imports) {
+        if (imports instanceof ImportedTypes importedTypes) {
+            // already sorted
+            return importedTypes.getImports().stream()
+                    .map(this::toFullImport)
+                    .toList();
+        }
+
         return imports.stream()
                 .map(FullyQualifiedJavaType::getImportList)
                 .flatMap(List::stream)
@@ -199,37 +234,30 @@ public abstract class AbstractJavaRenderer {
     }
 
     protected List<String> renderInnerTypes(AbstractJavaType abstractJavaType, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
+        return JavaLineWriter.renderToLines(w -> renderInnerTypes(abstractJavaType, compilationUnit, w));
+    }
 
+    protected void renderInnerTypes(AbstractJavaType abstractJavaType, CompilationUnit compilationUnit,
+                                    JavaLineWriter writer) {
         if (!abstractJavaType.getInnerClasses().isEmpty()) {
-            lines.addAll(renderInnerClasses(abstractJavaType.getInnerClasses(), compilationUnit));
+            renderInnerClasses(abstractJavaType.getInnerClasses(), compilationUnit, writer);
         }
 
         if (!abstractJavaType.getInnerInterfaces().isEmpty()) {
-            lines.addAll(renderInnerInterfaces(abstractJavaType.getInnerInterfaces(), compilationUnit));
+            renderInnerInterfaces(abstractJavaType.getInnerInterfaces(), compilationUnit, writer);
         }
 
         if (!abstractJavaType.getInnerEnums().isEmpty()) {
-            lines.addAll(renderInnerEnums(abstractJavaType.getInnerEnums(), compilationUnit));
+            renderInnerEnums(abstractJavaType.getInnerEnums(), compilationUnit, writer);
         }
 
         if (!abstractJavaType.getInnerRecords().isEmpty()) {
-            lines.addAll(renderInnerRecords(abstractJavaType.getInnerRecords(), compilationUnit));
+            renderInnerRecords(abstractJavaType.getInnerRecords(), compilationUnit, writer);
         }
-
-        return lines;
-    }
-
-    private Stream<String> addEmptyLine(Stream<String> in) {
-        return Stream.of(in, Stream.of("")) //$NON-NLS-1$
-                .flatMap(Function.identity());
     }
 
-    private String javaIndent(String in) {
-        if (in.isEmpty()) {
-            return in; // don't indent empty lines
-        }
-
-        return indenter.javaIndent(1) + in;
+    // members are indented one level, and followed by an empty line
+    private JavaLineWriter memberWriter(JavaLineWriter writer) {
+        return writer.indented(indenter.javaIndent(1));
     }
 }
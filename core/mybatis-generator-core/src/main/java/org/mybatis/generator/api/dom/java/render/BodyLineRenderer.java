@@ -15,7 +15,6 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
@@ -30,21 +29,20 @@ public class BodyLineRenderer {
     }
 
     public List<String> render(List<String> bodyLines) {
-        List<String> lines = new ArrayList<>();
+        return JavaLineWriter.renderToLines(w -> render(bodyLines, w));
+    }
+
+    public void render(List<String> bodyLines, JavaLineWriter writer) {
         int indentLevel = 1;
-        StringBuilder sb = new StringBuilder();
 
         ListIterator<String> listIter = bodyLines.listIterator();
         while (listIter.hasNext()) {
-            sb.setLength(0);
             String line = listIter.next();
             if (line.startsWith("}")) { //$NON-NLS-1$
                 indentLevel--;
             }
 
-            sb.append(indenter.javaIndent(indentLevel));
-            sb.append(line);
-            lines.add(sb.toString());
+            writer.line(indenter.javaIndent(indentLevel), line);
 
             if (isCodeBlockStartExceptSwitchStatement(line) || line.endsWith(":")) { //$NON-NLS-1$
                 indentLevel++;
@@ -64,8 +62,6 @@ public class BodyLineRenderer {
                 indentLevel--;
             }
         }
-
-        return lines;
     }
 
     private boolean isCodeBlockStartExceptSwitchStatement(String line) {
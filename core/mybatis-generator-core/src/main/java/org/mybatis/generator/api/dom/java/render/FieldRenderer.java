@@ -15,7 +15,6 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.mybatis.generator.api.dom.java.CompilationUnit;
@@ -26,13 +25,13 @@ import org.mybatis.generator.internal.util.CustomCollectors;
 public class FieldRenderer {
 
     public List<String> render(Field field, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(field.getJavaDocLines());
-        lines.addAll(field.getAnnotations());
-        lines.add(renderField(field, compilationUnit));
+        return JavaLineWriter.renderToLines(w -> render(field, compilationUnit, w));
+    }
 
-        return lines;
+    public void render(Field field, CompilationUnit compilationUnit, JavaLineWriter writer) {
+        writer.lines(field.getJavaDocLines());
+        writer.lines(field.getAnnotations());
+        writer.line(renderField(field, compilationUnit));
     }
 
     private String renderField(Field field, CompilationUnit compilationUnit) {
@@ -15,7 +15,6 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.mybatis.generator.api.Indenter;
@@ -30,13 +29,14 @@ public class InitializationBlockRenderer {
     }
 
     public List<String> render(InitializationBlock initializationBlock) {
+        return JavaLineWriter.renderToLines(w -> render(initializationBlock, w));
+    }
 
-        List<String> lines = new ArrayList<>(initializationBlock.getJavaDocLines());
-        lines.add(renderFirstLine(initializationBlock));
-        lines.addAll(bodyLineRenderer.render(initializationBlock.getBodyLines()));
-        lines.add("}"); //$NON-NLS-1$
-
-        return lines;
+    public void render(InitializationBlock initializationBlock, JavaLineWriter writer) {
+        writer.lines(initializationBlock.getJavaDocLines());
+        writer.line(renderFirstLine(initializationBlock));
+        bodyLineRenderer.render(initializationBlock.getBodyLines(), writer);
+        writer.line("}"); //$NON-NLS-1$
     }
 
     private String renderFirstLine(InitializationBlock initializationBlock) {
@@ -15,9 +15,6 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import static org.mybatis.generator.internal.util.StringUtility.removeLastEmptyLine;
-
-import java.util.ArrayList;
 import java.util.List;
 
 import org.mybatis.generator.api.Indenter;
@@ -32,20 +29,20 @@ public class InnerClassRenderer extends AbstractJavaRenderer {
     }
 
     public List<String> render(InnerClass innerClass, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(innerClass.getJavaDocLines());
-        lines.addAll(innerClass.getAnnotations());
-        lines.add(renderFirstLine(innerClass, compilationUnit));
-        lines.addAll(renderFields(innerClass.getFields(), compilationUnit));
-        lines.addAll(renderInitializationBlocks(innerClass.getInitializationBlocks()));
-        lines.addAll(renderClassOrEnumMethods(innerClass.getMethods(), compilationUnit));
-        lines.addAll(renderInnerTypes(innerClass, compilationUnit));
-        lines = removeLastEmptyLine(lines);
-
-        lines.add("}"); //$NON-NLS-1$
+        return JavaLineWriter.renderToLines(w -> render(innerClass, compilationUnit, w));
+    }
 
-        return lines;
+    public void render(InnerClass innerClass, CompilationUnit compilationUnit, JavaLineWriter writer) {
+        writer.lines(innerClass.getJavaDocLines());
+        writer.lines(innerClass.getAnnotations());
+        writer.line(renderFirstLine(innerClass, compilationUnit));
+        renderFields(innerClass.getFields(), compilationUnit, writer);
+        renderInitializationBlocks(innerClass.getInitializationBlocks(), writer);
+        renderClassOrEnumMethods(innerClass.getMethods(), compilationUnit, writer);
+        renderInnerTypes(innerClass, compilationUnit, writer);
+        writer.removeLastEmptyLine();
+
+        writer.line("}"); //$NON-NLS-1$
     }
 
     private String renderFirstLine(InnerClass innerClass, CompilationUnit compilationUnit) {
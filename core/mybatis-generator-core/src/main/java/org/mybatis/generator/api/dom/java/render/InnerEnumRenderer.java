@@ -15,9 +15,6 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import static org.mybatis.generator.internal.util.StringUtility.removeLastEmptyLine;
-
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
@@ -34,21 +31,21 @@ public class InnerEnumRenderer extends AbstractJavaRenderer {
     }
 
     public List<String> render(InnerEnum innerEnum, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(innerEnum.getJavaDocLines());
-        lines.addAll(innerEnum.getAnnotations());
-        lines.add(renderFirstLine(innerEnum, compilationUnit));
-        lines.addAll(renderEnumConstants(innerEnum));
-        lines.addAll(renderFields(innerEnum.getFields(), compilationUnit));
-        lines.addAll(renderInitializationBlocks(innerEnum.getInitializationBlocks()));
-        lines.addAll(renderClassOrEnumMethods(innerEnum.getMethods(), compilationUnit));
-        lines.addAll(renderInnerTypes(innerEnum, compilationUnit));
-        lines = removeLastEmptyLine(lines);
-
-        lines.add("}"); //$NON-NLS-1$
+        return JavaLineWriter.renderToLines(w -> render(innerEnum, compilationUnit, w));
+    }
 
-        return lines;
+    public void render(InnerEnum innerEnum, CompilationUnit compilationUnit, JavaLineWriter writer) {
+        writer.lines(innerEnum.getJavaDocLines());
+        writer.lines(innerEnum.getAnnotations());
+        writer.line(renderFirstLine(innerEnum, compilationUnit));
+        renderEnumConstants(innerEnum, writer);
+        renderFields(innerEnum.getFields(), compilationUnit, writer);
+        renderInitializationBlocks(innerEnum.getInitializationBlocks(), writer);
+        renderClassOrEnumMethods(innerEnum.getMethods(), compilationUnit, writer);
+        renderInnerTypes(innerEnum, compilationUnit, writer);
+        writer.removeLastEmptyLine();
+
+        writer.line("}"); //$NON-NLS-1$
     }
 
     private String renderFirstLine(InnerEnum innerEnum, CompilationUnit compilationUnit) {
@@ -68,22 +65,20 @@ public class InnerEnumRenderer extends AbstractJavaRenderer {
         return sb.toString();
     }
 
-    private List<String> renderEnumConstants(InnerEnum innerEnum) {
-        List<String> answer = new ArrayList<>();
-
+    private void renderEnumConstants(InnerEnum innerEnum, JavaLineWriter writer) {
+        String indent = indenter.javaIndent(1);
         Iterator<String> iter = innerEnum.getEnumConstants().iterator();
         while (iter.hasNext()) {
             String enumConstant = iter.next();
 
             if (iter.hasNext()) {
-                answer.add(indenter.javaIndent(1) + enumConstant + ","); //$NON-NLS-1$
+                writer.line(indent, enumConstant + ","); //$NON-NLS-1$
             } else {
-                answer.add(indenter.javaIndent(1) + enumConstant + ";"); //$NON-NLS-1$
+                writer.line(indent, enumConstant + ";"); //$NON-NLS-1$
             }
         }
 
-        answer.add(""); //$NON-NLS-1$
-        return answer;
+        writer.emptyLine();
     }
 
     // should return an empty string if no super interfaces
@@ -15,9 +15,6 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import static org.mybatis.generator.internal.util.StringUtility.removeLastEmptyLine;
-
-import java.util.ArrayList;
 import java.util.List;
 
 import org.mybatis.generator.api.Indenter;
@@ -32,19 +29,19 @@ public class InnerInterfaceRenderer extends AbstractJavaRenderer {
     }
 
     public List<String> render(InnerInterface innerInterface, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(innerInterface.getJavaDocLines());
-        lines.addAll(innerInterface.getAnnotations());
-        lines.add(renderFirstLine(innerInterface, compilationUnit));
-        lines.addAll(renderFields(innerInterface.getFields(), compilationUnit));
-        lines.addAll(renderInterfaceMethods(innerInterface.getMethods(), compilationUnit));
-        lines.addAll(renderInnerTypes(innerInterface, compilationUnit));
-        lines = removeLastEmptyLine(lines);
+        return JavaLineWriter.renderToLines(w -> render(innerInterface, compilationUnit, w));
+    }
 
-        lines.add("}"); //$NON-NLS-1$
+    public void render(InnerInterface innerInterface, CompilationUnit compilationUnit, JavaLineWriter writer) {
+        writer.lines(innerInterface.getJavaDocLines());
+        writer.lines(innerInterface.getAnnotations());
+        writer.line(renderFirstLine(innerInterface, compilationUnit));
+        renderFields(innerInterface.getFields(), compilationUnit, writer);
+        renderInterfaceMethods(innerInterface.getMethods(), compilationUnit, writer);
+        renderInnerTypes(innerInterface, compilationUnit, writer);
+        writer.removeLastEmptyLine();
 
-        return lines;
+        writer.line("}"); //$NON-NLS-1$
     }
 
     private String renderFirstLine(InnerInterface innerInterface, CompilationUnit compilationUnit) {
@@ -15,9 +15,6 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import static org.mybatis.generator.internal.util.StringUtility.removeLastEmptyLine;
-
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -35,20 +32,20 @@ public class InnerRecordRenderer extends AbstractJavaRenderer {
     }
 
     public List<String> render(InnerRecord innerRecord, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(innerRecord.getJavaDocLines());
-        lines.addAll(innerRecord.getAnnotations());
-        lines.add(renderFirstLine(innerRecord, compilationUnit));
-        lines.addAll(renderFields(innerRecord.getFields(), compilationUnit));
-        lines.addAll(renderInitializationBlocks(innerRecord.getInitializationBlocks()));
-        lines.addAll(renderClassOrEnumMethods(innerRecord.getMethods(), compilationUnit));
-        lines.addAll(renderInnerTypes(innerRecord, compilationUnit));
-        lines = removeLastEmptyLine(lines);
+        return JavaLineWriter.renderToLines(w -> render(innerRecord, compilationUnit, w));
+    }
 
-        lines.add("}"); //$NON-NLS-1$
+    public void render(InnerRecord innerRecord, CompilationUnit compilationUnit, JavaLineWriter writer) {
+        writer.lines(innerRecord.getJavaDocLines());
+        writer.lines(innerRecord.getAnnotations());
+        writer.line(renderFirstLine(innerRecord, compilationUnit));
+        renderFields(innerRecord.getFields(), compilationUnit, writer);
+        renderInitializationBlocks(innerRecord.getInitializationBlocks(), writer);
+        renderClassOrEnumMethods(innerRecord.getMethods(), compilationUnit, writer);
+        renderInnerTypes(innerRecord, compilationUnit, writer);
+        writer.removeLastEmptyLine();
 
-        return lines;
+        writer.line("}"); //$NON-NLS-1$
     }
 
     private String renderFirstLine(InnerRecord innerRecord, CompilationUnit compilationUnit) {
@@ -0,0 +1,209 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api.dom.java.render;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Receives the lines of rendered Java code. The renderers write lines one at a time, so a compilation unit can be
+ * written straight to its destination without building a list of lines, or a string of the whole file, first.
+ *
+ * <p>Indentation is added by the writer (see {@link #indented(String)}), so the lines of nested elements are not
+ * copied to indent them. Empty lines are never indented.
+ *
+ * <p>Lines are separated by the platform line separator. There is no separator after the last line.
+ */
+public class JavaLineWriter {
+    private final Sink sink;
+    private final String indent;
+
+    private JavaLineWriter(Sink sink, String indent) {
+        this.sink = sink;
+        this.indent = indent;
+    }
+
+    /**
+     * Returns a writer that writes to the same destination as this writer, with additional indentation.
+     *
+     * @param additionalIndent the indentation to add to every non-empty line
+     * @return the indented writer
+     */
+    public JavaLineWriter indented(String additionalIndent) {
+        return new JavaLineWriter(sink, indent + additionalIndent);
+    }
+
+    public void line(String line) {
+        sink.line(indent, "", line); //$NON-NLS-1$
+    }
+
+    /**
+     * Writes a line with additional indentation. This is the same as writing {@code additionalIndent + line}.
+     *
+     * @param additionalIndent the additional indentation
+     * @param line the line
+     */
+    public void line(String additionalIndent, String line) {
+        sink.line(indent, additionalIndent, line);
+    }
+
+    public void lines(List<String> lines) {
+        lines.forEach(this::line);
+    }
+
+    public void emptyLine() {
+        sink.emptyLine();
+    }
+
+    /**
+     * Removes the last line if it was written by {@link #emptyLine()} and no other line has been written since.
+     */
+    public void removeLastEmptyLine() {
+        sink.removeLastEmptyLine();
+    }
+
+    /**
+     * Renders to an Appendable.
+     *
+     * @param appendable the destination
+     * @param renderer writes the lines
+     * @throws IOException if the Appendable throws an IOException
+     */
+    public static void render(Appendable appendable, Consumer<JavaLineWriter> renderer) throws IOException {
+        AppendableSink sink = new AppendableSink(appendable);
+        try {
+            renderer.accept(new JavaLineWriter(sink, "")); //$NON-NLS-1$
+            sink.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public static String renderToString(Consumer<JavaLineWriter> renderer) {
+        StringBuilder sb = new StringBuilder();
+        AppendableSink sink = new AppendableSink(sb);
+        renderer.accept(new JavaLineWriter(sink, "")); //$NON-NLS-1$
+        sink.flush();
+        return sb.toString();
+    }
+
+    public static List<String> renderToLines(Consumer<JavaLineWriter> renderer) {
+        List<String> lines = new ArrayList<>();
+        renderer.accept(new JavaLineWriter(new ListSink(lines), "")); //$NON-NLS-1$
+        return lines;
+    }
+
+    private interface Sink {
+        void line(String indent, String additionalIndent, String line);
+
+        void emptyLine();
+
+        void removeLastEmptyLine();
+    }
+
+    private static class ListSink implements Sink {
+        private final List<String> lines;
+
+        ListSink(List<String> lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public void line(String indent, String additionalIndent, String line) {
+            if (additionalIndent.isEmpty() && line.isEmpty()) {
+                lines.add(line);
+            } else {
+                lines.add(indent + additionalIndent + line);
+            }
+        }
+
+        @Override
+        public void emptyLine() {
+            lines.add(""); //$NON-NLS-1$
+        }
+
+        @Override
+        public void removeLastEmptyLine() {
+            if (!lines.isEmpty() && lines.get(lines.size() - 1).isEmpty()) {
+                lines.remove(lines.size() - 1);
+            }
+        }
+    }
+
+    /**
+     * Written lines cannot be taken back, so empty lines are held until the next line is written.
+     */
+    private static class AppendableSink implements Sink {
+        private final Appendable appendable;
+        private final String lineSeparator = System.lineSeparator();
+        private boolean isFirstLine = true;
+        private int pendingEmptyLines;
+
+        AppendableSink(Appendable appendable) {
+            this.appendable = appendable;
+        }
+
+        @Override
+        public void line(String indent, String additionalIndent, String line) {
+            try {
+                writePendingEmptyLines();
+                startLine();
+                if (!additionalIndent.isEmpty() || !line.isEmpty()) {
+                    appendable.append(indent).append(additionalIndent).append(line);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void emptyLine() {
+            pendingEmptyLines++;
+        }
+
+        @Override
+        public void removeLastEmptyLine() {
+            if (pendingEmptyLines > 0) {
+                pendingEmptyLines--;
+            }
+        }
+
+        void flush() {
+            try {
+                writePendingEmptyLines();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void writePendingEmptyLines() throws IOException {
+            for (; pendingEmptyLines > 0; pendingEmptyLines--) {
+                startLine();
+            }
+        }
+
+        private void startLine() throws IOException {
+            if (isFirstLine) {
+                isFirstLine = false;
+            } else {
+                appendable.append(lineSeparator);
+            }
+        }
+    }
+}
@@ -15,7 +15,6 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -36,18 +35,18 @@ public class MethodRenderer {
     }
 
     public List<String> render(Method method, boolean inInterface, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
+        return JavaLineWriter.renderToLines(w -> render(method, inInterface, compilationUnit, w));
+    }
 
-        lines.addAll(method.getJavaDocLines());
-        lines.addAll(method.getAnnotations());
-        lines.add(getFirstLine(method, inInterface, compilationUnit));
+    public void render(Method method, boolean inInterface, CompilationUnit compilationUnit, JavaLineWriter writer) {
+        writer.lines(method.getJavaDocLines());
+        writer.lines(method.getAnnotations());
+        writer.line(getFirstLine(method, inInterface, compilationUnit));
 
         if (!method.isAbstract() && !method.isNative()) {
-            lines.addAll(bodyLineRenderer.render(method.getBodyLines()));
-            lines.add("}"); //$NON-NLS-1$
+            bodyLineRenderer.render(method.getBodyLines(), writer);
+            writer.line("}"); //$NON-NLS-1$
         }
-
-        return lines;
     }
 
     private String getFirstLine(Method method, boolean inInterface, CompilationUnit compilationUnit) {
@@ -15,9 +15,7 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.io.IOException;
 
 import org.mybatis.generator.api.Indenter;
 import org.mybatis.generator.api.dom.java.TopLevelClass;
@@ -28,14 +26,25 @@ public class TopLevelClassRenderer extends InnerClassRenderer {
     }
 
     public String render(TopLevelClass topLevelClass) {
-        List<String> lines = new ArrayList<>();
+        return JavaLineWriter.renderToString(w -> render(topLevelClass, w));
+    }
 
-        lines.addAll(topLevelClass.getFileCommentLines());
-        lines.addAll(renderPackage(topLevelClass));
-        lines.addAll(renderStaticImports(topLevelClass));
-        lines.addAll(renderImports(topLevelClass));
-        lines.addAll(render(topLevelClass, topLevelClass));
+    /**
+     * Renders the file directly to an Appendable, without building the whole file in memory first.
+     *
+     * @param topLevelClass the compilation unit to render
+     * @param appendable the destination
+     * @throws IOException if the Appendable throws an IOException
+     */
+    public void render(TopLevelClass topLevelClass, Appendable appendable) throws IOException {
+        JavaLineWriter.render(appendable, w -> render(topLevelClass, w));
+    }
 
-        return lines.stream().collect(Collectors.joining(System.lineSeparator()));
+    public void render(TopLevelClass topLevelClass, JavaLineWriter writer) {
+        writer.lines(topLevelClass.getFileCommentLines());
+        renderPackage(topLevelClass, writer);
+        renderStaticImports(topLevelClass, writer);
+        renderImports(topLevelClass, writer);
+        render(topLevelClass, topLevelClass, writer);
     }
 }
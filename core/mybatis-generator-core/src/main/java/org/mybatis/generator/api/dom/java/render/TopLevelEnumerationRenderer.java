@@ -15,9 +15,7 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.io.IOException;
 
 import org.mybatis.generator.api.Indenter;
 import org.mybatis.generator.api.dom.java.TopLevelEnumeration;
@@ -28,14 +26,25 @@ public class TopLevelEnumerationRenderer extends InnerEnumRenderer {
     }
 
     public String render(TopLevelEnumeration topLevelEnumeration) {
-        List<String> lines = new ArrayList<>();
+        return JavaLineWriter.renderToString(w -> render(topLevelEnumeration, w));
+    }
 
-        lines.addAll(topLevelEnumeration.getFileCommentLines());
-        lines.addAll(renderPackage(topLevelEnumeration));
-        lines.addAll(renderStaticImports(topLevelEnumeration));
-        lines.addAll(renderImports(topLevelEnumeration));
-        lines.addAll(render(topLevelEnumeration, topLevelEnumeration));
+    /**
+     * Renders the file directly to an Appendable, without building the whole file in memory first.
+     *
+     * @param topLevelEnumeration the compilation unit to render
+     * @param appendable the destination
+     * @throws IOException if the Appendable throws an IOException
+     */
+    public void render(TopLevelEnumeration topLevelEnumeration, Appendable appendable) throws IOException {
+        JavaLineWriter.render(appendable, w -> render(topLevelEnumeration, w));
+    }
 
-        return lines.stream().collect(Collectors.joining(System.lineSeparator()));
+    public void render(TopLevelEnumeration topLevelEnumeration, JavaLineWriter writer) {
+        writer.lines(topLevelEnumeration.getFileCommentLines());
+        renderPackage(topLevelEnumeration, writer);
+        renderStaticImports(topLevelEnumeration, writer);
+        renderImports(topLevelEnumeration, writer);
+        render(topLevelEnumeration, topLevelEnumeration, writer);
     }
 }
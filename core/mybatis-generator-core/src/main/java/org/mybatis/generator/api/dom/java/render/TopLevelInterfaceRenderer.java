@@ -15,9 +15,7 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.io.IOException;
 
 import org.mybatis.generator.api.Indenter;
 import org.mybatis.generator.api.dom.java.Interface;
@@ -28,14 +26,25 @@ public class TopLevelInterfaceRenderer extends InnerInterfaceRenderer {
     }
 
     public String render(Interface topLevelInterface) {
-        List<String> lines = new ArrayList<>();
+        return JavaLineWriter.renderToString(w -> render(topLevelInterface, w));
+    }
 
-        lines.addAll(topLevelInterface.getFileCommentLines());
-        lines.addAll(renderPackage(topLevelInterface));
-        lines.addAll(renderStaticImports(topLevelInterface));
-        lines.addAll(renderImports(topLevelInterface));
-        lines.addAll(render(topLevelInterface, topLevelInterface));
+    /**
+     * Renders the file directly to an Appendable, without building the whole file in memory first.
+     *
+     * @param topLevelInterface the compilation unit to render
+     * @param appendable the destination
+     * @throws IOException if the Appendable throws an IOException
+     */
+    public void render(Interface topLevelInterface, Appendable appendable) throws IOException {
+        JavaLineWriter.render(appendable, w -> render(topLevelInterface, w));
+    }
 
-        return lines.stream().collect(Collectors.joining(System.lineSeparator()));
+    public void render(Interface topLevelInterface, JavaLineWriter writer) {
+        writer.lines(topLevelInterface.getFileCommentLines());
+        renderPackage(topLevelInterface, writer);
+        renderStaticImports(topLevelInterface, writer);
+        renderImports(topLevelInterface, writer);
+        render(topLevelInterface, topLevelInterface, writer);
     }
 }
@@ -15,9 +15,7 @@
  */
 package org.mybatis.generator.api.dom.java.render;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.io.IOException;
 
 import org.mybatis.generator.api.Indenter;
 import org.mybatis.generator.api.dom.java.TopLevelRecord;
@@ -28,14 +26,25 @@ public class TopLevelRecordRenderer extends InnerRecordRenderer {
     }
 
     public String render(TopLevelRecord topLevelRecord) {
-        List<String> lines = new ArrayList<>();
+        return JavaLineWriter.renderToString(w -> render(topLevelRecord, w));
+    }
 
-        lines.addAll(topLevelRecord.getFileCommentLines());
-        lines.addAll(renderPackage(topLevelRecord));
-        lines.addAll(renderStaticImports(topLevelRecord));
-        lines.addAll(renderImports(topLevelRecord));
-        lines.addAll(render(topLevelRecord, topLevelRecord));
+    /**
+     * Renders the file directly to an Appendable, without building the whole file in memory first.
+     *
+     * @param topLevelRecord the compilation unit to render
+     * @param appendable the destination
+     * @throws IOException if the Appendable throws an IOException
+     */
+    public void render(TopLevelRecord topLevelRecord, Appendable appendable) throws IOException {
+        JavaLineWriter.render(appendable, w -> render(topLevelRecord, w));
+    }
 
-        return lines.stream().collect(Collectors.joining(System.lineSeparator()));
+    public void render(TopLevelRecord topLevelRecord, JavaLineWriter writer) {
+        writer.lines(topLevelRecord.getFileCommentLines());
+        renderPackage(topLevelRecord, writer);
+        renderStaticImports(topLevelRecord, writer);
+        renderImports(topLevelRecord, writer);
+        render(topLevelRecord, topLevelRecord, writer);
     }
 }
@@ -15,14 +15,14 @@
  */
 package org.mybatis.generator.api.dom.xml.render;
 
+import java.io.IOException;
 import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Optional;
 
 import org.mybatis.generator.api.Indenter;
 import org.mybatis.generator.api.dom.xml.DocType;
 import org.mybatis.generator.api.dom.xml.Document;
+import org.mybatis.generator.exception.InternalException;
 
 public class DocumentRenderer {
     private final Indenter indenter;
@@ -32,29 +32,32 @@ public class DocumentRenderer {
     }
 
     public String render(Document document) {
-        return Stream.of(renderXmlHeader(),
-                renderDocType(document),
-                renderRootElement(document))
-                .flatMap(Function.identity())
-                .collect(Collectors.joining(System.lineSeparator()));
+        StringBuilder sb = new StringBuilder();
+        try {
+            render(document, sb);
+        } catch (IOException e) {
+            // StringBuilder does not throw IOException
+            throw new InternalException(e.getMessage(), e);
+        }
+        return sb.toString();
     }
 
-    private Stream<String> renderXmlHeader() {
-        return Stream.of("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"); //$NON-NLS-1$
-    }
-
-    private Stream<String> renderDocType(Document document) {
-        return Stream.of("<!DOCTYPE " //$NON-NLS-1$
-                + document.getRootElement().getName()
-                + document.getDocType().map(this::renderDocType).orElse("") //$NON-NLS-1$
-                + ">"); //$NON-NLS-1$
-    }
-
-    private String renderDocType(DocType docType) {
-        return " " + docType.accept(new DocTypeRenderer()); //$NON-NLS-1$
-    }
-
-    private Stream<String> renderRootElement(Document document) {
-        return document.getRootElement().accept(new ElementRenderer(indenter));
+    /**
+     * Renders the document directly to an Appendable, without building the whole document in memory first.
+     *
+     * @param document the document to render
+     * @param appendable the destination
+     * @throws IOException if the Appendable throws an IOException
+     */
+    public void render(Document document, Appendable appendable) throws IOException {
+        appendable.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"); //$NON-NLS-1$
+        appendable.append(System.lineSeparator());
+        appendable.append("<!DOCTYPE ").append(document.getRootElement().getName()); //$NON-NLS-1$
+        Optional<DocType> docType = document.getDocType();
+        if (docType.isPresent()) {
+            appendable.append(' ').append(docType.get().accept(new DocTypeRenderer()));
+        }
+        appendable.append('>');
+        new ElementWriter(indenter).write(document.getRootElement(), appendable);
     }
 }
@@ -0,0 +1,157 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api.dom.xml.render;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.generator.api.Indenter;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.ElementVisitor;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.VisitableElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+
+/**
+ * Writes an element and its children straight to an Appendable. The output is the same as the lines of
+ * {@link ElementRenderer}, but no string is built for a line or its indentation - the pieces of each line are
+ * appended one after the other. The element tree is walked depth first with an explicit stack, so very deep trees
+ * do not need deep recursion.
+ */
+public class ElementWriter {
+    private static final Comparator<Attribute> ATTRIBUTE_ORDER = Comparator.comparing(Attribute::name);
+
+    private final String indent;
+    private final String lineSeparator = System.lineSeparator();
+
+    public ElementWriter(Indenter indenter) {
+        indent = Objects.requireNonNull(indenter).xmlIndent(1);
+    }
+
+    /**
+     * Writes an element. Every line, including the first, starts with a line separator - the element is written
+     * after the preceding content of the document.
+     *
+     * @param element the element to write
+     * @param appendable the destination
+     * @throws IOException if the Appendable throws an IOException
+     */
+    public void write(VisitableElement element, Appendable appendable) throws IOException {
+        Deque<Frame> stack = new ArrayDeque<>();
+        stack.push(Frame.open(element, 0));
+        Walker walker = new Walker(appendable, stack);
+
+        try {
+            while (!stack.isEmpty()) {
+                Frame frame = stack.pop();
+                walker.depth = frame.depth();
+                XmlElement closing = frame.closing();
+                if (closing == null) {
+                    Objects.requireNonNull(frame.element()).accept(walker);
+                } else {
+                    walker.startLine();
+                    appendable.append("</").append(closing.getName()).append('>'); //$NON-NLS-1$
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * An element to open, or an element to close after its children have been written.
+     */
+    private record Frame(@Nullable VisitableElement element, @Nullable XmlElement closing, int depth) {
+        static Frame open(VisitableElement element, int depth) {
+            return new Frame(element, null, depth);
+        }
+
+        static Frame close(XmlElement element, int depth) {
+            return new Frame(null, element, depth);
+        }
+    }
+
+    private class Walker implements ElementVisitor<@Nullable Void> {
+        private final Appendable appendable;
+        private final Deque<Frame> stack;
+        private int depth;
+
+        Walker(Appendable appendable, Deque<Frame> stack) {
+            this.appendable = appendable;
+            this.stack = stack;
+        }
+
+        @Override
+        public @Nullable Void visit(TextElement element) {
+            try {
+                startLine();
+                appendable.append(element.content());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        }
+
+        @Override
+        public @Nullable Void visit(XmlElement element) {
+            try {
+                startLine();
+                appendable.append('<').append(element.getName());
+                writeAttributes(element);
+                if (element.hasChildren()) {
+                    appendable.append('>');
+                    stack.push(Frame.close(element, depth));
+                    List<VisitableElement> children = element.getElements();
+                    for (int i = children.size() - 1; i >= 0; i--) {
+                        stack.push(Frame.open(children.get(i), depth + 1));
+                    }
+                } else {
+                    appendable.append(" />"); //$NON-NLS-1$
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        }
+
+        private void writeAttributes(XmlElement element) throws IOException {
+            List<Attribute> attributes = element.getAttributes();
+            if (attributes.size() > 1) {
+                attributes = new ArrayList<>(attributes);
+                attributes.sort(ATTRIBUTE_ORDER);
+            }
+
+            for (Attribute attribute : attributes) {
+                appendable.append(' ').append(attribute.name()).append("=\"") //$NON-NLS-1$
+                        .append(attribute.value()).append('"');
+            }
+        }
+
+        void startLine() throws IOException {
+            appendable.append(lineSeparator);
+            for (int i = 0; i < depth; i++) {
+                appendable.append(indent);
+            }
+        }
+    }
+}
@@ -33,6 +33,8 @@ import org.mybatis.generator.config.Defaults;
 import org.mybatis.generator.config.PropertyRegistry;
 import org.mybatis.generator.internal.ObjectFactory;
 import org.mybatis.generator.internal.PluginAggregator;
+import org.mybatis.generator.internal.PluginProfiler;
+import org.mybatis.generator.internal.jfr.PluginHookRecorder;
 
 /**
  * This class holds common objects in a context that can be pre-calculated before code generation runs.
@@ -71,7 +73,7 @@ public class CalculatedContextValues {
             Plugin plugin = ObjectFactory.createPlugin(context, pluginConfiguration, commentGenerator, knownRuntime,
                     indenter);
             if (plugin.validate(builder.warnings)) {
-                pluginAggregator.addPlugin(plugin);
+                pluginAggregator.addPlugin(instrument(plugin, builder.pluginProfiler));
             } else {
                 builder.warnings.add(getString("Warning.24", //$NON-NLS-1$
                         pluginConfiguration.getConfigurationType()
@@ -86,6 +88,17 @@ public class CalculatedContextValues {
         }
     }
 
+    /**
+     * Wraps a plugin so its methods are recorded as flight recorder events, and profiled if profiling is enabled.
+     */
+    private Plugin instrument(Plugin plugin, @Nullable PluginProfiler pluginProfiler) {
+        Plugin answer = PluginHookRecorder.wrapIfRecording(plugin);
+        if (pluginProfiler != null) {
+            answer = pluginProfiler.wrap(context.getId(), plugin.getClass().getName(), answer);
+        }
+        return answer;
+    }
+
     public Context context() {
         return context;
     }
@@ -134,6 +147,7 @@ public class CalculatedContextValues {
         private @Nullable Context context;
         private @Nullable List<String> warnings;
         private @Nullable Indenter indenter;
+        private @Nullable PluginProfiler pluginProfiler;
 
         public Builder withContext(Context context) {
             this.context = context;
@@ -150,6 +164,11 @@ public class CalculatedContextValues {
             return this;
         }
 
+        public Builder withPluginProfiler(@Nullable PluginProfiler pluginProfiler) {
+            this.pluginProfiler = pluginProfiler;
+            return this;
+        }
+
         public CalculatedContextValues build() {
             return new CalculatedContextValues(this);
         }
@@ -15,95 +15,295 @@
  */
 package org.mybatis.generator.codegen;
 
+import static org.mybatis.generator.internal.util.ExecutorUtility.awaitTermination;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.generator.api.AbstractRuntime;
-import org.mybatis.generator.api.CommentGenerator;
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.GeneratedKotlinFile;
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.GenericGeneratedFile;
 import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.MetricsListener;
 import org.mybatis.generator.api.ProgressCallback;
 import org.mybatis.generator.config.Context;
+import org.mybatis.generator.exception.InternalException;
+import org.mybatis.generator.internal.AllocationCounter;
 import org.mybatis.generator.internal.ObjectFactory;
 import org.mybatis.generator.internal.PluginAggregator;
+import org.mybatis.generator.internal.SynchronizedProgressCallback;
+import org.mybatis.generator.internal.util.NamedThreadFactory;
 
 public class GenerationEngine {
     private final CalculatedContextValues contextValues;
     private final ProgressCallback progressCallback;
-    private final List<AbstractRuntime> runtimes;
+    private final List<String> warnings;
+    private final MetricsListener metricsListener;
+    private final int threads;
+    private final List<TableRuntime> runtimes;
+    private int streamedGenerationSteps;
 
     protected GenerationEngine(Builder builder) {
         contextValues = Objects.requireNonNull(builder.contextValues);
-        progressCallback = Objects.requireNonNull(builder.progressCallback);
+        warnings = Objects.requireNonNull(builder.warnings);
+        metricsListener = Objects.requireNonNullElseGet(builder.metricsListener, () -> new MetricsListener() {});
 
         Context context = contextValues.context();
-        List<String> warnings = Objects.requireNonNull(builder.warnings);
-        CommentGenerator commentGenerator = contextValues.commentGenerator();
+        threads = calculateThreads(context, builder.introspectedTables.size());
+
+        // runtimes report progress from the worker threads when tables are generated concurrently
+        ProgressCallback callback = Objects.requireNonNull(builder.progressCallback);
+        progressCallback = threads > 1 ? new SynchronizedProgressCallback(callback) : callback;
 
         // initialize everything first before generating. This allows plugins to know about other
         // items in the configuration.
-        runtimes = builder.introspectedTables.stream().map(introspectedTable -> {
-            AbstractRuntime.AbstractRuntimeBuilder<?> runtimeBuilder = ObjectFactory.createInternalObject(
-                    contextValues.runtimeBuilderClassName());
-            return runtimeBuilder
-                    .withIntrospectedTable(introspectedTable)
-                    .withContext(context)
-                    .withCommentGenerator(commentGenerator)
-                    .withPluginAggregator(contextValues.pluginAggregator())
-                    .withProgressCallback(progressCallback)
-                    .withWarnings(warnings)
-                    .withIndenter(contextValues.indenter())
-                    .build();
-        }).toList();
+        runtimes = builder.introspectedTables.stream().map(this::createRuntime).toList();
+    }
+
+    private TableRuntime createRuntime(IntrospectedTable introspectedTable) {
+        // every runtime gets its own warning list so warnings stay in table order when tables are
+        // generated concurrently
+        List<String> tableWarnings = new ArrayList<>();
+        AbstractRuntime.AbstractRuntimeBuilder<?> runtimeBuilder = ObjectFactory.createInternalObject(
+                contextValues.runtimeBuilderClassName());
+        AbstractRuntime runtime = runtimeBuilder
+                .withIntrospectedTable(introspectedTable)
+                .withContext(contextValues.context())
+                .withCommentGenerator(contextValues.commentGenerator())
+                .withPluginAggregator(contextValues.pluginAggregator())
+                .withProgressCallback(progressCallback)
+                .withWarnings(tableWarnings)
+                .withIndenter(contextValues.indenter())
+                .withMetricsListener(metricsListener)
+                .build();
+        TableRuntime tableRuntime = new TableRuntime(runtime, tableWarnings);
+        tableRuntime.flushWarnings(warnings);
+        return tableRuntime;
+    }
+
+    private int calculateThreads(Context context, int tableCount) {
+        int requestedThreads = Math.min(context.getGenerationThreads(), tableCount);
+        if (requestedThreads > 1 && !contextValues.pluginAggregator().isThreadSafe()) {
+            warnings.add(getString("Warning.38", context.getId())); //$NON-NLS-1$
+            return 1;
+        }
+
+        if (requestedThreads > 1 && !contextValues.commentGenerator().isThreadSafe()) {
+            warnings.add(getString("Warning.41", context.getId())); //$NON-NLS-1$
+            return 1;
+        }
+
+        return requestedThreads;
     }
 
     public int getGenerationSteps() {
-        return runtimes.stream().mapToInt(AbstractRuntime::getGenerationSteps).sum();
+        return runtimes.stream().map(TableRuntime::runtime).mapToInt(AbstractRuntime::getGenerationSteps).sum()
+                + streamedGenerationSteps;
     }
 
     public GenerationResults generate() throws InterruptedException {
         PluginAggregator pluginAggregator = contextValues.pluginAggregator();
         var builder = new GenerationResults.Builder().withContextValues(contextValues);
 
-        for (AbstractRuntime runtime : runtimes) {
-            if (!pluginAggregator.shouldGenerate(runtime.getIntrospectedTable())) {
-                continue;
-            }
+        List<TableRuntime> runtimesToGenerate = runtimes.stream()
+                .filter(r -> pluginAggregator.shouldGenerate(r.runtime().getIntrospectedTable()))
+                .toList();
 
-            progressCallback.checkCancel();
-            builder.withGeneratedJavaFiles(runtime.getGeneratedJavaFiles());
-            builder.withGeneratedJavaFiles(
-                    pluginAggregator.contextGenerateAdditionalJavaFiles(runtime.getIntrospectedTable()));
+        if (threads > 1) {
+            generateConcurrently(runtimesToGenerate, builder);
+        } else {
+            for (TableRuntime tableRuntime : runtimesToGenerate) {
+                generateTable(tableRuntime.runtime()).addTo(builder);
+                tableRuntime.flushWarnings(warnings);
+            }
+        }
 
-            progressCallback.checkCancel();
-            builder.withGeneratedXmlFiles(runtime.getGeneratedXmlFiles());
-            builder.withGeneratedXmlFiles(
-                    pluginAggregator.contextGenerateAdditionalXmlFiles(runtime.getIntrospectedTable()));
+        addContextFiles(builder);
+        return builder.build();
+    }
 
-            progressCallback.checkCancel();
-            builder.withGeneratedKotlinFiles(runtime.getGeneratedKotlinFiles());
-            builder.withGeneratedKotlinFiles(
-                    pluginAggregator.contextGenerateAdditionalKotlinFiles(runtime.getIntrospectedTable()));
+    /**
+     * Generates the files for a single table that was not passed to the builder. This allows tables to be generated
+     * as soon as they are introspected. Callers must call {@link #generateContextFiles()} after the last table.
+     *
+     * @param introspectedTable the table to generate
+     * @return the files generated for the table. Empty if a plugin vetoes the table
+     * @throws InterruptedException if the progress callback reports a cancel
+     */
+    public GenerationResults generateTable(IntrospectedTable introspectedTable) throws InterruptedException {
+        var builder = new GenerationResults.Builder().withContextValues(contextValues);
 
-            progressCallback.checkCancel();
-            builder.withGeneratedGenericFiles(
-                    pluginAggregator.contextGenerateAdditionalFiles(runtime.getIntrospectedTable()));
+        TableRuntime tableRuntime = createRuntime(introspectedTable);
+        streamedGenerationSteps += tableRuntime.runtime().getGenerationSteps();
+        if (contextValues.pluginAggregator().shouldGenerate(introspectedTable)) {
+            generateTable(tableRuntime.runtime()).addTo(builder);
+            tableRuntime.flushWarnings(warnings);
         }
 
+        return builder.build();
+    }
+
+    /**
+     * Generates the files contributed by plugins for the context as a whole. Used together with
+     * {@link #generateTable(IntrospectedTable)}.
+     *
+     * @return the files generated for the context
+     * @throws InterruptedException if the progress callback reports a cancel
+     */
+    public GenerationResults generateContextFiles() throws InterruptedException {
+        var builder = new GenerationResults.Builder().withContextValues(contextValues);
+        addContextFiles(builder);
+        return builder.build();
+    }
+
+    private void addContextFiles(GenerationResults.Builder builder) throws InterruptedException {
+        PluginAggregator pluginAggregator = contextValues.pluginAggregator();
+
         progressCallback.checkCancel();
         builder.withGeneratedJavaFiles(pluginAggregator.contextGenerateAdditionalJavaFiles());
         builder.withGeneratedXmlFiles(pluginAggregator.contextGenerateAdditionalXmlFiles());
         builder.withGeneratedKotlinFiles(pluginAggregator.contextGenerateAdditionalKotlinFiles());
         builder.withGeneratedGenericFiles(pluginAggregator.contextGenerateAdditionalFiles());
+    }
 
-        return builder.build();
+    /**
+     * Generates the tables on a pool of worker threads. Results and warnings are collected in table order, so the
+     * output is the same as when the tables are generated one at a time.
+     */
+    private void generateConcurrently(List<TableRuntime> runtimesToGenerate, GenerationResults.Builder builder)
+            throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threads,
+                new NamedThreadFactory("mbg-generation-" + contextValues.context().getId())); //$NON-NLS-1$
+        try {
+            List<Future<TableFiles>> futures = runtimesToGenerate.stream()
+                    .map(r -> executorService.submit(() -> generateTable(r.runtime())))
+                    .toList();
+
+            for (int i = 0; i < futures.size(); i++) {
+                waitForFiles(futures.get(i)).addTo(builder);
+                runtimesToGenerate.get(i).flushWarnings(warnings);
+            }
+        } finally {
+            // after a failure other tables may still be running plugins, so wait for them to stop
+            executorService.shutdownNow();
+            awaitTermination(executorService);
+        }
+    }
+
+    private TableFiles waitForFiles(Future<TableFiles> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof InterruptedException interruptedException) {
+                throw interruptedException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            } else {
+                throw new InternalException(cause.getMessage(), cause);
+            }
+        }
+    }
+
+    private TableFiles generateTable(AbstractRuntime runtime) throws InterruptedException {
+        PluginAggregator pluginAggregator = contextValues.pluginAggregator();
+        IntrospectedTable introspectedTable = runtime.getIntrospectedTable();
+
+        // the runtime reports the time of each of its generators, the time spent on files contributed by
+        // plugins is reported here
+        Stopwatch pluginTime = new Stopwatch();
+
+        progressCallback.checkCancel();
+        List<GeneratedJavaFile> javaFiles = new ArrayList<>(runtime.getGeneratedJavaFiles());
+        javaFiles.addAll(pluginTime.time(() -> pluginAggregator.contextGenerateAdditionalJavaFiles(introspectedTable)));
+
+        progressCallback.checkCancel();
+        List<GeneratedXmlFile> xmlFiles = new ArrayList<>(runtime.getGeneratedXmlFiles());
+        xmlFiles.addAll(pluginTime.time(() -> pluginAggregator.contextGenerateAdditionalXmlFiles(introspectedTable)));
+
+        progressCallback.checkCancel();
+        List<GeneratedKotlinFile> kotlinFiles = new ArrayList<>(runtime.getGeneratedKotlinFiles());
+        kotlinFiles.addAll(pluginTime.time(
+                () -> pluginAggregator.contextGenerateAdditionalKotlinFiles(introspectedTable)));
+
+        progressCallback.checkCancel();
+        List<GenericGeneratedFile> genericFiles = pluginTime.time(
+                () -> pluginAggregator.contextGenerateAdditionalFiles(introspectedTable));
+
+        metricsListener.generatorCompleted(contextValues.context().getId(),
+                introspectedTable.getFullyQualifiedTable().toString(), "Plugins", //$NON-NLS-1$
+                pluginTime.elapsed(), pluginTime.allocatedBytes());
+
+        return new TableFiles(introspectedTable, javaFiles, xmlFiles, kotlinFiles, genericFiles);
+    }
+
+    /**
+     * Adds up the time spent, and the bytes allocated, in several pieces of work.
+     */
+    private static class Stopwatch {
+        private long elapsedNanos;
+        private long allocatedBytes;
+
+        <T> T time(Supplier<T> work) {
+            long startTime = System.nanoTime();
+            long startAllocation = AllocationCounter.allocatedBytes();
+            try {
+                return work.get();
+            } finally {
+                elapsedNanos += System.nanoTime() - startTime;
+                allocatedBytes += AllocationCounter.allocatedBytesSince(startAllocation);
+            }
+        }
+
+        Duration elapsed() {
+            return Duration.ofNanos(elapsedNanos);
+        }
+
+        long allocatedBytes() {
+            return allocatedBytes < 0 ? -1 : allocatedBytes;
+        }
+    }
+
+    private record TableRuntime(AbstractRuntime runtime, List<String> warnings) {
+        void flushWarnings(List<String> target) {
+            target.addAll(warnings);
+            warnings.clear();
+        }
+    }
+
+    private record TableFiles(IntrospectedTable introspectedTable, List<GeneratedJavaFile> javaFiles,
+                              List<GeneratedXmlFile> xmlFiles, List<GeneratedKotlinFile> kotlinFiles,
+                              List<GenericGeneratedFile> genericFiles) {
+        void addTo(GenerationResults.Builder builder) {
+            builder.withGeneratedJavaFiles(javaFiles);
+            builder.withGeneratedXmlFiles(xmlFiles);
+            builder.withGeneratedKotlinFiles(kotlinFiles);
+            builder.withGeneratedGenericFiles(genericFiles);
+            builder.withOriginTable(introspectedTable, javaFiles);
+            builder.withOriginTable(introspectedTable, xmlFiles);
+            builder.withOriginTable(introspectedTable, kotlinFiles);
+            builder.withOriginTable(introspectedTable, genericFiles);
+        }
     }
 
     public static class Builder {
         private @Nullable CalculatedContextValues contextValues;
         private @Nullable ProgressCallback progressCallback;
         private @Nullable List<String> warnings;
+        private @Nullable MetricsListener metricsListener;
         private final List<IntrospectedTable> introspectedTables = new ArrayList<>();
 
         public Builder withContextValues(CalculatedContextValues contextValues) {
@@ -121,6 +321,18 @@ public class GenerationEngine {
             return this;
         }
 
+        /**
+         * Sets a listener for the time spent in each generator. The listener is called from the worker threads
+         * when tables are generated concurrently.
+         *
+         * @param metricsListener the listener
+         * @return this builder
+         */
+        public Builder withMetricsListener(@Nullable MetricsListener metricsListener) {
+            this.metricsListener = metricsListener;
+            return this;
+        }
+
         public Builder withIntrospectedTables(List<IntrospectedTable> introspectedTables) {
             this.introspectedTables.addAll(introspectedTables);
             return this;
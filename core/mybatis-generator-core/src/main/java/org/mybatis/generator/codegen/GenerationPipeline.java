@@ -0,0 +1,353 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.codegen;
+
+import static org.mybatis.generator.internal.util.ExecutorUtility.awaitTermination;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.MetricsListener;
+import org.mybatis.generator.api.ProgressCallback;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.exception.InternalException;
+import org.mybatis.generator.internal.util.NamedThreadFactory;
+
+/**
+ * Runs introspection, generation, and file writing as three overlapping stages. Each table flows to the next stage
+ * as soon as it is ready, through bounded queues, so the database, the CPU, and the disk are busy at the same time,
+ * and only a few tables worth of generated files are held in memory at once.
+ *
+ * <p>Introspection and writing run on their own threads. Generation runs on the calling thread. Contexts are
+ * processed in configuration order, and the context level plugin methods are called after the last table of each
+ * context. Unlike a staged run, a plugin's initialized() method is called just before its table is generated, rather
+ * than for all tables up front.
+ *
+ * <p>Because the stages overlap, generationStarted() is reported when introspection is complete and saveStarted() is
+ * reported when generation is complete. Some tasks of each phase may be reported before these calls. Warnings are
+ * reported in stage order - introspection warnings, then generation warnings, then write warnings.
+ */
+public class GenerationPipeline {
+    public static final int DEFAULT_QUEUE_CAPACITY = 16;
+
+    private final List<CalculatedContextValues> contextValuesList;
+    private final Set<String> fullyQualifiedTableNames;
+    private final ProgressCallback progressCallback;
+    private final @Nullable MetricsListener metricsListener;
+    private final ResultsWriter resultsWriter;
+    private final BiPredicate<CalculatedContextValues, IntrospectedTable> tableFilter;
+    private final BlockingQueue<IntrospectionEvent> tableQueue;
+    private final BlockingQueue<WriteEvent> resultsQueue;
+    private final List<String> introspectionWarnings = new ArrayList<>();
+    private final List<String> generationWarnings = new ArrayList<>();
+    private final List<String> writeWarnings = new ArrayList<>();
+    private volatile boolean isWritingStopped;
+
+    protected GenerationPipeline(Builder builder) {
+        contextValuesList = builder.contextValuesList;
+        fullyQualifiedTableNames = Objects.requireNonNull(builder.fullyQualifiedTableNames);
+        progressCallback = Objects.requireNonNull(builder.progressCallback);
+        metricsListener = builder.metricsListener;
+        resultsWriter = Objects.requireNonNull(builder.resultsWriter);
+        tableFilter = builder.tableFilter;
+        tableQueue = new ArrayBlockingQueue<>(builder.queueCapacity);
+        resultsQueue = new ArrayBlockingQueue<>(builder.queueCapacity);
+    }
+
+    /**
+     * Runs the pipeline. This method is long-running.
+     *
+     * @return any warnings created during introspection, generation, and writing
+     * @throws SQLException if introspection fails
+     * @throws IOException if a file cannot be written
+     * @throws InterruptedException if the progress callback reports a cancel
+     */
+    public List<String> run() throws SQLException, IOException, InterruptedException {
+        progressCallback.introspectionStarted(contextValuesList.stream()
+                .map(CalculatedContextValues::context)
+                .mapToInt(Context::getIntrospectionSteps)
+                .sum());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2,
+                new NamedThreadFactory("mbg-pipeline")); //$NON-NLS-1$
+        Future<@Nullable Void> introspection = executorService.submit(this::introspect);
+        try {
+            Future<@Nullable Void> writing = executorService.submit(this::write);
+
+            generate(introspection, writing);
+            waitFor(writing);
+        } finally {
+            // introspection can be interrupted, but the writer is only asked to stop after the results it is
+            // writing - interrupting a write would leave a truncated file. The wait is not abandoned on a cancel,
+            // so the writer is never left in the middle of a file
+            introspection.cancel(true);
+            isWritingStopped = true;
+            executorService.shutdown();
+            awaitTermination(executorService);
+        }
+
+        List<String> warnings = new ArrayList<>(introspectionWarnings);
+        warnings.addAll(generationWarnings);
+        warnings.addAll(writeWarnings);
+        return warnings;
+    }
+
+    private @Nullable Void introspect() throws SQLException, InterruptedException {
+        try {
+            for (CalculatedContextValues contextValues : contextValuesList) {
+                new IntrospectionEngine.Builder()
+                        .withContextValues(contextValues)
+                        .withFullyQualifiedTableNames(fullyQualifiedTableNames)
+                        .withWarnings(introspectionWarnings)
+                        .withProgressCallback(progressCallback)
+                        .withMetricsListener(metricsListener)
+                        .withTableListener(t -> {
+                            if (tableFilter.test(contextValues, t)) {
+                                tableQueue.put(IntrospectionEvent.table(contextValues, t));
+                            }
+                        })
+                        .build()
+                        .introspectTables();
+                tableQueue.put(IntrospectionEvent.endOfContext(contextValues));
+            }
+        } finally {
+            // always release the generation stage, it will report any failure
+            tableQueue.put(IntrospectionEvent.endOfTables());
+        }
+
+        return null;
+    }
+
+    private void generate(Future<@Nullable Void> introspection, Future<@Nullable Void> writing)
+            throws SQLException, IOException, InterruptedException {
+        @Nullable GenerationEngine generationEngine = null;
+        int generationSteps = 0;
+        int files = 0;
+
+        while (true) {
+            IntrospectionEvent event = tableQueue.take();
+            CalculatedContextValues contextValues = event.contextValues();
+            if (contextValues == null) {
+                break;
+            }
+
+            if (generationEngine == null) {
+                generationEngine = new GenerationEngine.Builder()
+                        .withContextValues(contextValues)
+                        .withProgressCallback(progressCallback)
+                        .withWarnings(generationWarnings)
+                        .withMetricsListener(metricsListener)
+                        .build();
+            }
+
+            GenerationResults generationResults;
+            IntrospectedTable introspectedTable = event.introspectedTable();
+            if (introspectedTable == null) {
+                generationResults = generationEngine.generateContextFiles();
+                generationSteps += generationEngine.getGenerationSteps();
+                generationEngine = null;
+            } else {
+                contextValues.pluginAggregator().initialized(introspectedTable);
+                generationResults = generationEngine.generateTable(introspectedTable);
+            }
+
+            files += generationResults.getNumberOfGeneratedFiles();
+            putResults(WriteEvent.results(generationResults), writing);
+        }
+
+        waitFor(introspection);
+        progressCallback.generationStarted(generationSteps);
+        progressCallback.saveStarted(files);
+        putResults(WriteEvent.endOfResults(), writing);
+    }
+
+    private void putResults(WriteEvent event, Future<@Nullable Void> writing)
+            throws SQLException, IOException, InterruptedException {
+        // the writer may have stopped, so don't wait for space in the queue forever
+        while (!resultsQueue.offer(event, 100, TimeUnit.MILLISECONDS)) {
+            if (writing.isDone()) {
+                waitFor(writing);
+                throw new InternalException("The write stage ended before all files were written"); //$NON-NLS-1$
+            }
+        }
+    }
+
+    private @Nullable Void write() throws IOException, InterruptedException {
+        while (!isWritingStopped) {
+            WriteEvent event = resultsQueue.poll(100, TimeUnit.MILLISECONDS);
+            if (event == null) {
+                continue;
+            }
+
+            GenerationResults generationResults = event.generationResults();
+            if (generationResults == null) {
+                break;
+            }
+
+            resultsWriter.write(generationResults, writeWarnings);
+        }
+
+        return null;
+    }
+
+    private void waitFor(Future<@Nullable Void> future) throws SQLException, IOException, InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException sqlException) {
+                throw sqlException;
+            } else if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else if (cause instanceof InterruptedException interruptedException) {
+                throw interruptedException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            } else {
+                throw new InternalException(cause.getMessage(), cause);
+            }
+        }
+    }
+
+    /**
+     * A table, the end of a context (no table), or the end of all contexts (no context).
+     */
+    private record IntrospectionEvent(@Nullable CalculatedContextValues contextValues,
+                                      @Nullable IntrospectedTable introspectedTable) {
+        static IntrospectionEvent table(CalculatedContextValues contextValues, IntrospectedTable introspectedTable) {
+            return new IntrospectionEvent(contextValues, introspectedTable);
+        }
+
+        static IntrospectionEvent endOfContext(CalculatedContextValues contextValues) {
+            return new IntrospectionEvent(contextValues, null);
+        }
+
+        static IntrospectionEvent endOfTables() {
+            return new IntrospectionEvent(null, null);
+        }
+    }
+
+    private record WriteEvent(@Nullable GenerationResults generationResults) {
+        static WriteEvent results(GenerationResults generationResults) {
+            return new WriteEvent(generationResults);
+        }
+
+        static WriteEvent endOfResults() {
+            return new WriteEvent(null);
+        }
+    }
+
+    /**
+     * Writes generated files to disk. Called on the write thread, one result at a time, in generation order.
+     */
+    @FunctionalInterface
+    public interface ResultsWriter {
+        void write(GenerationResults generationResults, List<String> warnings) throws IOException,
+                InterruptedException;
+    }
+
+    public static class Builder {
+        private final List<CalculatedContextValues> contextValuesList = new ArrayList<>();
+        private @Nullable Set<String> fullyQualifiedTableNames;
+        private @Nullable ProgressCallback progressCallback;
+        private @Nullable MetricsListener metricsListener;
+        private @Nullable ResultsWriter resultsWriter;
+        private BiPredicate<CalculatedContextValues, IntrospectedTable> tableFilter = (c, t) -> true;
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+        public Builder withContextValues(List<CalculatedContextValues> contextValuesList) {
+            this.contextValuesList.addAll(contextValuesList);
+            return this;
+        }
+
+        public Builder withFullyQualifiedTableNames(Set<String> fullyQualifiedTableNames) {
+            this.fullyQualifiedTableNames = fullyQualifiedTableNames;
+            return this;
+        }
+
+        /**
+         * Sets the progress callback. It is called from several threads, so it must be thread safe.
+         *
+         * @param progressCallback the progress callback
+         * @return this builder
+         */
+        public Builder withProgressCallback(ProgressCallback progressCallback) {
+            this.progressCallback = progressCallback;
+            return this;
+        }
+
+        /**
+         * Sets a listener for the time spent introspecting and generating. It is called from several threads, so it
+         * must be thread safe.
+         *
+         * @param metricsListener the listener
+         * @return this builder
+         */
+        public Builder withMetricsListener(@Nullable MetricsListener metricsListener) {
+            this.metricsListener = metricsListener;
+            return this;
+        }
+
+        public Builder withResultsWriter(ResultsWriter resultsWriter) {
+            this.resultsWriter = resultsWriter;
+            return this;
+        }
+
+        /**
+         * Sets a filter for introspected tables. Tables that do not match the filter are not generated. The filter is
+         * called on the introspection thread.
+         *
+         * @param tableFilter the table filter
+         * @return this builder
+         */
+        public Builder withTableFilter(BiPredicate<CalculatedContextValues, IntrospectedTable> tableFilter) {
+            this.tableFilter = tableFilter;
+            return this;
+        }
+
+        /**
+         * Sets the number of items that can wait between two stages. Larger values smooth out differences in stage
+         * speed, smaller values hold fewer generated files in memory.
+         *
+         * @param queueCapacity the queue capacity
+         * @return this builder
+         */
+        public Builder withQueueCapacity(int queueCapacity) {
+            this.queueCapacity = Math.max(queueCapacity, 1);
+            return this;
+        }
+
+        public GenerationPipeline build() {
+            return new GenerationPipeline(this);
+        }
+    }
+}
@@ -16,14 +16,19 @@
 package org.mybatis.generator.codegen;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.generator.api.GeneratedFile;
 import org.mybatis.generator.api.GeneratedJavaFile;
 import org.mybatis.generator.api.GeneratedKotlinFile;
 import org.mybatis.generator.api.GeneratedXmlFile;
 import org.mybatis.generator.api.GenericGeneratedFile;
+import org.mybatis.generator.api.IntrospectedTable;
 import org.mybatis.generator.api.JavaFormatter;
 import org.mybatis.generator.api.KotlinFormatter;
 import org.mybatis.generator.api.XmlFormatter;
@@ -38,6 +43,7 @@ public class GenerationResults {
     private final List<GeneratedXmlFile> generatedXmlFiles;
     private final List<GeneratedKotlinFile> generatedKotlinFiles;
     private final List<GenericGeneratedFile> generatedGenericFiles;
+    private final Map<GeneratedFile, IntrospectedTable> originTables;
 
     protected GenerationResults(Builder builder) {
         contextValues = Objects.requireNonNull(builder.contextValues);
@@ -45,6 +51,11 @@ public class GenerationResults {
         generatedXmlFiles = builder.generatedXmlFiles;
         generatedKotlinFiles = builder.generatedKotlinFiles;
         generatedGenericFiles = builder.generatedGenericFiles;
+        originTables = builder.originTables;
+    }
+
+    public String contextId() {
+        return contextValues.context().getId();
     }
 
     public JavaFormatter javaFormatter() {
@@ -83,6 +94,16 @@ public class GenerationResults {
         return generatedGenericFiles;
     }
 
+    /**
+     * Returns the table a file was generated for.
+     *
+     * @param generatedFile a file from these results
+     * @return the table, or empty if the file was generated for the context as a whole
+     */
+    public Optional<IntrospectedTable> getOriginTable(GeneratedFile generatedFile) {
+        return Optional.ofNullable(originTables.get(generatedFile));
+    }
+
     public int getNumberOfGeneratedFiles() {
         return generatedJavaFiles().size()
                 + generatedXmlFiles().size()
@@ -96,6 +117,8 @@ public class GenerationResults {
         private final List<GeneratedXmlFile> generatedXmlFiles = new ArrayList<>();
         private final List<GeneratedKotlinFile> generatedKotlinFiles = new ArrayList<>();
         private final List<GenericGeneratedFile> generatedGenericFiles = new ArrayList<>();
+        // generated files do not implement equals, so identity is the right comparison
+        private final Map<GeneratedFile, IntrospectedTable> originTables = new IdentityHashMap<>();
 
         public Builder withContextValues(CalculatedContextValues contextValues) {
             this.contextValues = contextValues;
@@ -122,6 +145,12 @@ public class GenerationResults {
             return this;
         }
 
+        public Builder withOriginTable(IntrospectedTable introspectedTable,
+                                       List<? extends GeneratedFile> generatedFiles) {
+            generatedFiles.forEach(f -> originTables.put(f, introspectedTable));
+            return this;
+        }
+
         public GenerationResults build() {
             return new GenerationResults(this);
         }
@@ -15,40 +15,97 @@
  */
 package org.mybatis.generator.codegen;
 
+import static org.mybatis.generator.internal.util.ExecutorUtility.awaitTermination;
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.generator.api.IntrospectedTable;
 import org.mybatis.generator.api.JavaTypeResolver;
+import org.mybatis.generator.api.MetricsListener;
 import org.mybatis.generator.api.ProgressCallback;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.PropertyRegistry;
 import org.mybatis.generator.config.TableConfiguration;
+import org.mybatis.generator.exception.InternalException;
+import org.mybatis.generator.internal.AllocationCounter;
 import org.mybatis.generator.internal.ObjectFactory;
+import org.mybatis.generator.internal.db.BulkMetadataCache;
+import org.mybatis.generator.internal.db.BulkMetadataSource;
+import org.mybatis.generator.internal.db.CachingMetadataSource;
 import org.mybatis.generator.internal.db.DatabaseIntrospector;
+import org.mybatis.generator.internal.db.JdbcMetadataSource;
+import org.mybatis.generator.internal.db.MetadataSnapshot;
+import org.mybatis.generator.internal.db.MetadataSnapshotFile;
+import org.mybatis.generator.internal.db.MetadataSource;
+import org.mybatis.generator.internal.db.SnapshotMetadataSource;
+import org.mybatis.generator.internal.jfr.ContextIntrospectionEvent;
+import org.mybatis.generator.internal.util.NamedThreadFactory;
 
 public class IntrospectionEngine {
     private final CalculatedContextValues contextValues;
     private final ProgressCallback progressCallback;
     private final List<String> warnings;
     private final Set<String> fullyQualifiedTableNames;
+    private final @Nullable BulkMetadataCache bulkMetadataCache;
+    private final TableListener tableListener;
+    private final MetricsListener metricsListener;
+    private @Nullable SnapshotMetadataSource offlineMetadataSource;
+    private @Nullable MetadataSnapshot previousSnapshot;
+    private @Nullable MetadataSnapshot currentSnapshot;
+    // bytes allocated by introspection worker threads - the calling thread does not see them
+    private long workerAllocatedBytes;
 
     protected IntrospectionEngine(Builder builder) {
         contextValues = Objects.requireNonNull(builder.contextValues);
         progressCallback = Objects.requireNonNull(builder.progressCallback);
         warnings = Objects.requireNonNull(builder.warnings);
         fullyQualifiedTableNames = Objects.requireNonNull(builder.fullyQualifiedTableNames);
+        // the introspection cache fingerprints tables from columns read with one query per schema, so it needs the
+        // bulk cache too
+        Context context = contextValues.context();
+        bulkMetadataCache = context.isBulkIntrospectionEnabled()
+                || stringHasValue(context.getProperty(PropertyRegistry.CONTEXT_INTROSPECTION_CACHE_FILE))
+                ? new BulkMetadataCache() : null;
+        tableListener = Objects.requireNonNullElse(builder.tableListener, t -> { });
+        metricsListener = Objects.requireNonNullElseGet(builder.metricsListener, () -> new MetricsListener() {});
     }
 
     /**
      * Introspect tables based on the configuration specified in the
      * constructor. This method is long-running.
      *
+     * <p>If the context specifies more than one introspection thread, then tables are introspected concurrently
+     * over a set of database connections. The results are the same as a serial run - tables and warnings are
+     * returned in configuration order.
+     *
+     * <p>If the context specifies an introspection cache file, then table metadata saved by an earlier run is reused
+     * for tables whose columns, primary key, and remarks have not changed, and the file is updated when introspection
+     * completes.
+     *
+     * <p>If the context specifies a metadata snapshot file, then tables are introspected from the snapshot and no
+     * database connection is opened.
+     *
+     * <p>Every table is also passed to the table listener, if one is configured, as soon as it is introspected.
+     *
      * @return a list containing the results of table introspection. The list will be empty
      *     if this method is called before introspectTables(), or if no tables are found that
      *     match the configuration
@@ -61,25 +118,97 @@ public class IntrospectionEngine {
      */
     public List<IntrospectedTable> introspectTables()
             throws SQLException, InterruptedException {
+        ContextIntrospectionEvent event = new ContextIntrospectionEvent();
+        event.begin();
+        long startTime = System.nanoTime();
+        long startAllocation = AllocationCounter.allocatedBytes();
+        List<TableConfiguration> tableConfigurations = contextValues.context().tableConfigurations().stream()
+                .filter(this::shouldIntrospect)
+                .toList();
+
+        String snapshotFileName = contextValues.context().getProperty(PropertyRegistry.CONTEXT_METADATA_SNAPSHOT_FILE);
+        if (stringHasValue(snapshotFileName)) {
+            offlineMetadataSource = new SnapshotMetadataSource(readOfflineSnapshot(Path.of(snapshotFileName)));
+        }
+
+        String cacheFileName = contextValues.context().getProperty(PropertyRegistry.CONTEXT_INTROSPECTION_CACHE_FILE);
+        Path cacheFile = stringHasValue(cacheFileName) && offlineMetadataSource == null ? Path.of(cacheFileName) : null;
+        if (cacheFile != null) {
+            previousSnapshot = readSnapshot(cacheFile);
+            currentSnapshot = new MetadataSnapshot(previousSnapshot);
+        }
 
+        List<IntrospectedTable> introspectedTables;
+        int threads = Math.min(contextValues.context().getIntrospectionThreads(), tableConfigurations.size());
+        if (threads > 1) {
+            introspectedTables = introspectTablesConcurrently(tableConfigurations, threads);
+        } else {
+            introspectedTables = introspectTablesSerially(tableConfigurations);
+        }
+
+        if (cacheFile != null && currentSnapshot != null) {
+            writeSnapshot(cacheFile, currentSnapshot);
+        }
+
+        long allocatedBytes = AllocationCounter.allocatedBytesSince(startAllocation);
+        metricsListener.contextIntrospected(contextValues.context().getId(),
+                Duration.ofNanos(System.nanoTime() - startTime),
+                allocatedBytes < 0 ? -1 : allocatedBytes + workerAllocatedBytes);
+        event.commit(contextValues.context().getId(), introspectedTables.size());
+        return introspectedTables;
+    }
+
+    private MetadataSnapshot readOfflineSnapshot(Path snapshotFile) throws SQLException {
+        try {
+            return MetadataSnapshotFile.read(snapshotFile);
+        } catch (IOException e) {
+            throw new SQLException(getString("RuntimeError.33", //$NON-NLS-1$
+                    snapshotFile.toString(), e.getMessage()), e);
+        }
+    }
+
+    private MetadataSnapshot readSnapshot(Path cacheFile) {
+        if (Files.notExists(cacheFile)) {
+            return new MetadataSnapshot();
+        }
+
+        try {
+            return MetadataSnapshotFile.read(cacheFile);
+        } catch (IOException e) {
+            warnings.add(getString("Warning.36", cacheFile.toString(), e.getMessage())); //$NON-NLS-1$
+            return new MetadataSnapshot();
+        }
+    }
+
+    private void writeSnapshot(Path cacheFile, MetadataSnapshot snapshot) {
+        try {
+            MetadataSnapshotFile.write(snapshot, cacheFile);
+        } catch (IOException e) {
+            warnings.add(getString("Warning.37", cacheFile.toString(), e.getMessage())); //$NON-NLS-1$
+        }
+    }
+
+    private List<IntrospectedTable> introspectTablesSerially(List<TableConfiguration> tableConfigurations)
+            throws SQLException, InterruptedException {
         List<IntrospectedTable> introspectedTables = new ArrayList<>();
         JavaTypeResolver javaTypeResolver = ObjectFactory.createJavaTypeResolver(contextValues.context(), warnings);
 
-        try (Connection connection = ConnectionUtility.getConnection(contextValues.context())) {
-            progressCallback.startTask(getString("Progress.0")); //$NON-NLS-1$
+        try (Connection connection = openConnection()) {
+            progressCallback.startTask(getConnectionTaskName());
 
             DatabaseIntrospector databaseIntrospector = new DatabaseIntrospector(
-                    contextValues.context(), connection.getMetaData(), javaTypeResolver);
-
-            for (TableConfiguration tc : contextValues.context().tableConfigurations()) {
-                if (!shouldIntrospect(tc)) {
-                    continue;
-                }
+                    contextValues.context(), createMetadataSource(connection), javaTypeResolver);
 
+            for (TableConfiguration tc : tableConfigurations) {
                 progressCallback.startTask(getString("Progress.1", tc.getFullyQualifiedName())); //$NON-NLS-1$
+                long startTime = System.nanoTime();
+                long startAllocation = AllocationCounter.allocatedBytes();
                 List<IntrospectedTable> tables = databaseIntrospector
                         .introspectTables(tc, contextValues.knownRuntime());
+                tableIntrospected(tc, Duration.ofNanos(System.nanoTime() - startTime),
+                        AllocationCounter.allocatedBytesSince(startAllocation));
                 introspectedTables.addAll(tables);
+                notifyListener(tables);
 
                 progressCallback.checkCancel();
             }
@@ -90,6 +219,110 @@ public class IntrospectionEngine {
         return introspectedTables;
     }
 
+    private List<IntrospectedTable> introspectTablesConcurrently(List<TableConfiguration> tableConfigurations,
+                                                                 int threads)
+            throws SQLException, InterruptedException {
+        List<IntrospectedTable> introspectedTables = new ArrayList<>();
+        List<String> introspectionWarnings = new ArrayList<>();
+
+        progressCallback.startTask(getConnectionTaskName());
+        try (IntrospectionWorkerPool workerPool = new IntrospectionWorkerPool(threads)) {
+            warnings.addAll(workerPool.getCreationWarnings());
+            List<Future<TableResults>> futures = tableConfigurations.stream()
+                    .map(workerPool::submit)
+                    .toList();
+
+            // gather results in configuration order so the output is the same as a serial run. Warnings from the
+            // type resolvers are reported before warnings from the introspectors - also the same as a serial run.
+            for (int i = 0; i < tableConfigurations.size(); i++) {
+                progressCallback.startTask(getString("Progress.1", //$NON-NLS-1$
+                        tableConfigurations.get(i).getFullyQualifiedName()));
+                TableResults tableResults = waitForResults(futures.get(i));
+                tableIntrospected(tableConfigurations.get(i), tableResults.duration(), tableResults.allocatedBytes());
+                workerAllocatedBytes += Math.max(tableResults.allocatedBytes(), 0);
+                introspectedTables.addAll(tableResults.introspectedTables());
+                notifyListener(tableResults.introspectedTables());
+                warnings.addAll(tableResults.typeResolverWarnings());
+                introspectionWarnings.addAll(tableResults.introspectionWarnings());
+
+                progressCallback.checkCancel();
+            }
+        }
+
+        warnings.addAll(introspectionWarnings);
+        return introspectedTables;
+    }
+
+    private void tableIntrospected(TableConfiguration tc, Duration duration, long allocatedBytes) {
+        metricsListener.tableIntrospected(contextValues.context().getId(), tc.getFullyQualifiedName(), duration,
+                allocatedBytes);
+    }
+
+    private void notifyListener(List<IntrospectedTable> tables) throws InterruptedException {
+        for (IntrospectedTable table : tables) {
+            tableListener.tableIntrospected(table);
+        }
+    }
+
+    private TableResults waitForResults(Future<TableResults> future) throws SQLException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException sqlException) {
+                throw sqlException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            } else {
+                throw new InternalException(cause.getMessage(), cause);
+            }
+        }
+    }
+
+    private String getConnectionTaskName() {
+        return offlineMetadataSource == null ? getString("Progress.0") //$NON-NLS-1$
+                : getString("Progress.19"); //$NON-NLS-1$
+    }
+
+    /**
+     * Opens a database connection, or returns null if tables are introspected from a snapshot.
+     */
+    private @Nullable Connection openConnection() throws SQLException {
+        if (offlineMetadataSource == null) {
+            return ConnectionUtility.getConnection(contextValues.context());
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Creates the metadata source for a connection. With bulk introspection, all connections share one cache of
+     * schema metadata. With an introspection cache file, all connections record metadata in one snapshot.
+     */
+    private MetadataSource createMetadataSource(@Nullable Connection connection) throws SQLException {
+        if (offlineMetadataSource != null) {
+            // the snapshot is indexed once and shared by every connection
+            return offlineMetadataSource;
+        }
+
+        DatabaseMetaData databaseMetaData = Objects.requireNonNull(connection).getMetaData();
+        MetadataSource metadataSource;
+        if (bulkMetadataCache == null) {
+            metadataSource = new JdbcMetadataSource(databaseMetaData);
+        } else {
+            metadataSource = new BulkMetadataSource(databaseMetaData, bulkMetadataCache);
+        }
+
+        if (previousSnapshot != null && currentSnapshot != null) {
+            currentSnapshot.putDatabaseProperties(metadataSource);
+            metadataSource = new CachingMetadataSource(metadataSource, previousSnapshot, currentSnapshot);
+        }
+
+        return metadataSource;
+    }
+
     private boolean shouldIntrospect(TableConfiguration tc) {
         if (isTableExcluded(tc.getFullyQualifiedName())) {
             return false;
@@ -115,11 +348,130 @@ public class IntrospectionEngine {
         return fullyQualifiedTableNames.contains(tableName);
     }
 
+    private record TableResults(List<IntrospectedTable> introspectedTables, List<String> typeResolverWarnings,
+                                List<String> introspectionWarnings, Duration duration, long allocatedBytes) { }
+
+    /**
+     * A database connection and the objects that use it. Workers are never used by more than one thread at a time.
+     * There is no connection when tables are introspected from a snapshot.
+     */
+    private class IntrospectionWorker implements AutoCloseable {
+        private final @Nullable Connection connection;
+        private final List<String> typeResolverWarnings = new ArrayList<>();
+        private final List<String> creationWarnings;
+        private final DatabaseIntrospector databaseIntrospector;
+
+        IntrospectionWorker() throws SQLException {
+            connection = openConnection();
+            JavaTypeResolver javaTypeResolver = ObjectFactory.createJavaTypeResolver(contextValues.context(),
+                    typeResolverWarnings);
+            // every worker configures its type resolver the same way, so these warnings are reported once
+            creationWarnings = List.copyOf(typeResolverWarnings);
+            typeResolverWarnings.clear();
+            databaseIntrospector = new DatabaseIntrospector(contextValues.context(),
+                    createMetadataSource(connection), javaTypeResolver);
+        }
+
+        TableResults introspect(TableConfiguration tc) throws SQLException {
+            List<String> introspectorWarnings = databaseIntrospector.getWarnings();
+            int introspectorWarningCount = introspectorWarnings.size();
+
+            long startTime = System.nanoTime();
+            long startAllocation = AllocationCounter.allocatedBytes();
+            List<IntrospectedTable> tables = databaseIntrospector.introspectTables(tc, contextValues.knownRuntime());
+            Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+            long allocatedBytes = AllocationCounter.allocatedBytesSince(startAllocation);
+
+            TableResults tableResults = new TableResults(tables, List.copyOf(typeResolverWarnings),
+                    List.copyOf(introspectorWarnings.subList(introspectorWarningCount, introspectorWarnings.size())),
+                    duration, allocatedBytes);
+            typeResolverWarnings.clear();
+            return tableResults;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (connection != null) {
+                connection.close();
+            }
+        }
+    }
+
+    /**
+     * A fixed set of workers, and the threads that run them.
+     */
+    private class IntrospectionWorkerPool implements AutoCloseable {
+        private final List<IntrospectionWorker> workers = new ArrayList<>();
+        private final BlockingQueue<IntrospectionWorker> idleWorkers;
+        private final ExecutorService executorService;
+
+        IntrospectionWorkerPool(int threads) throws SQLException {
+            idleWorkers = new ArrayBlockingQueue<>(threads);
+            executorService = Executors.newFixedThreadPool(threads,
+                    new NamedThreadFactory("mbg-introspection-" + contextValues.context().getId())); //$NON-NLS-1$
+            try {
+                for (int i = 0; i < threads; i++) {
+                    IntrospectionWorker worker = new IntrospectionWorker();
+                    workers.add(worker);
+                    idleWorkers.add(worker);
+                }
+            } catch (SQLException e) {
+                close();
+                throw e;
+            }
+        }
+
+        /**
+         * Returns the warnings reported while the type resolvers were configured - those of the first worker only,
+         * as in a serial run.
+         */
+        List<String> getCreationWarnings() {
+            return workers.get(0).creationWarnings;
+        }
+
+        Future<TableResults> submit(TableConfiguration tc) {
+            return executorService.submit(() -> {
+                IntrospectionWorker worker = idleWorkers.take();
+                try {
+                    return worker.introspect(tc);
+                } finally {
+                    idleWorkers.add(worker);
+                }
+            });
+        }
+
+        @Override
+        public void close() throws SQLException {
+            // a worker may still be running a query on its connection, so wait for it before closing the connections
+            executorService.shutdownNow();
+            awaitTermination(executorService);
+
+            SQLException exception = null;
+            for (IntrospectionWorker worker : workers) {
+                try {
+                    worker.close();
+                } catch (SQLException e) {
+                    if (exception == null) {
+                        exception = e;
+                    } else {
+                        exception.addSuppressed(e);
+                    }
+                }
+            }
+
+            if (exception != null) {
+                throw exception;
+            }
+        }
+    }
+
     public static class Builder {
         private @Nullable CalculatedContextValues contextValues;
         private @Nullable ProgressCallback progressCallback;
         private @Nullable List<String> warnings;
         private @Nullable Set<String> fullyQualifiedTableNames;
+        private @Nullable TableListener tableListener;
+        private @Nullable MetricsListener metricsListener;
 
         public Builder withContextValues(CalculatedContextValues contextValues) {
             this.contextValues = contextValues;
@@ -155,8 +507,41 @@ public class IntrospectionEngine {
             return this;
         }
 
+        /**
+         * Sets a listener that is called with each table as soon as it has been introspected, in configuration order.
+         * This allows callers to start working on a table before the remaining tables are introspected.
+         *
+         * @param tableListener
+         *            the listener
+         *
+         * @return this builder
+         */
+        public Builder withTableListener(TableListener tableListener) {
+            this.tableListener = tableListener;
+            return this;
+        }
+
+        /**
+         * Sets a listener for the time spent introspecting each table. The listener is called on the calling thread,
+         * in configuration order.
+         *
+         * @param metricsListener
+         *            the listener
+         *
+         * @return this builder
+         */
+        public Builder withMetricsListener(@Nullable MetricsListener metricsListener) {
+            this.metricsListener = metricsListener;
+            return this;
+        }
+
         public IntrospectionEngine build() {
             return new IntrospectionEngine(this);
         }
     }
+
+    @FunctionalInterface
+    public interface TableListener {
+        void tableIntrospected(IntrospectedTable introspectedTable) throws InterruptedException;
+    }
 }
@@ -20,6 +20,7 @@ import static org.mybatis.generator.internal.util.messages.Messages.getString;
 import java.beans.BeanInfo;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -42,6 +43,14 @@ public class RootClassInfo {
         rootClassInfoMap = Collections.synchronizedMap(new HashMap<>());
     }
 
+    /**
+     * Returns the information for a root class. The information is cached for the rest of the generation run, so
+     * a warning that the class cannot be loaded is only added to the warnings of the first caller.
+     *
+     * @param className the fully qualified name of the root class, possibly with type parameters
+     * @param warnings the list to which a warning is added if the class cannot be loaded
+     * @return the root class information
+     */
     public static RootClassInfo getInstance(String className, List<String> warnings) {
         return rootClassInfoMap.computeIfAbsent(className, k -> new RootClassInfo(k, warnings));
     }
@@ -59,13 +68,11 @@ public class RootClassInfo {
 
     private PropertyDescriptor[] propertyDescriptors;
     private final String className;
-    private final List<String> warnings;
     private boolean genericMode = false;
 
     private RootClassInfo(String className, List<String> warnings) {
         super();
         this.className = className;
-        this.warnings = warnings;
 
         FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType(className);
         String nameWithoutGenerics = fqjt.getFullyQualifiedNameWithoutTypeParameters();
@@ -83,7 +90,28 @@ public class RootClassInfo {
         }
     }
 
+    /**
+     * Checks whether the root class already has a property for a column. Warnings about a mismatched property are
+     * discarded.
+     *
+     * @param introspectedColumn the column to check
+     * @return true if the root class has a property with the same name and type, and with a getter and setter
+     * @deprecated use {@link #containsProperty(IntrospectedColumn, List)}, which reports warnings to the caller
+     */
+    @Deprecated
     public boolean containsProperty(IntrospectedColumn introspectedColumn) {
+        return containsProperty(introspectedColumn, new ArrayList<>());
+    }
+
+    /**
+     * Checks whether the root class already has a property for a column. Instances are shared by every table and
+     * thread of a generation run, so warnings are added to the list of the caller.
+     *
+     * @param introspectedColumn the column to check
+     * @param warnings the list to which warnings about a mismatched property are added
+     * @return true if the root class has a property with the same name and type, and with a getter and setter
+     */
+    public boolean containsProperty(IntrospectedColumn introspectedColumn, List<String> warnings) {
         if (propertyDescriptors.length == 0) {
             return false;
         }
@@ -96,7 +124,7 @@ public class RootClassInfo {
         // get method names from class and check against this column definition.
         // better yet, have a map of method Names. check against it.
         for (PropertyDescriptor propertyDescriptor : propertyDescriptors) {
-            if (hasProperty(propertyName, propertyType, propertyDescriptor)) {
+            if (hasProperty(propertyName, propertyType, propertyDescriptor, warnings)) {
                 found = true;
                 break;
             }
@@ -105,18 +133,20 @@ public class RootClassInfo {
         return found;
     }
 
-    private boolean hasProperty(String propertyName, String propertyType, PropertyDescriptor propertyDescriptor) {
+    private boolean hasProperty(String propertyName, String propertyType, PropertyDescriptor propertyDescriptor,
+                                List<String> warnings) {
         return hasCorrectName(propertyName, propertyDescriptor)
-                && isProperType(propertyName, propertyType, propertyDescriptor)
-                && hasGetter(propertyName, propertyDescriptor)
-                && hasSetter(propertyName, propertyDescriptor);
+                && isProperType(propertyName, propertyType, propertyDescriptor, warnings)
+                && hasGetter(propertyName, propertyDescriptor, warnings)
+                && hasSetter(propertyName, propertyDescriptor, warnings);
     }
 
     private boolean hasCorrectName(String propertyName, PropertyDescriptor propertyDescriptor) {
         return propertyDescriptor.getName().equals(propertyName);
     }
 
-    private boolean isProperType(String propertyName, String propertyType, PropertyDescriptor propertyDescriptor) {
+    private boolean isProperType(String propertyName, String propertyType, PropertyDescriptor propertyDescriptor,
+                                 List<String> warnings) {
         String introspectedPropertyType = propertyDescriptor.getPropertyType().getName();
         if (genericMode && introspectedPropertyType.equals("java.lang.Object")) { //$NON-NLS-1$
             // OK - but add a warning
@@ -129,7 +159,7 @@ public class RootClassInfo {
         return true;
     }
 
-    private boolean hasGetter(String propertyName, PropertyDescriptor propertyDescriptor) {
+    private boolean hasGetter(String propertyName, PropertyDescriptor propertyDescriptor, List<String> warnings) {
         if (propertyDescriptor.getReadMethod() == null) {
             warnings.add(getString("Warning.22", propertyName, className)); //$NON-NLS-1$
             return false;
@@ -138,7 +168,7 @@ public class RootClassInfo {
         return true;
     }
 
-    private boolean hasSetter(String propertyName, PropertyDescriptor propertyDescriptor) {
+    private boolean hasSetter(String propertyName, PropertyDescriptor propertyDescriptor, List<String> warnings) {
         if (propertyDescriptor.getWriteMethod() == null) {
             warnings.add(getString("Warning.23", propertyName, className)); //$NON-NLS-1$
             return false;
@@ -22,7 +22,7 @@ import java.util.regex.Pattern;
 import org.jspecify.annotations.Nullable;
 import org.mybatis.generator.internal.util.StringUtility;
 
-public abstract class AbstractRenamingRule {
+public abstract class AbstractRenamingRule implements ConfigurationDescription.Describable {
     protected final String searchString;
     protected final String replaceString;
     protected final Pattern pattern;
@@ -45,5 +45,11 @@ public abstract class AbstractRenamingRule {
         return replaceString;
     }
 
+    @Override
+    public void describe(ConfigurationDescription description) {
+        description.add("searchString", searchString) //$NON-NLS-1$
+                .add("replaceString", replaceString); //$NON-NLS-1$
+    }
+
     public abstract void validate(List<String> errors, String tableName);
 }
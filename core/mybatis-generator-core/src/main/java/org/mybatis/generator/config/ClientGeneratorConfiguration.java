@@ -49,6 +49,14 @@ public class ClientGeneratorConfiguration extends PropertyHolder {
         return Optional.ofNullable(legacyClientType);
     }
 
+    @Override
+    public void describe(ConfigurationDescription description) {
+        super.describe(description);
+        description.add("targetPackage", targetPackage) //$NON-NLS-1$
+                .add("targetProject", targetProject) //$NON-NLS-1$
+                .add("legacyClientType", legacyClientType); //$NON-NLS-1$
+    }
+
     public void validate(List<String> errors, String contextId, KnownRuntime knownRuntime) {
         String errorMessage = "ValidationError.31"; //$NON-NLS-1$
 
@@ -79,6 +79,18 @@ public class ColumnOverride extends PropertyHolder {
         return isGeneratedAlways;
     }
 
+    @Override
+    public void describe(ConfigurationDescription description) {
+        super.describe(description);
+        description.add("columnName", columnName) //$NON-NLS-1$
+                .add("javaProperty", javaProperty) //$NON-NLS-1$
+                .add("jdbcType", jdbcType) //$NON-NLS-1$
+                .add("javaType", javaType) //$NON-NLS-1$
+                .add("typeHandler", typeHandler) //$NON-NLS-1$
+                .add("columnNameDelimited", isColumnNameDelimited) //$NON-NLS-1$
+                .add("generatedAlways", isGeneratedAlways); //$NON-NLS-1$
+    }
+
     public void validate(List<String> errors, String tableName) {
         if (!stringHasValue(columnName)) {
             errors.add(getString("ValidationError.22", tableName)); //$NON-NLS-1$
@@ -0,0 +1,128 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.config;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeSet;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A canonical text description of configuration objects. Two configurations that generate the same code have the
+ * same description, so a description (or a hash of it) can be compared between runs to find configuration changes.
+ *
+ * <p>Every configuration class describes itself with {@link Describable#describe(ConfigurationDescription)}. A field
+ * that can change the generated code must be added to the description of its class. Fields that only affect how the
+ * generator connects to the database are left out.
+ */
+public class ConfigurationDescription {
+    private final StringBuilder sb = new StringBuilder();
+
+    /**
+     * Adds a simple value. Optional values are described by their contents.
+     *
+     * @param name the name of the value
+     * @param value the value, described by its string form
+     * @return this description
+     */
+    public ConfigurationDescription add(String name, @Nullable Object value) {
+        sb.append(name).append('=');
+        appendValue(value instanceof Optional<?> optional ? optional.orElse(null) : value);
+        sb.append(';');
+        return this;
+    }
+
+    /**
+     * Adds properties, in name order so the description does not depend on the order they were set.
+     *
+     * @param properties the properties
+     * @return this description
+     */
+    public ConfigurationDescription addProperties(Properties properties) {
+        sb.append("properties{"); //$NON-NLS-1$
+        for (String name : new TreeSet<>(properties.stringPropertyNames())) {
+            add(name, properties.getProperty(name));
+        }
+        sb.append('}');
+        return this;
+    }
+
+    /**
+     * Adds a nested configuration object.
+     *
+     * @param name the name of the object
+     * @param value the object
+     * @return this description
+     */
+    public ConfigurationDescription addObject(String name, @Nullable Describable value) {
+        sb.append(name).append('{');
+        if (value == null) {
+            sb.append('-');
+        } else {
+            value.describe(this);
+        }
+        sb.append('}');
+        return this;
+    }
+
+    /**
+     * Adds a list of nested configuration objects, in order.
+     *
+     * @param name the name of the list
+     * @param values the objects
+     * @return this description
+     */
+    public ConfigurationDescription addObjects(String name, Collection<? extends Describable> values) {
+        sb.append(name).append('[');
+        for (Describable value : values) {
+            sb.append('{');
+            value.describe(this);
+            sb.append('}');
+        }
+        sb.append(']');
+        return this;
+    }
+
+    private void appendValue(@Nullable Object value) {
+        if (value == null) {
+            sb.append('-');
+        } else {
+            // prefix the length so adjacent values cannot run together
+            String s = value.toString();
+            sb.append(s.length()).append(':').append(s);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return sb.toString();
+    }
+
+    /**
+     * A configuration object that can describe itself.
+     */
+    @FunctionalInterface
+    public interface Describable {
+        /**
+         * Adds every field of this object that can change the generated code to a description.
+         *
+         * @param description the description
+         */
+        void describe(ConfigurationDescription description);
+    }
+}
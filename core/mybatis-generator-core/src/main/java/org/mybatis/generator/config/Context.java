@@ -16,6 +16,7 @@
 package org.mybatis.generator.config;
 
 import static org.mybatis.generator.internal.util.StringUtility.isTrue;
+import static org.mybatis.generator.internal.util.StringUtility.parsePositiveIntOrElse;
 import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
@@ -46,6 +47,9 @@ public class Context extends PropertyHolder {
     private final List<PluginConfiguration> pluginConfigurations;
     private final @Nullable String targetRuntime;
     private final @Nullable String introspectedColumnImpl;
+    private final int introspectionThreads;
+    private final boolean bulkIntrospection;
+    private final int generationThreads;
 
     protected Context(Builder builder) {
         super(builder);
@@ -73,6 +77,14 @@ public class Context extends PropertyHolder {
 
         property = getProperty(PropertyRegistry.CONTEXT_AUTO_DELIMIT_KEYWORDS);
         autoDelimitKeywords = isTrue(property);
+
+        introspectionThreads = parsePositiveIntOrElse(
+                getProperty(PropertyRegistry.CONTEXT_INTROSPECTION_THREADS), 1);
+
+        bulkIntrospection = isTrue(getProperty(PropertyRegistry.CONTEXT_BULK_INTROSPECTION));
+
+        generationThreads = parsePositiveIntOrElse(
+                getProperty(PropertyRegistry.CONTEXT_GENERATION_THREADS), 1);
     }
 
     private ModelType calculateDefaultModelType(@Nullable String targetRuntime) {
@@ -104,6 +116,27 @@ public class Context extends PropertyHolder {
         return Optional.ofNullable(sqlMapGeneratorConfiguration);
     }
 
+    /**
+     * Describes everything in this context that can change the generated code, except the table configurations.
+     * Tables are described separately, so a change to one table does not change the description of the others.
+     *
+     * @param description the description
+     */
+    @Override
+    public void describe(ConfigurationDescription description) {
+        super.describe(description);
+        description.add("id", id) //$NON-NLS-1$
+                .add("targetRuntime", targetRuntime) //$NON-NLS-1$
+                .add("introspectedColumnImpl", introspectedColumnImpl) //$NON-NLS-1$
+                .add("defaultModelType", defaultModelType) //$NON-NLS-1$
+                .addObject("javaTypeResolver", javaTypeResolverConfiguration) //$NON-NLS-1$
+                .addObject("commentGenerator", commentGeneratorConfiguration) //$NON-NLS-1$
+                .addObject("modelGenerator", modelGeneratorConfiguration) //$NON-NLS-1$
+                .addObject("sqlMapGenerator", sqlMapGeneratorConfiguration) //$NON-NLS-1$
+                .addObject("clientGenerator", clientGeneratorConfiguration) //$NON-NLS-1$
+                .addObjects("plugins", pluginConfigurations); //$NON-NLS-1$
+    }
+
     /**
      * This method does a simple validate, it makes sure that all required fields have been filled in. It does not do
      * any more complex operations such as validating that database tables exist or validating that named columns exist
@@ -117,8 +150,10 @@ public class Context extends PropertyHolder {
         }
 
         if (jdbcConnectionConfiguration == null && connectionFactoryConfiguration == null) {
-            // must specify one
-            errors.add(getString("ValidationError.10", id)); //$NON-NLS-1$
+            // must specify one - unless tables are introspected from a snapshot file
+            if (!stringHasValue(getProperty(PropertyRegistry.CONTEXT_METADATA_SNAPSHOT_FILE))) {
+                errors.add(getString("ValidationError.10", id)); //$NON-NLS-1$
+            }
         } else if (jdbcConnectionConfiguration != null && connectionFactoryConfiguration != null) {
             // must not specify both
             errors.add(getString("ValidationError.10", id)); //$NON-NLS-1$
@@ -165,6 +200,16 @@ public class Context extends PropertyHolder {
         for (PluginConfiguration pluginConfiguration : pluginConfigurations) {
             pluginConfiguration.validate(errors, id);
         }
+
+        validatePositiveIntProperty(errors, PropertyRegistry.CONTEXT_INTROSPECTION_THREADS);
+        validatePositiveIntProperty(errors, PropertyRegistry.CONTEXT_GENERATION_THREADS);
+    }
+
+    private void validatePositiveIntProperty(List<String> errors, String propertyName) {
+        String property = getProperty(propertyName);
+        if (stringHasValue(property) && parsePositiveIntOrElse(property, 0) == 0) {
+            errors.add(getString("ValidationError.38", propertyName, id)); //$NON-NLS-1$
+        }
     }
 
     public String getId() {
@@ -218,6 +263,36 @@ public class Context extends PropertyHolder {
         return tableConfigurations;
     }
 
+    /**
+     * Returns the number of database connections, and worker threads, to use when introspecting the tables in this
+     * context. A value of one (the default) means that tables are introspected one at a time over a single connection.
+     *
+     * @return the number of introspection threads
+     */
+    public int getIntrospectionThreads() {
+        return introspectionThreads;
+    }
+
+    /**
+     * Returns true if table metadata should be retrieved for entire schemas at a time, rather than with separate
+     * queries for every table.
+     *
+     * @return true if bulk introspection is enabled
+     */
+    public boolean isBulkIntrospectionEnabled() {
+        return bulkIntrospection;
+    }
+
+    /**
+     * Returns the number of worker threads to use when generating code for the tables in this context. A value of one
+     * (the default) means that code is generated for one table at a time on the calling thread.
+     *
+     * @return the number of generation threads
+     */
+    public int getGenerationThreads() {
+        return generationThreads;
+    }
+
     public boolean autoDelimitKeywords() {
         return autoDelimitKeywords != null && autoDelimitKeywords;
     }
@@ -30,7 +30,7 @@ import org.mybatis.generator.internal.db.DatabaseDialects;
  *
  * @author Jeff Butler
  */
-public class GeneratedKey {
+public class GeneratedKey implements ConfigurationDescription.Describable {
 
     private final String column;
     private final String runtimeSqlStatement;
@@ -58,6 +58,13 @@ public class GeneratedKey {
         return runtimeSqlStatement;
     }
 
+    @Override
+    public void describe(ConfigurationDescription description) {
+        description.add("column", column) //$NON-NLS-1$
+                .add("runtimeSqlStatement", runtimeSqlStatement) //$NON-NLS-1$
+                .add("identity", isIdentity); //$NON-NLS-1$
+    }
+
     public String getMyBatis3Order() {
         return isIdentity ? "AFTER" : "BEFORE"; //$NON-NLS-1$ //$NON-NLS-2$
     }
@@ -24,7 +24,7 @@ import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
 
-public class IgnoredColumn {
+public class IgnoredColumn implements ConfigurationDescription.Describable {
     protected final String columnName;
     private final boolean isColumnNameDelimited;
 
@@ -37,6 +37,12 @@ public class IgnoredColumn {
         return columnName;
     }
 
+    @Override
+    public void describe(ConfigurationDescription description) {
+        description.add("columnName", columnName) //$NON-NLS-1$
+                .add("columnNameDelimited", isColumnNameDelimited); //$NON-NLS-1$
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (!(obj instanceof IgnoredColumn)) {
@@ -25,7 +25,7 @@ import java.util.regex.Pattern;
 
 import org.jspecify.annotations.Nullable;
 
-public class IgnoredColumnPattern {
+public class IgnoredColumnPattern implements ConfigurationDescription.Describable {
 
     private final String patternRegex;
     private final Pattern pattern;
@@ -52,6 +52,12 @@ public class IgnoredColumnPattern {
         return matches;
     }
 
+    @Override
+    public void describe(ConfigurationDescription description) {
+        description.add("pattern", patternRegex) //$NON-NLS-1$
+                .addObjects("exceptions", exceptions); //$NON-NLS-1$
+    }
+
     public void validate(List<String> errors, String tableName) {
         if (!stringHasValue(patternRegex)) {
             errors.add(getString("ValidationError.27", tableName)); //$NON-NLS-1$
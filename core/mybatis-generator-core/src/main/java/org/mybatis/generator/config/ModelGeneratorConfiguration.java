@@ -42,6 +42,13 @@ public class ModelGeneratorConfiguration extends PropertyHolder {
         return targetPackage;
     }
 
+    @Override
+    public void describe(ConfigurationDescription description) {
+        super.describe(description);
+        description.add("targetPackage", targetPackage) //$NON-NLS-1$
+                .add("targetProject", targetProject); //$NON-NLS-1$
+    }
+
     public void validate(List<String> errors, String contextId) {
         if (!stringHasValue(targetProject)) {
             errors.add(getString("ValidationError.0", contextId)); //$NON-NLS-1$
@@ -20,7 +20,7 @@ import java.util.Properties;
 
 import org.jspecify.annotations.Nullable;
 
-public abstract class PropertyHolder {
+public abstract class PropertyHolder implements ConfigurationDescription.Describable {
     private final Properties properties;
 
     protected PropertyHolder(AbstractBuilder<?> builder) {
@@ -36,6 +36,11 @@ public abstract class PropertyHolder {
         return properties;
     }
 
+    @Override
+    public void describe(ConfigurationDescription description) {
+        description.addProperties(properties);
+    }
+
     public abstract static class AbstractBuilder<T extends AbstractBuilder<T>> {
         private final Properties properties = new Properties();
 
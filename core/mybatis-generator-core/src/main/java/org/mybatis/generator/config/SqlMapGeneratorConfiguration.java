@@ -41,6 +41,13 @@ public class SqlMapGeneratorConfiguration extends PropertyHolder {
         return targetPackage;
     }
 
+    @Override
+    public void describe(ConfigurationDescription description) {
+        super.describe(description);
+        description.add("targetPackage", targetPackage) //$NON-NLS-1$
+                .add("targetProject", targetProject); //$NON-NLS-1$
+    }
+
     public void validate(List<String> errors, String contextId) {
         if (!stringHasValue(targetProject)) {
             errors.add(getString("ValidationError.1", contextId)); //$NON-NLS-1$
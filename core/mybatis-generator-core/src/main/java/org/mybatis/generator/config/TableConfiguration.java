@@ -21,6 +21,7 @@ import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -128,6 +129,39 @@ public class TableConfiguration extends PropertyHolder {
         return false;
     }
 
+    @Override
+    public void describe(ConfigurationDescription description) {
+        super.describe(description);
+        description.add("catalog", catalog) //$NON-NLS-1$
+                .add("schema", schema) //$NON-NLS-1$
+                .add("tableName", tableName) //$NON-NLS-1$
+                .add("domainObjectName", domainObjectName) //$NON-NLS-1$
+                .add("alias", alias) //$NON-NLS-1$
+                .add("modelType", modelType) //$NON-NLS-1$
+                .add("insert", insertStatementEnabled) //$NON-NLS-1$
+                .add("selectByPrimaryKey", selectByPrimaryKeyStatementEnabled) //$NON-NLS-1$
+                .add("selectByExample", selectByExampleStatementEnabled) //$NON-NLS-1$
+                .add("updateByPrimaryKey", updateByPrimaryKeyStatementEnabled) //$NON-NLS-1$
+                .add("deleteByPrimaryKey", deleteByPrimaryKeyStatementEnabled) //$NON-NLS-1$
+                .add("deleteByExample", deleteByExampleStatementEnabled) //$NON-NLS-1$
+                .add("countByExample", countByExampleStatementEnabled) //$NON-NLS-1$
+                .add("updateByExample", updateByExampleStatementEnabled) //$NON-NLS-1$
+                .add("wildcardEscaping", wildcardEscapingEnabled) //$NON-NLS-1$
+                .add("delimitIdentifiers", delimitIdentifiers) //$NON-NLS-1$
+                .add("delimitAllColumns", isAllColumnDelimitingEnabled) //$NON-NLS-1$
+                .add("mapperName", mapperName) //$NON-NLS-1$
+                .add("sqlProviderName", sqlProviderName) //$NON-NLS-1$
+                .addObject("generatedKey", generatedKey) //$NON-NLS-1$
+                .addObject("domainObjectRenamingRule", domainObjectRenamingRule) //$NON-NLS-1$
+                .addObject("columnRenamingRule", columnRenamingRule) //$NON-NLS-1$
+                .addObjects("columnOverrides", columnOverrides) //$NON-NLS-1$
+                // the ignored columns are a hash map, so sort them
+                .addObjects("ignoredColumns", ignoredColumns.keySet().stream() //$NON-NLS-1$
+                        .sorted(Comparator.comparing(IgnoredColumn::getColumnName))
+                        .toList())
+                .addObjects("ignoredColumnPatterns", ignoredColumnPatterns); //$NON-NLS-1$
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
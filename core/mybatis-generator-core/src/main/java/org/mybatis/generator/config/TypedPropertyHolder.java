@@ -32,6 +32,12 @@ public abstract class TypedPropertyHolder extends PropertyHolder {
         return Optional.ofNullable(configurationType);
     }
 
+    @Override
+    public void describe(ConfigurationDescription description) {
+        super.describe(description);
+        description.add("type", configurationType); //$NON-NLS-1$
+    }
+
     public abstract static class TypedBuilder<T extends TypedBuilder<T>> extends AbstractBuilder<T> {
         protected @Nullable String configurationType;
 
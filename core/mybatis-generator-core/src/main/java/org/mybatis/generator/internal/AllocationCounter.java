@@ -0,0 +1,66 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import java.lang.management.ManagementFactory;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Reads the number of bytes the current thread has allocated on the heap. The count is read from the
+ * <code>com.sun.management.ThreadMXBean</code> of the JVM - on JVMs without it, or with thread allocation
+ * measurement turned off, every count is -1.
+ *
+ * <p>A count only covers the calling thread, so work is measured by reading the count on the thread that does the
+ * work, before and after it.
+ */
+public final class AllocationCounter {
+    private static final com.sun.management.@Nullable ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+
+    private AllocationCounter() {
+    }
+
+    private static com.sun.management.@Nullable ThreadMXBean threadMXBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+                return bean;
+            }
+        } catch (LinkageError | UnsupportedOperationException e) {
+            // the JVM does not have the com.sun.management API
+        }
+        return null;
+    }
+
+    /**
+     * Returns the total number of bytes the current thread has allocated so far.
+     *
+     * @return the count, or -1 if allocation is not measured
+     */
+    public static long allocatedBytes() {
+        return THREAD_MX_BEAN == null ? -1 : THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Returns the number of bytes the current thread has allocated since an earlier count.
+     *
+     * @param startCount a count returned by {@link #allocatedBytes()} on this thread
+     * @return the bytes allocated since, or -1 if allocation is not measured
+     */
+    public static long allocatedBytesSince(long startCount) {
+        return startCount < 0 ? -1 : allocatedBytes() - startCount;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Replaces files atomically. Content is written to a temporary file in the directory of the target file, and the
+ * temporary file is then moved over the target file, so the target file never holds partially written content.
+ *
+ * <p>If the commit is deferred, the temporary files are only moved into place by {@link #commit()}. Until then the
+ * target files keep their previous content - use {@link #getCurrentFile(Path)} to read what was written - and
+ * {@link #rollback()} deletes the temporary files. Files may be written from several threads, but one file must not
+ * be written by two threads at the same time.
+ */
+public class AtomicFileWriter {
+    private static final String TEMP_FILE_SUFFIX = ".tmp"; //$NON-NLS-1$
+
+    private final boolean isCommitDeferred;
+    private final Map<Path, Path> stagedFiles = new LinkedHashMap<>();
+    private boolean isClosed;
+
+    public AtomicFileWriter(boolean isCommitDeferred) {
+        this.isCommitDeferred = isCommitDeferred;
+    }
+
+    /**
+     * Writes a file through a temporary file next to it.
+     *
+     * @param file
+     *            the file to write
+     * @param contentWriter
+     *            writes the content to the path it is given
+     * @throws IOException
+     *             if the content cannot be written, or the file cannot be replaced
+     */
+    public void write(Path file, ContentWriter contentWriter) throws IOException {
+        Path tempFile = createTempFileName(file);
+        boolean isStaged = false;
+        try {
+            contentWriter.write(tempFile);
+            if (isCommitDeferred) {
+                isStaged = stage(file, tempFile);
+            } else {
+                move(tempFile, file);
+                isStaged = true;
+            }
+        } finally {
+            if (!isStaged) {
+                deleteQuietly(tempFile);
+            }
+        }
+    }
+
+    /**
+     * Returns the file that holds the latest content written for a file. Until the commit, this is the temporary
+     * file.
+     *
+     * @param file
+     *            the file
+     * @return the temporary file staged for the file, or the file itself
+     */
+    public synchronized Path getCurrentFile(Path file) {
+        return stagedFiles.getOrDefault(toKey(file), file);
+    }
+
+    /**
+     * Returns true if the file exists, or has been written and not yet committed.
+     *
+     * @param file
+     *            the file
+     * @return true if the file exists
+     */
+    public synchronized boolean exists(Path file) {
+        return stagedFiles.containsKey(toKey(file)) || Files.exists(file);
+    }
+
+    public synchronized int getStagedFileCount() {
+        return stagedFiles.size();
+    }
+
+    /**
+     * Moves every staged file into place, in the order the files were written. Each file is replaced atomically.
+     *
+     * @throws IOException
+     *             if a file cannot be replaced. The files not yet moved are left staged
+     */
+    public synchronized void commit() throws IOException {
+        Iterator<Map.Entry<Path, Path>> iterator = stagedFiles.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Path, Path> entry = iterator.next();
+            move(entry.getValue(), entry.getKey());
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Deletes the staged files that were not committed. Files written after this call are discarded.
+     */
+    public synchronized void rollback() {
+        isClosed = true;
+        stagedFiles.values().forEach(AtomicFileWriter::deleteQuietly);
+        stagedFiles.clear();
+    }
+
+    private synchronized boolean stage(Path file, Path tempFile) {
+        if (isClosed) {
+            return false;
+        }
+
+        Path previousTempFile = stagedFiles.put(toKey(file), tempFile);
+        if (previousTempFile != null) {
+            // the file was written twice in this run - only the last content is committed
+            deleteQuietly(previousTempFile);
+        }
+        return true;
+    }
+
+    private static Path toKey(Path file) {
+        return file.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Hidden, and with a suffix no build tool compiles, so a temporary file left behind by a killed run does no harm.
+     */
+    private static Path createTempFileName(Path file) {
+        String random = Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), Character.MAX_RADIX);
+        return file.resolveSibling('.' + file.getFileName().toString() + '.' + random + TEMP_FILE_SUFFIX);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // ignore - a temporary file that cannot be deleted is harmless
+        }
+    }
+
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(Path file) throws IOException;
+    }
+}
@@ -69,6 +69,17 @@ public class DefaultCommentGenerator implements CommentGenerator {
         minimizeComments = false;
     }
 
+    /**
+     * The default comment generator only reads its configuration after it is initialized. A subclass may add state
+     * of its own, so it is only considered thread safe if it overrides this method.
+     *
+     * @return true if this is not a subclass
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return getClass() == DefaultCommentGenerator.class;
+    }
+
     @Override
     public void addConfigurationProperties(Properties props) {
         this.properties.putAll(props);
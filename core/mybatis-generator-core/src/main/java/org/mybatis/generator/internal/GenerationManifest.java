@@ -0,0 +1,265 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.jspecify.annotations.Nullable;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * The files written by a run of the generator, grouped by the context and table they were generated for, together
+ * with the input hash of each table (see {@link InputFingerprint}) and the name of the table configuration that
+ * matched it. Files contributed by plugins for a context as a whole are recorded under the table name
+ * {@link #CONTEXT_FILES} and have no input hash.
+ *
+ * <p>Stale files - files written by an earlier run that are no longer generated - are kept in the manifest until
+ * they are deleted, so they are reported on every run.
+ *
+ * <p>Manifests are stored as simple XML documents. There is no DTD - the files are written and read only by the
+ * generator. File paths are stored relative to the directory of the manifest, so a project can be moved without
+ * invalidating its manifest.
+ */
+public class GenerationManifest {
+    public static final String CONTEXT_FILES = ""; //$NON-NLS-1$
+
+    private static final String MANIFEST = "generationManifest"; //$NON-NLS-1$
+    private static final String ENTRY = "entry"; //$NON-NLS-1$
+    private static final String FILE = "file"; //$NON-NLS-1$
+    private static final String STALE_FILE = "staleFile"; //$NON-NLS-1$
+
+    private final Map<EntryKey, Entry> entries = new TreeMap<>(Comparator.comparing(EntryKey::contextId)
+            .thenComparing(EntryKey::table));
+    private final Set<Path> staleFiles = new TreeSet<>();
+
+    public Optional<Entry> getEntry(EntryKey key) {
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    public Map<EntryKey, Entry> getEntries() {
+        return entries;
+    }
+
+    public void putEntry(EntryKey key, Entry entry) {
+        entries.put(key, entry);
+    }
+
+    public void addStaleFile(Path file) {
+        staleFiles.add(file);
+    }
+
+    /**
+     * Returns every file in the manifest, including stale files.
+     *
+     * @return the files, as absolute paths
+     */
+    public Set<Path> getFiles() {
+        Set<Path> answer = new LinkedHashSet<>();
+        entries.values().forEach(e -> answer.addAll(e.files()));
+        answer.addAll(staleFiles);
+        return answer;
+    }
+
+    /**
+     * Reads a manifest file. If the file does not exist, then the manifest is empty - as it is before the first run.
+     *
+     * @param path the file to read
+     * @return the manifest
+     * @throws IOException if the file cannot be read, or is not a valid manifest
+     */
+    public static GenerationManifest read(Path path) throws IOException {
+        GenerationManifest manifest = new GenerationManifest();
+        if (Files.notExists(path)) {
+            return manifest;
+        }
+
+        Document document;
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, ""); //$NON-NLS-1$
+            factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, ""); //$NON-NLS-1$
+            factory.setExpandEntityReferences(false);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            DocumentBuilder builder = factory.newDocumentBuilder();
+            document = builder.parse(inputStream);
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+
+        Element root = document.getDocumentElement();
+        if (!MANIFEST.equals(root.getNodeName())) {
+            throw new IOException(getString("RuntimeError.35", path.toString())); //$NON-NLS-1$
+        }
+
+        Path directory = baseDirectory(path);
+        for (Element entry : childElements(root, ENTRY)) {
+            List<Path> files = childElements(entry, FILE).stream()
+                    .map(file -> directory.resolve(file.getAttribute("path")).normalize()) //$NON-NLS-1$
+                    .toList();
+            EntryKey key = new EntryKey(entry.getAttribute("context"), //$NON-NLS-1$
+                    entry.getAttribute("table")); //$NON-NLS-1$
+            manifest.putEntry(key, new Entry(getAttribute(entry, "inputHash"), //$NON-NLS-1$
+                    getAttribute(entry, "configuration"), files)); //$NON-NLS-1$
+        }
+
+        for (Element staleFile : childElements(root, STALE_FILE)) {
+            manifest.addStaleFile(directory.resolve(staleFile.getAttribute("path")).normalize()); //$NON-NLS-1$
+        }
+
+        return manifest;
+    }
+
+    /**
+     * Writes the manifest. Parent directories are created if necessary.
+     *
+     * @param path the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path path) throws IOException {
+        Document document;
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            document = factory.newDocumentBuilder().newDocument();
+        } catch (ParserConfigurationException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+
+        Path directory = baseDirectory(path);
+        Element root = document.createElement(MANIFEST);
+        document.appendChild(root);
+
+        for (Map.Entry<EntryKey, Entry> mapEntry : entries.entrySet()) {
+            Element entry = document.createElement(ENTRY);
+            entry.setAttribute("context", mapEntry.getKey().contextId()); //$NON-NLS-1$
+            entry.setAttribute("table", mapEntry.getKey().table()); //$NON-NLS-1$
+            String inputHash = mapEntry.getValue().inputHash();
+            if (inputHash != null) {
+                entry.setAttribute("inputHash", inputHash); //$NON-NLS-1$
+            }
+            String tableConfiguration = mapEntry.getValue().tableConfiguration();
+            if (tableConfiguration != null) {
+                entry.setAttribute("configuration", tableConfiguration); //$NON-NLS-1$
+            }
+            for (Path file : mapEntry.getValue().files()) {
+                Element element = document.createElement(FILE);
+                element.setAttribute("path", relativize(directory, file)); //$NON-NLS-1$
+                entry.appendChild(element);
+            }
+            root.appendChild(entry);
+        }
+
+        for (Path file : staleFiles) {
+            Element element = document.createElement(STALE_FILE);
+            element.setAttribute("path", relativize(directory, file)); //$NON-NLS-1$
+            root.appendChild(element);
+        }
+
+        Files.createDirectories(directory);
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            TransformerFactory transformerFactory = TransformerFactory.newInstance();
+            transformerFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, ""); //$NON-NLS-1$
+            transformerFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, ""); //$NON-NLS-1$
+            Transformer transformer = transformerFactory.newTransformer();
+            transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8"); //$NON-NLS-1$
+            transformer.setOutputProperty(OutputKeys.INDENT, "yes"); //$NON-NLS-1$
+            transformer.transform(new DOMSource(document), new StreamResult(outputStream));
+        } catch (TransformerException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static Path baseDirectory(Path manifestFile) {
+        Path absolutePath = manifestFile.toAbsolutePath().normalize();
+        Path parent = absolutePath.getParent();
+        return parent == null ? absolutePath.getRoot() : parent;
+    }
+
+    private static String relativize(Path directory, Path file) {
+        Path path;
+        try {
+            path = directory.relativize(file);
+        } catch (IllegalArgumentException e) {
+            // a different root, for example another drive on Windows
+            path = file;
+        }
+        return path.toString().replace(File.separatorChar, '/');
+    }
+
+    private static @Nullable String getAttribute(Element element, String name) {
+        return element.hasAttribute(name) ? element.getAttribute(name) : null;
+    }
+
+    private static List<Element> childElements(Element parent, String name) {
+        List<Element> answer = new ArrayList<>();
+        NodeList nodeList = parent.getChildNodes();
+        for (int i = 0; i < nodeList.getLength(); i++) {
+            Node node = nodeList.item(i);
+            if (node.getNodeType() == Node.ELEMENT_NODE && name.equals(node.getNodeName())) {
+                answer.add((Element) node);
+            }
+        }
+        return answer;
+    }
+
+    public record EntryKey(String contextId, String table) {
+        public boolean isContextFiles() {
+            return CONTEXT_FILES.equals(table);
+        }
+    }
+
+    /**
+     * The files written for a table, the input hash of the table, and the name of the table configuration that
+     * matched the table. The hash is null for context level files, and for tables whose files could not all be
+     * written - so they are always generated again. The configuration is null for context level files, and in
+     * manifests written by older versions of the generator.
+     *
+     * @param inputHash the input hash
+     * @param tableConfiguration the fully qualified name of the table configuration
+     * @param files the files, as absolute paths
+     */
+    public record Entry(@Nullable String inputHash, @Nullable String tableConfiguration, List<Path> files) { }
+}
@@ -0,0 +1,182 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.internal.GenerationManifest.Entry;
+import org.mybatis.generator.internal.GenerationManifest.EntryKey;
+
+/**
+ * Collects the manifest of a run while the run is in progress, and decides which tables are up to date compared to
+ * the manifest of the previous run. Tables and files may be reported from several threads.
+ */
+public class GenerationManifestTracker {
+    private final GenerationManifest previousManifest;
+    private final String generatorVersion;
+    private final Map<String, InputFingerprint> fingerprints = new HashMap<>();
+    private final Map<EntryKey, TableRecord> records = new HashMap<>();
+
+    public GenerationManifestTracker(GenerationManifest previousManifest) {
+        this.previousManifest = previousManifest;
+        // the version is only available when running from the released jar
+        generatorVersion = Objects.requireNonNullElse(
+                GenerationManifestTracker.class.getPackage().getImplementationVersion(), "unknown"); //$NON-NLS-1$
+    }
+
+    /**
+     * Records the input hash of an introspected table, and checks whether the table is up to date. A table is up to
+     * date if its input hash is the same as in the previous run, and all the files written for it still exist. The
+     * files of an up-to-date table are carried over to the new manifest.
+     *
+     * @param context the context of the table
+     * @param introspectedTable the table
+     * @param skipAllowed false if the table must be generated even when it is up to date
+     * @return true if the table is up to date and does not need to be generated
+     */
+    public synchronized boolean isUpToDate(Context context, IntrospectedTable introspectedTable,
+                                           boolean skipAllowed) {
+        String inputHash = fingerprints.computeIfAbsent(context.getId(),
+                        k -> new InputFingerprint(context, generatorVersion))
+                .calculate(introspectedTable);
+        EntryKey key = new EntryKey(context.getId(), tableKey(introspectedTable));
+        String tableConfiguration = introspectedTable.getTableConfiguration().getFullyQualifiedName();
+
+        Optional<Entry> previousEntry = previousManifest.getEntry(key)
+                .filter(e -> inputHash.equals(e.inputHash()))
+                .filter(e -> e.files().stream().allMatch(Files::exists));
+        if (skipAllowed && previousEntry.isPresent()) {
+            records.put(key, new TableRecord(inputHash, tableConfiguration,
+                    new ArrayList<>(previousEntry.get().files())));
+            return true;
+        }
+
+        records.put(key, new TableRecord(inputHash, tableConfiguration, new ArrayList<>()));
+        return false;
+    }
+
+    /**
+     * Records a file that was written, or left unchanged, for a table.
+     *
+     * @param contextId the context of the file
+     * @param introspectedTable the table the file was generated for, or null for context level files
+     * @param file the file
+     */
+    public synchronized void fileWritten(String contextId, @Nullable IntrospectedTable introspectedTable, Path file) {
+        getRecord(contextId, introspectedTable).files.add(file.toAbsolutePath().normalize());
+    }
+
+    /**
+     * Records that a file of a table could not be written. The table will be generated again on the next run.
+     *
+     * @param contextId the context of the file
+     * @param introspectedTable the table the file was generated for, or null for context level files
+     */
+    public synchronized void fileFailed(String contextId, @Nullable IntrospectedTable introspectedTable) {
+        getRecord(contextId, introspectedTable).failed = true;
+    }
+
+    private TableRecord getRecord(String contextId, @Nullable IntrospectedTable introspectedTable) {
+        String table = introspectedTable == null ? GenerationManifest.CONTEXT_FILES : tableKey(introspectedTable);
+        return records.computeIfAbsent(new EntryKey(contextId, table),
+                k -> new TableRecord(null, null, new ArrayList<>()));
+    }
+
+    /**
+     * Creates the manifest of this run. Entries of the previous manifest that were not part of this run are kept if
+     * they are selected by the carry forward predicate, or if their table configuration is still configured but
+     * matched no table in this run - for example, because the table could not be found this time. The files of
+     * kept entries are not stale.
+     *
+     * @param carryForward entries of the previous manifest that were not part of this run, and that should be kept
+     * @param isConfigured tests whether a context (first argument) still has a table configuration with a fully
+     *     qualified name (second argument)
+     * @return the manifest
+     */
+    public synchronized GenerationManifest createManifest(Predicate<EntryKey> carryForward,
+                                                          BiPredicate<String, String> isConfigured) {
+        Set<EntryKey> configurationsRun = new HashSet<>();
+        records.forEach((key, tableRecord) -> {
+            if (tableRecord.tableConfiguration != null) {
+                configurationsRun.add(new EntryKey(key.contextId(), tableRecord.tableConfiguration));
+            }
+        });
+
+        GenerationManifest manifest = new GenerationManifest();
+        previousManifest.getEntries().entrySet().stream()
+                .filter(e -> !records.containsKey(e.getKey()))
+                .filter(e -> carryForward.test(e.getKey())
+                        || isConfiguredButNotRun(e.getKey(), e.getValue(), isConfigured, configurationsRun))
+                .forEach(e -> manifest.putEntry(e.getKey(), e.getValue()));
+
+        records.forEach((key, tableRecord) -> manifest.putEntry(key,
+                new Entry(tableRecord.failed ? null : tableRecord.inputHash, tableRecord.tableConfiguration,
+                        List.copyOf(tableRecord.files))));
+        return manifest;
+    }
+
+    private static boolean isConfiguredButNotRun(EntryKey key, Entry entry, BiPredicate<String, String> isConfigured,
+                                                 Set<EntryKey> configurationsRun) {
+        String tableConfiguration = entry.tableConfiguration();
+        return tableConfiguration != null
+                && isConfigured.test(key.contextId(), tableConfiguration)
+                && !configurationsRun.contains(new EntryKey(key.contextId(), tableConfiguration));
+    }
+
+    /**
+     * Returns the files of the previous run that are no longer generated.
+     *
+     * @param manifest the manifest of this run
+     * @return the stale files
+     */
+    public List<Path> findStaleFiles(GenerationManifest manifest) {
+        Set<Path> currentFiles = manifest.getFiles();
+        return previousManifest.getFiles().stream()
+                .filter(f -> !currentFiles.contains(f))
+                .toList();
+    }
+
+    private static String tableKey(IntrospectedTable introspectedTable) {
+        return introspectedTable.getFullyQualifiedTable().toString();
+    }
+
+    private static final class TableRecord {
+        private final @Nullable String inputHash;
+        private final @Nullable String tableConfiguration;
+        private final List<Path> files;
+        private boolean failed;
+
+        TableRecord(@Nullable String inputHash, @Nullable String tableConfiguration, List<Path> files) {
+            this.inputHash = inputHash;
+            this.tableConfiguration = tableConfiguration;
+            this.files = files;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.KnownRuntime;
+import org.mybatis.generator.config.CommentGeneratorConfiguration;
+import org.mybatis.generator.config.ConfigurationDescription;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.Defaults;
+import org.mybatis.generator.config.JavaTypeResolverConfiguration;
+import org.mybatis.generator.config.PluginConfiguration;
+import org.mybatis.generator.config.PropertyRegistry;
+import org.mybatis.generator.exception.InternalException;
+
+/**
+ * Calculates a hash of everything that determines the code generated for a table: the introspected table and its
+ * columns, the table configuration, the rest of the context configuration (including the plugin configurations), the
+ * generator version, and the code of the classes the configuration names - plugins, comment generators, type
+ * resolvers, formatters, custom runtimes and root classes. If the hash of a table is unchanged since the last run,
+ * then the generated code is unchanged too - as long as the plugins only depend on the table they are called for.
+ *
+ * <p>The configuration is described with {@link ConfigurationDescription}. The code of a class is identified by the
+ * implementation version of its package, and by the size and modification time of the jar file or class file it was
+ * loaded from. So rebuilding a plugin jar changes the hash of every table in the contexts that use the plugin.
+ */
+public class InputFingerprint {
+    private static final String MISSING = "missing"; //$NON-NLS-1$
+
+    private final String contextDescription;
+    private final Map<String, String> codeDescriptions = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a fingerprint for the tables of a context. The context level inputs are described once, here.
+     *
+     * @param context the context
+     * @param generatorVersion the version of the generator
+     */
+    public InputFingerprint(Context context, String generatorVersion) {
+        ConfigurationDescription description = new ConfigurationDescription()
+                .add("generatorVersion", generatorVersion) //$NON-NLS-1$
+                .add("generator", describeCode(InputFingerprint.class)) //$NON-NLS-1$
+                .addObject("context", context); //$NON-NLS-1$
+
+        for (String type : findContextClasses(context)) {
+            description.add("class", describeCode(type)); //$NON-NLS-1$
+        }
+
+        contextDescription = description.toString();
+    }
+
+    private static List<String> findContextClasses(Context context) {
+        List<String> types = new ArrayList<>();
+
+        context.pluginConfigurations()
+                .map(PluginConfiguration::getConfigurationType)
+                .flatMap(Optional::stream)
+                .forEach(types::add);
+        types.add(context.getCommentGeneratorConfiguration()
+                .map(CommentGeneratorConfiguration::getImplementationType)
+                .orElse(Defaults.DEFAULT_COMMENT_GENERATOR));
+        types.add(context.getJavaTypeResolverConfiguration()
+                .map(JavaTypeResolverConfiguration::getImplementationType)
+                .orElse(Defaults.DEFAULT_JAVA_TYPE_RESOLVER));
+        types.add(context.getIntrospectedColumnImpl().orElse(IntrospectedColumn.class.getName()));
+
+        String runtime = context.getTargetRuntime().orElse(Defaults.DEFAULT_RUNTIME.getAlias());
+        KnownRuntime knownRuntime = KnownRuntime.getByAlias(runtime);
+        types.add(knownRuntime == KnownRuntime.UNKNOWN ? runtime : knownRuntime.getBuilderClassName());
+
+        addIfPresent(types, context.getProperty(PropertyRegistry.CONTEXT_JAVA_FORMATTER));
+        addIfPresent(types, context.getProperty(PropertyRegistry.CONTEXT_KOTLIN_FORMATTER));
+        addIfPresent(types, context.getProperty(PropertyRegistry.CONTEXT_XML_FORMATTER));
+
+        return types;
+    }
+
+    private static void addIfPresent(List<String> types, @Nullable String type) {
+        if (type != null) {
+            types.add(type);
+        }
+    }
+
+    /**
+     * Calculates the input hash for a table.
+     *
+     * @param introspectedTable the table
+     * @return the hash, as a hex string
+     */
+    public String calculate(IntrospectedTable introspectedTable) {
+        StringBuilder sb = new StringBuilder(contextDescription);
+        describeValue(sb, introspectedTable.getFullyQualifiedTable().toString());
+        describeValue(sb, introspectedTable.getTableType());
+        describeValue(sb, introspectedTable.getRemarks());
+        describeColumns(sb, "pk", introspectedTable.getPrimaryKeyColumns()); //$NON-NLS-1$
+        describeColumns(sb, "base", introspectedTable.getBaseColumns()); //$NON-NLS-1$
+        describeColumns(sb, "blob", introspectedTable.getBLOBColumns()); //$NON-NLS-1$
+        sb.append(new ConfigurationDescription()
+                .addObject("table", introspectedTable.getTableConfiguration()) //$NON-NLS-1$
+                .add("rootClass", introspectedTable //$NON-NLS-1$
+                        .findTableOrModelGeneratorProperty(PropertyRegistry.ANY_ROOT_CLASS)
+                        .map(this::describeCode)));
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+        } catch (NoSuchAlgorithmException e) {
+            // every JVM is required to support SHA-256
+            throw new InternalException(e.getMessage(), e);
+        }
+
+        return HexFormat.of().formatHex(digest.digest(sb.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private void describeColumns(StringBuilder sb, String kind, List<IntrospectedColumn> columns) {
+        sb.append(kind).append('[');
+        for (IntrospectedColumn column : columns) {
+            describeValue(sb, column.getActualColumnName());
+            describeValue(sb, column.isColumnNameDelimited());
+            describeValue(sb, column.getJdbcType());
+            describeValue(sb, column.getJdbcTypeName());
+            describeValue(sb, column.getActualTypeName());
+            describeValue(sb, column.getLength());
+            describeValue(sb, column.getScale());
+            describeValue(sb, column.isNullable());
+            describeValue(sb, column.isIdentity());
+            describeValue(sb, column.isSequenceColumn());
+            describeValue(sb, column.isAutoIncrement());
+            describeValue(sb, column.isGeneratedColumn());
+            describeValue(sb, column.isGeneratedAlways());
+            describeValue(sb, column.getDefaultValue());
+            describeValue(sb, column.getRemarks());
+            describeValue(sb, column.getJavaProperty());
+            describeValue(sb, column.getFullyQualifiedJavaType().getFullyQualifiedName());
+            describeValue(sb, column.getTypeHandler());
+            describeValue(sb, column.getTableAlias());
+            sb.append(new ConfigurationDescription().addProperties(column.getProperties()));
+        }
+        sb.append(']');
+    }
+
+    private void describeValue(StringBuilder sb, @Nullable Object value) {
+        if (value instanceof Optional<?> optional) {
+            describeValue(sb, optional.orElse(null));
+        } else if (value == null) {
+            sb.append('-');
+        } else {
+            // prefix the length so adjacent values cannot run together
+            String s = value.toString();
+            sb.append(s.length()).append(':').append(s);
+        }
+    }
+
+    private String describeCode(String type) {
+        return codeDescriptions.computeIfAbsent(type, t -> {
+            try {
+                return describeCode(ObjectFactory.externalClassForName(t));
+            } catch (ClassNotFoundException | LinkageError e) {
+                return t + ':' + MISSING;
+            }
+        });
+    }
+
+    private static String describeCode(Class<?> type) {
+        ConfigurationDescription description = new ConfigurationDescription()
+                .add("name", type.getName()) //$NON-NLS-1$
+                .add("version", Optional.ofNullable(type.getPackage()) //$NON-NLS-1$
+                        .map(Package::getImplementationVersion));
+
+        CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+        Path location = null;
+        if (codeSource != null && codeSource.getLocation() != null) {
+            try {
+                location = Path.of(codeSource.getLocation().toURI());
+            } catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+                // not a file, so the version is all we know
+            }
+        }
+
+        if (location != null) {
+            if (Files.isDirectory(location)) {
+                // a class directory - for example, a plugin in the same build as the configuration
+                location = location.resolve(type.getName().replace('.', '/') + ".class"); //$NON-NLS-1$
+            }
+
+            try {
+                description.add("size", Files.size(location)) //$NON-NLS-1$
+                        .add("lastModified", Files.getLastModifiedTime(location).toMillis()); //$NON-NLS-1$
+            } catch (IOException e) {
+                description.add("location", MISSING); //$NON-NLS-1$
+            }
+        }
+
+        return description.toString();
+    }
+}
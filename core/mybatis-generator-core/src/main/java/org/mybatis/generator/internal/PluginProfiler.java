@@ -0,0 +1,123 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.generator.api.MetricsListener;
+import org.mybatis.generator.api.Plugin;
+
+/**
+ * Counts the calls to every method of the plugins of a run, and the wall clock time spent in them. Plugins are
+ * profiled by wrapping them, so the plugins of a context must be wrapped before they are added to its plugin
+ * aggregator. Profiling is opt-in - it adds a reflective call to every plugin method.
+ *
+ * <p>This class is thread safe.
+ */
+public class PluginProfiler {
+    private final List<ProfilingHandler> handlers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Returns a plugin that profiles every method called on the plugin.
+     *
+     * @param contextId the id of the context the plugin belongs to
+     * @param pluginName the name the plugin is reported under. The plugin may already be wrapped, so its class
+     *     name is not always the name of the plugin
+     * @param plugin the plugin
+     * @return the profiling plugin
+     */
+    public Plugin wrap(String contextId, String pluginName, Plugin plugin) {
+        ProfilingHandler handler = new ProfilingHandler(contextId, pluginName, plugin);
+        handlers.add(handler);
+        return (Plugin) Proxy.newProxyInstance(Plugin.class.getClassLoader(), new Class<?>[] { Plugin.class },
+                handler);
+    }
+
+    /**
+     * Reports the calls and time of every plugin method that was called, for every plugin in the order the plugins
+     * were wrapped.
+     *
+     * @param metricsListener the listener to report to
+     */
+    public void report(MetricsListener metricsListener) {
+        for (ProfilingHandler handler : handlers) {
+            handler.hooks.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey(Comparator.comparing(PluginProfiler::hookName)))
+                    .forEach(e -> metricsListener.pluginHookProfiled(handler.contextId, handler.pluginName,
+                            hookName(e.getKey()), e.getValue().calls.sum(),
+                            Duration.ofNanos(e.getValue().nanos.sum())));
+        }
+    }
+
+    /**
+     * Hook methods are overloaded for Java and Kotlin, so the name includes the parameter types.
+     */
+    private static String hookName(Method method) {
+        return Arrays.stream(method.getParameterTypes())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(", ", method.getName() + '(', ")")); //$NON-NLS-1$
+    }
+
+    private static class ProfilingHandler implements InvocationHandler {
+        private final String contextId;
+        private final String pluginName;
+        private final Plugin plugin;
+        private final Map<Method, HookTotals> hooks = new ConcurrentHashMap<>();
+
+        ProfilingHandler(String contextId, String pluginName, Plugin plugin) {
+            this.contextId = contextId;
+            this.pluginName = pluginName;
+            this.plugin = plugin;
+        }
+
+        @Override
+        public @Nullable Object invoke(Object proxy, Method method, @Nullable Object @Nullable [] args)
+                throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(plugin, args);
+            }
+
+            long startTime = System.nanoTime();
+            try {
+                return method.invoke(plugin, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            } finally {
+                HookTotals totals = hooks.computeIfAbsent(method, m -> new HookTotals());
+                totals.calls.increment();
+                totals.nanos.add(System.nanoTime() - startTime);
+            }
+        }
+    }
+
+    private static class HookTotals {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import org.mybatis.generator.api.ProgressCallback;
+
+/**
+ * A progress callback that serializes calls to another progress callback. This allows work that runs on several
+ * threads to report progress through a callback that is not thread safe.
+ */
+public class SynchronizedProgressCallback implements ProgressCallback {
+    private final ProgressCallback delegate;
+
+    public SynchronizedProgressCallback(ProgressCallback delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public synchronized void introspectionStarted(int totalTasks) {
+        delegate.introspectionStarted(totalTasks);
+    }
+
+    @Override
+    public synchronized void generationStarted(int totalTasks) {
+        delegate.generationStarted(totalTasks);
+    }
+
+    @Override
+    public synchronized void saveStarted(int totalTasks) {
+        delegate.saveStarted(totalTasks);
+    }
+
+    @Override
+    public synchronized void saveCompleted(int changedFiles, int unchangedFiles) {
+        delegate.saveCompleted(changedFiles, unchangedFiles);
+    }
+
+    @Override
+    public synchronized void startTask(String taskName) {
+        delegate.startTask(taskName);
+    }
+
+    @Override
+    public synchronized void done() {
+        delegate.done();
+    }
+
+    @Override
+    public synchronized void checkCancel() throws InterruptedException {
+        delegate.checkCancel();
+    }
+}
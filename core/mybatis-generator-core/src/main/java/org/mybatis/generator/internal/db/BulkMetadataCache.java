@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.mybatis.generator.internal.util.StringUtility.composeFullyQualifiedTableName;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.mybatis.generator.internal.jfr.MetadataCallEvent;
+
+/**
+ * Schema metadata loaded by {@link BulkMetadataSource}, indexed by catalog and schema pattern. A single cache is
+ * shared by all the introspection threads of a context, so each schema is only loaded once. Each schema is loaded
+ * under its own lock, so threads that need different schemas load them at the same time. This class is thread safe.
+ */
+public class BulkMetadataCache {
+    private final Map<SchemaKey, SchemaEntry> schemas = new ConcurrentHashMap<>();
+    private final Log logger = LogFactory.getLog(getClass());
+
+    SchemaMetadata getSchemaMetadata(DatabaseMetaData databaseMetaData, @Nullable String catalog,
+                                     @Nullable String schemaPattern) throws SQLException {
+        SchemaEntry entry = schemas.computeIfAbsent(new SchemaKey(catalog, schemaPattern), k -> new SchemaEntry());
+        synchronized (entry) {
+            SchemaMetadata schemaMetadata = entry.schemaMetadata;
+            if (schemaMetadata == null) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug(getString("Tracing.5", //$NON-NLS-1$
+                            composeFullyQualifiedTableName(catalog, schemaPattern, "%", '.'))); //$NON-NLS-1$
+                }
+                MetadataCallEvent event = new MetadataCallEvent();
+                event.begin();
+                try {
+                    schemaMetadata = SchemaMetadata.load(databaseMetaData, catalog, schemaPattern);
+                } finally {
+                    event.commit("loadSchema", catalog, schemaPattern, "%"); //$NON-NLS-1$ //$NON-NLS-2$
+                }
+                entry.schemaMetadata = schemaMetadata;
+            }
+            return schemaMetadata;
+        }
+    }
+
+    List<SchemaMetadata> loadedSchemas() {
+        return schemas.values().stream()
+                .map(entry -> entry.schemaMetadata)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private record SchemaKey(@Nullable String catalog, @Nullable String schemaPattern) { }
+
+    /**
+     * The metadata of a schema, once loaded. The entry is also the lock that loads it.
+     */
+    private static final class SchemaEntry {
+        private volatile @Nullable SchemaMetadata schemaMetadata;
+    }
+}
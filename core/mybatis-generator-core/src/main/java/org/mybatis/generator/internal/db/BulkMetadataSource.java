@@ -0,0 +1,110 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A metadata source that retrieves columns, primary keys, and table remarks for an entire schema with one query
+ * each, and then answers the requests for individual tables from an in memory index. This reduces the number of
+ * metadata queries from several per table to several per schema. Primary keys and table remarks are only retrieved
+ * for a schema once one of its tables needs them.
+ *
+ * <p>Bulk retrieval is only used when a table configuration specifies a catalog or a schema - otherwise a bulk
+ * query would return every table in the database. Those tables, and any lookup the index cannot answer
+ * unambiguously, are introspected with queries for the single table.
+ */
+public class BulkMetadataSource implements MetadataSource {
+    private final JdbcMetadataSource jdbcMetadataSource;
+    private final BulkMetadataCache cache;
+    private @Nullable String searchStringEscape;
+
+    public BulkMetadataSource(DatabaseMetaData databaseMetaData, BulkMetadataCache cache) {
+        jdbcMetadataSource = new JdbcMetadataSource(databaseMetaData);
+        this.cache = cache;
+    }
+
+    @Override
+    public boolean storesLowerCaseIdentifiers() throws SQLException {
+        return jdbcMetadataSource.storesLowerCaseIdentifiers();
+    }
+
+    @Override
+    public boolean storesUpperCaseIdentifiers() throws SQLException {
+        return jdbcMetadataSource.storesUpperCaseIdentifiers();
+    }
+
+    @Override
+    public String getSearchStringEscape() throws SQLException {
+        if (searchStringEscape == null) {
+            searchStringEscape = jdbcMetadataSource.getSearchStringEscape();
+        }
+        return searchStringEscape;
+    }
+
+    @Override
+    public List<ColumnMetadata> getColumns(@Nullable String catalog, @Nullable String schemaPattern,
+                                           String tableNamePattern) throws SQLException {
+        if (catalog == null && schemaPattern == null) {
+            return jdbcMetadataSource.getColumns(null, null, tableNamePattern);
+        }
+
+        return cache.getSchemaMetadata(jdbcMetadataSource.getDatabaseMetaData(), catalog, schemaPattern)
+                .getColumns(tableNamePattern, getSearchStringEscape());
+    }
+
+    @Override
+    public List<String> getPrimaryKeyColumns(@Nullable String catalog, @Nullable String schema, String tableName)
+            throws SQLException {
+        if (catalog == null && schema == null) {
+            return jdbcMetadataSource.getPrimaryKeyColumns(null, null, tableName);
+        }
+
+        for (SchemaMetadata schemaMetadata : cache.loadedSchemas()) {
+            Optional<List<String>> primaryKeyColumns =
+                    schemaMetadata.getPrimaryKeyColumns(jdbcMetadataSource.getDatabaseMetaData(), catalog, schema,
+                            tableName);
+            if (primaryKeyColumns.isPresent()) {
+                return primaryKeyColumns.get();
+            }
+        }
+
+        return jdbcMetadataSource.getPrimaryKeyColumns(catalog, schema, tableName);
+    }
+
+    @Override
+    public Optional<TableMetadata> getTableMetadata(@Nullable String catalog, @Nullable String schema,
+                                                    String tableName) throws SQLException {
+        if (catalog == null && schema == null) {
+            return jdbcMetadataSource.getTableMetadata(null, null, tableName);
+        }
+
+        for (SchemaMetadata schemaMetadata : cache.loadedSchemas()) {
+            Optional<TableMetadata> tableMetadata = schemaMetadata.getTableMetadata(
+                    jdbcMetadataSource.getDatabaseMetaData(), catalog, schema, tableName);
+            if (tableMetadata.isPresent()) {
+                return tableMetadata;
+            }
+        }
+
+        return jdbcMetadataSource.getTableMetadata(catalog, schema, tableName);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A metadata source that reuses the metadata of unchanged tables from a snapshot saved by an earlier run. Columns
+ * are always retrieved, and the fingerprint of a table is calculated from them. If the fingerprint matches the
+ * snapshot, then the primary key and table metadata saved in the snapshot are used, and are not retrieved from the
+ * database. Everything used is recorded in a new snapshot that can be saved for the next run.
+ *
+ * <p>The delegate should be a {@link BulkMetadataSource}, so that the columns of tables in a known catalog or
+ * schema are retrieved with one query for the whole schema. Then a schema whose tables have not changed needs no
+ * other metadata query.
+ */
+public class CachingMetadataSource implements MetadataSource {
+    private final MetadataSource delegate;
+    private final MetadataSnapshot previousSnapshot;
+    private final MetadataSnapshot currentSnapshot;
+    private final Map<String, List<ActualTableName>> introspectedTables = new HashMap<>();
+    private final Set<ActualTableName> unchangedTables = new HashSet<>();
+
+    /**
+     * Constructs a caching metadata source.
+     *
+     * @param delegate the source that queries the database
+     * @param previousSnapshot the snapshot saved by an earlier run
+     * @param currentSnapshot the snapshot that collects the metadata of this run. This snapshot may be shared
+     *     by the sources of several introspection threads
+     */
+    public CachingMetadataSource(MetadataSource delegate, MetadataSnapshot previousSnapshot,
+                                 MetadataSnapshot currentSnapshot) {
+        this.delegate = delegate;
+        this.previousSnapshot = previousSnapshot;
+        this.currentSnapshot = currentSnapshot;
+    }
+
+    @Override
+    public boolean storesLowerCaseIdentifiers() throws SQLException {
+        return delegate.storesLowerCaseIdentifiers();
+    }
+
+    @Override
+    public boolean storesUpperCaseIdentifiers() throws SQLException {
+        return delegate.storesUpperCaseIdentifiers();
+    }
+
+    @Override
+    public String getSearchStringEscape() throws SQLException {
+        return delegate.getSearchStringEscape();
+    }
+
+    @Override
+    public List<ColumnMetadata> getColumns(@Nullable String catalog, @Nullable String schemaPattern,
+                                           String tableNamePattern) throws SQLException {
+        Map<ActualTableName, List<ColumnMetadata>> columnsByTable = new LinkedHashMap<>();
+        for (ColumnMetadata columnMetadata : delegate.getColumns(catalog, schemaPattern, tableNamePattern)) {
+            columnsByTable.computeIfAbsent(columnMetadata.tableName(), k -> new ArrayList<>()).add(columnMetadata);
+        }
+
+        List<ColumnMetadata> answer = new ArrayList<>();
+        for (Map.Entry<ActualTableName, List<ColumnMetadata>> entry : columnsByTable.entrySet()) {
+            ActualTableName atn = entry.getKey();
+            List<ActualTableName> tableNames =
+                    introspectedTables.computeIfAbsent(atn.getTableName(), k -> new ArrayList<>());
+            if (!tableNames.contains(atn)) {
+                tableNames.add(atn);
+            }
+
+            currentSnapshot.putColumns(atn, entry.getValue());
+            if (isUnchanged(atn)) {
+                previousSnapshot.getPrimaryKeyColumns(atn)
+                        .ifPresent(pk -> currentSnapshot.putPrimaryKeyColumns(atn, pk));
+                previousSnapshot.getTableMetadata(atn).ifPresent(currentSnapshot::putTableMetadata);
+                unchangedTables.add(atn);
+            } else {
+                unchangedTables.remove(atn);
+            }
+
+            answer.addAll(entry.getValue());
+        }
+
+        return answer;
+    }
+
+    @Override
+    public List<String> getPrimaryKeyColumns(@Nullable String catalog, @Nullable String schema, String tableName)
+            throws SQLException {
+        Optional<ActualTableName> actualTableName = findTable(catalog, schema, tableName);
+        Optional<List<String>> cachedColumns = actualTableName.flatMap(currentSnapshot::getPrimaryKeyColumns);
+        if (cachedColumns.isPresent()) {
+            return cachedColumns.get();
+        }
+
+        List<String> answer = delegate.getPrimaryKeyColumns(catalog, schema, tableName);
+        actualTableName.ifPresent(atn -> currentSnapshot.putPrimaryKeyColumns(atn, answer));
+        return answer;
+    }
+
+    @Override
+    public Optional<TableMetadata> getTableMetadata(@Nullable String catalog, @Nullable String schema,
+                                                    String tableName) throws SQLException {
+        Optional<ActualTableName> actualTableName = findTable(catalog, schema, tableName);
+        if (actualTableName.isPresent() && unchangedTables.contains(actualTableName.get())) {
+            // an unchanged table without metadata had none in the earlier run either
+            return currentSnapshot.getTableMetadata(actualTableName.get());
+        }
+
+        Optional<TableMetadata> answer = delegate.getTableMetadata(catalog, schema, tableName);
+        if (actualTableName.isPresent()) {
+            answer.ifPresent(currentSnapshot::putTableMetadata);
+        }
+        return answer;
+    }
+
+    private boolean isUnchanged(ActualTableName tableName) {
+        Optional<String> previousFingerprint = previousSnapshot.getFingerprint(tableName);
+        return previousFingerprint.isPresent() && previousFingerprint.equals(currentSnapshot.getFingerprint(tableName));
+    }
+
+    /**
+     * Finds the single table, already returned by {@link #getColumns(String, String, String)}, that matches the
+     * lookup. Catalog and schema are only compared if they are specified.
+     */
+    private Optional<ActualTableName> findTable(@Nullable String catalog, @Nullable String schema,
+                                                String tableName) {
+        List<ActualTableName> matches = introspectedTables.getOrDefault(tableName, List.of()).stream()
+                .filter(atn -> catalog == null || catalog.equals(atn.getCatalog()))
+                .filter(atn -> schema == null || schema.equals(atn.getSchema()))
+                .toList();
+
+        return matches.size() == 1 ? Optional.of(matches.get(0)) : Optional.empty();
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The raw metadata for a single column, as reported by
+ * {@link java.sql.DatabaseMetaData#getColumns(String, String, String, String)}.
+ *
+ * @param tableName the actual name of the table that contains the column
+ * @param columnName the column name
+ * @param jdbcType the JDBC type from {@link java.sql.Types}
+ * @param typeName the database specific type name
+ * @param columnSize the column size
+ * @param decimalDigits the number of fractional digits
+ * @param nullable true if the column is known to allow nulls
+ * @param remarks the comment describing the column
+ * @param defaultValue the default value of the column
+ * @param autoIncrement the value of IS_AUTOINCREMENT, or null if the driver does not report it
+ * @param generatedColumn the value of IS_GENERATEDCOLUMN, or null if the driver does not report it
+ */
+public record ColumnMetadata(ActualTableName tableName, String columnName, int jdbcType, @Nullable String typeName,
+                             int columnSize, int decimalDigits, boolean nullable, @Nullable String remarks,
+                             @Nullable String defaultValue, @Nullable Boolean autoIncrement,
+                             @Nullable Boolean generatedColumn) { }
@@ -23,8 +23,6 @@ import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import java.sql.DatabaseMetaData;
-import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -33,7 +31,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
-import java.util.TreeMap;
 import java.util.regex.Matcher;
 
 import org.apache.commons.logging.Log;
@@ -51,10 +48,11 @@ import org.mybatis.generator.config.GeneratedKey;
 import org.mybatis.generator.config.PropertyRegistry;
 import org.mybatis.generator.config.TableConfiguration;
 import org.mybatis.generator.internal.ObjectFactory;
+import org.mybatis.generator.internal.jfr.TableIntrospectionEvent;
 import org.mybatis.generator.internal.util.JavaBeansUtil;
 
 public class DatabaseIntrospector {
-    private final DatabaseMetaData databaseMetaData;
+    private final MetadataSource metadataSource;
     private final JavaTypeResolver javaTypeResolver;
     private final List<String> warnings = new ArrayList<>();
     private final Context context;
@@ -62,8 +60,13 @@ public class DatabaseIntrospector {
 
     public DatabaseIntrospector(Context context, DatabaseMetaData databaseMetaData,
                                 JavaTypeResolver javaTypeResolver) {
+        this(context, new JdbcMetadataSource(databaseMetaData), javaTypeResolver);
+    }
+
+    public DatabaseIntrospector(Context context, MetadataSource metadataSource,
+                                JavaTypeResolver javaTypeResolver) {
         this.context = context;
-        this.databaseMetaData = databaseMetaData;
+        this.metadataSource = metadataSource;
         this.javaTypeResolver = javaTypeResolver;
         logger = LogFactory.getLog(getClass());
     }
@@ -73,19 +76,13 @@ public class DatabaseIntrospector {
     }
 
     private void calculatePrimaryKey(FullyQualifiedTable table, IntrospectedTable introspectedTable) {
-        try (ResultSet rs = databaseMetaData.getPrimaryKeys(
-                table.getIntrospectedCatalog().orElse(null),
-                table.getIntrospectedSchema().orElse(null),
-                table.getIntrospectedTableName())) {
-            // keep primary columns in key sequence order
-            Map<Short, String> keyColumns = new TreeMap<>();
-            while (rs.next()) {
-                String columnName = rs.getString("COLUMN_NAME"); //$NON-NLS-1$
-                short keySeq = rs.getShort("KEY_SEQ"); //$NON-NLS-1$
-                keyColumns.put(keySeq, columnName);
-            }
+        try {
+            List<String> keyColumns = metadataSource.getPrimaryKeyColumns(
+                    table.getIntrospectedCatalog().orElse(null),
+                    table.getIntrospectedSchema().orElse(null),
+                    table.getIntrospectedTableName());
 
-            for (String columnName : keyColumns.values()) {
+            for (String columnName : keyColumns) {
                 introspectedTable.addPrimaryKeyColumn(columnName);
             }
         } catch (SQLException e) {
@@ -137,6 +134,20 @@ public class DatabaseIntrospector {
      */
     public List<IntrospectedTable> introspectTables(TableConfiguration tc, KnownRuntime knownRuntime)
             throws SQLException {
+        TableIntrospectionEvent event = new TableIntrospectionEvent();
+        event.begin();
+        List<IntrospectedTable> introspectedTables = List.of();
+        try {
+            introspectedTables = introspectTablesForConfiguration(tc, knownRuntime);
+            return introspectedTables;
+        } finally {
+            event.commit(context.getId(), tc.getFullyQualifiedName(), metadataSource.getClass().getSimpleName(),
+                    introspectedTables.size());
+        }
+    }
+
+    private List<IntrospectedTable> introspectTablesForConfiguration(TableConfiguration tc, KnownRuntime knownRuntime)
+            throws SQLException {
         // get the raw columns from the DB
         Map<ActualTableName, List<IntrospectedColumn>> columns = getColumns(tc);
 
@@ -326,11 +337,11 @@ public class DatabaseIntrospector {
             localCatalog = tc.getCatalog();
             localSchema = tc.getSchema();
             localTableName = tc.getTableName();
-        } else if (databaseMetaData.storesLowerCaseIdentifiers()) {
+        } else if (metadataSource.storesLowerCaseIdentifiers()) {
             localCatalog = tc.getCatalog() == null ? null : tc.getCatalog().toLowerCase();
             localSchema = tc.getSchema() == null ? null : tc.getSchema().toLowerCase();
             localTableName = tc.getTableName().toLowerCase();
-        } else if (databaseMetaData.storesUpperCaseIdentifiers()) {
+        } else if (metadataSource.storesUpperCaseIdentifiers()) {
             localCatalog = tc.getCatalog() == null ? null : tc.getCatalog().toUpperCase();
             localSchema = tc.getSchema() == null ? null : tc.getSchema().toUpperCase();
             localTableName = tc.getTableName().toUpperCase();
@@ -341,7 +352,7 @@ public class DatabaseIntrospector {
         }
 
         if (tc.isWildcardEscapingEnabled()) {
-            String escapeString = databaseMetaData.getSearchStringEscape();
+            String escapeString = metadataSource.getSearchStringEscape();
 
             if (localSchema != null) {
                 localSchema = escapeName(localSchema, escapeString);
@@ -358,61 +369,39 @@ public class DatabaseIntrospector {
             logger.debug(getString("Tracing.1", fullTableName)); //$NON-NLS-1$
         }
 
-        try (ResultSet rs
-                     = databaseMetaData.getColumns(localCatalog, localSchema, localTableName, "%")) { //$NON-NLS-1$
-            boolean supportsIsAutoIncrement = false;
-            boolean supportsIsGeneratedColumn = false;
-            ResultSetMetaData rsmd = rs.getMetaData();
-            int colCount = rsmd.getColumnCount();
-            for (int i = 1; i <= colCount; i++) {
-                if ("IS_AUTOINCREMENT".equals(rsmd.getColumnName(i))) { //$NON-NLS-1$
-                    supportsIsAutoIncrement = true;
-                }
-                if ("IS_GENERATEDCOLUMN".equals(rsmd.getColumnName(i))) { //$NON-NLS-1$
-                    supportsIsGeneratedColumn = true;
-                }
+        for (ColumnMetadata columnMetadata : metadataSource.getColumns(localCatalog, localSchema, localTableName)) {
+            IntrospectedColumn introspectedColumn = ObjectFactory.createIntrospectedColumn(context);
+
+            introspectedColumn.setTableAlias(tc.getAlias());
+            introspectedColumn.setJdbcType(columnMetadata.jdbcType());
+            introspectedColumn.setActualTypeName(columnMetadata.typeName());
+            introspectedColumn.setLength(columnMetadata.columnSize());
+            introspectedColumn.setActualColumnName(columnMetadata.columnName());
+            introspectedColumn.setNullable(columnMetadata.nullable());
+            introspectedColumn.setScale(columnMetadata.decimalDigits());
+            introspectedColumn.setRemarks(columnMetadata.remarks());
+            introspectedColumn.setDefaultValue(columnMetadata.defaultValue());
+
+            if (columnMetadata.autoIncrement() != null) {
+                introspectedColumn.setAutoIncrement(columnMetadata.autoIncrement());
             }
 
-            while (rs.next()) {
-                IntrospectedColumn introspectedColumn = ObjectFactory.createIntrospectedColumn(context);
-
-                introspectedColumn.setTableAlias(tc.getAlias());
-                introspectedColumn.setJdbcType(rs.getInt("DATA_TYPE")); //$NON-NLS-1$
-                introspectedColumn.setActualTypeName(rs.getString("TYPE_NAME")); //$NON-NLS-1$
-                introspectedColumn.setLength(rs.getInt("COLUMN_SIZE")); //$NON-NLS-1$
-                introspectedColumn.setActualColumnName(rs.getString("COLUMN_NAME")); //$NON-NLS-1$
-                introspectedColumn
-                        .setNullable(rs.getInt("NULLABLE") == DatabaseMetaData.columnNullable); //$NON-NLS-1$
-                introspectedColumn.setScale(rs.getInt("DECIMAL_DIGITS")); //$NON-NLS-1$
-                introspectedColumn.setRemarks(rs.getString("REMARKS")); //$NON-NLS-1$
-                introspectedColumn.setDefaultValue(rs.getString("COLUMN_DEF")); //$NON-NLS-1$
-
-                if (supportsIsAutoIncrement) {
-                    introspectedColumn.setAutoIncrement(
-                            "YES".equals(rs.getString("IS_AUTOINCREMENT"))); //$NON-NLS-1$ //$NON-NLS-2$
-                }
-
-                if (supportsIsGeneratedColumn) {
-                    introspectedColumn.setGeneratedColumn(
-                            "YES".equals(rs.getString("IS_GENERATEDCOLUMN"))); //$NON-NLS-1$ //$NON-NLS-2$
-                }
+            if (columnMetadata.generatedColumn() != null) {
+                introspectedColumn.setGeneratedColumn(columnMetadata.generatedColumn());
+            }
 
-                ActualTableName atn = new ActualTableName(
-                        rs.getString("TABLE_CAT"), //$NON-NLS-1$
-                        rs.getString("TABLE_SCHEM"), //$NON-NLS-1$
-                        rs.getString("TABLE_NAME")); //$NON-NLS-1$
+            ActualTableName atn = columnMetadata.tableName();
 
-                List<IntrospectedColumn> columns = answer.computeIfAbsent(atn, k -> new ArrayList<>());
+            List<IntrospectedColumn> columns = answer.computeIfAbsent(atn, k -> new ArrayList<>());
 
-                columns.add(introspectedColumn);
+            columns.add(introspectedColumn);
 
-                if (logger.isDebugEnabled()) {
-                    logger.debug(getString(
-                            "Tracing.2", //$NON-NLS-1$
-                            introspectedColumn.getActualColumnName(),
-                            Integer.toString(introspectedColumn.getJdbcType()),
-                            atn.toString()));
-                }
+            if (logger.isDebugEnabled()) {
+                logger.debug(getString(
+                        "Tracing.2", //$NON-NLS-1$
+                        introspectedColumn.getActualColumnName(),
+                        Integer.toString(introspectedColumn.getJdbcType()),
+                        atn.toString()));
             }
         }
 
@@ -519,16 +508,13 @@ public class DatabaseIntrospector {
      */
     private void enhanceIntrospectedTable(IntrospectedTable introspectedTable) {
         FullyQualifiedTable fqt = introspectedTable.getFullyQualifiedTable();
-        try (ResultSet rs = databaseMetaData.getTables(fqt.getIntrospectedCatalog().orElse(null),
-                fqt.getIntrospectedSchema().orElse(null),
-                fqt.getIntrospectedTableName(), null)) {
-
-            if (rs.next()) {
-                String remarks = rs.getString("REMARKS"); //$NON-NLS-1$
-                String tableType = rs.getString("TABLE_TYPE"); //$NON-NLS-1$
-                introspectedTable.setRemarks(remarks);
-                introspectedTable.setTableType(tableType);
-            }
+        try {
+            metadataSource.getTableMetadata(fqt.getIntrospectedCatalog().orElse(null),
+                    fqt.getIntrospectedSchema().orElse(null),
+                    fqt.getIntrospectedTableName()).ifPresent(tableMetadata -> {
+                        introspectedTable.setRemarks(tableMetadata.remarks());
+                        introspectedTable.setTableType(tableMetadata.tableType());
+                    });
         } catch (SQLException e) {
             warnings.add(getString("Warning.27", e.getMessage())); //$NON-NLS-1$
         }
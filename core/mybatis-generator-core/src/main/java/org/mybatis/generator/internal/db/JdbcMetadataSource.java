@@ -0,0 +1,159 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.generator.internal.jfr.MetadataCallEvent;
+
+/**
+ * A metadata source that queries {@link DatabaseMetaData} for every request. This is the default strategy - it
+ * makes several metadata calls for every table.
+ */
+public class JdbcMetadataSource implements MetadataSource {
+    private final DatabaseMetaData databaseMetaData;
+
+    public JdbcMetadataSource(DatabaseMetaData databaseMetaData) {
+        this.databaseMetaData = databaseMetaData;
+    }
+
+    @Override
+    public boolean storesLowerCaseIdentifiers() throws SQLException {
+        return databaseMetaData.storesLowerCaseIdentifiers();
+    }
+
+    @Override
+    public boolean storesUpperCaseIdentifiers() throws SQLException {
+        return databaseMetaData.storesUpperCaseIdentifiers();
+    }
+
+    @Override
+    public String getSearchStringEscape() throws SQLException {
+        return databaseMetaData.getSearchStringEscape();
+    }
+
+    @Override
+    public List<ColumnMetadata> getColumns(@Nullable String catalog, @Nullable String schemaPattern,
+                                           String tableNamePattern) throws SQLException {
+        MetadataCallEvent event = new MetadataCallEvent();
+        event.begin();
+        try (ResultSet rs = databaseMetaData.getColumns(catalog, schemaPattern, tableNamePattern,
+                "%")) { //$NON-NLS-1$
+            return readColumns(rs);
+        } finally {
+            event.commit("getColumns", catalog, schemaPattern, tableNamePattern); //$NON-NLS-1$
+        }
+    }
+
+    @Override
+    public List<String> getPrimaryKeyColumns(@Nullable String catalog, @Nullable String schema, String tableName)
+            throws SQLException {
+        MetadataCallEvent event = new MetadataCallEvent();
+        event.begin();
+        try (ResultSet rs = databaseMetaData.getPrimaryKeys(catalog, schema, tableName)) {
+            // keep primary columns in key sequence order
+            Map<Short, String> keyColumns = new TreeMap<>();
+            while (rs.next()) {
+                String columnName = rs.getString("COLUMN_NAME"); //$NON-NLS-1$
+                short keySeq = rs.getShort("KEY_SEQ"); //$NON-NLS-1$
+                keyColumns.put(keySeq, columnName);
+            }
+
+            return List.copyOf(keyColumns.values());
+        } finally {
+            event.commit("getPrimaryKeys", catalog, schema, tableName); //$NON-NLS-1$
+        }
+    }
+
+    @Override
+    public Optional<TableMetadata> getTableMetadata(@Nullable String catalog, @Nullable String schema,
+                                                    String tableName) throws SQLException {
+        MetadataCallEvent event = new MetadataCallEvent();
+        event.begin();
+        try (ResultSet rs = databaseMetaData.getTables(catalog, schema, tableName, null)) {
+            if (rs.next()) {
+                return Optional.of(readTable(rs));
+            }
+
+            return Optional.empty();
+        } finally {
+            event.commit("getTables", catalog, schema, tableName); //$NON-NLS-1$
+        }
+    }
+
+    DatabaseMetaData getDatabaseMetaData() {
+        return databaseMetaData;
+    }
+
+    static List<ColumnMetadata> readColumns(ResultSet rs) throws SQLException {
+        boolean supportsIsAutoIncrement = false;
+        boolean supportsIsGeneratedColumn = false;
+        ResultSetMetaData rsmd = rs.getMetaData();
+        int colCount = rsmd.getColumnCount();
+        for (int i = 1; i <= colCount; i++) {
+            if ("IS_AUTOINCREMENT".equals(rsmd.getColumnName(i))) { //$NON-NLS-1$
+                supportsIsAutoIncrement = true;
+            }
+            if ("IS_GENERATEDCOLUMN".equals(rsmd.getColumnName(i))) { //$NON-NLS-1$
+                supportsIsGeneratedColumn = true;
+            }
+        }
+
+        List<ColumnMetadata> answer = new ArrayList<>();
+        while (rs.next()) {
+            Boolean autoIncrement = supportsIsAutoIncrement
+                    ? "YES".equals(rs.getString("IS_AUTOINCREMENT")) : null; //$NON-NLS-1$ //$NON-NLS-2$
+            Boolean generatedColumn = supportsIsGeneratedColumn
+                    ? "YES".equals(rs.getString("IS_GENERATEDCOLUMN")) : null; //$NON-NLS-1$ //$NON-NLS-2$
+
+            answer.add(new ColumnMetadata(readTableName(rs),
+                    rs.getString("COLUMN_NAME"), //$NON-NLS-1$
+                    rs.getInt("DATA_TYPE"), //$NON-NLS-1$
+                    rs.getString("TYPE_NAME"), //$NON-NLS-1$
+                    rs.getInt("COLUMN_SIZE"), //$NON-NLS-1$
+                    rs.getInt("DECIMAL_DIGITS"), //$NON-NLS-1$
+                    rs.getInt("NULLABLE") == DatabaseMetaData.columnNullable, //$NON-NLS-1$
+                    rs.getString("REMARKS"), //$NON-NLS-1$
+                    rs.getString("COLUMN_DEF"), //$NON-NLS-1$
+                    autoIncrement,
+                    generatedColumn));
+        }
+
+        return answer;
+    }
+
+    static TableMetadata readTable(ResultSet rs) throws SQLException {
+        return new TableMetadata(readTableName(rs),
+                rs.getString("REMARKS"), //$NON-NLS-1$
+                rs.getString("TABLE_TYPE")); //$NON-NLS-1$
+    }
+
+    static ActualTableName readTableName(ResultSet rs) throws SQLException {
+        return new ActualTableName(
+                rs.getString("TABLE_CAT"), //$NON-NLS-1$
+                rs.getString("TABLE_SCHEM"), //$NON-NLS-1$
+                rs.getString("TABLE_NAME")); //$NON-NLS-1$
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.util.regex.Pattern;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A SQL LIKE pattern ("%" matches any string, "_" matches any character) converted to a regular expression.
+ */
+final class LikePattern {
+    private final String prefix;
+    private final @Nullable Pattern pattern;
+
+    private LikePattern(String prefix, @Nullable Pattern pattern) {
+        this.prefix = prefix;
+        this.pattern = pattern;
+    }
+
+    /**
+     * Returns the literal text before the first wildcard. Every matching string starts with the prefix.
+     */
+    String prefix() {
+        return prefix;
+    }
+
+    boolean matches(String s) {
+        return pattern == null ? prefix.equals(s) : pattern.matcher(s).matches();
+    }
+
+    static LikePattern compile(String likePattern, @Nullable String escapeString) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        String prefix = null;
+        int i = 0;
+        while (i < likePattern.length()) {
+            if (escapeString != null && !escapeString.isEmpty() && likePattern.startsWith(escapeString, i)
+                    && i + escapeString.length() < likePattern.length()) {
+                i += escapeString.length();
+                literal.append(likePattern.charAt(i));
+            } else {
+                char c = likePattern.charAt(i);
+                if (c == '%' || c == '_') {
+                    if (prefix == null) {
+                        prefix = literal.toString();
+                    }
+                    regex.append(Pattern.quote(literal.toString()));
+                    regex.append(c == '%' ? ".*" : "."); //$NON-NLS-1$ //$NON-NLS-2$
+                    literal.setLength(0);
+                } else {
+                    literal.append(c);
+                }
+            }
+            i++;
+        }
+
+        if (prefix == null) {
+            return new LikePattern(literal.toString(), null);
+        }
+
+        regex.append(Pattern.quote(literal.toString()));
+        return new LikePattern(prefix, Pattern.compile(regex.toString(), Pattern.DOTALL));
+    }
+}
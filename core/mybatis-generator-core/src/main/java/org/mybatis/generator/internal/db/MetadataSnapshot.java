@@ -0,0 +1,184 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.generator.exception.InternalException;
+
+/**
+ * The raw database metadata of a set of tables. A snapshot can be saved to a file with {@link MetadataSnapshotFile}
+ * and reused by later runs.
+ *
+ * <p>A snapshot can also stand in for the database entirely - see {@link SnapshotMetadataSource}. For that
+ * reason the snapshot also records how the database stores identifiers.
+ *
+ * <p>Every table carries a fingerprint calculated from its columns. The columns of a schema can be read with a single
+ * query, so the fingerprint is cheap to check - a table whose fingerprint matches an earlier snapshot is taken to be
+ * unchanged, and its primary key and remarks are reused from that snapshot.
+ *
+ * <p>This class is thread safe.
+ */
+public class MetadataSnapshot {
+    private final Map<ActualTableName, List<ColumnMetadata>> columns = new ConcurrentHashMap<>();
+    private final Map<ActualTableName, List<String>> primaryKeys = new ConcurrentHashMap<>();
+    private final Map<ActualTableName, TableMetadata> tables = new ConcurrentHashMap<>();
+    private volatile boolean storesLowerCaseIdentifiers;
+    private volatile boolean storesUpperCaseIdentifiers;
+    private volatile String searchStringEscape = "\\"; //$NON-NLS-1$
+
+    public MetadataSnapshot() {
+        super();
+    }
+
+    public MetadataSnapshot(MetadataSnapshot other) {
+        columns.putAll(other.columns);
+        primaryKeys.putAll(other.primaryKeys);
+        tables.putAll(other.tables);
+        storesLowerCaseIdentifiers = other.storesLowerCaseIdentifiers;
+        storesUpperCaseIdentifiers = other.storesUpperCaseIdentifiers;
+        searchStringEscape = other.searchStringEscape;
+    }
+
+    /**
+     * Records how the database stores identifiers, and the escape string for wildcards in metadata patterns.
+     *
+     * @param metadataSource the source to query
+     * @throws SQLException if the database properties cannot be retrieved
+     */
+    public void putDatabaseProperties(MetadataSource metadataSource) throws SQLException {
+        putDatabaseProperties(metadataSource.storesLowerCaseIdentifiers(),
+                metadataSource.storesUpperCaseIdentifiers(), metadataSource.getSearchStringEscape());
+    }
+
+    public void putDatabaseProperties(boolean storesLowerCaseIdentifiers, boolean storesUpperCaseIdentifiers,
+                                      String searchStringEscape) {
+        this.storesLowerCaseIdentifiers = storesLowerCaseIdentifiers;
+        this.storesUpperCaseIdentifiers = storesUpperCaseIdentifiers;
+        this.searchStringEscape = searchStringEscape;
+    }
+
+    public boolean storesLowerCaseIdentifiers() {
+        return storesLowerCaseIdentifiers;
+    }
+
+    public boolean storesUpperCaseIdentifiers() {
+        return storesUpperCaseIdentifiers;
+    }
+
+    public String getSearchStringEscape() {
+        return searchStringEscape;
+    }
+
+    /**
+     * Sets the columns of a table. Any primary key or table metadata previously saved for the table is discarded
+     * because it may no longer be accurate.
+     *
+     * @param tableName the table name
+     * @param tableColumns the columns of the table, in database order
+     */
+    public void putColumns(ActualTableName tableName, List<ColumnMetadata> tableColumns) {
+        columns.put(tableName, List.copyOf(tableColumns));
+        primaryKeys.remove(tableName);
+        tables.remove(tableName);
+    }
+
+    public void putPrimaryKeyColumns(ActualTableName tableName, List<String> primaryKeyColumns) {
+        primaryKeys.put(tableName, List.copyOf(primaryKeyColumns));
+    }
+
+    public void putTableMetadata(TableMetadata tableMetadata) {
+        tables.put(tableMetadata.tableName(), tableMetadata);
+    }
+
+    /**
+     * Returns the names of all tables in the snapshot, sorted by fully qualified name.
+     *
+     * @return the table names
+     */
+    public List<ActualTableName> getTableNames() {
+        return columns.keySet().stream()
+                .sorted(Comparator.comparing(ActualTableName::toString))
+                .toList();
+    }
+
+    public List<ColumnMetadata> getColumns(ActualTableName tableName) {
+        return columns.getOrDefault(tableName, List.of());
+    }
+
+    public Optional<String> getFingerprint(ActualTableName tableName) {
+        return Optional.ofNullable(columns.get(tableName)).map(MetadataSnapshot::fingerprint);
+    }
+
+    public Optional<List<String>> getPrimaryKeyColumns(ActualTableName tableName) {
+        return Optional.ofNullable(primaryKeys.get(tableName));
+    }
+
+    public Optional<TableMetadata> getTableMetadata(ActualTableName tableName) {
+        return Optional.ofNullable(tables.get(tableName));
+    }
+
+    /**
+     * Calculates a fingerprint of a table. The fingerprint changes if any column is added, removed, renamed, or
+     * changes type, size, nullability, default value, or remarks. A change to only the primary key or the table
+     * remarks does not change the fingerprint.
+     *
+     * @param tableColumns the columns of a table
+     * @return the fingerprint
+     */
+    public static String fingerprint(List<ColumnMetadata> tableColumns) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+        } catch (NoSuchAlgorithmException e) {
+            // every JVM is required to support SHA-256
+            throw new InternalException(e.getMessage(), e);
+        }
+
+        for (ColumnMetadata column : tableColumns) {
+            update(digest, column.columnName());
+            update(digest, Integer.toString(column.jdbcType()));
+            update(digest, column.typeName());
+            update(digest, Integer.toString(column.columnSize()));
+            update(digest, Integer.toString(column.decimalDigits()));
+            update(digest, Boolean.toString(column.nullable()));
+            update(digest, column.remarks());
+            update(digest, column.defaultValue());
+            update(digest, String.valueOf(column.autoIncrement()));
+            update(digest, String.valueOf(column.generatedColumn()));
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, @Nullable String s) {
+        if (s != null) {
+            digest.update(s.getBytes(StandardCharsets.UTF_8));
+        }
+        // separate the values so that adjacent values cannot run together
+        digest.update((byte) 0);
+    }
+}
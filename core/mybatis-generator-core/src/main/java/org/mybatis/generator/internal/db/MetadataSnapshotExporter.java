@@ -0,0 +1,82 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Exports the metadata of a set of tables from a live database to a {@link MetadataSnapshot}. The snapshot can be
+ * saved with {@link MetadataSnapshotFile} and used to run the generator without a database connection.
+ */
+public class MetadataSnapshotExporter {
+    private final MetadataSource metadataSource;
+
+    public MetadataSnapshotExporter(DatabaseMetaData databaseMetaData) {
+        metadataSource = new JdbcMetadataSource(databaseMetaData);
+    }
+
+    /**
+     * Exports every table that matches the catalog, schema pattern, and table name pattern. Patterns are passed to
+     * the database unchanged, so they must use the case the database stores identifiers in.
+     *
+     * @param catalog the catalog, or null if it should not be used to narrow the search
+     * @param schemaPattern the schema name pattern, or null if it should not be used to narrow the search
+     * @param tableNamePattern the table name pattern - "%" exports every table
+     * @return a snapshot containing the matching tables
+     * @throws SQLException if the metadata cannot be retrieved
+     */
+    public MetadataSnapshot export(@Nullable String catalog, @Nullable String schemaPattern,
+                                   String tableNamePattern) throws SQLException {
+        MetadataSnapshot snapshot = new MetadataSnapshot();
+        exportTo(snapshot, catalog, schemaPattern, tableNamePattern);
+        return snapshot;
+    }
+
+    /**
+     * Adds every table that matches the catalog, schema pattern, and table name pattern to an existing snapshot.
+     *
+     * @param snapshot the snapshot to add to
+     * @param catalog the catalog, or null if it should not be used to narrow the search
+     * @param schemaPattern the schema name pattern, or null if it should not be used to narrow the search
+     * @param tableNamePattern the table name pattern - "%" exports every table
+     * @throws SQLException if the metadata cannot be retrieved
+     */
+    public void exportTo(MetadataSnapshot snapshot, @Nullable String catalog, @Nullable String schemaPattern,
+                         String tableNamePattern) throws SQLException {
+        snapshot.putDatabaseProperties(metadataSource);
+
+        Map<ActualTableName, List<ColumnMetadata>> columns = new LinkedHashMap<>();
+        for (ColumnMetadata columnMetadata : metadataSource.getColumns(catalog, schemaPattern, tableNamePattern)) {
+            columns.computeIfAbsent(columnMetadata.tableName(), k -> new ArrayList<>()).add(columnMetadata);
+        }
+
+        for (Map.Entry<ActualTableName, List<ColumnMetadata>> entry : columns.entrySet()) {
+            ActualTableName atn = entry.getKey();
+            snapshot.putColumns(atn, entry.getValue());
+            snapshot.putPrimaryKeyColumns(atn,
+                    metadataSource.getPrimaryKeyColumns(atn.getCatalog(), atn.getSchema(), atn.getTableName()));
+            metadataSource.getTableMetadata(atn.getCatalog(), atn.getSchema(), atn.getTableName())
+                    .ifPresent(snapshot::putTableMetadata);
+        }
+    }
+}
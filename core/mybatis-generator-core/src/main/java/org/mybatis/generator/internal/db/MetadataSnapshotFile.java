@@ -0,0 +1,256 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.jspecify.annotations.Nullable;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * Reads and writes {@link MetadataSnapshot} files. Snapshots are stored as simple XML documents. There is no DTD -
+ * the files are written and read only by the generator.
+ */
+public class MetadataSnapshotFile {
+    private static final String SNAPSHOT = "metadataSnapshot"; //$NON-NLS-1$
+    private static final String TABLE = "table"; //$NON-NLS-1$
+    private static final String COLUMN = "column"; //$NON-NLS-1$
+    private static final String PRIMARY_KEY = "primaryKey"; //$NON-NLS-1$
+    private static final String TABLE_METADATA = "tableMetadata"; //$NON-NLS-1$
+    private static final String STORES_LOWER_CASE = "storesLowerCaseIdentifiers"; //$NON-NLS-1$
+    private static final String STORES_UPPER_CASE = "storesUpperCaseIdentifiers"; //$NON-NLS-1$
+    private static final String SEARCH_STRING_ESCAPE = "searchStringEscape"; //$NON-NLS-1$
+
+    private MetadataSnapshotFile() {
+        // utility class. no instances
+    }
+
+    /**
+     * Reads a snapshot file.
+     *
+     * @param path the file to read
+     * @return the snapshot
+     * @throws IOException if the file cannot be read, or is not a valid snapshot
+     */
+    public static MetadataSnapshot read(Path path) throws IOException {
+        Document document;
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, ""); //$NON-NLS-1$
+            factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, ""); //$NON-NLS-1$
+            factory.setExpandEntityReferences(false);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            DocumentBuilder builder = factory.newDocumentBuilder();
+            document = builder.parse(inputStream);
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+
+        Element root = document.getDocumentElement();
+        if (!SNAPSHOT.equals(root.getNodeName())) {
+            throw new IOException(getString("RuntimeError.32", path.toString())); //$NON-NLS-1$
+        }
+
+        try {
+            MetadataSnapshot snapshot = new MetadataSnapshot();
+            if (root.hasAttribute(SEARCH_STRING_ESCAPE)) {
+                snapshot.putDatabaseProperties(Boolean.parseBoolean(root.getAttribute(STORES_LOWER_CASE)),
+                        Boolean.parseBoolean(root.getAttribute(STORES_UPPER_CASE)),
+                        root.getAttribute(SEARCH_STRING_ESCAPE));
+            }
+            for (Element table : childElements(root, TABLE)) {
+                readTable(snapshot, table);
+            }
+            return snapshot;
+        } catch (NumberFormatException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static void readTable(MetadataSnapshot snapshot, Element table) {
+        ActualTableName tableName = new ActualTableName(getAttribute(table, "catalog"), //$NON-NLS-1$
+                getAttribute(table, "schema"), //$NON-NLS-1$
+                table.getAttribute("name")); //$NON-NLS-1$
+
+        List<ColumnMetadata> columns = new ArrayList<>();
+        for (Element column : childElements(table, COLUMN)) {
+            columns.add(new ColumnMetadata(tableName,
+                    column.getAttribute("name"), //$NON-NLS-1$
+                    Integer.parseInt(column.getAttribute("jdbcType")), //$NON-NLS-1$
+                    getAttribute(column, "typeName"), //$NON-NLS-1$
+                    Integer.parseInt(column.getAttribute("size")), //$NON-NLS-1$
+                    Integer.parseInt(column.getAttribute("decimalDigits")), //$NON-NLS-1$
+                    Boolean.parseBoolean(column.getAttribute("nullable")), //$NON-NLS-1$
+                    getAttribute(column, "remarks"), //$NON-NLS-1$
+                    getAttribute(column, "defaultValue"), //$NON-NLS-1$
+                    getBooleanAttribute(column, "autoIncrement"), //$NON-NLS-1$
+                    getBooleanAttribute(column, "generatedColumn"))); //$NON-NLS-1$
+        }
+        snapshot.putColumns(tableName, columns);
+
+        for (Element primaryKey : childElements(table, PRIMARY_KEY)) {
+            snapshot.putPrimaryKeyColumns(tableName, childElements(primaryKey, COLUMN).stream()
+                    .map(column -> column.getAttribute("name")) //$NON-NLS-1$
+                    .toList());
+        }
+
+        for (Element tableMetadata : childElements(table, TABLE_METADATA)) {
+            snapshot.putTableMetadata(new TableMetadata(tableName,
+                    getAttribute(tableMetadata, "remarks"), //$NON-NLS-1$
+                    getAttribute(tableMetadata, "type"))); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Writes a snapshot file. Parent directories are created if necessary.
+     *
+     * @param snapshot the snapshot to write
+     * @param path the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(MetadataSnapshot snapshot, Path path) throws IOException {
+        Document document;
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            document = factory.newDocumentBuilder().newDocument();
+        } catch (ParserConfigurationException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+
+        Element root = document.createElement(SNAPSHOT);
+        root.setAttribute(STORES_LOWER_CASE, Boolean.toString(snapshot.storesLowerCaseIdentifiers()));
+        root.setAttribute(STORES_UPPER_CASE, Boolean.toString(snapshot.storesUpperCaseIdentifiers()));
+        root.setAttribute(SEARCH_STRING_ESCAPE, snapshot.getSearchStringEscape());
+        document.appendChild(root);
+
+        for (ActualTableName tableName : snapshot.getTableNames()) {
+            root.appendChild(createTableElement(document, snapshot, tableName));
+        }
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            TransformerFactory transformerFactory = TransformerFactory.newInstance();
+            transformerFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, ""); //$NON-NLS-1$
+            transformerFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, ""); //$NON-NLS-1$
+            Transformer transformer = transformerFactory.newTransformer();
+            transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8"); //$NON-NLS-1$
+            transformer.setOutputProperty(OutputKeys.INDENT, "yes"); //$NON-NLS-1$
+            transformer.transform(new DOMSource(document), new StreamResult(outputStream));
+        } catch (TransformerException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static Element createTableElement(Document document, MetadataSnapshot snapshot,
+                                              ActualTableName tableName) {
+        Element table = document.createElement(TABLE);
+        setAttribute(table, "catalog", tableName.getCatalog()); //$NON-NLS-1$
+        setAttribute(table, "schema", tableName.getSchema()); //$NON-NLS-1$
+        setAttribute(table, "name", tableName.getTableName()); //$NON-NLS-1$
+        snapshot.getFingerprint(tableName).ifPresent(fp -> setAttribute(table, "fingerprint", fp)); //$NON-NLS-1$
+
+        for (ColumnMetadata columnMetadata : snapshot.getColumns(tableName)) {
+            Element column = document.createElement(COLUMN);
+            setAttribute(column, "name", columnMetadata.columnName()); //$NON-NLS-1$
+            setAttribute(column, "jdbcType", Integer.toString(columnMetadata.jdbcType())); //$NON-NLS-1$
+            setAttribute(column, "typeName", columnMetadata.typeName()); //$NON-NLS-1$
+            setAttribute(column, "size", Integer.toString(columnMetadata.columnSize())); //$NON-NLS-1$
+            setAttribute(column, "decimalDigits", Integer.toString(columnMetadata.decimalDigits())); //$NON-NLS-1$
+            setAttribute(column, "nullable", Boolean.toString(columnMetadata.nullable())); //$NON-NLS-1$
+            setAttribute(column, "remarks", columnMetadata.remarks()); //$NON-NLS-1$
+            setAttribute(column, "defaultValue", columnMetadata.defaultValue()); //$NON-NLS-1$
+            if (columnMetadata.autoIncrement() != null) {
+                setAttribute(column, "autoIncrement", columnMetadata.autoIncrement().toString()); //$NON-NLS-1$
+            }
+            if (columnMetadata.generatedColumn() != null) {
+                setAttribute(column, "generatedColumn", columnMetadata.generatedColumn().toString()); //$NON-NLS-1$
+            }
+            table.appendChild(column);
+        }
+
+        snapshot.getPrimaryKeyColumns(tableName).ifPresent(primaryKeyColumns -> {
+            Element primaryKey = document.createElement(PRIMARY_KEY);
+            for (String columnName : primaryKeyColumns) {
+                Element column = document.createElement(COLUMN);
+                setAttribute(column, "name", columnName); //$NON-NLS-1$
+                primaryKey.appendChild(column);
+            }
+            table.appendChild(primaryKey);
+        });
+
+        snapshot.getTableMetadata(tableName).ifPresent(tableMetadata -> {
+            Element element = document.createElement(TABLE_METADATA);
+            setAttribute(element, "remarks", tableMetadata.remarks()); //$NON-NLS-1$
+            setAttribute(element, "type", tableMetadata.tableType()); //$NON-NLS-1$
+            table.appendChild(element);
+        });
+
+        return table;
+    }
+
+    private static List<Element> childElements(Element parent, String name) {
+        List<Element> answer = new ArrayList<>();
+        NodeList nodeList = parent.getChildNodes();
+        for (int i = 0; i < nodeList.getLength(); i++) {
+            Node node = nodeList.item(i);
+            if (node.getNodeType() == Node.ELEMENT_NODE && name.equals(node.getNodeName())) {
+                answer.add((Element) node);
+            }
+        }
+        return answer;
+    }
+
+    private static @Nullable String getAttribute(Element element, String name) {
+        return element.hasAttribute(name) ? element.getAttribute(name) : null;
+    }
+
+    private static @Nullable Boolean getBooleanAttribute(Element element, String name) {
+        return element.hasAttribute(name) ? Boolean.valueOf(element.getAttribute(name)) : null;
+    }
+
+    private static void setAttribute(Element element, String name, @Nullable String value) {
+        if (value != null) {
+            element.setAttribute(name, value);
+        }
+    }
+}
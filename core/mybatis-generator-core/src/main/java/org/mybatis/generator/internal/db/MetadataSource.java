@@ -0,0 +1,75 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Supplies the raw database metadata used by the {@link DatabaseIntrospector}. The methods mirror the
+ * {@link java.sql.DatabaseMetaData} methods used during introspection, so implementations are free to answer
+ * them with a query per table, from an index built in bulk, or without any database at all.
+ *
+ * <p>Instances are used by a single thread. Implementations that share state between introspection threads
+ * must make that state thread safe.
+ */
+public interface MetadataSource {
+    boolean storesLowerCaseIdentifiers() throws SQLException;
+
+    boolean storesUpperCaseIdentifiers() throws SQLException;
+
+    String getSearchStringEscape() throws SQLException;
+
+    /**
+     * Returns the columns of all tables matching the catalog, schema pattern, and table name pattern, in the
+     * order reported by the database.
+     *
+     * @param catalog the catalog, or null if it should not be used to narrow the search
+     * @param schemaPattern the schema name pattern, or null if it should not be used to narrow the search
+     * @param tableNamePattern the table name pattern
+     * @return the matching columns
+     * @throws SQLException if the metadata cannot be retrieved
+     */
+    List<ColumnMetadata> getColumns(@Nullable String catalog, @Nullable String schemaPattern,
+                                    String tableNamePattern) throws SQLException;
+
+    /**
+     * Returns the names of the primary key columns of a table in key sequence order.
+     *
+     * @param catalog the catalog, or null if it should not be used to narrow the search
+     * @param schema the schema, or null if it should not be used to narrow the search
+     * @param tableName the table name
+     * @return the primary key column names. The list is empty if the table has no primary key
+     * @throws SQLException if the metadata cannot be retrieved
+     */
+    List<String> getPrimaryKeyColumns(@Nullable String catalog, @Nullable String schema, String tableName)
+            throws SQLException;
+
+    /**
+     * Returns the remarks and type of a table.
+     *
+     * @param catalog the catalog, or null if it should not be used to narrow the search
+     * @param schema the schema, or null if it should not be used to narrow the search
+     * @param tableName the table name
+     * @return the table metadata, or an empty optional if the table is not found
+     * @throws SQLException if the metadata cannot be retrieved
+     */
+    Optional<TableMetadata> getTableMetadata(@Nullable String catalog, @Nullable String schema, String tableName)
+            throws SQLException;
+}
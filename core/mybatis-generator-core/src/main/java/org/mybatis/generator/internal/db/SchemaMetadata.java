@@ -0,0 +1,207 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The metadata of every table in a schema, retrieved with one query each for columns, primary keys, and tables.
+ * The columns are retrieved when the schema is loaded. Primary keys and tables are retrieved the first time one of
+ * them is looked up, so a caller that only needs columns - such as the introspection cache when no table has
+ * changed - runs a single query for the schema. This class is thread safe, so instances may be shared between
+ * introspection threads.
+ *
+ * <p>Primary keys and table remarks are optional. If the driver fails to return them in bulk, then lookups return
+ * an empty optional and the caller should fall back to a query for the single table.
+ */
+final class SchemaMetadata {
+    private final @Nullable String catalog;
+    private final @Nullable String schemaPattern;
+    private final Map<ActualTableName, List<ColumnMetadata>> columns;
+    private final TreeMap<String, List<ActualTableName>> tablesByName = new TreeMap<>();
+    private boolean primaryKeysLoaded;
+    private @Nullable Map<ActualTableName, List<String>> primaryKeys;
+    private boolean tablesLoaded;
+    private @Nullable Map<ActualTableName, TableMetadata> tables;
+
+    private SchemaMetadata(@Nullable String catalog, @Nullable String schemaPattern,
+                           Map<ActualTableName, List<ColumnMetadata>> columns) {
+        this.catalog = catalog;
+        this.schemaPattern = schemaPattern;
+        this.columns = columns;
+        for (ActualTableName atn : columns.keySet()) {
+            tablesByName.computeIfAbsent(atn.getTableName(), k -> new ArrayList<>()).add(atn);
+        }
+    }
+
+    /**
+     * Returns the columns of all tables whose names match a table name pattern, in the order reported by the
+     * database. The pattern uses the same syntax as {@link DatabaseMetaData#getColumns(String, String, String,
+     * String)}.
+     *
+     * @param tableNamePattern the table name pattern
+     * @param searchStringEscape the string used to escape wildcard characters in the pattern
+     * @return the matching columns
+     */
+    List<ColumnMetadata> getColumns(String tableNamePattern, String searchStringEscape) {
+        LikePattern likePattern = LikePattern.compile(tableNamePattern, searchStringEscape);
+
+        // the literal prefix of the pattern limits the names that need to be checked
+        SortedMap<String, List<ActualTableName>> candidates = likePattern.prefix().isEmpty() ? tablesByName
+                : tablesByName.subMap(likePattern.prefix(), likePattern.prefix() + Character.MAX_VALUE);
+
+        Set<ActualTableName> matches = new LinkedHashSet<>();
+        for (Map.Entry<String, List<ActualTableName>> entry : candidates.entrySet()) {
+            if (likePattern.matches(entry.getKey())) {
+                matches.addAll(entry.getValue());
+            }
+        }
+
+        List<ColumnMetadata> answer = new ArrayList<>();
+        for (Map.Entry<ActualTableName, List<ColumnMetadata>> entry : columns.entrySet()) {
+            if (matches.contains(entry.getKey())) {
+                answer.addAll(entry.getValue());
+            }
+        }
+        return answer;
+    }
+
+    synchronized Optional<List<String>> getPrimaryKeyColumns(DatabaseMetaData databaseMetaData,
+                                                             @Nullable String catalog, @Nullable String schema,
+                                                             String tableName) {
+        Optional<ActualTableName> actualTableName = findTable(catalog, schema, tableName);
+        if (actualTableName.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (!primaryKeysLoaded) {
+            Set<@Nullable String> schemas = new LinkedHashSet<>();
+            for (ActualTableName atn : columns.keySet()) {
+                schemas.add(atn.getSchema());
+            }
+            primaryKeys = loadPrimaryKeys(databaseMetaData, this.catalog, schemas);
+            primaryKeysLoaded = true;
+        }
+
+        Map<ActualTableName, List<String>> loadedPrimaryKeys = primaryKeys;
+        return loadedPrimaryKeys == null ? Optional.empty()
+                : Optional.of(loadedPrimaryKeys.getOrDefault(actualTableName.get(), List.of()));
+    }
+
+    synchronized Optional<TableMetadata> getTableMetadata(DatabaseMetaData databaseMetaData, @Nullable String catalog,
+                                                          @Nullable String schema, String tableName) {
+        Optional<ActualTableName> actualTableName = findTable(catalog, schema, tableName);
+        if (actualTableName.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (!tablesLoaded) {
+            tables = loadTables(databaseMetaData, this.catalog, schemaPattern);
+            tablesLoaded = true;
+        }
+
+        Map<ActualTableName, TableMetadata> loadedTables = tables;
+        return loadedTables == null ? Optional.empty() : Optional.ofNullable(loadedTables.get(actualTableName.get()));
+    }
+
+    /**
+     * Finds the single table in this schema with the specified name. Catalog and schema are only compared if they
+     * are specified. If more than one table matches then the lookup is ambiguous, and the caller should let the
+     * database resolve it.
+     */
+    private Optional<ActualTableName> findTable(@Nullable String catalog, @Nullable String schema,
+                                                String tableName) {
+        List<ActualTableName> matches = tablesByName.getOrDefault(tableName, List.of()).stream()
+                .filter(atn -> catalog == null || catalog.equals(atn.getCatalog()))
+                .filter(atn -> schema == null || schema.equals(atn.getSchema()))
+                .toList();
+
+        return matches.size() == 1 ? Optional.of(matches.get(0)) : Optional.empty();
+    }
+
+    static SchemaMetadata load(DatabaseMetaData databaseMetaData, @Nullable String catalog,
+                               @Nullable String schemaPattern) throws SQLException {
+        Map<ActualTableName, List<ColumnMetadata>> columns = new LinkedHashMap<>();
+        try (ResultSet rs = databaseMetaData.getColumns(catalog, schemaPattern, "%", "%")) { //$NON-NLS-1$ //$NON-NLS-2$
+            for (ColumnMetadata columnMetadata : JdbcMetadataSource.readColumns(rs)) {
+                columns.computeIfAbsent(columnMetadata.tableName(), k -> new ArrayList<>()).add(columnMetadata);
+            }
+        }
+
+        return new SchemaMetadata(catalog, schemaPattern, columns);
+    }
+
+    /**
+     * Loads primary keys for every table in the schemas. The table name parameter of
+     * {@link DatabaseMetaData#getPrimaryKeys(String, String, String)} is not a pattern, and some drivers return
+     * nothing (or fail) when it is null. Either way we report that bulk primary keys are not available.
+     */
+    private static @Nullable Map<ActualTableName, List<String>> loadPrimaryKeys(DatabaseMetaData databaseMetaData,
+            @Nullable String catalog, Collection<@Nullable String> schemas) {
+        Map<ActualTableName, TreeMap<Short, String>> keyColumns = new HashMap<>();
+        try {
+            for (String schema : schemas) {
+                try (ResultSet rs = databaseMetaData.getPrimaryKeys(catalog, schema, null)) {
+                    while (rs.next()) {
+                        // keep primary columns in key sequence order
+                        keyColumns.computeIfAbsent(JdbcMetadataSource.readTableName(rs), k -> new TreeMap<>())
+                                .put(rs.getShort("KEY_SEQ"), rs.getString("COLUMN_NAME")); //$NON-NLS-1$ //$NON-NLS-2$
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            return null;
+        }
+
+        if (keyColumns.isEmpty()) {
+            return null;
+        }
+
+        Map<ActualTableName, List<String>> answer = new HashMap<>();
+        keyColumns.forEach((atn, keys) -> answer.put(atn, List.copyOf(keys.values())));
+        return answer;
+    }
+
+    private static @Nullable Map<ActualTableName, TableMetadata> loadTables(DatabaseMetaData databaseMetaData,
+            @Nullable String catalog, @Nullable String schemaPattern) {
+        Map<ActualTableName, TableMetadata> answer = new HashMap<>();
+        try (ResultSet rs = databaseMetaData.getTables(catalog, schemaPattern, "%", null)) { //$NON-NLS-1$
+            while (rs.next()) {
+                TableMetadata tableMetadata = JdbcMetadataSource.readTable(rs);
+                answer.put(tableMetadata.tableName(), tableMetadata);
+            }
+        } catch (SQLException e) {
+            return null;
+        }
+
+        return answer;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A metadata source that answers every request from a {@link MetadataSnapshot} - no database connection is needed.
+ * Snapshots are written by {@link MetadataSnapshotExporter}, or by a run that specifies an introspection cache file.
+ *
+ * <p>Patterns are matched the same way the database would match them, so the tables introspected from a snapshot
+ * are the same as the tables introspected from the live database when the snapshot was written. The tables of the
+ * snapshot are indexed by name when the source is created, so the snapshot should not change after that. An
+ * instance may be shared between introspection threads.
+ */
+public class SnapshotMetadataSource implements MetadataSource {
+    private final MetadataSnapshot snapshot;
+    private final TreeMap<String, List<ActualTableName>> tablesByName = new TreeMap<>();
+
+    public SnapshotMetadataSource(MetadataSnapshot snapshot) {
+        this.snapshot = snapshot;
+        for (ActualTableName atn : snapshot.getTableNames()) {
+            tablesByName.computeIfAbsent(atn.getTableName(), k -> new ArrayList<>()).add(atn);
+        }
+    }
+
+    @Override
+    public boolean storesLowerCaseIdentifiers() {
+        return snapshot.storesLowerCaseIdentifiers();
+    }
+
+    @Override
+    public boolean storesUpperCaseIdentifiers() {
+        return snapshot.storesUpperCaseIdentifiers();
+    }
+
+    @Override
+    public String getSearchStringEscape() {
+        return snapshot.getSearchStringEscape();
+    }
+
+    @Override
+    public List<ColumnMetadata> getColumns(@Nullable String catalog, @Nullable String schemaPattern,
+                                           String tableNamePattern) {
+        LikePattern schemaLikePattern = schemaPattern == null ? null
+                : LikePattern.compile(schemaPattern, snapshot.getSearchStringEscape());
+        LikePattern tableLikePattern = LikePattern.compile(tableNamePattern, snapshot.getSearchStringEscape());
+
+        // the literal prefix of the pattern limits the names that need to be checked
+        SortedMap<String, List<ActualTableName>> candidates = tableLikePattern.prefix().isEmpty() ? tablesByName
+                : tablesByName.subMap(tableLikePattern.prefix(), tableLikePattern.prefix() + Character.MAX_VALUE);
+
+        List<ActualTableName> matches = new ArrayList<>();
+        for (Map.Entry<String, List<ActualTableName>> entry : candidates.entrySet()) {
+            if (!tableLikePattern.matches(entry.getKey())) {
+                continue;
+            }
+
+            for (ActualTableName atn : entry.getValue()) {
+                if ((catalog == null || catalog.equals(atn.getCatalog()))
+                        && (schemaLikePattern == null || atn.getSchema() != null
+                            && schemaLikePattern.matches(atn.getSchema()))) {
+                    matches.add(atn);
+                }
+            }
+        }
+
+        // return tables in the same order as the snapshot lists them
+        matches.sort(Comparator.comparing(ActualTableName::toString));
+        List<ColumnMetadata> answer = new ArrayList<>();
+        for (ActualTableName atn : matches) {
+            answer.addAll(snapshot.getColumns(atn));
+        }
+        return answer;
+    }
+
+    @Override
+    public List<String> getPrimaryKeyColumns(@Nullable String catalog, @Nullable String schema, String tableName)
+            throws SQLException {
+        return findTable(catalog, schema, tableName)
+                .flatMap(snapshot::getPrimaryKeyColumns)
+                .orElse(List.of());
+    }
+
+    @Override
+    public Optional<TableMetadata> getTableMetadata(@Nullable String catalog, @Nullable String schema,
+                                                    String tableName) throws SQLException {
+        return findTable(catalog, schema, tableName).flatMap(snapshot::getTableMetadata);
+    }
+
+    /**
+     * Finds the single table in the snapshot with the specified name. Catalog and schema are only compared if they
+     * are specified. There is no database to resolve an ambiguous lookup, so it is reported as an error rather than
+     * answered with the metadata of an arbitrary table.
+     */
+    private Optional<ActualTableName> findTable(@Nullable String catalog, @Nullable String schema,
+                                                String tableName) throws SQLException {
+        List<ActualTableName> matches = tablesByName.getOrDefault(tableName, List.of()).stream()
+                .filter(atn -> catalog == null || catalog.equals(atn.getCatalog()))
+                .filter(atn -> schema == null || schema.equals(atn.getSchema()))
+                .toList();
+
+        if (matches.size() > 1) {
+            throw new SQLException(getString("RuntimeError.36", //$NON-NLS-1$
+                    new ActualTableName(catalog, schema, tableName).toString(),
+                    matches.stream().map(ActualTableName::toString).collect(Collectors.joining(","))));
+        }
+
+        return matches.stream().findFirst();
+    }
+}
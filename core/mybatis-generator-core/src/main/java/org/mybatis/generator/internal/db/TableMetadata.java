@@ -0,0 +1,28 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The raw metadata for a table, as reported by
+ * {@link java.sql.DatabaseMetaData#getTables(String, String, String, String[])}.
+ *
+ * @param tableName the actual name of the table
+ * @param remarks the comment describing the table
+ * @param tableType the table type - typically "TABLE" or "VIEW"
+ */
+public record TableMetadata(ActualTableName tableName, @Nullable String remarks, @Nullable String tableType) { }
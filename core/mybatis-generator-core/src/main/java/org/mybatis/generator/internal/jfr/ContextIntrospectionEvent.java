@@ -0,0 +1,45 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+@Name("org.mybatis.generator.ContextIntrospection")
+@Label("Context Introspection")
+@Category({"MyBatis Generator", "Introspection"})
+@Description("Introspection of every table of a context, including opening the connections")
+@StackTrace(false)
+public class ContextIntrospectionEvent extends Event {
+    @Label("Context")
+    private @Nullable String contextId;
+
+    @Label("Introspected Tables")
+    private int tables;
+
+    public void commit(String contextId, int tables) {
+        if (shouldCommit()) {
+            this.contextId = contextId;
+            this.tables = tables;
+            commit();
+        }
+    }
+}
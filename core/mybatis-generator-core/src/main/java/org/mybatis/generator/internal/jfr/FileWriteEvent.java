@@ -0,0 +1,60 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+@Name("org.mybatis.generator.FileWrite")
+@Label("File Write")
+@Category({"MyBatis Generator", "Save"})
+@Description("Saving a generated file - formatting, merging, comparing, and writing it")
+@StackTrace(false)
+public class FileWriteEvent extends Event {
+    @Label("Context")
+    private @Nullable String contextId;
+
+    @Label("Table")
+    private @Nullable String tableName;
+
+    @Label("File")
+    private @Nullable String file;
+
+    @Label("Changed")
+    @Description("False if the file was left unchanged because its content was the same")
+    private boolean changed;
+
+    @Label("Size")
+    @DataAmount
+    private long bytes;
+
+    public void commit(String contextId, @Nullable String tableName, String file, boolean changed, long bytes) {
+        if (shouldCommit()) {
+            this.contextId = contextId;
+            this.tableName = tableName;
+            this.file = file;
+            this.changed = changed;
+            this.bytes = bytes;
+            commit();
+        }
+    }
+}
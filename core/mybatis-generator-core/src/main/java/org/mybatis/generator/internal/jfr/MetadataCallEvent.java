@@ -0,0 +1,55 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+@Name("org.mybatis.generator.MetadataCall")
+@Label("Metadata Call")
+@Category({"MyBatis Generator", "Introspection"})
+@Description("A call to the JDBC database metadata, including reading the results")
+@StackTrace(false)
+public class MetadataCallEvent extends Event {
+    @Label("Call")
+    @Description("The DatabaseMetaData method called, or loadSchema for the bulk load of a schema")
+    private @Nullable String call;
+
+    @Label("Catalog")
+    private @Nullable String catalog;
+
+    @Label("Schema")
+    private @Nullable String schema;
+
+    @Label("Table")
+    @Description("The table name or pattern")
+    private @Nullable String tableName;
+
+    public void commit(String call, @Nullable String catalog, @Nullable String schema, String tableName) {
+        if (shouldCommit()) {
+            this.call = call;
+            this.catalog = catalog;
+            this.schema = schema;
+            this.tableName = tableName;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+@Name("org.mybatis.generator.PluginHook")
+@Label("Plugin Hook")
+@Category({"MyBatis Generator", "Generation"})
+@Description("A call to a method of a plugin")
+@StackTrace(false)
+public class PluginHookEvent extends Event {
+    @Label("Plugin")
+    private @Nullable String plugin;
+
+    @Label("Hook")
+    private @Nullable String hook;
+
+    @Label("Table")
+    @Description("The table the hook was called for, if any")
+    private @Nullable String tableName;
+
+    public void commit(String plugin, String hook, @Nullable String tableName) {
+        if (shouldCommit()) {
+            this.plugin = plugin;
+            this.hook = hook;
+            this.tableName = tableName;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.jfr;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.Plugin;
+
+/**
+ * Records a {@link PluginHookEvent} for every method called on a plugin.
+ *
+ * <p>Plugins are only wrapped if the event is enabled when the plugins of a context are created, so a run without a
+ * recording calls the plugins directly.
+ */
+public class PluginHookRecorder implements InvocationHandler {
+    private final Plugin plugin;
+    private final String pluginName;
+
+    private PluginHookRecorder(Plugin plugin) {
+        this.plugin = plugin;
+        pluginName = plugin.getClass().getName();
+    }
+
+    /**
+     * Returns a plugin that records an event for every method called, if plugin hook events are being recorded.
+     *
+     * @param plugin the plugin
+     * @return a recording plugin, or the plugin itself if plugin hook events are not being recorded
+     */
+    public static Plugin wrapIfRecording(Plugin plugin) {
+        if (!new PluginHookEvent().isEnabled()) {
+            return plugin;
+        }
+
+        return (Plugin) Proxy.newProxyInstance(Plugin.class.getClassLoader(), new Class<?>[] { Plugin.class },
+                new PluginHookRecorder(plugin));
+    }
+
+    @Override
+    public @Nullable Object invoke(Object proxy, Method method, @Nullable Object @Nullable [] args)
+            throws Throwable {
+        PluginHookEvent event = new PluginHookEvent();
+        event.begin();
+        try {
+            return method.invoke(plugin, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            event.commit(pluginName, method.getName(), findTableName(args));
+        }
+    }
+
+    private static @Nullable String findTableName(@Nullable Object @Nullable [] args) {
+        if (args != null) {
+            for (Object arg : args) {
+                if (arg instanceof IntrospectedTable introspectedTable) {
+                    return introspectedTable.getFullyQualifiedTable().toString();
+                }
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+@Name("org.mybatis.generator.TableIntrospection")
+@Label("Table Introspection")
+@Category({"MyBatis Generator", "Introspection"})
+@Description("Introspection of a table configuration. A configuration with wildcards may match several tables")
+@StackTrace(false)
+public class TableIntrospectionEvent extends Event {
+    @Label("Context")
+    private @Nullable String contextId;
+
+    @Label("Table")
+    @Description("The fully qualified table name, as specified in the configuration")
+    private @Nullable String tableName;
+
+    @Label("Metadata Source")
+    @Description("How the metadata is read - a query per table, in bulk, from a cache, or from a snapshot")
+    private @Nullable String metadataSource;
+
+    @Label("Introspected Tables")
+    private int tables;
+
+    public void commit(String contextId, String tableName, String metadataSource, int tables) {
+        if (shouldCommit()) {
+            this.contextId = contextId;
+            this.tableName = tableName;
+            this.metadataSource = metadataSource;
+            this.tables = tables;
+            commit();
+        }
+    }
+}
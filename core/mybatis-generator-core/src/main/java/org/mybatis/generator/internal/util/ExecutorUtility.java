@@ -0,0 +1,56 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class holds methods useful for the worker pools the generator uses when work is run concurrently.
+ */
+public class ExecutorUtility {
+
+    /**
+     * Utility Class - No Instances.
+     */
+    private ExecutorUtility() {
+    }
+
+    /**
+     * Waits until every task of a pool that has been shut down has finished. Tasks may hold resources - such as
+     * database connections, or files being written - that the caller releases next, so the wait is not abandoned if
+     * the thread is interrupted. The interrupt is restored once the pool has terminated.
+     *
+     * @param executorService
+     *            the pool, already shut down
+     */
+    public static void awaitTermination(ExecutorService executorService) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (executorService.awaitTermination(1, TimeUnit.SECONDS)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
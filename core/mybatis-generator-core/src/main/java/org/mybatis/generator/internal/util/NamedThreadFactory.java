@@ -0,0 +1,45 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.util;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread factory for the worker pools the generator uses when work is run concurrently.
+ *
+ * <p>Threads are daemon threads, so an abandoned run cannot keep the JVM alive. Every thread is given the context
+ * class loader of the thread that created the factory. This is important because JDBC drivers, plugins, and
+ * root classes are often loaded through a custom class loader set by the Maven plugin or the Eclipse launcher.
+ */
+public class NamedThreadFactory implements ThreadFactory {
+    private final String namePrefix;
+    private final ClassLoader contextClassLoader;
+    private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+    public NamedThreadFactory(String namePrefix) {
+        this.namePrefix = namePrefix;
+        contextClassLoader = Thread.currentThread().getContextClassLoader();
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, namePrefix + "-" + threadNumber.getAndIncrement()); //$NON-NLS-1$
+        thread.setDaemon(true);
+        thread.setContextClassLoader(contextClassLoader);
+        return thread;
+    }
+}
@@ -163,6 +163,27 @@ public class StringUtility {
         return Boolean.parseBoolean(s);
     }
 
+    /**
+     * Parses a string as an integer that must be at least one - typically a thread count or some other size
+     * specified as a property.
+     *
+     * @param s the string to parse
+     * @param defaultValue the value to return if the string is empty, is not an integer, or is less than one
+     * @return the parsed value, or the default value
+     */
+    public static int parsePositiveIntOrElse(@Nullable String s, int defaultValue) {
+        if (!stringHasValue(s)) {
+            return defaultValue;
+        }
+
+        try {
+            int answer = Integer.parseInt(s.trim());
+            return answer > 0 ? answer : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
     public static boolean stringContainsSQLWildcard(@Nullable String s) {
         if (s == null) {
             return false;
@@ -23,12 +23,23 @@ import org.mybatis.generator.exception.MergeException;
 public abstract class AbstractJavaMerger implements JavaFileMerger {
     protected final Printer printer;
     private final boolean isLexicalPreserving;
+    // parsers are not thread safe, so each thread that merges files gets its own
+    private final ThreadLocal<JavaParser> javaParser = ThreadLocal.withInitial(this::createJavaParser);
 
     protected  AbstractJavaMerger(Printer printer, boolean isLexicalPreserving) {
         this.printer = printer;
         this.isLexicalPreserving = isLexicalPreserving;
     }
 
+    private JavaParser createJavaParser() {
+        ParserConfiguration parserConfiguration = new ParserConfiguration();
+        parserConfiguration.setLanguageLevel(ParserConfiguration.LanguageLevel.JAVA_25);
+        if (isLexicalPreserving) {
+            parserConfiguration.setLexicalPreservationEnabled(true);
+        }
+        return new JavaParser(parserConfiguration);
+    }
+
     /**
      * Merge a newly generated Java file with existing Java file content.
      *
@@ -39,13 +50,12 @@ public abstract class AbstractJavaMerger implements JavaFileMerger {
      */
     @Override
     public String getMergedSource(String newFileContent, String existingFileContent) throws MergeException {
-        ParserConfiguration parserConfiguration = new ParserConfiguration();
-        parserConfiguration.setLanguageLevel(ParserConfiguration.LanguageLevel.JAVA_25);
-        if (isLexicalPreserving) {
-            parserConfiguration.setLexicalPreservationEnabled(true);
+        // Most existing files are entirely generated. If a quick scan can tell, there is no need to parse anything
+        if (CustomMemberScanner.hasNoMembersToMerge(existingFileContent)) {
+            return newFileContent;
         }
-        JavaParser javaParser = new JavaParser(parserConfiguration);
 
+        JavaParser javaParser = this.javaParser.get();
         ParseResults existingFileParseResults = JavaMergeUtilities.parseAndFindMainTypeDeclaration(javaParser,
                 existingFileContent, MergeFileType.EXISTING_FILE);
 
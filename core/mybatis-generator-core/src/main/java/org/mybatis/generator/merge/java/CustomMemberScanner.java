@@ -0,0 +1,395 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.merge.java;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.config.MergeConstants;
+
+/**
+ * A quick lexical scan of an existing Java file that can tell, without parsing the file, that the file has no members
+ * that must be merged. Most existing files are entirely generated, and for those the scan saves a full parse.
+ *
+ * <p>The scan applies the same rules as {@link CustomMemberGatherer} to the immediate members of the type declared in
+ * the file, but only where they can be decided from the tokens alone. It is deliberately conservative: unless the
+ * file has a single class, interface, or record declaration whose members all carry the MyBatis Generator
+ * {@code @Generated} annotation, or one of the old Javadoc tags, without the "do_not_delete_during_merge" marker, the
+ * scan gives up and the file must be parsed. Enum declarations are always parsed.
+ */
+public class CustomMemberScanner {
+    private static final Set<String> GENERATED_ANNOTATION_NAMES = Set.of("Generated", //$NON-NLS-1$
+            "javax.annotation.Generated", //$NON-NLS-1$
+            "jakarta.annotation.Generated"); //$NON-NLS-1$
+
+    private static final Set<String> MODIFIERS = Set.of(
+            "public", "protected", "private", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            "static", "final", "abstract", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            "default", "sealed", "synchronized", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            "native", "transient", "volatile", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            "strictfp"); //$NON-NLS-1$
+
+    private final String source;
+    private int position;
+    private @Nullable Token lookAhead;
+    private boolean malformed;
+    private final List<String> comments = new ArrayList<>();
+    private int lastCommentEnd;
+
+    private CustomMemberScanner(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Returns true if the file certainly has no members to merge. A false result means that the file must be parsed
+     * to find out.
+     *
+     * @param source the content of an existing Java file
+     * @return true if every member of the main type of the file is generated, and none is marked
+     *     "do_not_delete_during_merge"
+     */
+    public static boolean hasNoMembersToMerge(String source) {
+        // unicode escapes could hide any character from the scan
+        if (source.contains("\\u")) { //$NON-NLS-1$
+            return false;
+        }
+
+        return new CustomMemberScanner(source).scanFile();
+    }
+
+    private boolean scanFile() {
+        if (!scanTypeHeader()) {
+            return false;
+        }
+
+        MemberType memberType;
+        do {
+            memberType = scanMember();
+            if (memberType == MemberType.UNDECIDED) {
+                return false;
+            }
+        } while (memberType != MemberType.END_OF_TYPE);
+
+        // anything other than stray semicolons after the type means there are more types in the file
+        Token token = nextToken();
+        while (token.isSymbol(';')) {
+            token = nextToken();
+        }
+
+        return token.kind() == TokenKind.END_OF_FILE && !malformed;
+    }
+
+    /**
+     * Skips the package and import declarations, and the header of the type declaration.
+     *
+     * @return true if the file declares a class, interface, or record, and the scan is at the start of its body
+     */
+    private boolean scanTypeHeader() {
+        boolean isSupportedType = false;
+        boolean isUnsupportedType = false;
+        Token previous = Token.NONE;
+        Token token = nextToken();
+        while (!token.isSymbol('{')) {
+            if (token.kind() == TokenKind.END_OF_FILE) {
+                return false;
+            } else if (token.isSymbol(';')) {
+                // end of the package or an import declaration
+                isSupportedType = false;
+                isUnsupportedType = false;
+            } else if (token.isSymbol('(')) {
+                // annotation values or record components
+                skipBalanced('(', ')');
+            } else if (token.isIdentifier("enum") //$NON-NLS-1$
+                    || token.isIdentifier("interface") && previous.isSymbol('@')) { //$NON-NLS-1$
+                // enums and annotation types
+                isUnsupportedType = true;
+            } else if (token.isIdentifier("class") || token.isIdentifier("interface") //$NON-NLS-1$ //$NON-NLS-2$
+                    || token.isIdentifier("record")) { //$NON-NLS-1$
+                isSupportedType = true;
+            }
+            previous = token;
+            token = nextToken();
+        }
+
+        return isSupportedType && !isUnsupportedType;
+    }
+
+    private MemberType scanMember() {
+        comments.clear();
+        Token token = nextToken();
+        if (token.isSymbol('}')) {
+            return MemberType.END_OF_TYPE;
+        } else if (token.isSymbol(';')) {
+            return MemberType.EMPTY;
+        }
+        int commentsBeforeMember = comments.size();
+        boolean isCommentAttached = commentsBeforeMember == 1 && isOnAdjacentLines(lastCommentEnd, token.start());
+
+        @Nullable GeneratedType annotationType = null;
+        boolean inModifiers = true;
+        boolean isInitialized = false;
+        while (true) {
+            if (token.kind() == TokenKind.END_OF_FILE || token.isSymbol('}')) {
+                return MemberType.UNDECIDED;
+            } else if (token.isSymbol('@') && inModifiers) {
+                GeneratedType generatedType = scanAnnotation();
+                if (generatedType == null) {
+                    return MemberType.UNDECIDED;
+                } else if (annotationType == null && generatedType != GeneratedType.NOT_GENERATED) {
+                    annotationType = generatedType;
+                }
+            } else if (token.isSymbol(';')) {
+                break;
+            } else if (token.isSymbol('(')) {
+                skipBalanced('(', ')');
+            } else if (token.isSymbol('{')) {
+                skipBalanced('{', '}');
+                if (!isInitialized) {
+                    // end of a method, constructor, initializer, or nested type
+                    break;
+                }
+            } else if (token.isSymbol('=')) {
+                isInitialized = true;
+            } else if (!token.isIdentifier() || !MODIFIERS.contains(token.text())) {
+                inModifiers = false;
+            }
+            token = nextToken();
+        }
+
+        if (annotationType != null) {
+            return annotationType == GeneratedType.GENERATED_REMOVE ? MemberType.GENERATED : MemberType.UNDECIDED;
+        }
+
+        // The parser attaches the comment just before a member to the member, unless there is a blank line between
+        // them. With more than one comment, or a line comment that may belong to the previous member, it is not
+        // certain which comment the parser would attach.
+        if (comments.size() == 1 && isCommentAttached) {
+            String comment = comments.get(0);
+            if (comment.startsWith("/*") && MergeConstants.commentContainsTag(comment) //$NON-NLS-1$
+                    && !comment.contains(MergeConstants.DO_NOT_DELETE_DURING_MERGE)) {
+                return MemberType.GENERATED;
+            }
+        }
+
+        return MemberType.UNDECIDED;
+    }
+
+    /**
+     * Scans an annotation, after the "@".
+     *
+     * @return the type of the annotation, or null if it is a generated annotation with values that cannot be decided
+     *     without parsing
+     */
+    private @Nullable GeneratedType scanAnnotation() {
+        StringBuilder name = new StringBuilder();
+        Token token = nextToken();
+        while (token.isIdentifier()) {
+            name.append(token.text());
+            if (!peekToken().isSymbol('.')) {
+                break;
+            }
+            name.append(nextToken().text());
+            token = nextToken();
+        }
+
+        boolean hasValues = peekToken().isSymbol('(');
+        if (!GENERATED_ANNOTATION_NAMES.contains(name.toString())) {
+            if (hasValues) {
+                nextToken();
+                skipBalanced('(', ')');
+            }
+            return GeneratedType.NOT_GENERATED;
+        } else if (!hasValues) {
+            return GeneratedType.NOT_GENERATED;
+        }
+        nextToken();
+
+        // single value: @Generated("...")
+        token = nextToken();
+        if (token.kind() == TokenKind.STRING && peekToken().isSymbol(')')) {
+            nextToken();
+            return isMyBatisGenerator(token) ? GeneratedType.GENERATED_REMOVE : GeneratedType.NOT_GENERATED;
+        }
+
+        // named values: @Generated(value = "...", comments = "...")
+        @Nullable Token value = null;
+        @Nullable Token comment = null;
+        while (token.isIdentifier() && nextToken().isSymbol('=')) {
+            Token literal = nextToken();
+            if (literal.kind() != TokenKind.STRING || literal.text().indexOf('\\') != -1) {
+                return null;
+            }
+            if (value == null && token.isIdentifier("value")) { //$NON-NLS-1$
+                value = literal;
+            } else if (comment == null && token.isIdentifier("comments")) { //$NON-NLS-1$
+                comment = literal;
+            }
+
+            Token separator = nextToken();
+            if (separator.isSymbol(')')) {
+                if (value == null || !isMyBatisGenerator(value)) {
+                    return GeneratedType.NOT_GENERATED;
+                } else if (comment != null && comment.text().contains(MergeConstants.DO_NOT_DELETE_DURING_MERGE)) {
+                    return GeneratedType.GENERATED_KEEP;
+                } else {
+                    return GeneratedType.GENERATED_REMOVE;
+                }
+            } else if (!separator.isSymbol(',')) {
+                return null;
+            }
+            token = nextToken();
+        }
+
+        return null;
+    }
+
+    private boolean isOnAdjacentLines(int end, int start) {
+        return source.substring(end, start).chars().filter(c -> c == '\n').count() <= 1;
+    }
+
+    private boolean isMyBatisGenerator(Token token) {
+        return token.text().equals(MyBatisGenerator.class.getName());
+    }
+
+    /**
+     * Skips tokens up to, and including, the close character that balances an open character that was just read.
+     * Comments inside the skipped tokens belong to nested elements, so they are dropped.
+     */
+    private void skipBalanced(char open, char close) {
+        int commentCount = comments.size();
+        int depth = 1;
+        while (depth > 0) {
+            Token token = nextToken();
+            if (token.kind() == TokenKind.END_OF_FILE) {
+                malformed = true;
+                break;
+            } else if (token.isSymbol(open)) {
+                depth++;
+            } else if (token.isSymbol(close)) {
+                depth--;
+            }
+        }
+        comments.subList(commentCount, comments.size()).clear();
+    }
+
+    private Token peekToken() {
+        if (lookAhead == null) {
+            lookAhead = readToken();
+        }
+        return lookAhead;
+    }
+
+    private Token nextToken() {
+        Token token = peekToken();
+        lookAhead = null;
+        return token;
+    }
+
+    private Token readToken() {
+        while (position < source.length()) {
+            char c = source.charAt(position);
+            if (Character.isWhitespace(c)) {
+                position++;
+            } else if (c == '/' && position + 1 < source.length()
+                    && (source.charAt(position + 1) == '/' || source.charAt(position + 1) == '*')) {
+                int start = position;
+                String terminator = source.charAt(position + 1) == '/' ? "\n" : "*/"; //$NON-NLS-1$ //$NON-NLS-2$
+                position = endOf(terminator, position + 2, false);
+                comments.add(source.substring(start, position));
+                lastCommentEnd = position;
+            } else if (source.startsWith("\"\"\"", position)) { //$NON-NLS-1$
+                int start = position + 3;
+                position = endOf("\"\"\"", start, true); //$NON-NLS-1$
+                return new Token(TokenKind.TEXT_BLOCK, source.substring(start, Math.max(start, position - 3)),
+                        start - 3);
+            } else if (c == '"' || c == '\'') {
+                int start = position + 1;
+                position = endOf(String.valueOf(c), start, true);
+                TokenKind kind = c == '"' ? TokenKind.STRING : TokenKind.CHARACTER;
+                return new Token(kind, source.substring(start, Math.max(start, position - 1)), start - 1);
+            } else if (Character.isJavaIdentifierPart(c)) {
+                int start = position;
+                while (position < source.length() && Character.isJavaIdentifierPart(source.charAt(position))) {
+                    position++;
+                }
+                return new Token(TokenKind.IDENTIFIER, source.substring(start, position), start);
+            } else {
+                position++;
+                return new Token(TokenKind.SYMBOL, String.valueOf(c), position - 1);
+            }
+        }
+
+        return new Token(TokenKind.END_OF_FILE, "", position); //$NON-NLS-1$
+    }
+
+    /**
+     * Finds the end of a comment or literal.
+     *
+     * @return the position just after the terminator
+     */
+    private int endOf(String terminator, int start, boolean hasEscapes) {
+        int index = start;
+        while (index < source.length()) {
+            if (hasEscapes && source.charAt(index) == '\\') {
+                index += 2;
+            } else if (source.startsWith(terminator, index)) {
+                return index + terminator.length();
+            } else {
+                index++;
+            }
+        }
+
+        // a line comment may end the file, anything else is unterminated
+        malformed |= !terminator.equals("\n"); //$NON-NLS-1$
+        return source.length();
+    }
+
+    private enum MemberType {
+        GENERATED,
+        EMPTY,
+        END_OF_TYPE,
+        UNDECIDED
+    }
+
+    private enum TokenKind {
+        IDENTIFIER,
+        STRING,
+        TEXT_BLOCK,
+        CHARACTER,
+        SYMBOL,
+        NONE,
+        END_OF_FILE
+    }
+
+    private record Token(TokenKind kind, String text, int start) {
+        static final Token NONE = new Token(TokenKind.NONE, "", 0); //$NON-NLS-1$
+
+        boolean isSymbol(char c) {
+            return kind == TokenKind.SYMBOL && text.charAt(0) == c;
+        }
+
+        boolean isIdentifier() {
+            return kind == TokenKind.IDENTIFIER;
+        }
+
+        boolean isIdentifier(String identifier) {
+            return kind == TokenKind.IDENTIFIER && text.equals(identifier);
+        }
+    }
+}
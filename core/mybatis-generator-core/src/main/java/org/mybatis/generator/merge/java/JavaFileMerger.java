@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.generator.exception.MergeException;
@@ -40,11 +41,26 @@ public interface JavaFileMerger {
      */
     default String getMergedSource(String newFileContent, File existingFile,
                                   @Nullable String fileEncoding) throws MergeException {
+        return getMergedSource(newFileContent, existingFile.toPath(), fileEncoding);
+    }
+
+    /**
+     * Merge a newly generated Java file with an existing Java file. The file may be in any file system.
+     *
+     * @param newFileContent the content of the newly generated Java file
+     * @param existingFile the existing Java file
+     * @param fileEncoding the file encoding for reading existing Java files
+     * @return the merged source, properly formatted
+     * @throws MergeException if the file cannot be merged for some reason
+     */
+    default String getMergedSource(String newFileContent, Path existingFile,
+                                  @Nullable String fileEncoding) throws MergeException {
         try {
             String existingFileContent = readFileContent(existingFile, fileEncoding);
             return getMergedSource(newFileContent, existingFileContent);
         } catch (IOException e) {
-            throw new MergeException(getString("Warning.32", existingFile.getName()), e); //$NON-NLS-1$
+            throw new MergeException(getString("Warning.32", //$NON-NLS-1$
+                    String.valueOf(existingFile.getFileName())), e);
         }
     }
 
@@ -58,11 +74,11 @@ public interface JavaFileMerger {
      */
     String getMergedSource(String newFileContent, String existingFileContent) throws MergeException;
 
-    private String readFileContent(File file, @Nullable String fileEncoding) throws IOException {
+    private String readFileContent(Path file, @Nullable String fileEncoding) throws IOException {
         if (fileEncoding != null) {
-            return Files.readString(file.toPath(), Charset.forName(fileEncoding));
+            return Files.readString(file, Charset.forName(fileEncoding));
         } else {
-            return Files.readString(file.toPath(), StandardCharsets.UTF_8);
+            return Files.readString(file, StandardCharsets.UTF_8);
         }
     }
 }
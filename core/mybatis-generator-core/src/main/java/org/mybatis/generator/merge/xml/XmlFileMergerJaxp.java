@@ -19,10 +19,11 @@ import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import javax.xml.XMLConstants;
@@ -48,9 +49,16 @@ import org.xml.sax.SAXException;
 /**
  * This class handles the task of merging changes into an existing XML file.
  *
+ * <p>The merger is thread safe. All threads share one configured DocumentBuilderFactory, and each thread reuses its
+ * own DocumentBuilder, so merging many files does not pay for factory lookup and builder creation on every file.
+ *
  * @author Jeff Butler
  */
 public class XmlFileMergerJaxp {
+    private static final EntityResolver NULL_ENTITY_RESOLVER = new NullEntityResolver();
+    private static final ThreadLocal<@Nullable DocumentBuilder> DOCUMENT_BUILDERS = new ThreadLocal<>();
+    private static @Nullable DocumentBuilderFactory documentBuilderFactory;
+
     private XmlFileMergerJaxp() {
     }
 
@@ -70,14 +78,17 @@ public class XmlFileMergerJaxp {
     }
 
     public static String getMergedSource(String generatedXmlFile, File existingFile) throws MergeException {
-        try {
+        return getMergedSource(generatedXmlFile, existingFile.toPath());
+    }
+
+    public static String getMergedSource(String generatedXmlFile, Path existingFile) throws MergeException {
+        String existingFileName = String.valueOf(existingFile.getFileName());
+        try (Reader reader = Files.newBufferedReader(existingFile, StandardCharsets.UTF_8)) {
             return getMergedSource(new InputSource(new StringReader(generatedXmlFile)),
-                new InputSource(new InputStreamReader(
-                        Files.newInputStream(existingFile.toPath()), StandardCharsets.UTF_8)),
-                existingFile.getName());
+                new InputSource(reader), existingFileName);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             throw new MergeException(getString("Warning.13", //$NON-NLS-1$
-                    existingFile.getName()), e);
+                    existingFileName), e);
         }
     }
 
@@ -85,14 +96,7 @@ public class XmlFileMergerJaxp {
             InputSource existingFile, String existingFileName) throws IOException, SAXException,
             ParserConfigurationException, MergeException {
 
-        DocumentBuilderFactory factory = DocumentBuilderFactory
-                .newInstance();
-        factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-        factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
-        factory.setExpandEntityReferences(false);
-        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-        DocumentBuilder builder = factory.newDocumentBuilder();
-        builder.setEntityResolver(new NullEntityResolver());
+        DocumentBuilder builder = getDocumentBuilder();
 
         Document existingDocument = builder.parse(existingFile);
         Document newDocument = builder.parse(newFile);
@@ -175,6 +179,42 @@ public class XmlFileMergerJaxp {
         return new DomWriter(document).getFormattedDocument();
     }
 
+    /**
+     * Returns the document builder of the current thread, creating it on first use. Builders are not thread safe, but
+     * can be reused after a reset.
+     */
+    private static DocumentBuilder getDocumentBuilder() throws ParserConfigurationException {
+        DocumentBuilder builder = DOCUMENT_BUILDERS.get();
+        if (builder == null) {
+            builder = newDocumentBuilder();
+            DOCUMENT_BUILDERS.set(builder);
+        } else {
+            builder.reset();
+        }
+
+        // reset() may clear the entity resolver
+        builder.setEntityResolver(NULL_ENTITY_RESOLVER);
+        return builder;
+    }
+
+    /**
+     * Factories are not guaranteed to be thread safe, so the shared factory is only used while holding the class lock.
+     * That happens once per thread.
+     */
+    private static synchronized DocumentBuilder newDocumentBuilder() throws ParserConfigurationException {
+        DocumentBuilderFactory factory = documentBuilderFactory;
+        if (factory == null) {
+            factory = DocumentBuilderFactory.newInstance();
+            factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+            factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+            factory.setExpandEntityReferences(false);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            documentBuilderFactory = factory;
+        }
+
+        return factory.newDocumentBuilder();
+    }
+
     private static boolean isGeneratedNode(@Nullable Node node) {
         return node != null
                 && node.getNodeType() == Node.ELEMENT_NODE
@@ -50,6 +50,16 @@ public class CaseInsensitiveLikePlugin extends PluginAdapter {
         return true;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public boolean isIncrementalGenerationSupported() {
+        return true;
+    }
+
     @Override
     public boolean modelExampleClassGenerated(TopLevelClass topLevelClass,
             IntrospectedTable introspectedTable) {
@@ -43,6 +43,16 @@ public class FluentBuilderMethodsPlugin extends PluginAdapter {
         return true;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public boolean isIncrementalGenerationSupported() {
+        return true;
+    }
+
     @Override
     public boolean modelSetterMethodGenerated(Method method,
             TopLevelClass topLevelClass, IntrospectedColumn introspectedColumn,
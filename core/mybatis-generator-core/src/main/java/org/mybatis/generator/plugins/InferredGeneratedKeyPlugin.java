@@ -34,6 +34,16 @@ public class InferredGeneratedKeyPlugin extends PluginAdapter {
         return true;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public boolean isIncrementalGenerationSupported() {
+        return true;
+    }
+
     @Override
     public void initialized(IntrospectedTable introspectedTable) {
         // if there is already a generated key, do not override it
@@ -44,6 +44,16 @@ public class JSpecifyPlugin extends PluginAdapter {
         return true;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public boolean isIncrementalGenerationSupported() {
+        return true;
+    }
+
     @Override
     public void initialized(IntrospectedTable introspectedTable) {
         boolean skipped = Boolean.parseBoolean(introspectedTable.getTableConfigurationProperty(SKIP_PROPERTY));
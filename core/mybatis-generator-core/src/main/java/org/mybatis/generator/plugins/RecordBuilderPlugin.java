@@ -35,6 +35,16 @@ public class RecordBuilderPlugin extends BaseRecordPlugin {
         super("skipRecordBuilderPlugin"); //$NON-NLS-1$
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public boolean isIncrementalGenerationSupported() {
+        return true;
+    }
+
     @Override
     protected void execute(TopLevelRecord topLevelRecord, IntrospectedTable introspectedTable) {
         boolean jspecifyEnabled = JSpecifyPlugin.isEnabled(introspectedTable);
@@ -33,6 +33,16 @@ public class RecordWithMethodsPlugin extends BaseRecordPlugin {
         super("skipRecordWithMethodsPlugin"); //$NON-NLS-1$
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public boolean isIncrementalGenerationSupported() {
+        return true;
+    }
+
     @Override
     protected void execute(TopLevelRecord topLevelRecord, IntrospectedTable introspectedTable) {
         List<IntrospectedColumn> allColumns = introspectedTable.getAllColumns();
@@ -80,6 +80,16 @@ public class RenameExampleClassPlugin extends PluginAdapter {
         return valid;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public boolean isIncrementalGenerationSupported() {
+        return true;
+    }
+
     @Override
     public void initialized(IntrospectedTable introspectedTable) {
         if (pattern != null) {
@@ -55,6 +55,12 @@ public class RowBoundsPlugin extends PluginAdapter {
         return true;
     }
 
+    @Override
+    public boolean isIncrementalGenerationSupported() {
+        // saved elements are only used for the table they were saved for
+        return true;
+    }
+
     @Override
     public boolean clientSelectByExampleWithBLOBsMethodGenerated(Method method, Interface interfaze,
                                                                  IntrospectedTable introspectedTable) {
@@ -39,6 +39,16 @@ public class VirtualPrimaryKeyPlugin extends PluginAdapter {
         return true;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public boolean isIncrementalGenerationSupported() {
+        return true;
+    }
+
     @Override
     public void initialized(IntrospectedTable introspectedTable) {
         String virtualKey = introspectedTable.getTableConfiguration()
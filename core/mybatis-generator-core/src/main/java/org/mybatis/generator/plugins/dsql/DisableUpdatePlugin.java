@@ -36,6 +36,16 @@ public class DisableUpdatePlugin extends PluginAdapter {
         return true;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public boolean isIncrementalGenerationSupported() {
+        return true;
+    }
+
     @Override
     public boolean clientGeneralUpdateMethodGenerated(Method method, Interface interfaze,
             IntrospectedTable introspectedTable) {
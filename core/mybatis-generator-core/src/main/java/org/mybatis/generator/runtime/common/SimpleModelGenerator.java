@@ -76,7 +76,7 @@ public class SimpleModelGenerator extends AbstractJavaGenerator {
         Optional<RootClassInfo> rootClassInfo = RootClassAndInterfaceUtility.getRootClass(introspectedTable)
                 .map(rc -> RootClassInfo.getInstance(rc, warnings));
         for (IntrospectedColumn introspectedColumn : introspectedTable.getAllColumns()) {
-            if (rootClassInfo.map(rci -> rci.containsProperty(introspectedColumn)).orElse(false)) {
+            if (rootClassInfo.map(rci -> rci.containsProperty(introspectedColumn, warnings)).orElse(false)) {
                 continue;
             }
 
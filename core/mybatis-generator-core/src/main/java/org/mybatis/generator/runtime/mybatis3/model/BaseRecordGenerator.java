@@ -79,7 +79,7 @@ public class BaseRecordGenerator extends AbstractJavaGenerator {
         Optional<RootClassInfo> rootClassInfo = RootClassAndInterfaceUtility.getRootClass(introspectedTable)
                 .map(rc -> RootClassInfo.getInstance(rc, warnings));
         for (IntrospectedColumn introspectedColumn : getColumnsInThisClass()) {
-            if (rootClassInfo.map(rci -> rci.containsProperty(introspectedColumn)).orElse(false)) {
+            if (rootClassInfo.map(rci -> rci.containsProperty(introspectedColumn, warnings)).orElse(false)) {
                 continue;
             }
 
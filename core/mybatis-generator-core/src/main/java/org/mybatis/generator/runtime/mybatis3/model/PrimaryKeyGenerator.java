@@ -74,7 +74,7 @@ public class PrimaryKeyGenerator extends AbstractJavaGenerator {
         Optional<RootClassInfo> rootClassInfo = RootClassAndInterfaceUtility.getRootClass(introspectedTable)
                 .map(rc -> RootClassInfo.getInstance(rc, warnings));
         for (IntrospectedColumn introspectedColumn : introspectedTable.getPrimaryKeyColumns()) {
-            if (rootClassInfo.map(rci -> rci.containsProperty(introspectedColumn)).orElse(false)) {
+            if (rootClassInfo.map(rci -> rci.containsProperty(introspectedColumn, warnings)).orElse(false)) {
                 continue;
             }
 
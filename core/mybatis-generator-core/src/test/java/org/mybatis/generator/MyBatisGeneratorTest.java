@@ -209,4 +209,28 @@ class MyBatisGeneratorTest {
         context.validate(errors);
         assertThat(errors).hasSize(1);
     }
+
+    @Test
+    void testInvalidIntrospectionThreads() {
+        Context context = new Context.Builder()
+                .withId("MyContext")
+                .withJdbcConnectionConfiguration(new JDBCConnectionConfiguration.Builder()
+                        .withDriverClass("a")
+                        .withConnectionURL("b")
+                        .build())
+                .withModelGeneratorConfiguration(new ModelGeneratorConfiguration.Builder()
+                        .withTargetPackage("foo.bar")
+                        .withTargetProject("MyProject")
+                        .build())
+                .withTableConfiguration(new TableConfiguration.Builder()
+                        .withTableName("test")
+                        .build())
+                .withProperty(new Property("introspectionThreads", "zero"))
+                .build();
+
+        List<String> errors = new ArrayList<>();
+        context.validate(errors);
+        assertThat(errors).containsExactly("Property introspectionThreads in context MyContext must be a positive integer");
+        assertThat(context.getIntrospectionThreads()).isEqualTo(1);
+    }
 }
@@ -15,12 +15,14 @@
  */
 package org.mybatis.generator;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -31,6 +33,7 @@ import org.mybatis.generator.api.GeneratedXmlFile;
 import org.mybatis.generator.api.MyBatisGenerator;
 import org.mybatis.generator.api.dom.DefaultXmlFormatter;
 import org.mybatis.generator.api.Indenter;
+import org.mybatis.generator.api.dom.xml.render.ElementRenderer;
 import org.mybatis.generator.config.Configuration;
 import org.mybatis.generator.config.xml.ConfigurationParser;
 import org.mybatis.generator.internal.DefaultShellCallback;
@@ -60,6 +63,24 @@ class XmlCodeGenerationTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("xmlFileGenerator")
+    void testStreamingMatchesString(GeneratedXmlFile generatedXmlFile) throws Exception {
+        DefaultXmlFormatter formatter = new DefaultXmlFormatter();
+        formatter.setIndenter(Indenter.defaultIndenter());
+        String content = formatter.getFormattedContent(generatedXmlFile.getDocument());
+
+        StringBuilder sb = new StringBuilder();
+        formatter.writeFormattedContent(generatedXmlFile.getDocument(), sb);
+        assertThat(sb).hasToString(content);
+
+        // the element writer must match the line based element renderer
+        String rootElement = generatedXmlFile.getDocument().getRootElement()
+                .accept(new ElementRenderer(Indenter.defaultIndenter()))
+                .collect(Collectors.joining(System.lineSeparator()));
+        assertThat(content).endsWith(System.lineSeparator() + rootElement);
+    }
+
     static List<GeneratedXmlFile> xmlFileGenerator() throws Exception {
         return new ArrayList<>(generateXmlFilesMybatis());
     }
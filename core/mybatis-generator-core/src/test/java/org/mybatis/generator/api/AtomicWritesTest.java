@@ -0,0 +1,93 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.generator.api.GeneratorTestSupport.readConfiguration;
+import static org.mybatis.generator.api.GeneratorTestSupport.readFiles;
+import static org.mybatis.generator.api.GeneratorTestSupport.withTargetProject;
+
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+
+/**
+ * Tests for atomic writes and deferred commits - see
+ * {@link MyBatisGenerator.Builder#withDeferredCommitEnabled(boolean)}.
+ */
+class AtomicWritesTest {
+
+    @Test
+    void testCanceledDeferredCommitLeavesPreviousFiles(@TempDir Path tempDir) throws Exception {
+        String configText = withTargetProject(readConfiguration(), tempDir);
+        writeWithDeferredCommit(configText, new ProgressCallback() {});
+        Map<String, String> generatedFiles = readFiles(tempDir);
+        for (String file : generatedFiles.keySet()) {
+            Files.writeString(tempDir.resolve(file), "previous");
+        }
+        Map<String, String> previousFiles = readFiles(tempDir);
+
+        // cancel the run once some files have been written
+        ProgressCallback cancelingCallback = new ProgressCallback() {
+            private boolean saving;
+            private int savedFiles;
+
+            @Override
+            public void saveStarted(int totalTasks) {
+                saving = true;
+            }
+
+            @Override
+            public void startTask(String taskName) {
+                if (saving) {
+                    savedFiles++;
+                }
+            }
+
+            @Override
+            public void checkCancel() throws InterruptedException {
+                if (savedFiles > generatedFiles.size() / 2) {
+                    throw new InterruptedException();
+                }
+            }
+        };
+        assertThatExceptionOfType(InterruptedException.class)
+                .isThrownBy(() -> writeWithDeferredCommit(configText, cancelingCallback));
+        assertThat(readFiles(tempDir)).isEqualTo(previousFiles);
+
+        writeWithDeferredCommit(configText, new ProgressCallback() {});
+        assertThat(readFiles(tempDir)).isEqualTo(generatedFiles);
+    }
+
+    private static void writeWithDeferredCommit(String configText, ProgressCallback progressCallback)
+            throws Exception {
+        Configuration config = new ConfigurationParser().parseConfiguration(new StringReader(configText));
+        new MyBatisGenerator.Builder()
+                .withConfiguration(config)
+                .withProgressCallback(progressCallback)
+                .withOverwriteEnabled(true)
+                .withDeferredCommitEnabled(true)
+                .build()
+                .generateAndWrite();
+    }
+}
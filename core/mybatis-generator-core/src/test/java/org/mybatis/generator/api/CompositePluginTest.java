@@ -0,0 +1,130 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.api.dom.java.Field;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.ModelGeneratorConfiguration;
+import org.mybatis.generator.config.TableConfiguration;
+import org.mybatis.generator.internal.PluginAggregator;
+
+class CompositePluginTest {
+
+    @Test
+    void testColumnHooksOnlyCallOverridingPlugins() {
+        List<String> calls = new ArrayList<>();
+        PluginAggregator aggregator = new PluginAggregator();
+        aggregator.addPlugin(new TestPlugin());
+        aggregator.addPlugin(new FieldPlugin("first", false, calls));
+        aggregator.addPlugin(new GetterPlugin("second", calls));
+        aggregator.addPlugin(new FieldPlugin("third", true, calls));
+
+        Field field = new Field("id", FullyQualifiedJavaType.getIntInstance());
+        Method method = new Method("getId");
+        TopLevelClass topLevelClass = new TopLevelClass("foo.Bar");
+        IntrospectedColumn introspectedColumn = new IntrospectedColumn();
+        IntrospectedTable introspectedTable = createIntrospectedTable();
+
+        // the first field plugin vetoes the field, so the third is not called
+        assertThat(aggregator.modelFieldGenerated(field, topLevelClass, introspectedColumn, introspectedTable,
+                Plugin.ModelClassType.BASE_RECORD)).isFalse();
+        assertThat(aggregator.modelGetterMethodGenerated(method, topLevelClass, introspectedColumn,
+                introspectedTable, Plugin.ModelClassType.BASE_RECORD)).isTrue();
+        assertThat(aggregator.modelSetterMethodGenerated(method, topLevelClass, introspectedColumn,
+                introspectedTable, Plugin.ModelClassType.BASE_RECORD)).isTrue();
+
+        assertThat(calls).containsExactly("first.field", "second.getter");
+    }
+
+    private static IntrospectedTable createIntrospectedTable() {
+        ModelGeneratorConfiguration modelGeneratorConfiguration = new ModelGeneratorConfiguration.Builder()
+                .withTargetPackage("foo")
+                .withTargetProject("TestProject")
+                .build();
+
+        Context context = new Context.Builder()
+                .withId("test")
+                .withModelGeneratorConfiguration(modelGeneratorConfiguration)
+                .build();
+
+        FullyQualifiedTable fullyQualifiedTable = new FullyQualifiedTable.Builder()
+                .withContext(context)
+                .withIntrospectedTableName("BAR")
+                .build();
+
+        return new IntrospectedTable.Builder()
+                .withContext(context)
+                .withKnownRuntime(KnownRuntime.MYBATIS3)
+                .withFullyQualifiedTable(fullyQualifiedTable)
+                .withTableConfiguration(new TableConfiguration.Builder().withTableName("BAR").build())
+                .build();
+    }
+
+    static class TestPlugin extends PluginAdapter {
+        @Override
+        public boolean validate(List<String> warnings) {
+            return true;
+        }
+    }
+
+    static class FieldPlugin extends TestPlugin {
+        private final String name;
+        private final boolean answer;
+        private final List<String> calls;
+
+        FieldPlugin(String name, boolean answer, List<String> calls) {
+            this.name = name;
+            this.answer = answer;
+            this.calls = calls;
+        }
+
+        @Override
+        public boolean modelFieldGenerated(Field field, TopLevelClass topLevelClass,
+                                           IntrospectedColumn introspectedColumn, IntrospectedTable introspectedTable,
+                                           ModelClassType modelClassType) {
+            calls.add(name + ".field");
+            return answer;
+        }
+    }
+
+    static class GetterPlugin extends TestPlugin {
+        private final String name;
+        private final List<String> calls;
+
+        GetterPlugin(String name, List<String> calls) {
+            this.name = name;
+            this.calls = calls;
+        }
+
+        @Override
+        public boolean modelGetterMethodGenerated(Method method, TopLevelClass topLevelClass,
+                                                  IntrospectedColumn introspectedColumn,
+                                                  IntrospectedTable introspectedTable,
+                                                  ModelClassType modelClassType) {
+            calls.add(name + ".getter");
+            return true;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+import org.mybatis.generator.internal.AllocationCounter;
+
+class GenerationMetricsTest {
+    private static final long MB = 1024 * 1024;
+
+    @Test
+    void testSummary() {
+        GenerationMetrics metrics = collectMetrics();
+
+        List<String> summary = metrics.getSummary(1);
+
+        assertThat(summary).containsExactly(
+                "Slowest table introspections:",
+                "  SLOW (context ctx): 30 ms",
+                "Slowest tables to generate and save:",
+                "  SLOW (context ctx): generation 50 ms, save 6 ms",
+                "Slowest generators:",
+                "  JavaMapperGenerator: 60 ms in 2 calls",
+                "Saved files: 2 written, 1 unchanged, 600 bytes",
+                "Time spent saving files: formatting 3 ms, merging 3 ms, writing 6 ms",
+                "Memory allocated: introspection 3 MB, generation 7 MB, saving 2 MB");
+    }
+
+    @Test
+    void testSummaryWithoutAllocations() {
+        GenerationMetrics metrics = new GenerationMetrics();
+        metrics.contextIntrospected("ctx", Duration.ofMillis(45), -1);
+        metrics.generatorCompleted("ctx", "FAST", "JavaMapperGenerator", Duration.ofMillis(20), -1);
+
+        assertThat(metrics.getSummary(1)).noneMatch(line -> line.startsWith("Memory allocated"));
+    }
+
+    @Test
+    void testReport(@TempDir Path tempDir) throws IOException {
+        GenerationMetrics metrics = collectMetrics();
+        Path report = tempDir.resolve("reports/metrics.xml");
+
+        metrics.writeReport(report);
+
+        String content = Files.readString(report);
+        assertThat(content).contains("<generationMetrics>")
+                .contains("<context allocatedBytes=\"3145728\" context=\"ctx\" introspectionNanos=\"45000000\"/>")
+                .contains("<introspection allocatedBytes=\"2097152\" context=\"ctx\" nanos=\"30000000\""
+                        + " table=\"SLOW\"/>")
+                .contains("generator=\"JavaMapperGenerator\"")
+                .contains("path=\"Plugins.java\"");
+    }
+
+    @Test
+    void testGeneratorRunReportsMetrics(@TempDir Path tempDir) throws Exception {
+        Configuration config = new ConfigurationParser().parseConfiguration(new StringReader(
+                GeneratorTestSupport.withTargetProject(GeneratorTestSupport.readConfiguration(), tempDir)));
+        RecordingListener listener = new RecordingListener();
+
+        new MyBatisGenerator.Builder()
+                .withConfiguration(config)
+                .withMetricsListener(listener)
+                .build()
+                .generateAndWrite();
+
+        List<String> contextIds = config.getContexts().stream().map(Context::getId).toList();
+        assertThat(listener.contexts).containsExactlyInAnyOrderElementsOf(contextIds);
+        assertThat(listener.tables).contains("dsql.FieldsOnly", "dsql.PKBlobs");
+        assertThat(listener.generators).contains("dsql.DynamicSqlMapperGenerator", "dsql.Plugins");
+
+        List<Path> writtenFiles;
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            writtenFiles = files.filter(Files::isRegularFile).toList();
+        }
+        assertThat(listener.files).extracting(FileMetrics::file).containsExactlyInAnyOrderElementsOf(writtenFiles);
+        for (FileMetrics file : listener.files) {
+            assertThat(file.changed()).isTrue();
+            assertThat(file.bytes()).isEqualTo(Files.size(file.file()));
+        }
+
+        // every phase counts its allocations on JVMs that can count them
+        if (AllocationCounter.allocatedBytes() >= 0) {
+            assertThat(listener.allocations).isNotEmpty().allMatch(bytes -> bytes >= 0);
+        }
+    }
+
+    private static GenerationMetrics collectMetrics() {
+        GenerationMetrics metrics = new GenerationMetrics();
+        metrics.tableIntrospected("ctx", "FAST", Duration.ofMillis(10), MB);
+        metrics.tableIntrospected("ctx", "SLOW", Duration.ofMillis(30), 2 * MB);
+        metrics.contextIntrospected("ctx", Duration.ofMillis(45), 3 * MB);
+        metrics.generatorCompleted("ctx", "FAST", "JavaMapperGenerator", Duration.ofMillis(20), 2 * MB);
+        metrics.generatorCompleted("ctx", "SLOW", "JavaMapperGenerator", Duration.ofMillis(40), 4 * MB);
+        metrics.generatorCompleted("ctx", "SLOW", "SimpleModelGenerator", Duration.ofMillis(10), MB);
+        metrics.fileSaved(new FileMetrics("ctx", "FAST", Path.of("Fast.java"), true, 100,
+                Duration.ofMillis(1), Duration.ZERO, Duration.ofMillis(2), MB / 2));
+        metrics.fileSaved(new FileMetrics("ctx", "SLOW", Path.of("Slow.java"), false, 200,
+                Duration.ofMillis(1), Duration.ofMillis(3), Duration.ofMillis(2), MB));
+        metrics.fileSaved(new FileMetrics("ctx", null, Path.of("Plugins.java"), true, 300,
+                Duration.ofMillis(1), Duration.ZERO, Duration.ofMillis(2), MB / 2));
+        return metrics;
+    }
+
+    /**
+     * Records which metrics a run reported. Table and generator names are prefixed with the context id.
+     */
+    private static class RecordingListener implements MetricsListener {
+        private final List<String> contexts = new CopyOnWriteArrayList<>();
+        private final List<String> tables = new CopyOnWriteArrayList<>();
+        private final List<String> generators = new CopyOnWriteArrayList<>();
+        private final List<FileMetrics> files = new CopyOnWriteArrayList<>();
+        private final List<Long> allocations = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void tableIntrospected(String contextId, String tableName, Duration duration, long allocatedBytes) {
+            tables.add(contextId + '.' + tableName);
+            allocations.add(allocatedBytes);
+        }
+
+        @Override
+        public void contextIntrospected(String contextId, Duration duration, long allocatedBytes) {
+            contexts.add(contextId);
+            allocations.add(allocatedBytes);
+        }
+
+        @Override
+        public void generatorCompleted(String contextId, String tableName, String generatorName, Duration duration,
+                                       long allocatedBytes) {
+            generators.add(contextId + '.' + generatorName);
+            allocations.add(allocatedBytes);
+        }
+
+        @Override
+        public void fileSaved(FileMetrics fileMetrics) {
+            files.add(fileMetrics);
+            allocations.add(fileMetrics.allocatedBytes());
+        }
+    }
+}
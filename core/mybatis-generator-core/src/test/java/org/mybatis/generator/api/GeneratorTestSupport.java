@@ -0,0 +1,123 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.mybatis.generator.SqlScriptRunner;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+
+/**
+ * Configuration and file helpers shared by the tests that run the generator against the test database.
+ */
+final class GeneratorTestSupport {
+
+    private GeneratorTestSupport() {
+    }
+
+    /**
+     * Creates the test database and returns the text of the test configuration. Generators in the configuration
+     * write to the placeholder target project "MAVEN" - see {@link #withTargetProject(String, String)}.
+     */
+    static String readConfiguration() throws Exception {
+        SqlScriptRunner scriptRunner = new SqlScriptRunner(
+                GeneratorTestSupport.class.getResourceAsStream("/scripts/CreateDB.sql"),
+                "org.hsqldb.jdbcDriver", "jdbc:hsqldb:mem:aname", "sa", "");
+        scriptRunner.executeScript();
+
+        try (InputStream is = GeneratorTestSupport.class.getResourceAsStream("/scripts/generatorConfig_Dsql.xml")) {
+            assertThat(is).isNotNull();
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    static String withTargetProject(String configText, String targetProject) {
+        return configText.replace("targetProject=\"MAVEN\"", "targetProject=\"" + targetProject + "\"");
+    }
+
+    static String withTargetProject(String configText, Path targetProject) {
+        return withTargetProject(configText, targetProject.toAbsolutePath().toString());
+    }
+
+    static List<String> write(String configText, Path targetProject, boolean pipelineEnabled, int saveThreads)
+            throws Exception {
+        Configuration config = new ConfigurationParser().parseConfiguration(
+                new StringReader(withTargetProject(configText, targetProject)));
+        return new MyBatisGenerator.Builder()
+                .withConfiguration(config)
+                .withPipelineEnabled(pipelineEnabled)
+                .withSaveThreads(saveThreads)
+                .build()
+                .generateAndWrite();
+    }
+
+    static Map<String, String> readFiles(Path directory) throws Exception {
+        Map<String, String> files = new TreeMap<>();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.filter(Files::isRegularFile).toList()) {
+                files.put(directory.relativize(path).toString().replace('\\', '/'), Files.readString(path));
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Runs two ways of writing the same files twice each, and collects the warnings of each. The second run finds
+     * the files of the first, so it saves them under unique names with a warning for each - which lets a test check
+     * that both ways find existing files, and report them, in the same way.
+     *
+     * @return the warnings of the expected and the actual runs
+     */
+    static TwoRunWarnings runTwice(GeneratorRun expected, GeneratorRun actual) throws Exception {
+        List<String> expectedWarnings = new ArrayList<>();
+        List<String> actualWarnings = new ArrayList<>();
+        for (int run = 0; run < 2; run++) {
+            expectedWarnings.addAll(expected.run());
+            actualWarnings.addAll(actual.run());
+        }
+        return new TwoRunWarnings(expectedWarnings, actualWarnings);
+    }
+
+    @FunctionalInterface
+    interface GeneratorRun {
+        List<String> run() throws Exception;
+    }
+
+    record TwoRunWarnings(List<String> expected, List<String> actual) { }
+
+    static class SaveCountingCallback implements ProgressCallback {
+        int changedFiles;
+        int unchangedFiles;
+
+        @Override
+        public void saveCompleted(int changedFiles, int unchangedFiles) {
+            this.changedFiles = changedFiles;
+            this.unchangedFiles = unchangedFiles;
+        }
+    }
+}
@@ -16,13 +16,37 @@
 package org.mybatis.generator.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.generator.api.GeneratorTestSupport.readConfiguration;
+import static org.mybatis.generator.api.GeneratorTestSupport.readFiles;
+import static org.mybatis.generator.api.GeneratorTestSupport.withTargetProject;
+import static org.mybatis.generator.api.GeneratorTestSupport.write;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
+import java.io.File;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.api.GeneratorTestSupport.SaveCountingCallback;
+import org.mybatis.generator.api.dom.DefaultJavaFormatter;
 import org.mybatis.generator.config.Configuration;
 import org.mybatis.generator.config.Context;
 import org.mybatis.generator.config.ModelGeneratorConfiguration;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+import org.mybatis.generator.exception.InvalidConfigurationException;
+import org.mybatis.generator.exception.ShellException;
 import org.mybatis.generator.internal.DefaultShellCallback;
 
 class MyBatisGeneratorTest {
@@ -73,4 +97,219 @@ class MyBatisGeneratorTest {
                 .extracting(Context::getId)
                 .containsExactly("context1");
     }
+
+    @Test
+    void testConcurrentContextsMatchSerialContexts() throws Exception {
+        String configText = readConfiguration();
+
+        List<String> serialWarnings = new ArrayList<>();
+        MyBatisGenerator serial = generate(configText, 1, serialWarnings);
+
+        List<String> concurrentWarnings = new ArrayList<>();
+        MyBatisGenerator concurrent = generate(configText, 3, concurrentWarnings);
+
+        assertThat(serial.getGeneratedJavaFiles()).isNotEmpty();
+        assertThat(javaContents(concurrent)).containsExactlyElementsOf(javaContents(serial));
+        assertThat(concurrent.getGeneratedXmlFiles()).extracting(GeneratedFile::getFileName)
+                .containsExactlyElementsOf(serial.getGeneratedXmlFiles().stream()
+                        .map(GeneratedFile::getFileName).toList());
+        assertThat(concurrentWarnings).containsExactlyElementsOf(serialWarnings);
+    }
+
+    @Test
+    void testConcurrentContextsThatGenerateTheSameFileFail() throws Exception {
+        String configText = readConfiguration();
+        int start = configText.indexOf("<context id=\"dsql\"");
+        int end = configText.indexOf("</context>", start) + "</context>".length();
+        String copy = configText.substring(start, end).replace("<context id=\"dsql\"", "<context id=\"dsql-copy\"");
+        String conflictingConfigText = configText.substring(0, end) + copy + configText.substring(end);
+
+        // contexts that run one at a time keep the existing behavior
+        generate(conflictingConfigText, 1, new ArrayList<>());
+
+        assertThatExceptionOfType(InvalidConfigurationException.class)
+                .isThrownBy(() -> generate(conflictingConfigText, 2, new ArrayList<>()))
+                .satisfies(e -> assertThat(e.getExtraMessages()).isNotEmpty()
+                        .allMatch(m -> m.contains("context dsql and by context dsql-copy")));
+    }
+
+    @Test
+    void testPipelineWritesTheSameFiles(@TempDir Path tempDir) throws Exception {
+        String configText = readConfiguration();
+        Path stagedDir = Files.createDirectory(tempDir.resolve("staged"));
+        Path pipelinedDir = Files.createDirectory(tempDir.resolve("pipelined"));
+
+        List<String> stagedWarnings = write(configText, stagedDir, false, 1);
+        List<String> pipelinedWarnings = write(configText, pipelinedDir, true, 1);
+
+        Map<String, String> stagedFiles = readFiles(stagedDir);
+        assertThat(stagedFiles).isNotEmpty();
+        assertThat(readFiles(pipelinedDir)).isEqualTo(stagedFiles);
+        assertThat(pipelinedWarnings).containsExactlyInAnyOrderElementsOf(stagedWarnings);
+    }
+
+    @Test
+    void testUnchangedFilesAreNotRewritten(@TempDir Path tempDir) throws Exception {
+        String configText = withTargetProject(readConfiguration(), tempDir);
+
+        SaveCountingCallback firstRun = new SaveCountingCallback();
+        writeSkippingUnchangedFiles(configText, firstRun);
+        assertThat(firstRun.changedFiles).isPositive();
+        assertThat(firstRun.unchangedFiles).isZero();
+
+        FileTime oldTime = FileTime.fromMillis(0);
+        Map<String, String> files = readFiles(tempDir);
+        for (String file : files.keySet()) {
+            Files.setLastModifiedTime(tempDir.resolve(file), oldTime);
+        }
+        Path changedFile = tempDir.resolve(files.keySet().iterator().next());
+        Files.writeString(changedFile, "changed");
+
+        SaveCountingCallback secondRun = new SaveCountingCallback();
+        writeSkippingUnchangedFiles(configText, secondRun);
+        assertThat(secondRun.changedFiles).isEqualTo(1);
+        assertThat(secondRun.unchangedFiles).isEqualTo(firstRun.changedFiles - 1);
+        assertThat(readFiles(tempDir)).isEqualTo(files);
+        for (String file : files.keySet()) {
+            Path path = tempDir.resolve(file);
+            if (!path.equals(changedFile)) {
+                assertThat(Files.getLastModifiedTime(path)).isEqualTo(oldTime);
+            }
+        }
+    }
+
+    @Test
+    void testManifestSkipsUpToDateTablesAndFindsStaleFiles(@TempDir Path tempDir) throws Exception {
+        Path projectDir = Files.createDirectory(tempDir.resolve("project"));
+        Path manifestFile = tempDir.resolve("manifest.xml");
+        String configText = withTargetProject(readConfiguration(), projectDir);
+
+        SaveCountingCallback firstRun = new SaveCountingCallback();
+        writeWithManifest(configText, manifestFile, firstRun, false);
+        assertThat(firstRun.changedFiles).isPositive();
+        assertThat(manifestFile).exists();
+        Map<String, String> files = readFiles(projectDir);
+
+        SaveCountingCallback secondRun = new SaveCountingCallback();
+        List<String> secondRunWarnings = writeWithManifest(configText, manifestFile, secondRun, false);
+        assertThat(secondRun.changedFiles).isZero();
+        assertThat(secondRun.unchangedFiles).isZero();
+        assertThat(secondRunWarnings).noneMatch(w -> w.startsWith(getString("Warning.39", "")));
+        assertThat(readFiles(projectDir)).isEqualTo(files);
+
+        // files of the removed table are stale, everything else is still up to date
+        String reducedConfigText = configText.replace("<table tableName=\"FieldsBlobs\" />", "");
+        List<String> staleFiles = files.keySet().stream()
+                .map(projectDir::resolve)
+                .filter(f -> f.getFileName().toString().startsWith("FieldsBlobs"))
+                .map(f -> f.toAbsolutePath().normalize().toString())
+                .toList();
+        assertThat(staleFiles).isNotEmpty();
+
+        SaveCountingCallback thirdRun = new SaveCountingCallback();
+        List<String> thirdRunWarnings = writeWithManifest(reducedConfigText, manifestFile, thirdRun, false);
+        assertThat(thirdRun.changedFiles).isZero();
+        assertThat(thirdRunWarnings).containsAll(staleFiles.stream().map(f -> getString("Warning.39", f)).toList());
+        assertThat(readFiles(projectDir)).isEqualTo(files);
+
+        // stale files stay in the manifest until they are deleted
+        writeWithManifest(reducedConfigText, manifestFile, new SaveCountingCallback(), true);
+        assertThat(staleFiles).allMatch(f -> Files.notExists(Path.of(f)));
+        assertThat(readFiles(projectDir)).hasSize(files.size() - staleFiles.size());
+    }
+
+    @Test
+    void testManifestKeepsFilesOfConfiguredTablesThatAreNotFound(@TempDir Path tempDir) throws Exception {
+        Path projectDir = Files.createDirectory(tempDir.resolve("project"));
+        Path manifestFile = tempDir.resolve("manifest.xml");
+        String configText = withTargetProject(readConfiguration(), projectDir);
+        writeWithManifest(configText, manifestFile, new SaveCountingCallback(), true);
+        Map<String, String> files = readFiles(projectDir);
+
+        // the table is still configured, so its files are not stale even though it is missing
+        try (Connection connection = DriverManager.getConnection("jdbc:hsqldb:mem:aname", "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("drop table FieldsBlobs");
+        }
+        writeWithManifest(configText, manifestFile, new SaveCountingCallback(), true);
+        assertThat(readFiles(projectDir)).isEqualTo(files);
+
+        // and once the table is back, it is up to date
+        readConfiguration();
+        SaveCountingCallback thirdRun = new SaveCountingCallback();
+        writeWithManifest(configText, manifestFile, thirdRun, true);
+        assertThat(thirdRun.changedFiles).isZero();
+        assertThat(readFiles(projectDir)).isEqualTo(files);
+    }
+
+    @Test
+    void testDirectoriesAreResolvedOncePerRun(@TempDir Path tempDir) throws Exception {
+        String configText = withTargetProject(readConfiguration(), tempDir);
+        Map<String, Integer> calls = new TreeMap<>();
+        ShellCallback countingCallback = new DefaultShellCallback() {
+            @Override
+            public File getDirectory(String targetProject, String targetPackage) throws ShellException {
+                calls.merge(targetProject + ':' + targetPackage, 1, Integer::sum);
+                return super.getDirectory(targetProject, targetPackage);
+            }
+        };
+
+        for (int run = 0; run < 2; run++) {
+            Configuration config = new ConfigurationParser().parseConfiguration(new StringReader(configText));
+            new MyBatisGenerator.Builder()
+                    .withConfiguration(config)
+                    .withShellCallback(countingCallback)
+                    .withOverwriteEnabled(true)
+                    .build()
+                    .generateAndWrite();
+        }
+
+        assertThat(readFiles(tempDir)).hasSizeGreaterThan(calls.size());
+        assertThat(calls).isNotEmpty().allSatisfy((directory, count) -> assertThat(count).isEqualTo(2));
+    }
+
+    private static List<String> writeWithManifest(String configText, Path manifestFile,
+                                                  ProgressCallback progressCallback, boolean staleFilesDeleted)
+            throws Exception {
+        Configuration config = new ConfigurationParser().parseConfiguration(new StringReader(configText));
+        return new MyBatisGenerator.Builder()
+                .withConfiguration(config)
+                .withProgressCallback(progressCallback)
+                .withOverwriteEnabled(true)
+                .withManifestFile(manifestFile)
+                .withStaleFilesDeleted(staleFilesDeleted)
+                .build()
+                .generateAndWrite();
+    }
+
+    private static void writeSkippingUnchangedFiles(String configText, ProgressCallback progressCallback)
+            throws Exception {
+        Configuration config = new ConfigurationParser().parseConfiguration(new StringReader(configText));
+        new MyBatisGenerator.Builder()
+                .withConfiguration(config)
+                .withProgressCallback(progressCallback)
+                .withOverwriteEnabled(true)
+                .withSkipUnchangedFiles(true)
+                .build()
+                .generateAndWrite();
+    }
+
+    private static MyBatisGenerator generate(String configText, int contextThreads, List<String> warnings)
+            throws Exception {
+        Configuration config = new ConfigurationParser().parseConfiguration(new StringReader(configText));
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator.Builder()
+                .withConfiguration(config)
+                .withContextThreads(contextThreads)
+                .build();
+        warnings.addAll(myBatisGenerator.generateOnly());
+        return myBatisGenerator;
+    }
+
+    private static List<String> javaContents(MyBatisGenerator myBatisGenerator) {
+        DefaultJavaFormatter formatter = new DefaultJavaFormatter();
+        formatter.setIndenter(Indenter.defaultIndenter());
+        return myBatisGenerator.getGeneratedJavaFiles().stream()
+                .map(f -> formatter.getFormattedContent(f.getCompilationUnit()))
+                .toList();
+    }
 }
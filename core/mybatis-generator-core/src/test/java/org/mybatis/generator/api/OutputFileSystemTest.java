@@ -0,0 +1,122 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.generator.api.GeneratorTestSupport.readConfiguration;
+import static org.mybatis.generator.api.GeneratorTestSupport.readFiles;
+import static org.mybatis.generator.api.GeneratorTestSupport.runTwice;
+import static org.mybatis.generator.api.GeneratorTestSupport.withTargetProject;
+import static org.mybatis.generator.api.GeneratorTestSupport.write;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.io.StringReader;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.api.GeneratorTestSupport.SaveCountingCallback;
+import org.mybatis.generator.api.GeneratorTestSupport.TwoRunWarnings;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+
+/**
+ * Tests for writing generated files to a file system other than the default one - see
+ * {@link MyBatisGenerator.Builder#withOutputFileSystem(FileSystem)}.
+ */
+class OutputFileSystemTest {
+
+    @Test
+    void testZipFileSystemGetsTheSameFiles(@TempDir Path tempDir) throws Exception {
+        String configText = readConfiguration();
+        Path diskDir = Files.createDirectory(tempDir.resolve("disk"));
+        Path zipFile = tempDir.resolve("generated.zip");
+
+        TwoRunWarnings warnings = runTwice(() -> write(configText, diskDir, false, 1), () -> {
+            try (FileSystem zipFileSystem = FileSystems.newFileSystem(zipFile, Map.of("create", "true"))) {
+                return writeToFileSystem(configText, zipFileSystem);
+            }
+        });
+
+        Map<String, String> diskFiles = readFiles(diskDir);
+        assertThat(diskFiles).isNotEmpty();
+        try (FileSystem zipFileSystem = FileSystems.newFileSystem(zipFile)) {
+            assertThat(readFiles(zipFileSystem.getPath("/project"))).isEqualTo(diskFiles);
+        }
+        assertThat(warnings.actual()).isNotEmpty().containsExactlyElementsOf(warnings.expected().stream()
+                .map(w -> w.replace(diskDir.toAbsolutePath().toString(), "/project").replace('\\', '/'))
+                .toList());
+    }
+
+    @Test
+    void testManifestInZipFileSystemSkipsUpToDateTables(@TempDir Path tempDir) throws Exception {
+        String configText = withTargetProject(readConfiguration(), "/project");
+        Path zipFile = tempDir.resolve("generated.zip");
+
+        for (int run = 0; run < 2; run++) {
+            try (FileSystem zipFileSystem = FileSystems.newFileSystem(zipFile, Map.of("create", "true"))) {
+                Configuration config = new ConfigurationParser().parseConfiguration(new StringReader(configText));
+                SaveCountingCallback callback = new SaveCountingCallback();
+                new MyBatisGenerator.Builder()
+                        .withConfiguration(config)
+                        .withOutputFileSystem(zipFileSystem)
+                        .withProgressCallback(callback)
+                        .withOverwriteEnabled(true)
+                        .withManifestFile(zipFileSystem.getPath("/manifest.xml"))
+                        .withStaleFilesDeleted(true)
+                        .build()
+                        .generateAndWrite();
+                if (run == 0) {
+                    assertThat(callback.changedFiles).isPositive();
+                } else {
+                    assertThat(callback.changedFiles).isZero();
+                }
+                assertThat(readFiles(zipFileSystem.getPath("/project"))).isNotEmpty();
+            }
+        }
+    }
+
+    @Test
+    void testManifestOutsideTheOutputFileSystemIsRejected(@TempDir Path tempDir) throws Exception {
+        Configuration config = new ConfigurationParser().parseConfiguration(new StringReader(readConfiguration()));
+        try (FileSystem zipFileSystem = FileSystems.newFileSystem(tempDir.resolve("generated.zip"),
+                Map.of("create", "true"))) {
+            MyBatisGenerator.Builder builder = new MyBatisGenerator.Builder()
+                    .withConfiguration(config)
+                    .withOutputFileSystem(zipFileSystem)
+                    .withManifestFile(tempDir.resolve("manifest.xml"));
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(builder::build)
+                    .withMessage(getString("RuntimeError.37", tempDir.resolve("manifest.xml").toString()));
+        }
+    }
+
+    private static List<String> writeToFileSystem(String configText, FileSystem fileSystem) throws Exception {
+        Configuration config = new ConfigurationParser().parseConfiguration(
+                new StringReader(withTargetProject(configText, "/project")));
+        return new MyBatisGenerator.Builder()
+                .withConfiguration(config)
+                .withOutputFileSystem(fileSystem)
+                .build()
+                .generateAndWrite();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mybatis.generator.api.GeneratorTestSupport.readConfiguration;
+import static org.mybatis.generator.api.GeneratorTestSupport.readFiles;
+import static org.mybatis.generator.api.GeneratorTestSupport.runTwice;
+import static org.mybatis.generator.api.GeneratorTestSupport.withTargetProject;
+import static org.mybatis.generator.api.GeneratorTestSupport.write;
+
+import java.io.File;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.api.GeneratorTestSupport.TwoRunWarnings;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+import org.mybatis.generator.exception.ShellException;
+import org.mybatis.generator.internal.DefaultShellCallback;
+
+/**
+ * Tests for saving files on several threads - see {@link MyBatisGenerator.Builder#withSaveThreads(int)}.
+ */
+class SaveThreadsTest {
+
+    @Test
+    void testConcurrentSavesMatchSerialSaves(@TempDir Path tempDir) throws Exception {
+        String configText = readConfiguration();
+        Path serialDir = Files.createDirectory(tempDir.resolve("serial"));
+        Path concurrentDir = Files.createDirectory(tempDir.resolve("concurrent"));
+
+        TwoRunWarnings warnings = runTwice(() -> write(configText, serialDir, false, 1),
+                () -> write(configText, concurrentDir, false, 4));
+
+        Map<String, String> serialFiles = readFiles(serialDir);
+        assertThat(serialFiles).isNotEmpty();
+        assertThat(readFiles(concurrentDir)).isEqualTo(serialFiles);
+        assertThat(warnings.actual()).isNotEmpty().containsExactlyElementsOf(warnings.expected().stream()
+                .map(w -> w.replace(serialDir.toAbsolutePath().toString(), concurrentDir.toAbsolutePath().toString()))
+                .toList());
+    }
+
+    @Test
+    void testSaveThreadsResolveEachDirectoryOnce(@TempDir Path tempDir) throws Exception {
+        String configText = withTargetProject(readConfiguration(), tempDir);
+        Map<String, Integer> calls = new ConcurrentHashMap<>();
+        AtomicInteger overlappingCalls = new AtomicInteger();
+        Set<String> directoriesInProgress = ConcurrentHashMap.newKeySet();
+        ShellCallback slowCallback = new DefaultShellCallback() {
+            @Override
+            public File getDirectory(String targetProject, String targetPackage) throws ShellException {
+                String directory = targetProject + ':' + targetPackage;
+                calls.merge(directory, 1, Integer::sum);
+                if (!directoriesInProgress.add(directory)) {
+                    overlappingCalls.incrementAndGet();
+                }
+                try {
+                    Thread.sleep(50);
+                    return super.getDirectory(targetProject, targetPackage);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ShellException(e);
+                } finally {
+                    directoriesInProgress.remove(directory);
+                }
+            }
+        };
+
+        Configuration config = new ConfigurationParser().parseConfiguration(new StringReader(configText));
+        new MyBatisGenerator.Builder()
+                .withConfiguration(config)
+                .withShellCallback(slowCallback)
+                .withSaveThreads(4)
+                .build()
+                .generateAndWrite();
+
+        assertThat(overlappingCalls).hasValue(0);
+        assertThat(calls).isNotEmpty().allSatisfy((directory, count) -> assertThat(count).isEqualTo(1));
+    }
+
+    @Test
+    void testFailedConcurrentSaveWaitsForRunningSaves(@TempDir Path tempDir) throws Exception {
+        String configText = withTargetProject(readConfiguration(), tempDir);
+        AtomicInteger startedSaves = new AtomicInteger();
+        AtomicInteger finishedSaves = new AtomicInteger();
+        ShellCallback failingCallback = new DefaultShellCallback() {
+            @Override
+            public File getDirectory(String targetProject, String targetPackage) throws ShellException {
+                if (targetPackage.contains(".mapper")) {
+                    throw new IllegalStateException("mapper directory");
+                }
+
+                startedSaves.incrementAndGet();
+                try {
+                    Thread.sleep(200);
+                    return super.getDirectory(targetProject, targetPackage);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ShellException(e);
+                } finally {
+                    finishedSaves.incrementAndGet();
+                }
+            }
+        };
+
+        Configuration config = new ConfigurationParser().parseConfiguration(new StringReader(configText));
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator.Builder()
+                .withConfiguration(config)
+                .withShellCallback(failingCallback)
+                .withSaveThreads(4)
+                .withAtomicWritesEnabled(true)
+                .build();
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(myBatisGenerator::generateAndWrite);
+        assertThat(finishedSaves).hasValue(startedSaves.get());
+    }
+}
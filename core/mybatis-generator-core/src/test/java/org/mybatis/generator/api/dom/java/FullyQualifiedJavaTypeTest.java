@@ -367,4 +367,25 @@ class FullyQualifiedJavaTypeTest {
 
         assertThat(ptw.hashCode()).hasSameHashCodeAs("java.lang.Boolean");
     }
+
+    @Test
+    void testInstancesWithTheSameSpecificationAreIndependent() {
+        FullyQualifiedJavaType first = new FullyQualifiedJavaType("java.util.Map<java.lang.String, java.util.List<?>>");
+        FullyQualifiedJavaType second = new FullyQualifiedJavaType("java.util.Map<java.lang.String, java.util.List<?>>");
+        assertThat(first).isNotSameAs(second);
+        assertThat(first.getTypeArguments().get(1)).isNotSameAs(second.getTypeArguments().get(1));
+
+        first.getTypeArguments().get(1).addTypeArgument(FullyQualifiedJavaType.getIntInstance());
+
+        assertThat(second.getFullyQualifiedName()).isEqualTo("java.util.Map<java.lang.String, java.util.List<?>>");
+        assertThat(new FullyQualifiedJavaType("java.util.Map<java.lang.String, java.util.List<?>>"))
+                .isEqualTo(second);
+    }
+
+    @Test
+    void testSharedInstances() {
+        assertThat(FullyQualifiedJavaType.getStringInstance()).isSameAs(FullyQualifiedJavaType.getStringInstance());
+        assertThat(new FullyQualifiedJavaType("int").getPrimitiveTypeWrapper())
+                .isSameAs(PrimitiveTypeWrapper.getIntegerInstance());
+    }
 }
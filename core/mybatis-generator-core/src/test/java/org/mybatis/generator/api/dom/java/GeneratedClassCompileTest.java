@@ -67,6 +67,19 @@ class GeneratedClassCompileTest {
         assertThat(diagnostics.getDiagnostics()).isEmpty();
     }
 
+    @ParameterizedTest
+    @MethodSource("testVariations")
+    void testStreamingMatchesString(List<CompilationUnit> testClasses) throws IOException {
+        DefaultJavaFormatter javaFormatter = new DefaultJavaFormatter();
+        javaFormatter.setIndenter(Indenter.defaultIndenter());
+
+        for (CompilationUnit compilationUnit : testClasses) {
+            StringBuilder sb = new StringBuilder();
+            javaFormatter.writeFormattedContent(compilationUnit, sb);
+            assertThat(sb).hasToString(javaFormatter.getFormattedContent(compilationUnit));
+        }
+    }
+
     private static Stream<Arguments> testVariations() {
         return Stream.of(
                 Arguments.argumentSet("Complex Hierarchy", ComplexHierarchyGenerator.generateTestClasses()),
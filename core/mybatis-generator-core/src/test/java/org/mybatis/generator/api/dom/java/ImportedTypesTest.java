@@ -0,0 +1,87 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.api.dom.java;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.api.Indenter;
+import org.mybatis.generator.api.dom.java.render.TopLevelClassRenderer;
+
+class ImportedTypesTest {
+
+    @Test
+    void testImportsAreInStatementOrder() {
+        ImportedTypes importedTypes = new ImportedTypes(new FullyQualifiedJavaType("com.foo.Bar"));
+        importedTypes.add(new FullyQualifiedJavaType("a.b"));
+        importedTypes.add(new FullyQualifiedJavaType("java.util.Map<java.math.BigDecimal, java.util.List<a.b.c>>"));
+        importedTypes.add(new FullyQualifiedJavaType("java.util.List"));
+
+        assertThat(importedTypes.getImports())
+                .containsExactly("a.b.c", "a.b", "java.math.BigDecimal", "java.util.List", "java.util.Map");
+        assertThat(importedTypes.isImported("java.math.BigDecimal")).isTrue();
+        assertThat(importedTypes.isImported("java.util.Date")).isFalse();
+    }
+
+    @Test
+    void testRemovedTypes() {
+        ImportedTypes importedTypes = new ImportedTypes(new FullyQualifiedJavaType("com.foo.Bar"));
+        importedTypes.add(new FullyQualifiedJavaType("java.util.List"));
+        importedTypes.add(new FullyQualifiedJavaType("java.util.List<java.math.BigDecimal>"));
+        importedTypes.add(new FullyQualifiedJavaType("java.util.Date"));
+
+        importedTypes.remove(new FullyQualifiedJavaType("java.util.List"));
+        importedTypes.removeIf(t -> t.getFullyQualifiedName().equals("java.util.Date"));
+
+        assertThat(importedTypes).hasSize(1);
+        assertThat(importedTypes.getImports()).containsExactly("java.math.BigDecimal", "java.util.List");
+        assertThat(importedTypes.isImported("java.util.List")).isTrue();
+        assertThat(importedTypes.isImported("java.util.Date")).isFalse();
+    }
+
+    @Test
+    void testCollisions() {
+        TopLevelClass topLevelClass = new TopLevelClass("com.foo.Bar");
+        topLevelClass.addImportedType("java.util.Date");
+        topLevelClass.addImportedType("java.sql.Date");
+        topLevelClass.addImportedType("java.util.List<com.other.Bar>");
+
+        Field field = new Field("date", new FullyQualifiedJavaType("java.util.Date"));
+        field.setVisibility(JavaVisibility.PRIVATE);
+        topLevelClass.addField(field);
+        field = new Field("bars", new FullyQualifiedJavaType("java.util.List<com.other.Bar>"));
+        field.setVisibility(JavaVisibility.PRIVATE);
+        topLevelClass.addField(field);
+
+        String expected = """
+                package com.foo;
+
+                import java.util.List;
+
+                public class Bar {
+                    private java.util.Date date;
+
+                    private List<com.other.Bar> bars;
+                }""";
+        topLevelClass.setVisibility(JavaVisibility.PUBLIC);
+        String rendered = new TopLevelClassRenderer(Indenter.defaultIndenter()).render(topLevelClass);
+        assertThat(rendered).isEqualToNormalizingNewlines(expected);
+
+        topLevelClass.getImportedTypes().remove(new FullyQualifiedJavaType("java.sql.Date"));
+        assertThat(JavaDomUtils.calculateTypeName(topLevelClass, new FullyQualifiedJavaType("java.util.Date")))
+                .isEqualTo("Date");
+    }
+}
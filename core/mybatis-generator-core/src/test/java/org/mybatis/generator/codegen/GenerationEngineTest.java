@@ -0,0 +1,150 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.codegen;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.SqlScriptRunner;
+import org.mybatis.generator.api.GeneratedFile;
+import org.mybatis.generator.api.Indenter;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.api.dom.DefaultJavaFormatter;
+import org.mybatis.generator.api.dom.DefaultXmlFormatter;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+import org.mybatis.generator.internal.DefaultCommentGenerator;
+
+class GenerationEngineTest {
+
+    @BeforeAll
+    static void createDatabase() throws Exception {
+        SqlScriptRunner scriptRunner = new SqlScriptRunner(
+                GenerationEngineTest.class.getResourceAsStream("/scripts/CreateDB.sql"),
+                "org.hsqldb.jdbcDriver", "jdbc:hsqldb:mem:aname", "sa", "");
+        scriptRunner.executeScript();
+    }
+
+    @Test
+    void testConcurrentGenerationMatchesSerialGeneration() throws Exception {
+        List<String> serialWarnings = new ArrayList<>();
+        MyBatisGenerator serial = generate("/scripts/generatorConfig_Dsql.xml", null, serialWarnings);
+
+        List<String> concurrentWarnings = new ArrayList<>();
+        MyBatisGenerator concurrent = generate("/scripts/generatorConfig_Dsql.xml", "4", concurrentWarnings);
+
+        assertThat(serial.getGeneratedJavaFiles()).isNotEmpty();
+        assertThat(javaContents(concurrent)).containsExactlyElementsOf(javaContents(serial));
+        assertThat(xmlContents(concurrent)).containsExactlyElementsOf(xmlContents(serial));
+        assertThat(concurrent.getGeneratedKotlinFiles()).extracting(GeneratedFile::getFileName)
+                .containsExactlyElementsOf(serial.getGeneratedKotlinFiles().stream()
+                        .map(GeneratedFile::getFileName).toList());
+        assertThat(concurrentWarnings).containsExactlyElementsOf(serialWarnings);
+    }
+
+    @Test
+    void testPluginsThatAreNotThreadSafeForceSerialGeneration() throws Exception {
+        List<String> serialWarnings = new ArrayList<>();
+        MyBatisGenerator serial = generate("/scripts/generatorConfig.xml", null, serialWarnings);
+
+        List<String> concurrentWarnings = new ArrayList<>();
+        MyBatisGenerator concurrent = generate("/scripts/generatorConfig.xml", "4", concurrentWarnings);
+
+        assertThat(javaContents(concurrent)).containsExactlyElementsOf(javaContents(serial));
+        assertThat(xmlContents(concurrent)).containsExactlyElementsOf(xmlContents(serial));
+        assertThat(concurrentWarnings).containsAll(serialWarnings)
+                .contains(getString("Warning.38", "FlatJava5"))
+                .doesNotContain(getString("Warning.38", "HierarchicalJava5"));
+    }
+
+    @Test
+    void testCommentGeneratorThatIsNotThreadSafeForcesSerialGeneration() throws Exception {
+        UnaryOperator<String> addCommentGenerator = configText -> configText.replace("<jdbcConnection",
+                "<commentGenerator type=\"" + SubclassedCommentGenerator.class.getName() + "\"/><jdbcConnection");
+
+        List<String> serialWarnings = new ArrayList<>();
+        MyBatisGenerator serial = generate("/scripts/generatorConfig_Dsql.xml", null, addCommentGenerator,
+                serialWarnings);
+
+        List<String> concurrentWarnings = new ArrayList<>();
+        MyBatisGenerator concurrent = generate("/scripts/generatorConfig_Dsql.xml", "4", addCommentGenerator,
+                concurrentWarnings);
+
+        assertThat(javaContents(concurrent)).containsExactlyElementsOf(javaContents(serial));
+        assertThat(concurrentWarnings).containsAll(serialWarnings)
+                .contains(getString("Warning.41", "dsql"))
+                .doesNotContain(getString("Warning.38", "dsql"));
+    }
+
+    private static MyBatisGenerator generate(String configFile, @Nullable String threads,
+                                             List<String> warnings) throws Exception {
+        return generate(configFile, threads, UnaryOperator.identity(), warnings);
+    }
+
+    private static MyBatisGenerator generate(String configFile, @Nullable String threads,
+                                             UnaryOperator<String> configEditor, List<String> warnings)
+            throws Exception {
+        String configText;
+        try (InputStream is = GenerationEngineTest.class.getResourceAsStream(configFile)) {
+            assertThat(is).isNotNull();
+            configText = new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        configText = configEditor.apply(configText);
+        if (threads != null) {
+            configText = configText.replaceAll("(<context [^>]*>)",
+                    "$1<property name=\"generationThreads\" value=\"" + threads + "\"/>");
+        }
+
+        Configuration config = new ConfigurationParser().parseConfiguration(new StringReader(configText));
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator.Builder()
+                .withConfiguration(config)
+                .build();
+        warnings.addAll(myBatisGenerator.generateOnly());
+        return myBatisGenerator;
+    }
+
+    private static List<String> javaContents(MyBatisGenerator myBatisGenerator) {
+        DefaultJavaFormatter formatter = new DefaultJavaFormatter();
+        formatter.setIndenter(Indenter.defaultIndenter());
+        return myBatisGenerator.getGeneratedJavaFiles().stream()
+                .map(f -> formatter.getFormattedContent(f.getCompilationUnit()))
+                .toList();
+    }
+
+    private static List<String> xmlContents(MyBatisGenerator myBatisGenerator) {
+        DefaultXmlFormatter formatter = new DefaultXmlFormatter();
+        formatter.setIndenter(Indenter.defaultIndenter());
+        return myBatisGenerator.getGeneratedXmlFiles().stream()
+                .map(f -> formatter.getFormattedContent(f.getDocument()))
+                .toList();
+    }
+
+    /**
+     * A subclass of the default comment generator that does not declare itself thread safe.
+     */
+    public static class SubclassedCommentGenerator extends DefaultCommentGenerator { }
+}
@@ -0,0 +1,100 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.codegen;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.SqlScriptRunner;
+import org.mybatis.generator.api.Indenter;
+import org.mybatis.generator.api.ProgressCallback;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+
+class GenerationPipelineTest {
+
+    @BeforeAll
+    static void createDatabase() throws Exception {
+        SqlScriptRunner scriptRunner = new SqlScriptRunner(
+                GenerationPipelineTest.class.getResourceAsStream("/scripts/CreateDB.sql"),
+                "org.hsqldb.jdbcDriver", "jdbc:hsqldb:mem:aname", "sa", "");
+        scriptRunner.executeScript();
+    }
+
+    @Test
+    void testCancelLetsTheWriterFinishItsResults() throws Exception {
+        Thread generationThread = Thread.currentThread();
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        AtomicInteger writesInProgress = new AtomicInteger();
+        List<Boolean> completedWrites = new ArrayList<>();
+
+        // cancel generation while the writer is in the middle of its first results
+        ProgressCallback cancelingCallback = new ProgressCallback() {
+            @Override
+            public void checkCancel() throws InterruptedException {
+                if (Thread.currentThread() == generationThread && writeStarted.getCount() == 0) {
+                    throw new InterruptedException();
+                }
+            }
+        };
+
+        GenerationPipeline pipeline = new GenerationPipeline.Builder()
+                .withContextValues(contextValues())
+                .withFullyQualifiedTableNames(Set.of())
+                .withProgressCallback(cancelingCallback)
+                .withResultsWriter((generationResults, warnings) -> {
+                    writesInProgress.incrementAndGet();
+                    writeStarted.countDown();
+                    try {
+                        TimeUnit.MILLISECONDS.sleep(500);
+                        completedWrites.add(!Thread.currentThread().isInterrupted());
+                    } finally {
+                        writesInProgress.decrementAndGet();
+                    }
+                })
+                .build();
+
+        assertThatExceptionOfType(InterruptedException.class).isThrownBy(pipeline::run);
+        assertThat(writesInProgress).hasValue(0);
+        assertThat(completedWrites).isNotEmpty().containsOnly(true);
+    }
+
+    private static List<CalculatedContextValues> contextValues() throws Exception {
+        Configuration config;
+        try (InputStream is = GenerationPipelineTest.class.getResourceAsStream("/scripts/generatorConfig_Dsql.xml")) {
+            config = new ConfigurationParser().parseConfiguration(is);
+        }
+
+        List<String> warnings = new ArrayList<>();
+        return config.getContexts().stream()
+                .map(context -> new CalculatedContextValues.Builder()
+                        .withContext(context)
+                        .withWarnings(warnings)
+                        .withIndenter(Indenter.defaultIndenter())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,423 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.codegen;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.SqlScriptRunner;
+import org.mybatis.generator.api.Indenter;
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.ProgressCallback;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.JDBCConnectionConfiguration;
+import org.mybatis.generator.config.JavaTypeResolverConfiguration;
+import org.mybatis.generator.config.ModelGeneratorConfiguration;
+import org.mybatis.generator.config.Property;
+import org.mybatis.generator.config.PropertyRegistry;
+import org.mybatis.generator.config.TableConfiguration;
+import org.mybatis.generator.internal.db.ActualTableName;
+import org.mybatis.generator.internal.db.ColumnMetadata;
+import org.mybatis.generator.internal.db.MetadataSnapshot;
+import org.mybatis.generator.internal.db.MetadataSnapshotExporter;
+import org.mybatis.generator.internal.db.MetadataSnapshotFile;
+import org.mybatis.generator.internal.db.TableMetadata;
+import org.mybatis.generator.internal.types.JavaTypeResolverDefaultImpl;
+
+class IntrospectionEngineTest {
+    private static final String DRIVER_CLASS = "org.hsqldb.jdbcDriver";
+    private static final String JDBC_URL = "jdbc:hsqldb:mem:aname";
+
+    @BeforeAll
+    static void createDatabase() throws Exception {
+        SqlScriptRunner scriptRunner = new SqlScriptRunner(
+                IntrospectionEngineTest.class.getResourceAsStream("/scripts/CreateDB.sql"),
+                DRIVER_CLASS, JDBC_URL, "sa", "");
+        scriptRunner.executeScript();
+    }
+
+    @Test
+    void testConcurrentIntrospectionMatchesSerialIntrospection() throws Exception {
+        List<String> serialWarnings = new ArrayList<>();
+        List<IntrospectedTable> serialTables = introspect(context(null), serialWarnings);
+
+        List<String> concurrentWarnings = new ArrayList<>();
+        List<IntrospectedTable> concurrentTables = introspect(context(null, threads("3")), concurrentWarnings);
+
+        assertThat(serialTables).hasSize(6);
+        assertThat(concurrentTables).extracting(IntrospectionEngineTest::describe)
+                .containsExactlyElementsOf(serialTables.stream().map(IntrospectionEngineTest::describe).toList());
+        assertThat(concurrentWarnings).hasSize(1).containsExactlyElementsOf(serialWarnings);
+    }
+
+    @Test
+    void testMoreThreadsThanTables() throws Exception {
+        List<String> warnings = new ArrayList<>();
+        List<IntrospectedTable> tables = introspect(context(null, threads("50")), warnings);
+
+        assertThat(tables).hasSize(6);
+        assertThat(warnings).hasSize(1);
+    }
+
+    @Test
+    void testTypeResolverConfigurationWarningsAreReportedOnce() throws Exception {
+        List<String> serialWarnings = new ArrayList<>();
+        introspect(contextWithWarningTypeResolver(), serialWarnings);
+
+        List<String> concurrentWarnings = new ArrayList<>();
+        introspect(contextWithWarningTypeResolver(threads("3")), concurrentWarnings);
+
+        assertThat(serialWarnings).containsOnlyOnce(WarningTypeResolver.WARNING);
+        assertThat(concurrentWarnings).containsExactlyElementsOf(serialWarnings);
+    }
+
+    @Test
+    void testBulkIntrospectionMatchesPerTableIntrospection() throws Exception {
+        List<String> perTableWarnings = new ArrayList<>();
+        List<IntrospectedTable> perTableTables = introspect(context("PUBLIC"), perTableWarnings);
+
+        List<String> bulkWarnings = new ArrayList<>();
+        List<IntrospectedTable> bulkTables = introspect(context("PUBLIC", bulk()), bulkWarnings);
+
+        assertThat(perTableTables).hasSize(6);
+        assertThat(bulkTables).extracting(IntrospectionEngineTest::describe)
+                .containsExactlyElementsOf(perTableTables.stream().map(IntrospectionEngineTest::describe).toList());
+        assertThat(bulkWarnings).hasSize(1).containsExactlyElementsOf(perTableWarnings);
+    }
+
+    @Test
+    void testConcurrentBulkIntrospection() throws Exception {
+        List<String> perTableWarnings = new ArrayList<>();
+        List<IntrospectedTable> perTableTables = introspect(context("PUBLIC"), perTableWarnings);
+
+        List<String> bulkWarnings = new ArrayList<>();
+        List<IntrospectedTable> bulkTables = introspect(context("PUBLIC", bulk(), threads("3")), bulkWarnings);
+
+        assertThat(bulkTables).extracting(IntrospectionEngineTest::describe)
+                .containsExactlyElementsOf(perTableTables.stream().map(IntrospectionEngineTest::describe).toList());
+        assertThat(bulkWarnings).containsExactlyElementsOf(perTableWarnings);
+    }
+
+    @Test
+    void testBulkIntrospectionWithoutSchema() throws Exception {
+        List<String> perTableWarnings = new ArrayList<>();
+        List<IntrospectedTable> perTableTables = introspect(context(null), perTableWarnings);
+
+        List<String> bulkWarnings = new ArrayList<>();
+        List<IntrospectedTable> bulkTables = introspect(context(null, bulk()), bulkWarnings);
+
+        assertThat(bulkTables).extracting(IntrospectionEngineTest::describe)
+                .containsExactlyElementsOf(perTableTables.stream().map(IntrospectionEngineTest::describe).toList());
+        assertThat(bulkWarnings).containsExactlyElementsOf(perTableWarnings);
+    }
+
+    @Test
+    void testIntrospectionCacheIsWrittenAndReused(@TempDir Path tempDir) throws Exception {
+        Path cacheFile = tempDir.resolve("cache").resolve("introspection.xml");
+
+        List<String> perTableWarnings = new ArrayList<>();
+        List<IntrospectedTable> perTableTables = introspect(context(null), perTableWarnings);
+
+        List<String> firstWarnings = new ArrayList<>();
+        List<IntrospectedTable> firstTables = introspect(context(null, cache(cacheFile)), firstWarnings);
+        assertThat(cacheFile).exists();
+
+        List<String> secondWarnings = new ArrayList<>();
+        List<IntrospectedTable> secondTables = introspect(context(null, cache(cacheFile)), secondWarnings);
+
+        List<String> expected = perTableTables.stream().map(IntrospectionEngineTest::describe).toList();
+        assertThat(firstTables).extracting(IntrospectionEngineTest::describe).containsExactlyElementsOf(expected);
+        assertThat(secondTables).extracting(IntrospectionEngineTest::describe).containsExactlyElementsOf(expected);
+        assertThat(firstWarnings).containsExactlyElementsOf(perTableWarnings);
+        assertThat(secondWarnings).containsExactlyElementsOf(perTableWarnings);
+    }
+
+    @Test
+    void testCachedTableMetadataIsUsedForUnchangedTable(@TempDir Path tempDir) throws Exception {
+        Path cacheFile = tempDir.resolve("introspection.xml");
+        introspect(context(null, cache(cacheFile)), new ArrayList<>());
+
+        // table metadata is not part of the fingerprint, so the cached value shows that the cache was used
+        MetadataSnapshot snapshot = MetadataSnapshotFile.read(cacheFile);
+        ActualTableName pkFields = findTable(snapshot, "PKFIELDS");
+        TableMetadata tableMetadata = snapshot.getTableMetadata(pkFields).orElseThrow();
+        snapshot.putTableMetadata(new TableMetadata(pkFields, tableMetadata.remarks(), "CACHED"));
+        MetadataSnapshotFile.write(snapshot, cacheFile);
+
+        List<IntrospectedTable> tables = introspect(context(null, cache(cacheFile)), new ArrayList<>());
+
+        assertThat(table(tables, "PKFIELDS").getTableType()).isEqualTo("CACHED");
+    }
+
+    @Test
+    void testCachedPrimaryKeyIsUsedForUnchangedColumns(@TempDir Path tempDir) throws Exception {
+        Path cacheFile = tempDir.resolve("introspection.xml");
+        introspect(context(null, cache(cacheFile)), new ArrayList<>());
+
+        // the primary key is not part of the fingerprint, so it is not queried again while the columns are the same
+        MetadataSnapshot snapshot = MetadataSnapshotFile.read(cacheFile);
+        ActualTableName pkFields = findTable(snapshot, "PKFIELDS");
+        snapshot.putPrimaryKeyColumns(pkFields, List.of("FIRSTNAME"));
+        MetadataSnapshotFile.write(snapshot, cacheFile);
+
+        List<IntrospectedTable> tables = introspect(context(null, cache(cacheFile)), new ArrayList<>());
+
+        assertThat(primaryKey(tables, "PKFIELDS")).containsExactly("FIRSTNAME");
+        assertThat(MetadataSnapshotFile.read(cacheFile).getPrimaryKeyColumns(pkFields))
+                .hasValue(List.of("FIRSTNAME"));
+    }
+
+    @Test
+    void testCachedTableMetadataIsIgnoredForChangedColumns(@TempDir Path tempDir) throws Exception {
+        Path cacheFile = tempDir.resolve("introspection.xml");
+        introspect(context(null, cache(cacheFile)), new ArrayList<>());
+
+        MetadataSnapshot snapshot = MetadataSnapshotFile.read(cacheFile);
+        ActualTableName pkFields = findTable(snapshot, "PKFIELDS");
+        TableMetadata tableMetadata = snapshot.getTableMetadata(pkFields).orElseThrow();
+        List<ColumnMetadata> columns = snapshot.getColumns(pkFields);
+        snapshot.putColumns(pkFields, columns.subList(0, columns.size() - 1));
+        snapshot.putTableMetadata(new TableMetadata(pkFields, "stale remarks", "CACHED"));
+        MetadataSnapshotFile.write(snapshot, cacheFile);
+
+        List<IntrospectedTable> tables = introspect(context(null, cache(cacheFile)), new ArrayList<>());
+
+        assertThat(table(tables, "PKFIELDS").getTableType()).isEqualTo(tableMetadata.tableType());
+        assertThat(MetadataSnapshotFile.read(cacheFile).getTableMetadata(pkFields)).hasValue(tableMetadata);
+    }
+
+    @Test
+    void testCachedPrimaryKeyIsIgnoredForChangedTable(@TempDir Path tempDir) throws Exception {
+        Path cacheFile = tempDir.resolve("introspection.xml");
+        introspect(context(null, cache(cacheFile)), new ArrayList<>());
+
+        MetadataSnapshot snapshot = MetadataSnapshotFile.read(cacheFile);
+        ActualTableName pkFields = findTable(snapshot, "PKFIELDS");
+        snapshot.putColumns(pkFields, snapshot.getColumns(pkFields).subList(0, 3));
+        snapshot.putPrimaryKeyColumns(pkFields, List.of("FIRSTNAME"));
+        MetadataSnapshotFile.write(snapshot, cacheFile);
+
+        List<IntrospectedTable> tables = introspect(context(null, cache(cacheFile)), new ArrayList<>());
+
+        assertThat(primaryKey(tables, "PKFIELDS")).containsExactly("ID2", "ID1");
+        assertThat(MetadataSnapshotFile.read(cacheFile).getPrimaryKeyColumns(pkFields))
+                .hasValue(List.of("ID2", "ID1"));
+    }
+
+    @Test
+    void testUnreadableIntrospectionCache(@TempDir Path tempDir) throws Exception {
+        Path cacheFile = tempDir.resolve("introspection.xml");
+        Files.writeString(cacheFile, "not a snapshot");
+
+        List<String> warnings = new ArrayList<>();
+        List<IntrospectedTable> tables = introspect(context(null, cache(cacheFile)), warnings);
+
+        assertThat(tables).hasSize(6);
+        assertThat(warnings).hasSize(2);
+        assertThat(MetadataSnapshotFile.read(cacheFile).getTableNames()).hasSize(6);
+    }
+
+    @Test
+    void testOfflineIntrospectionFromExportedSnapshot(@TempDir Path tempDir) throws Exception {
+        Path snapshotFile = tempDir.resolve("snapshot.xml");
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "")) {
+            MetadataSnapshot snapshot = new MetadataSnapshotExporter(connection.getMetaData())
+                    .export(null, "PUBLIC", "%");
+            MetadataSnapshotFile.write(snapshot, snapshotFile);
+        }
+
+        for (String schema : Arrays.asList(null, "PUBLIC")) {
+            List<String> liveWarnings = new ArrayList<>();
+            List<IntrospectedTable> liveTables = introspect(context(schema), liveWarnings);
+
+            List<String> offlineWarnings = new ArrayList<>();
+            List<IntrospectedTable> offlineTables = introspect(offlineContext(schema, snapshotFile), offlineWarnings);
+
+            assertThat(offlineTables).hasSize(6).extracting(IntrospectionEngineTest::describe)
+                    .containsExactlyElementsOf(liveTables.stream().map(IntrospectionEngineTest::describe).toList());
+            assertThat(offlineWarnings).containsExactlyElementsOf(liveWarnings);
+        }
+    }
+
+    @Test
+    void testOfflineIntrospectionFromCacheFile(@TempDir Path tempDir) throws Exception {
+        Path cacheFile = tempDir.resolve("introspection.xml");
+        List<IntrospectedTable> liveTables = introspect(context(null, cache(cacheFile)), new ArrayList<>());
+
+        List<IntrospectedTable> offlineTables = introspect(offlineContext(null, cacheFile), new ArrayList<>());
+        List<IntrospectedTable> concurrentOfflineTables =
+                introspect(contextBuilder(null, threads("3"),
+                        new Property(PropertyRegistry.CONTEXT_METADATA_SNAPSHOT_FILE, cacheFile.toString())).build(),
+                        new ArrayList<>());
+
+        List<String> expected = liveTables.stream().map(IntrospectionEngineTest::describe).toList();
+        assertThat(offlineTables).extracting(IntrospectionEngineTest::describe).containsExactlyElementsOf(expected);
+        assertThat(concurrentOfflineTables).extracting(IntrospectionEngineTest::describe)
+                .containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void testMissingSnapshotFile(@TempDir Path tempDir) {
+        Context context = offlineContext(null, tempDir.resolve("missing.xml"));
+
+        assertThatExceptionOfType(SQLException.class).isThrownBy(() -> introspect(context, new ArrayList<>()))
+                .withMessageContaining("missing.xml");
+    }
+
+    private static ActualTableName findTable(MetadataSnapshot snapshot, String tableName) {
+        return snapshot.getTableNames().stream()
+                .filter(atn -> atn.getTableName().equals(tableName))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static IntrospectedTable table(List<IntrospectedTable> tables, String tableName) {
+        return tables.stream()
+                .filter(t -> t.getFullyQualifiedTable().getIntrospectedTableName().equals(tableName))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static List<String> primaryKey(List<IntrospectedTable> tables, String tableName) {
+        return table(tables, tableName).getPrimaryKeyColumns().stream()
+                .map(IntrospectedColumn::getActualColumnName)
+                .toList();
+    }
+
+    private static String describe(IntrospectedTable introspectedTable) {
+        return introspectedTable.getFullyQualifiedTable().toString() + introspectedTable.getAllColumns().stream()
+                .map(IntrospectedColumn::getActualColumnName)
+                .toList()
+                + introspectedTable.getPrimaryKeyColumns().stream()
+                .map(IntrospectedColumn::getActualColumnName)
+                .toList()
+                + introspectedTable.getTableType()
+                + introspectedTable.getRemarks().orElse("");
+    }
+
+    private static List<IntrospectedTable> introspect(Context context, List<String> warnings) throws Exception {
+        CalculatedContextValues contextValues = new CalculatedContextValues.Builder()
+                .withContext(context)
+                .withWarnings(warnings)
+                .withIndenter(Indenter.defaultIndenter())
+                .build();
+
+        return new IntrospectionEngine.Builder()
+                .withContextValues(contextValues)
+                .withFullyQualifiedTableNames(Set.of())
+                .withWarnings(warnings)
+                .withProgressCallback(new ProgressCallback() {})
+                .build()
+                .introspectTables();
+    }
+
+    private static Property threads(String introspectionThreads) {
+        return new Property(PropertyRegistry.CONTEXT_INTROSPECTION_THREADS, introspectionThreads);
+    }
+
+    private static Property cache(Path cacheFile) {
+        return new Property(PropertyRegistry.CONTEXT_INTROSPECTION_CACHE_FILE, cacheFile.toString());
+    }
+
+    private static Property bulk() {
+        return new Property(PropertyRegistry.CONTEXT_BULK_INTROSPECTION, "true");
+    }
+
+    private static Context context(@Nullable String schema, Property... properties) {
+        return contextBuilder(schema, properties)
+                .withJdbcConnectionConfiguration(new JDBCConnectionConfiguration.Builder()
+                        .withDriverClass(DRIVER_CLASS)
+                        .withConnectionURL(JDBC_URL)
+                        .withUserId("sa")
+                        .build())
+                .build();
+    }
+
+    private static Context contextWithWarningTypeResolver(Property... properties) {
+        return contextBuilder(null, properties)
+                .withJdbcConnectionConfiguration(new JDBCConnectionConfiguration.Builder()
+                        .withDriverClass(DRIVER_CLASS)
+                        .withConnectionURL(JDBC_URL)
+                        .withUserId("sa")
+                        .build())
+                .withJavaTypeResolverConfiguration(new JavaTypeResolverConfiguration.Builder()
+                        .withConfigurationType(WarningTypeResolver.class.getName())
+                        .build())
+                .build();
+    }
+
+    private static Context offlineContext(@Nullable String schema, Path snapshotFile) {
+        Context context = contextBuilder(schema,
+                new Property(PropertyRegistry.CONTEXT_METADATA_SNAPSHOT_FILE, snapshotFile.toString()))
+                .build();
+
+        List<String> errors = new ArrayList<>();
+        context.validate(errors);
+        assertThat(errors).isEmpty();
+
+        return context;
+    }
+
+    private static Context.Builder contextBuilder(@Nullable String schema, Property... properties) {
+        Context.Builder builder = new Context.Builder()
+                .withId("test-context")
+                .withModelGeneratorConfiguration(new ModelGeneratorConfiguration.Builder()
+                        .withTargetPackage("test.model")
+                        .withTargetProject("test")
+                        .build());
+
+        for (Property property : properties) {
+            builder.withProperty(property);
+        }
+
+        List.of("FIELDSONLY", "PKONLY", "PKFIELDS", "PKBLOBS", "NO_SUCH_TABLE", "PKFIELDSBLOBS", "FIELDSBLOBS")
+                .forEach(tableName -> builder.withTableConfiguration(new TableConfiguration.Builder()
+                        .withSchema(schema)
+                        .withTableName(tableName)
+                        .build()));
+
+        return builder;
+    }
+
+    /**
+     * A type resolver that reports a warning when it is configured.
+     */
+    public static class WarningTypeResolver extends JavaTypeResolverDefaultImpl {
+        static final String WARNING = "type resolver configured";
+
+        @Override
+        public void setContext(Context context) {
+            super.setContext(context);
+            Objects.requireNonNull(warnings).add(WARNING);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.codegen;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+
+class RootClassInfoTest {
+
+    @AfterEach
+    void resetRootClassInfo() {
+        RootClassInfo.reset();
+    }
+
+    @Test
+    void testWarningsGoToEachCaller() {
+        String rootClass = RootRecord.class.getName();
+        List<String> firstWarnings = new ArrayList<>();
+        RootClassInfo first = RootClassInfo.getInstance(rootClass, firstWarnings);
+        assertThat(first.containsProperty(column("id", "java.lang.String"), firstWarnings)).isFalse();
+
+        List<String> secondWarnings = new ArrayList<>();
+        RootClassInfo second = RootClassInfo.getInstance(rootClass, secondWarnings);
+        assertThat(second).isSameAs(first);
+        assertThat(second.containsProperty(column("id", "java.lang.String"), secondWarnings)).isFalse();
+        assertThat(second.containsProperty(column("id", "java.lang.Integer"), secondWarnings)).isTrue();
+
+        String expected = getString("Warning.21", "id", rootClass, "java.lang.String");
+        assertThat(firstWarnings).containsExactly(expected);
+        assertThat(secondWarnings).containsExactly(expected);
+    }
+
+    @Test
+    void testUnloadableClassIsReportedToFirstCaller() {
+        List<String> firstWarnings = new ArrayList<>();
+        RootClassInfo first = RootClassInfo.getInstance("com.example.Missing", firstWarnings);
+        List<String> secondWarnings = new ArrayList<>();
+        RootClassInfo.getInstance("com.example.Missing", secondWarnings);
+
+        assertThat(first.containsProperty(column("id", "java.lang.Integer"), secondWarnings)).isFalse();
+        assertThat(firstWarnings).containsExactly(getString("Warning.20", "com.example.Missing"));
+        assertThat(secondWarnings).isEmpty();
+    }
+
+    private static IntrospectedColumn column(String javaProperty, String javaType) {
+        IntrospectedColumn column = new IntrospectedColumn();
+        column.setJavaProperty(javaProperty);
+        column.setFullyQualifiedJavaType(new FullyQualifiedJavaType(javaType));
+        return column;
+    }
+
+    public static class RootRecord {
+        private Integer id;
+
+        public Integer getId() {
+            return id;
+        }
+
+        public void setId(Integer id) {
+            this.id = id;
+        }
+    }
+}
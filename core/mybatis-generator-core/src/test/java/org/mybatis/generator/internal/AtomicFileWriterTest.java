@@ -0,0 +1,86 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AtomicFileWriterTest {
+
+    @Test
+    void testFileIsReplaced(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("Foo.java");
+        Files.writeString(file, "old");
+        AtomicFileWriter writer = new AtomicFileWriter(false);
+
+        writer.write(file, f -> Files.writeString(f, "new"));
+
+        assertThat(Files.readString(file)).isEqualTo("new");
+        assertThat(writer.getCurrentFile(file)).isEqualTo(file);
+        assertThat(listFiles(tempDir)).containsExactly(file);
+    }
+
+    @Test
+    void testDeferredFilesAreReplacedOnCommit(@TempDir Path tempDir) throws Exception {
+        Path existingFile = tempDir.resolve("Foo.java");
+        Path newFile = tempDir.resolve("Bar.java");
+        Files.writeString(existingFile, "old");
+        AtomicFileWriter writer = new AtomicFileWriter(true);
+
+        writer.write(existingFile, f -> Files.writeString(f, "first"));
+        writer.write(existingFile, f -> Files.writeString(f, "second"));
+        writer.write(newFile, f -> Files.writeString(f, "new"));
+
+        assertThat(Files.readString(existingFile)).isEqualTo("old");
+        assertThat(Files.readString(writer.getCurrentFile(existingFile))).isEqualTo("second");
+        assertThat(writer.exists(newFile)).isTrue();
+        assertThat(newFile).doesNotExist();
+        assertThat(writer.getStagedFileCount()).isEqualTo(2);
+
+        writer.commit();
+
+        assertThat(Files.readString(existingFile)).isEqualTo("second");
+        assertThat(Files.readString(newFile)).isEqualTo("new");
+        assertThat(listFiles(tempDir)).containsExactlyInAnyOrder(existingFile, newFile);
+    }
+
+    @Test
+    void testRollbackDeletesStagedFiles(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("Foo.java");
+        Files.writeString(file, "old");
+        AtomicFileWriter writer = new AtomicFileWriter(true);
+
+        writer.write(file, f -> Files.writeString(f, "new"));
+        writer.rollback();
+        writer.write(tempDir.resolve("Bar.java"), f -> Files.writeString(f, "late"));
+
+        assertThat(Files.readString(file)).isEqualTo("old");
+        assertThat(listFiles(tempDir)).containsExactly(file);
+    }
+
+    private static List<Path> listFiles(Path directory) throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.UnaryOperator;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.api.FullyQualifiedTable;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.KnownRuntime;
+import org.mybatis.generator.config.ColumnOverride;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.ModelGeneratorConfiguration;
+import org.mybatis.generator.config.PluginConfiguration;
+import org.mybatis.generator.config.Property;
+import org.mybatis.generator.config.TableConfiguration;
+
+class InputFingerprintTest {
+
+    @Test
+    void testEqualConfigurationsHaveEqualHashes() {
+        assertThat(calculate(c -> c, t -> t)).isEqualTo(calculate(c -> c, t -> t));
+    }
+
+    @Test
+    void testTableConfigurationChangesTheHash() {
+        String hash = calculate(c -> c, t -> t);
+
+        assertThat(calculate(c -> c, t -> t.withColumnOverride(new ColumnOverride.Builder()
+                .withColumnName("id")
+                .withJavaProperty("key")
+                .build())))
+                .isNotEqualTo(hash);
+        assertThat(calculate(c -> c, t -> t.withInsertStatementEnabled(false))).isNotEqualTo(hash);
+    }
+
+    @Test
+    void testPluginConfigurationChangesTheHash() {
+        String hash = calculate(c -> c.withPluginConfiguration(plugin("false")), t -> t);
+
+        assertThat(calculate(c -> c.withPluginConfiguration(plugin("false")), t -> t)).isEqualTo(hash);
+        assertThat(calculate(c -> c.withPluginConfiguration(plugin("true")), t -> t)).isNotEqualTo(hash);
+        assertThat(calculate(c -> c, t -> t)).isNotEqualTo(hash);
+    }
+
+    @Test
+    void testOtherTableConfigurationsDoNotChangeTheHash() {
+        String hash = calculate(c -> c, t -> t);
+
+        assertThat(calculate(c -> c.withTableConfiguration(new TableConfiguration.Builder()
+                .withTableName("other")
+                .build()), t -> t))
+                .isEqualTo(hash);
+    }
+
+    private static PluginConfiguration plugin(String addGwtInterface) {
+        return new PluginConfiguration.Builder()
+                .withConfigurationType("org.mybatis.generator.plugins.SerializablePlugin")
+                .withProperty(new Property("addGWTInterface", addGwtInterface))
+                .build();
+    }
+
+    private static String calculate(UnaryOperator<Context.Builder> contextEditor,
+                                    UnaryOperator<TableConfiguration.Builder> tableEditor) {
+        Context context = contextEditor.apply(new Context.Builder()
+                        .withId("test-context")
+                        .withModelGeneratorConfiguration(new ModelGeneratorConfiguration.Builder()
+                                .withTargetPackage("foo")
+                                .withTargetProject("test-project")
+                                .build()))
+                .build();
+        IntrospectedTable introspectedTable = new IntrospectedTable.Builder()
+                .withKnownRuntime(KnownRuntime.MYBATIS3_DYNAMIC_SQL)
+                .withTableConfiguration(tableEditor.apply(new TableConfiguration.Builder().withTableName("test"))
+                        .build())
+                .withFullyQualifiedTable(new FullyQualifiedTable.Builder()
+                        .withIntrospectedTableName("test")
+                        .build())
+                .withContext(context)
+                .build();
+        introspectedTable.setTableType("TABLE");
+
+        return new InputFingerprint(context, "1.0").calculate(introspectedTable);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.api.GenerationMetrics;
+import org.mybatis.generator.api.Plugin;
+import org.mybatis.generator.api.PluginAdapter;
+
+class PluginProfilerTest {
+
+    @Test
+    void testProfile() {
+        PluginProfiler profiler = new PluginProfiler();
+        Plugin plugin = profiler.wrap("ctx", "TestPlugin", new TestPlugin());
+
+        assertThat(plugin.contextGenerateAdditionalJavaFiles()).isEmpty();
+        assertThat(plugin.contextGenerateAdditionalJavaFiles()).isEmpty();
+        assertThat(plugin.isThreadSafe()).isFalse();
+
+        GenerationMetrics metrics = new GenerationMetrics();
+        profiler.report(metrics);
+
+        List<String> summary = metrics.getPluginSummary(10);
+        assertThat(summary).hasSize(5);
+        assertThat(summary.get(0)).isEqualTo("Slowest plugins:");
+        assertThat(summary.get(1)).matches("  TestPlugin: \\d+ ms in 3 calls");
+        assertThat(summary.get(2)).isEqualTo("Slowest plugin methods:");
+        assertThat(summary.subList(3, 5)).anyMatch(s ->
+                s.matches("  TestPlugin\\.contextGenerateAdditionalJavaFiles\\(\\): \\d+ ms in 2 calls"));
+        assertThat(summary.subList(3, 5)).anyMatch(s ->
+                s.matches("  TestPlugin\\.isThreadSafe\\(\\): \\d+ ms in 1 calls"));
+    }
+
+    @Test
+    void testNoProfile() {
+        assertThat(new GenerationMetrics().getPluginSummary(10)).isEmpty();
+    }
+
+    public static class TestPlugin extends PluginAdapter {
+        @Override
+        public boolean validate(List<String> warnings) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+class CachingMetadataSourceTest {
+    private static final ActualTableName ORDERS = new ActualTableName(null, "SALES", "ORDERS");
+    private static final ActualTableName ORDER_LINES = new ActualTableName(null, "SALES", "ORDER_LINES");
+
+    @Test
+    void testUnchangedTablesNeedOnlyColumns() throws SQLException {
+        CountingMetadataSource database = new CountingMetadataSource(snapshot(20));
+        MetadataSnapshot currentSnapshot = new MetadataSnapshot();
+        CachingMetadataSource source = new CachingMetadataSource(database, snapshot(20), currentSnapshot);
+
+        source.getColumns(null, "SALES", "%");
+
+        assertThat(source.getPrimaryKeyColumns(null, "SALES", "ORDERS")).containsExactly("ID");
+        assertThat(source.getTableMetadata(null, "SALES", "ORDER_LINES")).hasValueSatisfying(
+                t -> assertThat(t.remarks()).isEqualTo("ORDER_LINES remarks"));
+        assertThat(database.otherQueries).isZero();
+        assertThat(currentSnapshot.getPrimaryKeyColumns(ORDER_LINES)).hasValue(List.of("ID"));
+    }
+
+    @Test
+    void testChangedTableIsQueried() throws SQLException {
+        CountingMetadataSource database = new CountingMetadataSource(snapshot(30));
+        MetadataSnapshot previousSnapshot = snapshot(20);
+        previousSnapshot.putPrimaryKeyColumns(ORDERS, List.of("STALE"));
+        MetadataSnapshot currentSnapshot = new MetadataSnapshot();
+        CachingMetadataSource source = new CachingMetadataSource(database, previousSnapshot, currentSnapshot);
+
+        source.getColumns(null, "SALES", "ORDERS");
+
+        assertThat(source.getPrimaryKeyColumns(null, "SALES", "ORDERS")).containsExactly("ID");
+        assertThat(source.getTableMetadata(null, "SALES", "ORDERS")).isPresent();
+        assertThat(database.otherQueries).isEqualTo(2);
+        assertThat(currentSnapshot.getPrimaryKeyColumns(ORDERS)).hasValue(List.of("ID"));
+        assertThat(currentSnapshot.getTableMetadata(ORDERS)).isPresent();
+    }
+
+    @Test
+    void testNewTableIsQueried() throws SQLException {
+        CountingMetadataSource database = new CountingMetadataSource(snapshot(20));
+        CachingMetadataSource source =
+                new CachingMetadataSource(database, new MetadataSnapshot(), new MetadataSnapshot());
+
+        source.getColumns(null, "SALES", "ORDER_LINES");
+
+        assertThat(source.getPrimaryKeyColumns(null, "SALES", "ORDER_LINES")).containsExactly("ID");
+        assertThat(database.otherQueries).isEqualTo(1);
+    }
+
+    private static MetadataSnapshot snapshot(int nameLength) {
+        MetadataSnapshot snapshot = new MetadataSnapshot();
+        for (ActualTableName tableName : List.of(ORDERS, ORDER_LINES)) {
+            snapshot.putColumns(tableName, List.of(
+                    new ColumnMetadata(tableName, "ID", Types.INTEGER, "INTEGER", 10, 0, false, null, null, false,
+                            false),
+                    new ColumnMetadata(tableName, "NAME", Types.VARCHAR, "VARCHAR", nameLength, 0, true, null, null,
+                            false, false)));
+            snapshot.putPrimaryKeyColumns(tableName, List.of("ID"));
+            snapshot.putTableMetadata(new TableMetadata(tableName, tableName.getTableName() + " remarks", "TABLE"));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Stands in for the database, and counts the queries other than column queries.
+     */
+    private static class CountingMetadataSource extends SnapshotMetadataSource {
+        private int otherQueries;
+
+        CountingMetadataSource(MetadataSnapshot snapshot) {
+            super(snapshot);
+        }
+
+        @Override
+        public List<String> getPrimaryKeyColumns(@Nullable String catalog, @Nullable String schema,
+                                                 String tableName) throws SQLException {
+            otherQueries++;
+            return super.getPrimaryKeyColumns(catalog, schema, tableName);
+        }
+
+        @Override
+        public Optional<TableMetadata> getTableMetadata(@Nullable String catalog, @Nullable String schema,
+                                                        String tableName) throws SQLException {
+            otherQueries++;
+            return super.getTableMetadata(catalog, schema, tableName);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class LikePatternTest {
+
+    @Test
+    void testLiteralPattern() {
+        LikePattern pattern = LikePattern.compile("PKFIELDS", "\\");
+        assertThat(pattern.matches("PKFIELDS")).isTrue();
+        assertThat(pattern.matches("PKFIELDSBLOBS")).isFalse();
+        assertThat(pattern.matches("pkfields")).isFalse();
+    }
+
+    @Test
+    void testUnderscoreMatchesAnyCharacter() {
+        LikePattern pattern = LikePattern.compile("PK_FIELDS", "\\");
+        assertThat(pattern.matches("PK_FIELDS")).isTrue();
+        assertThat(pattern.matches("PKXFIELDS")).isTrue();
+        assertThat(pattern.matches("PKFIELDS")).isFalse();
+    }
+
+    @Test
+    void testPercentMatchesAnyString() {
+        LikePattern pattern = LikePattern.compile("PK%", "\\");
+        assertThat(pattern.matches("PK")).isTrue();
+        assertThat(pattern.matches("PKFIELDSBLOBS")).isTrue();
+        assertThat(pattern.matches("FIELDSONLY")).isFalse();
+    }
+
+    @Test
+    void testEscapedWildcards() {
+        LikePattern pattern = LikePattern.compile("PK\\_FIELDS\\%", "\\");
+        assertThat(pattern.matches("PK_FIELDS%")).isTrue();
+        assertThat(pattern.matches("PKXFIELDS%")).isFalse();
+        assertThat(pattern.matches("PK_FIELDSX")).isFalse();
+    }
+
+    @Test
+    void testRegexCharactersAreLiterals() {
+        LikePattern pattern = LikePattern.compile("A.B%", "\\");
+        assertThat(pattern.matches("A.BC")).isTrue();
+        assertThat(pattern.matches("AXBC")).isFalse();
+    }
+}
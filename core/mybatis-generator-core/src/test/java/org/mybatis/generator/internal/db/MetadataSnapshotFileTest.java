@@ -0,0 +1,93 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Types;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MetadataSnapshotFileTest {
+
+    @Test
+    void testRoundTrip(@TempDir Path tempDir) throws IOException {
+        ActualTableName tableName = new ActualTableName(null, "app", "orders");
+        List<ColumnMetadata> columns = List.of(
+                new ColumnMetadata(tableName, "id", Types.INTEGER, "INT", 10, 0, false, null, null, true, false),
+                new ColumnMetadata(tableName, "note", Types.VARCHAR, "VARCHAR", 200, 0, true,
+                        "Remarks with <markup> & \"quotes\"", "'n/a'", null, null));
+
+        MetadataSnapshot snapshot = new MetadataSnapshot();
+        snapshot.putColumns(tableName, columns);
+        snapshot.putPrimaryKeyColumns(tableName, List.of("id"));
+        snapshot.putTableMetadata(new TableMetadata(tableName, "Customer orders", "TABLE"));
+
+        Path file = tempDir.resolve("snapshot.xml");
+        MetadataSnapshotFile.write(snapshot, file);
+        MetadataSnapshot copy = MetadataSnapshotFile.read(file);
+
+        assertThat(copy.getTableNames()).containsExactly(tableName);
+        assertThat(copy.getColumns(tableName)).isEqualTo(columns);
+        assertThat(copy.getFingerprint(tableName)).isEqualTo(snapshot.getFingerprint(tableName));
+        assertThat(copy.getPrimaryKeyColumns(tableName)).hasValue(List.of("id"));
+        assertThat(copy.getTableMetadata(tableName))
+                .hasValue(new TableMetadata(tableName, "Customer orders", "TABLE"));
+    }
+
+    @Test
+    void testFingerprintChangesWithColumns() {
+        ActualTableName tableName = new ActualTableName(null, null, "t");
+        ColumnMetadata column =
+                new ColumnMetadata(tableName, "c", Types.VARCHAR, "VARCHAR", 20, 0, true, null, null, null, null);
+        ColumnMetadata widerColumn =
+                new ColumnMetadata(tableName, "c", Types.VARCHAR, "VARCHAR", 30, 0, true, null, null, null, null);
+
+        assertThat(MetadataSnapshot.fingerprint(List.of(column)))
+                .isEqualTo(MetadataSnapshot.fingerprint(List.of(column)))
+                .isNotEqualTo(MetadataSnapshot.fingerprint(List.of(widerColumn)))
+                .isNotEqualTo(MetadataSnapshot.fingerprint(List.of(column, column)));
+    }
+
+    @Test
+    void testChangedColumnsDiscardPrimaryKey() {
+        ActualTableName tableName = new ActualTableName(null, null, "t");
+        ColumnMetadata column =
+                new ColumnMetadata(tableName, "c", Types.INTEGER, "INT", 10, 0, false, null, null, null, null);
+
+        MetadataSnapshot snapshot = new MetadataSnapshot();
+        snapshot.putColumns(tableName, List.of(column));
+        snapshot.putPrimaryKeyColumns(tableName, List.of("c"));
+        snapshot.putColumns(tableName, List.of(column));
+
+        assertThat(snapshot.getPrimaryKeyColumns(tableName)).isEmpty();
+    }
+
+    @Test
+    void testInvalidFile(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("snapshot.xml");
+        Files.writeString(file, "<generatorConfiguration/>");
+
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> MetadataSnapshotFile.read(file))
+                .withMessageContaining("is not a metadata snapshot");
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SnapshotMetadataSourceTest {
+
+    @Test
+    void testColumnsMatchPatterns() {
+        SnapshotMetadataSource source = new SnapshotMetadataSource(snapshot());
+
+        assertThat(source.getColumns(null, null, "ORDER%")).extracting(c -> c.tableName().toString())
+                .containsExactly("SALES.ORDERS", "SALES.ORDER_LINES", "SHIPPING.ORDERS");
+        assertThat(source.getColumns(null, "SHIP%", "ORDERS")).extracting(c -> c.tableName().toString())
+                .containsExactly("SHIPPING.ORDERS");
+        assertThat(source.getColumns(null, null, "ORDER\\_LINES")).extracting(c -> c.tableName().toString())
+                .containsExactly("SALES.ORDER_LINES");
+        assertThat(source.getColumns(null, null, "CUSTOMERS")).isEmpty();
+    }
+
+    @Test
+    void testQualifiedLookup() throws SQLException {
+        SnapshotMetadataSource source = new SnapshotMetadataSource(snapshot());
+
+        assertThat(source.getPrimaryKeyColumns(null, "SHIPPING", "ORDERS")).containsExactly("SHIPMENT_ID");
+        assertThat(source.getTableMetadata(null, "SHIPPING", "ORDERS")).hasValueSatisfying(
+                t -> assertThat(t.remarks()).isEqualTo("Shipped orders"));
+        assertThat(source.getPrimaryKeyColumns(null, null, "ORDER_LINES")).containsExactly("ID");
+        assertThat(source.getPrimaryKeyColumns(null, null, "CUSTOMERS")).isEmpty();
+    }
+
+    @Test
+    void testAmbiguousLookupIsAnError() {
+        SnapshotMetadataSource source = new SnapshotMetadataSource(snapshot());
+
+        assertThatExceptionOfType(SQLException.class)
+                .isThrownBy(() -> source.getPrimaryKeyColumns(null, null, "ORDERS"))
+                .withMessageContaining("SALES.ORDERS").withMessageContaining("SHIPPING.ORDERS");
+        assertThatExceptionOfType(SQLException.class)
+                .isThrownBy(() -> source.getTableMetadata(null, null, "ORDERS"));
+    }
+
+    private static MetadataSnapshot snapshot() {
+        MetadataSnapshot snapshot = new MetadataSnapshot();
+        addTable(snapshot, new ActualTableName(null, "SALES", "ORDERS"), "ID", "Orders");
+        addTable(snapshot, new ActualTableName(null, "SALES", "ORDER_LINES"), "ID", "Order lines");
+        addTable(snapshot, new ActualTableName(null, "SHIPPING", "ORDERS"), "SHIPMENT_ID", "Shipped orders");
+        return snapshot;
+    }
+
+    private static void addTable(MetadataSnapshot snapshot, ActualTableName tableName, String keyColumn,
+                                 String remarks) {
+        snapshot.putColumns(tableName, List.of(new ColumnMetadata(tableName, keyColumn, Types.INTEGER, "INTEGER",
+                10, 0, false, null, null, false, false)));
+        snapshot.putPrimaryKeyColumns(tableName, List.of(keyColumn));
+        snapshot.putTableMetadata(new TableMetadata(tableName, remarks, "TABLE"));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.generator.internal.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.Plugin;
+import org.mybatis.generator.api.PluginAdapter;
+
+class PluginHookRecorderTest {
+
+    @Test
+    void testNotWrappedWithoutRecording() {
+        Plugin plugin = new TestPlugin();
+
+        assertThat(PluginHookRecorder.wrapIfRecording(plugin)).isSameAs(plugin);
+    }
+
+    @Test
+    void testHookEventsRecorded(@TempDir Path tempDir) throws IOException {
+        Path recordingFile = tempDir.resolve("hooks.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PluginHookEvent.class);
+            recording.start();
+
+            Plugin plugin = PluginHookRecorder.wrapIfRecording(new TestPlugin());
+            assertThat(plugin).isNotInstanceOf(TestPlugin.class);
+            assertThat(plugin.validate(new ArrayList<>())).isTrue();
+            assertThat(plugin.isThreadSafe()).isFalse();
+            assertThatExceptionOfType(UnsupportedOperationException.class)
+                    .isThrownBy(plugin::contextGenerateAdditionalJavaFiles);
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(e -> e.getEventType().getName().equals("org.mybatis.generator.PluginHook"))
+                .toList();
+        assertThat(events).extracting(e -> e.getString("hook"))
+                .containsExactly("validate", "isThreadSafe", "contextGenerateAdditionalJavaFiles");
+        assertThat(events).extracting(e -> e.getString("plugin")).containsOnly(TestPlugin.class.getName());
+    }
+
+    public static class TestPlugin extends PluginAdapter {
+        @Override
+        public boolean validate(List<String> warnings) {
+            return true;
+        }
+
+        @Override
+        public List<GeneratedJavaFile> contextGenerateAdditionalJavaFiles() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -72,4 +72,23 @@ class StringUtilityTest {
                         JavaBeansUtil.getValidPropertyName("MySQL"), "MY_SQL")
         );
     }
+
+    @ParameterizedTest
+    @MethodSource("positiveIntVariations")
+    void testParsePositiveInt(String input, int expected) {
+        int answer = StringUtility.parsePositiveIntOrElse(input, 1);
+        assertThat(answer).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> positiveIntVariations() {
+        return Stream.of(
+                Arguments.argumentSet("valid", "4", 4),
+                Arguments.argumentSet("surrounding spaces", " 8 ", 8),
+                Arguments.argumentSet("null", null, 1),
+                Arguments.argumentSet("empty", "", 1),
+                Arguments.argumentSet("zero", "0", 1),
+                Arguments.argumentSet("negative", "-3", 1),
+                Arguments.argumentSet("not a number", "many", 1)
+        );
+    }
 }
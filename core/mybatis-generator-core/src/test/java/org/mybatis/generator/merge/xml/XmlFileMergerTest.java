@@ -18,8 +18,14 @@ package org.mybatis.generator.merge.xml;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -36,6 +42,31 @@ class XmlFileMergerTest {
         assertThat(actual).isEqualToNormalizingNewlines(testCase.expectedContentAfterMerge(parameter));
     }
 
+    @Test
+    void testConcurrentMerges() throws Exception {
+        List<Arguments> testCases = testCases().toList();
+        List<Future<?>> futures = new ArrayList<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 10; i++) {
+                for (Arguments arguments : testCases) {
+                    XmlMergeTestCase testCase = (XmlMergeTestCase) arguments.get()[0];
+                    String parameter = (String) arguments.get()[1];
+                    futures.add(executorService.submit(() -> {
+                        allTestCases(testCase, parameter);
+                        return null;
+                    }));
+                }
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
     static Stream<Arguments> testCases() {
         return MergeTestCase.findTestCases("org.mybatis.generator.merge.xml");
     }
@@ -17,6 +17,7 @@ package org.mybatis.generator.maven;
 
 import org.apache.maven.plugin.logging.Log;
 import org.mybatis.generator.api.ProgressCallback;
+import org.mybatis.generator.internal.util.messages.Messages;
 
 /**
  * This callback logs progress messages with the Maven logger.
@@ -40,4 +41,10 @@ public class MavenProgressCallback implements ProgressCallback {
             log.info(subTaskName);
         }
     }
+
+    @Override
+    public void saveCompleted(int changedFiles, int unchangedFiles) {
+        log.info(Messages.getString("Progress.21", //$NON-NLS-1$
+                Integer.toString(changedFiles), Integer.toString(unchangedFiles)));
+    }
 }
@@ -33,6 +33,7 @@ import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.MavenProject;
 import org.jspecify.annotations.Nullable;
+import org.mybatis.generator.api.GenerationMetrics;
 import org.mybatis.generator.api.MyBatisGenerator;
 import org.mybatis.generator.config.Configuration;
 import org.mybatis.generator.config.xml.ConfigurationParser;
@@ -49,6 +50,7 @@ import org.mybatis.generator.internal.util.messages.Messages;
 @Mojo(name = "generate", defaultPhase = LifecyclePhase.GENERATE_SOURCES,
         requiresDependencyResolution = ResolutionScope.TEST)
 public class MyBatisGeneratorMojo extends AbstractMojo {
+    private static final int DEFAULT_PLUGIN_SUMMARY_SIZE = 10;
 
     private final ThreadLocal<@Nullable ClassLoader> savedClassloader = new ThreadLocal<>();
 
@@ -160,6 +162,85 @@ public class MyBatisGeneratorMojo extends AbstractMojo {
     @Parameter(property = "mybatis.generator.javaMergeEnabled", defaultValue = "false")
     private boolean javaMergeEnabled;
 
+    /**
+     * The maximum number of contexts to run at the same time. If greater than one,
+     * each context is introspected and generated on its own thread.
+     */
+    @Parameter(property = "mybatis.generator.contextThreads", defaultValue = "1")
+    private int contextThreads;
+
+    /**
+     * If true, then each table is written as soon as it is generated, and generated
+     * while other tables are still being introspected.
+     */
+    @Parameter(property = "mybatis.generator.pipelineEnabled", defaultValue = "false")
+    private boolean pipelineEnabled;
+
+    /**
+     * The number of threads that format, merge, and write generated files. If greater
+     * than one, files are saved concurrently.
+     */
+    @Parameter(property = "mybatis.generator.saveThreads", defaultValue = "1")
+    private int saveThreads;
+
+    /**
+     * If true, then existing files whose content would not change are left untouched,
+     * so their modification times stay the same.
+     */
+    @Parameter(property = "mybatis.generator.skipUnchangedFiles", defaultValue = "false")
+    private boolean skipUnchangedFiles;
+
+    /**
+     * If true, then each file is written to a temporary file and moved into place, so a
+     * file is never left partially written.
+     */
+    @Parameter(property = "mybatis.generator.atomicWrites", defaultValue = "false")
+    private boolean atomicWrites;
+
+    /**
+     * If true, then files are written atomically, but only moved into place once every
+     * file has been written. A build that fails leaves the previous files untouched.
+     */
+    @Parameter(property = "mybatis.generator.deferCommit", defaultValue = "false")
+    private boolean deferCommit;
+
+    /**
+     * Generation manifest file. If specified, then the files written for every table are
+     * recorded in this file, and tables whose configuration and database metadata are
+     * unchanged since the last run are skipped.
+     */
+    @Parameter(property = "mybatis.generator.manifestFile")
+    private @Nullable File manifestFile;
+
+    /**
+     * If true, then files recorded in the generation manifest that are no longer generated
+     * are deleted. If false (default), then they are reported as warnings.
+     */
+    @Parameter(property = "mybatis.generator.deleteStaleFiles", defaultValue = "false")
+    private boolean deleteStaleFiles;
+
+    /**
+     * Metrics report file. If specified, then the time spent introspecting, generating,
+     * and saving every table and file is written to this file as an XML report.
+     */
+    @Parameter(property = "mybatis.generator.metricsReportFile")
+    private @Nullable File metricsReportFile;
+
+    /**
+     * The number of slowest tables and generators to log at the end of the run.
+     * If zero (default), then no metrics summary is logged.
+     */
+    @Parameter(property = "mybatis.generator.metricsSummarySize", defaultValue = "0")
+    private int metricsSummarySize;
+
+    /**
+     * If true, then the calls to every plugin method, and the time spent in them, are counted. The slowest plugins
+     * and plugin methods are logged at the end of the run - ten of each unless metricsSummarySize is set - and
+     * added to the metrics report.
+     */
+    @Parameter(property = "mybatis.generator.profilePlugins", defaultValue = "false")
+    private boolean profilePlugins;
+
     @Override
     public void execute() throws MojoExecutionException {
         if (skip) {
@@ -205,6 +286,9 @@ public class MyBatisGeneratorMojo extends AbstractMojo {
             Configuration config = cp.parseConfiguration(configurationFile);
             warnings.addAll(cp.getWarnings());
 
+            GenerationMetrics metrics = metricsReportFile != null || metricsSummarySize > 0 || profilePlugins
+                    ? new GenerationMetrics() : null;
+
             MyBatisGenerator myBatisGenerator = new MyBatisGenerator.Builder()
                     .withConfiguration(config)
                     .withShellCallback(new MavenShellCallback(this))
@@ -213,9 +297,31 @@ public class MyBatisGeneratorMojo extends AbstractMojo {
                     .withFullyQualifiedTableNames(fullyQualifiedTables)
                     .withOverwriteEnabled(overwrite)
                     .withJavaFileMergeEnabled(javaMergeEnabled)
+                    .withContextThreads(contextThreads)
+                    .withPipelineEnabled(pipelineEnabled)
+                    .withSaveThreads(saveThreads)
+                    .withSkipUnchangedFiles(skipUnchangedFiles)
+                    .withManifestFile(manifestFile == null ? null : manifestFile.toPath())
+                    .withStaleFilesDeleted(deleteStaleFiles)
+                    .withAtomicWritesEnabled(atomicWrites)
+                    .withDeferredCommitEnabled(deferCommit)
+                    .withMetricsListener(metrics)
+                    .withPluginProfilingEnabled(profilePlugins)
                     .build();
 
             warnings.addAll(myBatisGenerator.generateAndWrite());
+
+            if (metrics != null) {
+                if (metricsReportFile != null) {
+                    metrics.writeReport(metricsReportFile.toPath());
+                }
+
+                if (metricsSummarySize > 0) {
+                    metrics.getSummary(metricsSummarySize).forEach(getLog()::info);
+                } else if (profilePlugins) {
+                    metrics.getPluginSummary(DEFAULT_PLUGIN_SUMMARY_SIZE).forEach(getLog()::info);
+                }
+            }
         } catch (XMLParserException | InvalidConfigurationException e) {
             for (String error : e.getExtraMessages()) {
                 getLog().error(error);
@@ -0,0 +1,379 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package mbg.test.common.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Generates a large synthetic schema, and the generator configuration for it, for scale and soak tests.
+ *
+ * <p>The schema has any number of tables with any number of columns. The columns cycle through the common JDBC
+ * types. Some tables have a composite primary key, some have BLOB and CLOB columns, and some tables and columns
+ * have names that are SQL reserved words. Everything is derived from the settings, so the same settings always
+ * produce the same schema.
+ *
+ * <p>The schema can be created directly through a JDBC connection, or written as a script that
+ * {@link SqlScriptRunner} can run. The schema and configuration can also be written from the command line:
+ *
+ * <pre>
+ * java mbg.test.common.util.SyntheticSchema tables columns outputDirectory
+ * </pre>
+ *
+ * <p>This creates an HSQLDB database in files under the output directory, so the HSQLDB driver must be on the
+ * classpath. The generator configuration connects to that database.
+ *
+ * <p>Note that this class mainly exists to support the MyBatis generator build. It is intentionally not documented
+ * and not supported.
+ */
+public class SyntheticSchema {
+
+    /**
+     * The JDBC driver of the database the schema is written for. The DDL is HSQLDB DDL.
+     */
+    public static final String DRIVER_CLASS = "org.hsqldb.jdbc.JDBCDriver";
+
+    private static final String[] COLUMN_TYPES = {
+            "integer",
+            "varchar(100)",
+            "bigint",
+            "decimal(12, 2)",
+            "timestamp",
+            "smallint",
+            "char(10)",
+            "boolean",
+            "date",
+            "double",
+            "time",
+            "varbinary(100)",
+            "tinyint",
+            "real"
+    };
+
+    // reserved in HSQLDB, and in the generator's list of reserved words. Tables and columns use different words -
+    // a column named like its table collides with the table field of the dynamic SQL support class
+    private static final String[] RESERVED_TABLE_NAMES = {
+            "ORDER", "GROUP", "USER", "SELECT", "VALUE", "FROM", "WHERE", "TABLE", "COLUMN"
+    };
+
+    private static final String[] RESERVED_COLUMN_NAMES = {
+            "UNION", "CHECK", "CONSTRAINT", "DISTINCT", "GRANT", "HAVING", "PRIMARY", "REFERENCES", "UNIQUE"
+    };
+
+    private final int tables;
+    private final int columns;
+    private final String schema;
+    private final int compositeKeyEvery;
+    private final int blobEvery;
+    private final int reservedWordEvery;
+
+    private SyntheticSchema(Builder builder) {
+        tables = builder.tables;
+        columns = builder.columns;
+        schema = Objects.requireNonNull(builder.schema);
+        compositeKeyEvery = builder.compositeKeyEvery;
+        blobEvery = builder.blobEvery;
+        reservedWordEvery = builder.reservedWordEvery;
+
+        if (tables < 1) {
+            throw new IllegalArgumentException("At least one table is required");
+        }
+
+        if (columns < 4) {
+            throw new IllegalArgumentException("At least four columns are required");
+        }
+    }
+
+    /**
+     * Returns the URL of an in-memory database. The database lives until it is shut down.
+     *
+     * @param databaseName the database name
+     * @return the URL
+     */
+    public static String memoryUrl(String databaseName) {
+        return "jdbc:hsqldb:mem:" + databaseName;
+    }
+
+    /**
+     * Returns the URL of a database stored in files. The database survives the JVM, so it can be created once and
+     * used by any number of generator runs.
+     *
+     * @param directory the directory of the database files
+     * @return the URL
+     */
+    public static String fileUrl(Path directory) {
+        return "jdbc:hsqldb:file:" + directory.toAbsolutePath().resolve("synthetic").toString().replace('\\', '/');
+    }
+
+    public String getSchema() {
+        return schema;
+    }
+
+    public int getTables() {
+        return tables;
+    }
+
+    /**
+     * Returns the name of a table. Tables are numbered from 1.
+     *
+     * @param table the table number
+     * @return the table name, without delimiters
+     */
+    public String tableName(int table) {
+        int reservedWord = reservedWordIndex(table, RESERVED_TABLE_NAMES);
+        return reservedWord < 0 ? String.format("TABLE_%05d", table) : RESERVED_TABLE_NAMES[reservedWord];
+    }
+
+    private int reservedWordIndex(int number, String[] reservedWords) {
+        if (reservedWordEvery < 1 || number % reservedWordEvery != 0) {
+            return -1;
+        }
+
+        int index = number / reservedWordEvery - 1;
+        return index < reservedWords.length ? index : -1;
+    }
+
+    private boolean hasCompositeKey(int table) {
+        return compositeKeyEvery > 0 && table % compositeKeyEvery == 0;
+    }
+
+    private boolean hasBlobs(int table) {
+        return blobEvery > 0 && table % blobEvery == 0;
+    }
+
+    /**
+     * Returns the DDL statements that create the schema, without statement terminators.
+     *
+     * @return the statements
+     */
+    public List<String> statements() {
+        List<String> statements = new ArrayList<>(tables + 1);
+        statements.add("create schema " + schema);
+        for (int table = 1; table <= tables; table++) {
+            statements.add(createTable(table));
+        }
+        return statements;
+    }
+
+    private String createTable(int table) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("create table ").append(schema).append(".\"").append(tableName(table)).append("\" (");
+        sb.append("ID integer not null");
+
+        int column = 1;
+        if (hasCompositeKey(table)) {
+            sb.append(", SEQ integer not null");
+            column++;
+        }
+
+        int dataColumns = hasBlobs(table) ? columns - 2 : columns;
+        for (; column < dataColumns; column++) {
+            sb.append(", \"").append(columnName(column)).append("\" ")
+                    .append(COLUMN_TYPES[(table + column) % COLUMN_TYPES.length]);
+        }
+
+        if (hasBlobs(table)) {
+            sb.append(", BLOB_DATA blob, CLOB_DATA clob");
+        }
+
+        sb.append(hasCompositeKey(table) ? ", primary key (ID, SEQ))" : ", primary key (ID))");
+        return sb.toString();
+    }
+
+    private String columnName(int column) {
+        int reservedWord = reservedWordIndex(column, RESERVED_COLUMN_NAMES);
+        return reservedWord < 0 ? String.format("COLUMN_%03d", column) : RESERVED_COLUMN_NAMES[reservedWord];
+    }
+
+    /**
+     * Creates the schema.
+     *
+     * @param connection a connection to the database
+     * @throws SQLException if the schema cannot be created
+     */
+    public void create(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : statements()) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    /**
+     * Writes the DDL as a script that {@link SqlScriptRunner} can run - one statement per line.
+     *
+     * @param file the script file
+     * @throws IOException if the file cannot be written
+     */
+    public void writeScript(Path file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            for (String sql : statements()) {
+                writer.write(sql);
+                writer.write(";");
+                writer.write(System.lineSeparator());
+            }
+        }
+    }
+
+    /**
+     * Returns a generator configuration with one table element for every table in the schema. The legacy
+     * runtimes ("MyBatis3" and "MyBatis3Simple") also generate XML mappers.
+     *
+     * @param url the JDBC URL of the database
+     * @param targetRuntime the target runtime
+     * @param targetProject the target project for every generator
+     * @return the configuration document
+     */
+    public String generatorConfiguration(String url, String targetRuntime, String targetProject) {
+        boolean xmlMappers = "MyBatis3".equals(targetRuntime) || "MyBatis3Simple".equals(targetRuntime);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("""
+                <?xml version="1.0" encoding="UTF-8"?>
+                <!DOCTYPE generatorConfiguration PUBLIC "-//mybatis.org//DTD MyBatis Generator Configuration 1.0//EN"
+                  "http://mybatis.org/dtd/mybatis-generator-config_1_0.dtd">
+                <generatorConfiguration>
+                  <context id="synthetic" targetRuntime="%s">
+                    <property name="autoDelimitKeywords" value="true"/>
+                    <jdbcConnection driverClass="%s" connectionURL="%s" userId="sa"/>
+                    <modelGenerator targetPackage="synthetic.model" targetProject="%s"/>
+                """.formatted(targetRuntime, DRIVER_CLASS, url, targetProject));
+
+        if (xmlMappers) {
+            sb.append("    <sqlMapGenerator targetPackage=\"synthetic.mapper\" targetProject=\"%s\"/>%n"
+                    .formatted(targetProject));
+        }
+
+        sb.append("    <clientGenerator%s targetPackage=\"synthetic.mapper\" targetProject=\"%s\"/>%n"
+                .formatted(xmlMappers ? " type=\"XMLMAPPER\"" : "", targetProject));
+
+        for (int table = 1; table <= tables; table++) {
+            sb.append("    <table schema=\"").append(schema)
+                    .append("\" tableName=\"").append(tableName(table)).append('"');
+            if (reservedWordIndex(table, RESERVED_TABLE_NAMES) >= 0) {
+                sb.append(" delimitIdentifiers=\"true\"");
+            }
+            sb.append("/>").append(System.lineSeparator());
+        }
+
+        sb.append("""
+                  </context>
+                </generatorConfiguration>
+                """);
+        return sb.toString();
+    }
+
+    public static void main(String[] args) throws IOException, SQLException {
+        if (args.length < 3) {
+            System.err.println("Usage: SyntheticSchema tables columns outputDirectory");
+            System.exit(1);
+        }
+
+        SyntheticSchema syntheticSchema = new Builder()
+                .withTables(Integer.parseInt(args[0]))
+                .withColumns(Integer.parseInt(args[1]))
+                .build();
+        Path outputDirectory = Path.of(args[2]);
+        String url = fileUrl(outputDirectory.resolve("db"));
+
+        Files.createDirectories(outputDirectory);
+        syntheticSchema.writeScript(outputDirectory.resolve("CreateDB.sql"));
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+                Statement statement = connection.createStatement()) {
+            syntheticSchema.create(connection);
+            statement.execute("shutdown");
+        }
+        Files.writeString(outputDirectory.resolve("generatorConfig.xml"),
+                syntheticSchema.generatorConfiguration(url, "MyBatis3DynamicSql", "target"));
+    }
+
+    public static class Builder {
+        private int tables = 100;
+        private int columns = 10;
+        private String schema = "SYNTHETIC";
+        private int compositeKeyEvery = 5;
+        private int blobEvery = 10;
+        private int reservedWordEvery = 25;
+
+        public Builder withTables(int tables) {
+            this.tables = tables;
+            return this;
+        }
+
+        /**
+         * Sets the number of columns in each table, including the key and BLOB columns.
+         *
+         * @param columns the number of columns. Must be at least 4
+         * @return this builder
+         */
+        public Builder withColumns(int columns) {
+            this.columns = columns;
+            return this;
+        }
+
+        public Builder withSchema(String schema) {
+            this.schema = schema;
+            return this;
+        }
+
+        /**
+         * Every nth table has a composite primary key. Zero turns composite keys off.
+         *
+         * @param compositeKeyEvery the interval
+         * @return this builder
+         */
+        public Builder withCompositeKeyEvery(int compositeKeyEvery) {
+            this.compositeKeyEvery = compositeKeyEvery;
+            return this;
+        }
+
+        /**
+         * Every nth table has a BLOB and a CLOB column. Zero turns BLOB columns off.
+         *
+         * @param blobEvery the interval
+         * @return this builder
+         */
+        public Builder withBlobEvery(int blobEvery) {
+            this.blobEvery = blobEvery;
+            return this;
+        }
+
+        /**
+         * Every nth table, and every nth column of each table, is named with an SQL reserved word, until the
+         * reserved words run out. Zero turns reserved word names off.
+         *
+         * @param reservedWordEvery the interval
+         * @return this builder
+         */
+        public Builder withReservedWordEvery(int reservedWordEvery) {
+            this.reservedWordEvery = reservedWordEvery;
+            return this;
+        }
+
+        public SyntheticSchema build() {
+            return new SyntheticSchema(this);
+        }
+    }
+}
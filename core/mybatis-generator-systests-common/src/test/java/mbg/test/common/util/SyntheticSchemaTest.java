@@ -0,0 +1,132 @@
+/*
+ *    Copyright 2006-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package mbg.test.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+
+class SyntheticSchemaTest {
+
+    @Test
+    void testDynamicSqlForEveryTable(@TempDir Path targetProject) throws Exception {
+        SyntheticSchema schema = new SyntheticSchema.Builder()
+                .withTables(30)
+                .withColumns(12)
+                .withReservedWordEvery(5)
+                .build();
+
+        List<String> warnings = generate(schema, "dynamicSql", "MyBatis3DynamicSql", targetProject);
+
+        assertThat(warnings).isEmpty();
+        // a record, a mapper, and a support class for every table
+        assertThat(countFiles(targetProject, ".java")).isEqualTo(3L * schema.getTables());
+    }
+
+    @Test
+    void testXmlMapperForEveryTable(@TempDir Path targetProject) throws Exception {
+        SyntheticSchema schema = new SyntheticSchema.Builder()
+                .withTables(30)
+                .withColumns(12)
+                .withReservedWordEvery(5)
+                .build();
+
+        List<String> warnings = generate(schema, "xmlMapper", "MyBatis3", targetProject);
+
+        assertThat(warnings).isEmpty();
+        assertThat(countFiles(targetProject, ".xml")).isEqualTo(schema.getTables());
+    }
+
+    @Test
+    void testFileDatabaseSurvivesShutdown(@TempDir Path directory) throws Exception {
+        SyntheticSchema schema = new SyntheticSchema.Builder().withTables(3).build();
+        String url = SyntheticSchema.fileUrl(directory);
+
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            schema.create(connection);
+            shutdown(connection);
+        }
+
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            assertThat(connection.getMetaData().getTables(null, schema.getSchema(), schema.tableName(3), null).next())
+                    .isTrue();
+            shutdown(connection);
+        }
+    }
+
+    /**
+     * The scale the generator should handle. This needs several gigabytes of heap and takes minutes, so it only runs
+     * when asked for - see CONTRIBUTING.md.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "synthetic.scale", matches = "true",
+            disabledReason = "Scale test - run with -Dsynthetic.scale=true")
+    void testTenThousandTablesOfFiveHundredColumns(@TempDir Path targetProject) throws Exception {
+        SyntheticSchema schema = new SyntheticSchema.Builder()
+                .withTables(10_000)
+                .withColumns(500)
+                .build();
+
+        List<String> warnings = generate(schema, "scale", "MyBatis3DynamicSql", targetProject);
+
+        assertThat(warnings).isEmpty();
+        assertThat(countFiles(targetProject, ".java")).isEqualTo(3L * schema.getTables());
+    }
+
+    private static List<String> generate(SyntheticSchema schema, String databaseName, String targetRuntime,
+                                         Path targetProject) throws Exception {
+        String url = SyntheticSchema.memoryUrl(databaseName);
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            schema.create(connection);
+            try {
+                String configuration = schema.generatorConfiguration(url, targetRuntime, targetProject.toString());
+                Configuration config = new ConfigurationParser().parseConfiguration(new StringReader(configuration));
+                return new MyBatisGenerator.Builder()
+                        .withConfiguration(config)
+                        .build()
+                        .generateAndWrite();
+            } finally {
+                shutdown(connection);
+            }
+        }
+    }
+
+    private static void shutdown(Connection connection) throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("shutdown");
+        }
+    }
+
+    private static long countFiles(Path directory, String extension) throws Exception {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(f -> f.getFileName().toString().endsWith(extension)).count();
+        }
+    }
+}